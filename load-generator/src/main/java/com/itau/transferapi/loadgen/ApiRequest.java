@@ -0,0 +1,53 @@
+package com.itau.transferapi.loadgen;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * Requisição a ser enviada para a API.
+ *
+ * @param operation operação, usada para separar as estatísticas
+ * @param method método HTTP
+ * @param path caminho com query string, relativo à URL base
+ * @param body corpo JSON (null para GET)
+ */
+public record ApiRequest(Operation operation, String method, String path, byte[] body) {
+
+    /**
+     * Operações medidas separadamente.
+     */
+    public enum Operation {
+        TRANSFER,
+        BALANCE,
+        OTHER;
+
+        static Operation fromPath(String path) {
+            if (path.startsWith("/api/v1/transfers")) {
+                return TRANSFER;
+            }
+            if (path.startsWith("/api/v1/accounts")) {
+                return BALANCE;
+            }
+            return OTHER;
+        }
+    }
+
+    /**
+     * @param baseUrl URL base da API
+     * @param timeout timeout da requisição
+     * @return requisição do HttpClient do JDK
+     */
+    public HttpRequest toHttpRequest(String baseUrl, Duration timeout) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path))
+            .timeout(timeout)
+            .header("Accept", "application/json");
+        if (body == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder
+            .header("Content-Type", "application/json")
+            .method(method, HttpRequest.BodyPublishers.ofByteArray(body))
+            .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.itau.transferapi.loadgen;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Registra latências por operação em histogramas HdrHistogram (microssegundos).
+ *
+ * Cada resposta é registrada duas vezes:
+ * <ul>
+ *   <li><b>corrigida</b>: a partir do instante planejado de envio. Como o
+ *       gerador segue uma taxa de chegada fixa, o atraso acumulado quando a
+ *       API (ou o próprio gerador) trava entra na medida e os percentis não
+ *       sofrem de omissão coordenada;</li>
+ *   <li><b>não corrigida</b>: a partir do envio efetivo, equivalente ao que
+ *       um gerador em modelo fechado reportaria.</li>
+ * </ul>
+ */
+public final class LatencyRecorder {
+
+    private static final long MAX_LATENCY_MICROS = 3_600_000_000L;
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+
+    /** Classes de resultado: 2xx, 3xx, 4xx, 5xx e falha de transporte. */
+    private static final String[] OUTCOMES = {"2xx", "3xx", "4xx", "5xx", "erro"};
+
+    private final Map<ApiRequest.Operation, Histogram> corrected = new EnumMap<>(ApiRequest.Operation.class);
+    private final Map<ApiRequest.Operation, Histogram> uncorrected = new EnumMap<>(ApiRequest.Operation.class);
+    private final Map<ApiRequest.Operation, AtomicLongArray> outcomes = new EnumMap<>(ApiRequest.Operation.class);
+
+    public LatencyRecorder() {
+        for (ApiRequest.Operation operation : ApiRequest.Operation.values()) {
+            corrected.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            uncorrected.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            outcomes.put(operation, new AtomicLongArray(OUTCOMES.length));
+        }
+    }
+
+    /**
+     * Registra uma resposta (ou falha).
+     *
+     * @param operation operação
+     * @param intendedNanos instante planejado de envio (System.nanoTime)
+     * @param sentNanos instante efetivo de envio
+     * @param endNanos instante de conclusão
+     * @param status status HTTP, ou 0 em falha de transporte/timeout
+     */
+    public void record(ApiRequest.Operation operation, long intendedNanos, long sentNanos,
+                       long endNanos, int status) {
+        corrected.get(operation).recordValue(toMicros(endNanos - intendedNanos));
+        uncorrected.get(operation).recordValue(toMicros(endNanos - sentNanos));
+        int outcome = status >= 200 && status < 600 ? status / 100 - 2 : OUTCOMES.length - 1;
+        outcomes.get(operation).incrementAndGet(outcome);
+    }
+
+    /**
+     * @return total de respostas registradas
+     */
+    public long totalCount() {
+        return corrected.values().stream().mapToLong(Histogram::getTotalCount).sum();
+    }
+
+    /**
+     * Imprime o relatório por operação.
+     *
+     * @param out destino
+     * @param elapsedSeconds duração da janela medida
+     */
+    public void report(PrintStream out, double elapsedSeconds) {
+        for (ApiRequest.Operation operation : ApiRequest.Operation.values()) {
+            Histogram histogram = corrected.get(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%n== %s: %d respostas (%.1f/s)%n",
+                operation, histogram.getTotalCount(), histogram.getTotalCount() / elapsedSeconds);
+
+            StringBuilder statuses = new StringBuilder("   status:");
+            AtomicLongArray counts = outcomes.get(operation);
+            for (int i = 0; i < OUTCOMES.length; i++) {
+                if (counts.get(i) > 0) {
+                    statuses.append(' ').append(OUTCOMES[i]).append('=').append(counts.get(i));
+                }
+            }
+            out.println(statuses);
+
+            out.printf(Locale.ROOT, "   %-10s %14s %14s%n", "percentil", "corrigida(ms)", "bruta(ms)");
+            for (double percentile : PERCENTILES) {
+                out.printf(Locale.ROOT, "   p%-9s %14.3f %14.3f%n", format(percentile),
+                    toMillis(histogram.getValueAtPercentile(percentile)),
+                    toMillis(uncorrected.get(operation).getValueAtPercentile(percentile)));
+            }
+            out.printf(Locale.ROOT, "   %-10s %14.3f %14.3f%n", "max",
+                toMillis(histogram.getMaxValue()), toMillis(uncorrected.get(operation).getMaxValue()));
+        }
+    }
+
+    /**
+     * Grava as distribuições completas (formato .hgrm, plotável no
+     * HdrHistogram Plotter) em um arquivo por operação e tipo de medida.
+     *
+     * @param directory diretório de saída
+     */
+    public void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (ApiRequest.Operation operation : ApiRequest.Operation.values()) {
+            if (corrected.get(operation).getTotalCount() == 0) {
+                continue;
+            }
+            write(directory.resolve(operation.name().toLowerCase() + "-corrected.hgrm"), corrected.get(operation));
+            write(directory.resolve(operation.name().toLowerCase() + "-uncorrected.hgrm"), uncorrected.get(operation));
+        }
+    }
+
+    private static void write(Path file, Histogram histogram) throws IOException {
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+
+    private static long toMicros(long nanos) {
+        return Math.min(Math.max(nanos / 1000, 0), MAX_LATENCY_MICROS);
+    }
+
+    private static double toMillis(long micros) {
+        return micros / 1000.0;
+    }
+
+    private static String format(double percentile) {
+        return percentile == Math.rint(percentile) ? String.valueOf((long) percentile) : String.valueOf(percentile);
+    }
+}
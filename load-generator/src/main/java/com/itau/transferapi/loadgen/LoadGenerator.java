@@ -0,0 +1,124 @@
+package com.itau.transferapi.loadgen;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga em modelo aberto (taxa de chegada constante).
+ *
+ * A k-ésima requisição tem instante planejado {@code início + k / taxa},
+ * independente de quando as anteriores terminaram. As respostas são enviadas
+ * com o HttpClient assíncrono do JDK e a latência corrigida é medida a partir
+ * do instante planejado (ver {@link LatencyRecorder}). Requisições planejadas
+ * durante o aquecimento são enviadas, mas não entram nas estatísticas.
+ *
+ * Uso: {@code java -jar target/load-generator.jar --rate=200 --duration=60s}
+ */
+public final class LoadGenerator {
+
+    private final LoadGeneratorOptions options;
+    private final RequestSource source;
+    private final LatencyRecorder recorder = new LatencyRecorder();
+    private final Semaphore inFlight;
+    private final AtomicLong sent = new AtomicLong();
+    private final HttpClient httpClient;
+
+    LoadGenerator(LoadGeneratorOptions options, RequestSource source) {
+        this.options = options;
+        this.source = source;
+        this.inFlight = new Semaphore(options.maxInFlight());
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(options.timeout())
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadGeneratorOptions options;
+        try {
+            options = LoadGeneratorOptions.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        RequestSource source = options.replay() != null
+            ? new ReplayRequestSource(options.replay())
+            : new SyntheticRequestSource(options);
+
+        new LoadGenerator(options, source).run();
+    }
+
+    void run() throws InterruptedException, IOException {
+        double intervalNanos = 1_000_000_000.0 / options.rate();
+        long warmupNanos = options.warmup().toNanos();
+        long totalNanos = warmupNanos + options.duration().toNanos();
+
+        System.out.printf(Locale.ROOT, "Alvo: %s | taxa: %.1f/s | aquecimento: %ds | medição: %ds%n",
+            options.baseUrl(), options.rate(), options.warmup().toSeconds(), options.duration().toSeconds());
+        System.out.println("Fonte: " + source.describe());
+
+        long start = System.nanoTime();
+        for (long k = 0; ; k++) {
+            long intended = start + (long) (k * intervalNanos);
+            if (intended - start >= totalNanos) {
+                break;
+            }
+            parkUntil(intended);
+
+            // Quando o limite de requisições em andamento é atingido o envio
+            // atrasa, e o atraso aparece na latência corrigida.
+            inFlight.acquire();
+            send(source.next(), intended, intended - start >= warmupNanos);
+        }
+
+        long scheduleEnd = System.nanoTime();
+        if (!inFlight.tryAcquire(options.maxInFlight(), options.timeout().toNanos(), TimeUnit.NANOSECONDS)) {
+            System.out.println("Aviso: requisições ainda em andamento após o timeout");
+        }
+
+        double measuredSeconds = Math.max((scheduleEnd - start - warmupNanos) / 1e9, 1e-9);
+        long expected = (long) (options.duration().toNanos() / intervalNanos);
+        System.out.printf(Locale.ROOT, "%nEnviadas: %d | registradas: %d (esperadas ~%d) | atraso do agendador: %.1f ms%n",
+            sent.get(), recorder.totalCount(), expected,
+            Math.max(0, scheduleEnd - start - totalNanos) / 1e6);
+        recorder.report(System.out, measuredSeconds);
+
+        if (options.hdrOutput() != null) {
+            recorder.writeDistributions(options.hdrOutput());
+            System.out.println("\nDistribuições gravadas em " + options.hdrOutput());
+        }
+    }
+
+    private void send(ApiRequest request, long intended, boolean measured) {
+        HttpRequest httpRequest = request.toHttpRequest(options.baseUrl(), options.timeout());
+        long sentAt = System.nanoTime();
+        sent.incrementAndGet();
+
+        httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.discarding())
+            .whenComplete((response, error) -> {
+                long end = System.nanoTime();
+                if (measured) {
+                    recorder.record(request.operation(), intended, sentAt, end,
+                        error == null ? response.statusCode() : 0);
+                }
+                inFlight.release();
+            });
+    }
+
+    private static void parkUntil(long deadline) {
+        for (long remaining = deadline - System.nanoTime(); remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
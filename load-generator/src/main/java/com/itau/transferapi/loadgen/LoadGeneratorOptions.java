@@ -0,0 +1,127 @@
+package com.itau.transferapi.loadgen;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Opções do gerador de carga, lidas de argumentos no formato {@code --nome=valor}.
+ *
+ * @param baseUrl URL base da API
+ * @param rate taxa de chegada constante (requisições por segundo)
+ * @param duration duração da medição
+ * @param warmup aquecimento descartado das estatísticas
+ * @param accountSet conjunto de contas: seeded (esquema do DataInitializer) ou demo
+ * @param accounts quantidade de contas semeadas usadas
+ * @param zipfExponent expoente Zipf da escolha da conta de origem (0 = uniforme)
+ * @param balanceRatio fração de consultas de saldo (o restante são transferências)
+ * @param minAmount valor mínimo das transferências
+ * @param maxAmount valor máximo das transferências
+ * @param replay arquivo JSONL a reproduzir (substitui a carga sintética)
+ * @param seed semente do gerador pseudoaleatório
+ * @param maxInFlight máximo de requisições em andamento
+ * @param timeout timeout de cada requisição
+ * @param hdrOutput diretório para as distribuições HdrHistogram (opcional)
+ */
+public record LoadGeneratorOptions(
+    String baseUrl,
+    double rate,
+    Duration duration,
+    Duration warmup,
+    String accountSet,
+    int accounts,
+    double zipfExponent,
+    double balanceRatio,
+    BigDecimal minAmount,
+    BigDecimal maxAmount,
+    Path replay,
+    long seed,
+    int maxInFlight,
+    Duration timeout,
+    Path hdrOutput
+) {
+
+    private static final Set<String> KNOWN_OPTIONS = Set.of(
+        "base-url", "rate", "duration", "warmup", "account-set", "accounts", "zipf",
+        "balance-ratio", "min-amount", "max-amount", "replay", "seed", "max-in-flight",
+        "timeout", "hdr-output");
+
+    public LoadGeneratorOptions {
+        if (rate <= 0) {
+            throw new IllegalArgumentException("rate deve ser positivo");
+        }
+        if (!accountSet.equals("seeded") && !accountSet.equals("demo")) {
+            throw new IllegalArgumentException("account-set deve ser seeded ou demo");
+        }
+        if (accounts < 2 || accounts > SeededAccounts.MAX_ACCOUNTS) {
+            throw new IllegalArgumentException(
+                "accounts deve estar entre 2 e " + SeededAccounts.MAX_ACCOUNTS);
+        }
+        if (zipfExponent < 0) {
+            throw new IllegalArgumentException("zipf não pode ser negativo");
+        }
+        if (balanceRatio < 0 || balanceRatio > 1) {
+            throw new IllegalArgumentException("balance-ratio deve estar entre 0 e 1");
+        }
+        if (minAmount.compareTo(maxAmount) > 0) {
+            throw new IllegalArgumentException("min-amount maior que max-amount");
+        }
+    }
+
+    /**
+     * Interpreta os argumentos de linha de comando.
+     *
+     * @param args argumentos no formato --nome=valor
+     * @return opções com valores padrão para o que não foi informado
+     */
+    public static LoadGeneratorOptions parse(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use --nome=valor)");
+            }
+            String name = arg.substring(2, arg.indexOf('='));
+            if (!KNOWN_OPTIONS.contains(name)) {
+                throw new IllegalArgumentException("Opção desconhecida: " + name);
+            }
+            values.put(name, arg.substring(arg.indexOf('=') + 1));
+        }
+
+        return new LoadGeneratorOptions(
+            values.getOrDefault("base-url", "http://localhost:8881"),
+            Double.parseDouble(values.getOrDefault("rate", "100")),
+            parseDuration(values.getOrDefault("duration", "60s")),
+            parseDuration(values.getOrDefault("warmup", "10s")),
+            values.getOrDefault("account-set", "seeded"),
+            Integer.parseInt(values.getOrDefault("accounts", "1000")),
+            Double.parseDouble(values.getOrDefault("zipf", "1.1")),
+            Double.parseDouble(values.getOrDefault("balance-ratio", "0.2")),
+            new BigDecimal(values.getOrDefault("min-amount", "0.01")),
+            new BigDecimal(values.getOrDefault("max-amount", "1.00")),
+            values.containsKey("replay") ? Path.of(values.get("replay")) : null,
+            Long.parseLong(values.getOrDefault("seed", "42")),
+            Integer.parseInt(values.getOrDefault("max-in-flight", "10000")),
+            parseDuration(values.getOrDefault("timeout", "10s")),
+            values.containsKey("hdr-output") ? Path.of(values.get("hdr-output")) : null
+        );
+    }
+
+    /**
+     * Aceita durações como 500ms, 30s, 5m ou apenas segundos.
+     */
+    static Duration parseDuration(String value) {
+        if (value.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2)));
+        }
+        if (value.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        if (value.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(value));
+    }
+}
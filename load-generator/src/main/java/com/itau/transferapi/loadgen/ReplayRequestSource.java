@@ -0,0 +1,98 @@
+package com.itau.transferapi.loadgen;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reproduz requisições gravadas em um arquivo JSONL, em ciclo.
+ *
+ * Cada linha deve ter {@code method} e {@code path} (com query string) e,
+ * opcionalmente, {@code body} como objeto JSON. Linhas em outro formato são
+ * ignoradas e contadas, para que arquivos mistos possam ser usados sem
+ * pré-processamento.
+ */
+public final class ReplayRequestSource implements RequestSource {
+
+    private final List<ApiRequest> requests;
+    private final Path file;
+    private final int skipped;
+    private int position;
+
+    public ReplayRequestSource(Path file) {
+        this.file = file;
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<ApiRequest> loaded = new ArrayList<>();
+        int ignored = 0;
+
+        try {
+            for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                ApiRequest request = parse(objectMapper, line);
+                if (request == null) {
+                    ignored++;
+                } else {
+                    loaded.add(request);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler " + file, e);
+        }
+
+        if (loaded.isEmpty()) {
+            throw new IllegalArgumentException(
+                "Nenhuma requisição com method/path em " + file + " (" + ignored + " linhas ignoradas)");
+        }
+        this.requests = List.copyOf(loaded);
+        this.skipped = ignored;
+    }
+
+    @Override
+    public ApiRequest next() {
+        ApiRequest request = requests.get(position);
+        position = (position + 1) % requests.size();
+        return request;
+    }
+
+    @Override
+    public String describe() {
+        return String.format("replay de %s: %d requisições, %d linhas ignoradas",
+            file, requests.size(), skipped);
+    }
+
+    private static ApiRequest parse(ObjectMapper objectMapper, String line) {
+        JsonNode node;
+        try {
+            node = objectMapper.readTree(line);
+        } catch (IOException e) {
+            return null;
+        }
+        JsonNode method = node.get("method");
+        JsonNode path = node.get("path");
+        if (method == null || !method.isTextual() || path == null || !path.isTextual()
+                || !path.asText().startsWith("/")) {
+            return null;
+        }
+
+        JsonNode body = node.get("body");
+        byte[] bytes = null;
+        if (body != null && !body.isNull()) {
+            try {
+                bytes = objectMapper.writeValueAsBytes(body);
+            } catch (IOException e) {
+                return null;
+            }
+        }
+        return new ApiRequest(ApiRequest.Operation.fromPath(path.asText()),
+            method.asText().toUpperCase(), path.asText(), bytes);
+    }
+}
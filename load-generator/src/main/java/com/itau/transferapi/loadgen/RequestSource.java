@@ -0,0 +1,19 @@
+package com.itau.transferapi.loadgen;
+
+/**
+ * Fonte das requisições enviadas pelo gerador de carga.
+ *
+ * Chamada apenas pela thread de agendamento, portanto não precisa ser thread-safe.
+ */
+public interface RequestSource {
+
+    /**
+     * @return próxima requisição a enviar
+     */
+    ApiRequest next();
+
+    /**
+     * @return descrição da fonte para o relatório
+     */
+    String describe();
+}
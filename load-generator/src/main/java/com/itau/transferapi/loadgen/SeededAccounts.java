@@ -0,0 +1,49 @@
+package com.itau.transferapi.loadgen;
+
+import java.util.List;
+
+/**
+ * Esquema de numeração das contas semeadas em massa.
+ *
+ * Deve ser mantido igual ao esquema do BulkDataSeeder da API: a conta de índice {@code i} tem agência {@link #AGENCY} e número
+ * {@code %07d-DV}, onde o dígito verificador é a soma dos dígitos módulo 10.
+ */
+public final class SeededAccounts {
+
+    public static final String AGENCY = "7001";
+    public static final int MAX_ACCOUNTS = 10_000_000;
+
+    /** Contas fixas criadas pelo DataInitializer nos perfis local e docker. */
+    static final List<Account> DEMO_ACCOUNTS = List.of(
+        new Account("12345-6", "0001"),
+        new Account("98765-4", "0002"),
+        new Account("11111-1", "0001"),
+        new Account("22222-2", "0001"));
+
+    private SeededAccounts() {
+    }
+
+    /**
+     * @param index índice da conta (0 a MAX_ACCOUNTS - 1)
+     * @return número e agência da conta semeada
+     */
+    public static Account account(int index) {
+        if (index < 0 || index >= MAX_ACCOUNTS) {
+            throw new IllegalArgumentException("Índice de conta fora do intervalo: " + index);
+        }
+        return new Account(String.format("%07d-%d", index, checkDigit(index)), AGENCY);
+    }
+
+    static int checkDigit(int index) {
+        int sum = 0;
+        for (int value = index; value > 0; value /= 10) {
+            sum += value % 10;
+        }
+        return sum % 10;
+    }
+
+    /**
+     * Identificação de uma conta na API.
+     */
+    public record Account(String accountNumber, String agencyNumber) {}
+}
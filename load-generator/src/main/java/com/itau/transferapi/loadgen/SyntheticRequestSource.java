@@ -0,0 +1,94 @@
+package com.itau.transferapi.loadgen;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * Carga sintética sobre as contas semeadas (ou as contas de demonstração).
+ *
+ * A conta de origem das transferências e a conta das consultas de saldo
+ * seguem uma distribuição Zipf (contas quentes); a conta de destino é
+ * uniforme e sempre diferente da origem. A sequência é determinística
+ * para a mesma semente.
+ */
+public final class SyntheticRequestSource implements RequestSource {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SplittableRandom random;
+    private final ZipfSampler hotAccounts;
+    private final int accounts;
+    private final boolean demo;
+    private final double balanceRatio;
+    private final long minCents;
+    private final long maxCents;
+    private final double zipfExponent;
+
+    public SyntheticRequestSource(LoadGeneratorOptions options) {
+        this.demo = options.accountSet().equals("demo");
+        this.accounts = demo ? SeededAccounts.DEMO_ACCOUNTS.size() : options.accounts();
+        this.random = new SplittableRandom(options.seed());
+        this.zipfExponent = options.zipfExponent();
+        this.hotAccounts = new ZipfSampler(accounts, zipfExponent);
+        this.balanceRatio = options.balanceRatio();
+        this.minCents = toCents(options.minAmount());
+        this.maxCents = toCents(options.maxAmount());
+    }
+
+    @Override
+    public ApiRequest next() {
+        SeededAccounts.Account account = account(hotAccounts.next(random));
+
+        if (random.nextDouble() < balanceRatio) {
+            String path = "/api/v1/accounts/" + account.accountNumber()
+                + "/balance?agencyNumber=" + account.agencyNumber();
+            return new ApiRequest(ApiRequest.Operation.BALANCE, "GET", path, null);
+        }
+
+        SeededAccounts.Account target = account(otherAccount(account));
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("sourceAccountNumber", account.accountNumber());
+        body.put("sourceAgencyNumber", account.agencyNumber());
+        body.put("targetAccountNumber", target.accountNumber());
+        body.put("targetAgencyNumber", target.agencyNumber());
+        body.put("amount", BigDecimal.valueOf(random.nextLong(minCents, maxCents + 1), 2));
+        body.put("description", "load-generator");
+        return new ApiRequest(ApiRequest.Operation.TRANSFER, "POST", "/api/v1/transfers", toJson(body));
+    }
+
+    @Override
+    public String describe() {
+        return String.format("sintética: %d contas %s, zipf=%.2f, saldo=%.0f%%",
+            accounts, demo ? "demo" : "semeadas", zipfExponent, balanceRatio * 100);
+    }
+
+    private int otherAccount(SeededAccounts.Account source) {
+        int index;
+        do {
+            index = random.nextInt(accounts);
+        } while (account(index).equals(source));
+        return index;
+    }
+
+    private SeededAccounts.Account account(int index) {
+        return demo ? SeededAccounts.DEMO_ACCOUNTS.get(index) : SeededAccounts.account(index);
+    }
+
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+}
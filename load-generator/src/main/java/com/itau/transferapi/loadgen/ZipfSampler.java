@@ -0,0 +1,53 @@
+package com.itau.transferapi.loadgen;
+
+import java.util.Arrays;
+import java.util.random.RandomGenerator;
+
+/**
+ * Amostrador Zipf sobre os índices {@code 0..n-1}.
+ *
+ * O índice 0 é o mais quente: P(k) é proporcional a 1 / (k + 1)^s.
+ * Com s = 0 a distribuição é uniforme. A CDF é pré-calculada (8 bytes por
+ * conta) e cada amostra custa uma busca binária.
+ */
+public final class ZipfSampler {
+
+    private final double[] cdf;
+
+    /**
+     * @param n quantidade de elementos
+     * @param exponent expoente s (0 = uniforme)
+     */
+    public ZipfSampler(int n, double exponent) {
+        if (n < 1) {
+            throw new IllegalArgumentException("n deve ser positivo");
+        }
+        cdf = new double[n];
+        double sum = 0;
+        for (int k = 0; k < n; k++) {
+            sum += 1.0 / Math.pow(k + 1, exponent);
+            cdf[k] = sum;
+        }
+        for (int k = 0; k < n; k++) {
+            cdf[k] /= sum;
+        }
+        cdf[n - 1] = 1.0;
+    }
+
+    /**
+     * @param random gerador pseudoaleatório
+     * @return índice amostrado
+     */
+    public int next(RandomGenerator random) {
+        int index = Arrays.binarySearch(cdf, random.nextDouble());
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * @param k índice
+     * @return probabilidade do índice
+     */
+    public double probability(int k) {
+        return k == 0 ? cdf[0] : cdf[k] - cdf[k - 1];
+    }
+}
@@ -0,0 +1,28 @@
+package com.itau.transferapi.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("SeededAccounts")
+class SeededAccountsTest {
+
+    @Test
+    @DisplayName("Deve gerar número com dígito verificador e caber nas colunas da API")
+    void shouldFormatAccountNumber() {
+        assertThat(SeededAccounts.account(0).accountNumber()).isEqualTo("0000000-0");
+        assertThat(SeededAccounts.account(1234).accountNumber()).isEqualTo("0001234-0");
+        assertThat(SeededAccounts.account(9_999_999).accountNumber()).isEqualTo("9999999-3");
+        assertThat(SeededAccounts.account(9_999_999).accountNumber()).hasSizeLessThanOrEqualTo(10);
+        assertThat(SeededAccounts.account(5).agencyNumber()).isEqualTo(SeededAccounts.AGENCY);
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar índice fora do intervalo")
+    void shouldRejectOutOfRangeIndex() {
+        assertThatThrownBy(() -> SeededAccounts.account(SeededAccounts.MAX_ACCOUNTS))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,52 @@
+package com.itau.transferapi.loadgen;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("ZipfSampler")
+class ZipfSamplerTest {
+
+    @Test
+    @DisplayName("Deve concentrar as amostras nos primeiros índices conforme o expoente")
+    void shouldFollowZipfDistribution() {
+        ZipfSampler sampler = new ZipfSampler(1000, 1.1);
+        SplittableRandom random = new SplittableRandom(42);
+        int[] counts = new int[1000];
+        int samples = 200_000;
+
+        for (int i = 0; i < samples; i++) {
+            counts[sampler.next(random)]++;
+        }
+
+        assertThat((double) counts[0] / samples).isCloseTo(sampler.probability(0), within(0.01));
+        assertThat((double) counts[1] / samples).isCloseTo(sampler.probability(1), within(0.01));
+        assertThat(sampler.probability(0) / sampler.probability(1)).isCloseTo(Math.pow(2, 1.1), within(1e-9));
+        assertThat(counts[0]).isGreaterThan(counts[999] * 100);
+    }
+
+    @Test
+    @DisplayName("Expoente zero deve produzir distribuição uniforme")
+    void shouldBeUniformWithZeroExponent() {
+        ZipfSampler sampler = new ZipfSampler(4, 0);
+
+        for (int k = 0; k < 4; k++) {
+            assertThat(sampler.probability(k)).isCloseTo(0.25, within(1e-12));
+        }
+    }
+
+    @Test
+    @DisplayName("Amostras devem ficar sempre dentro do intervalo")
+    void shouldStayInRange() {
+        ZipfSampler sampler = new ZipfSampler(10, 2.0);
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(sampler.next(random)).isBetween(0, 9);
+        }
+    }
+}
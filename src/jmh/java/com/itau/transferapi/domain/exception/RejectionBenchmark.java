@@ -0,0 +1,139 @@
+package com.itau.transferapi.domain.exception;
+
+import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo de uma transferência recusada por limite diário.
+ *
+ * - eagerRejection: comportamento anterior, com stack trace e mensagem
+ *   formatada na criação e de novo no log do handler
+ * - lazyRejection: BusinessException sem stack trace, detalhes não lidos
+ * - lazyRejectionRendered: idem, com os detalhes formatados para a resposta
+ * - preallocatedRejection: instância única relançada (recusas sem dados variáveis)
+ *
+ * A recusa é lançada a alguns quadros de profundidade para aproximar o custo
+ * de preencher o stack trace dentro do caso de uso.
+ *
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="RejectionBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionBenchmark {
+
+    private static final int CALL_DEPTH = 40;
+
+    private static final BusinessException PREALLOCATED =
+        new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER, "Não é permitido transferir para a mesma conta");
+
+    private DailyTransferLimit dailyLimit;
+    private Money amount;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dailyLimit = DailyTransferLimit.builder()
+            .accountId(AccountId.generate())
+            .date(LocalDate.now())
+            .usedAmount(Money.of("900.00"))
+            .dailyLimit(DailyTransferLimit.DEFAULT_DAILY_LIMIT)
+            .build();
+        amount = Money.of("250.00");
+    }
+
+    @Benchmark
+    public String eagerRejection() {
+        try {
+            descend(CALL_DEPTH, this::rejectEagerly);
+            return null;
+        } catch (EagerRejection e) {
+            return e.getFormattedMessage();
+        }
+    }
+
+    @Benchmark
+    public String lazyRejection() {
+        try {
+            descend(CALL_DEPTH, () -> dailyLimit.validateLimit(amount));
+            return null;
+        } catch (BusinessException e) {
+            return e.getErrorCode().getCode();
+        }
+    }
+
+    @Benchmark
+    public String lazyRejectionRendered() {
+        try {
+            descend(CALL_DEPTH, () -> dailyLimit.validateLimit(amount));
+            return null;
+        } catch (BusinessException e) {
+            return e.getDetails();
+        }
+    }
+
+    @Benchmark
+    public String preallocatedRejection() {
+        try {
+            descend(CALL_DEPTH, () -> {
+                throw PREALLOCATED;
+            });
+            return null;
+        } catch (BusinessException e) {
+            return e.getErrorCode().getCode();
+        }
+    }
+
+    private static void descend(int depth, Runnable action) {
+        if (depth == 0) {
+            action.run();
+            return;
+        }
+        descend(depth - 1, action);
+    }
+
+    private void rejectEagerly() {
+        Money used = dailyLimit.getUsedAmount();
+        Money limit = dailyLimit.getDailyLimit();
+        if (used.add(amount).isGreaterThan(limit)) {
+            throw new EagerRejection(String.format(
+                "Limite diário excedido. Limite: %s, Utilizado: %s, Solicitado: %s, Disponível: %s",
+                limit.getFormattedValue(),
+                used.getFormattedValue(),
+                amount.getFormattedValue(),
+                limit.subtract(used).getFormattedValue()));
+        }
+    }
+
+    /**
+     * Recusa como era antes: stack trace completo e detalhes formatados na criação.
+     */
+    static final class EagerRejection extends RuntimeException {
+
+        EagerRejection(String details) {
+            super(details);
+        }
+
+        String getFormattedMessage() {
+            ErrorCode code = ErrorCode.DAILY_LIMIT_EXCEEDED;
+            return String.format("[%s] %s - %s", code.getCode(), code.getDefaultMessage(), getMessage());
+        }
+    }
+}
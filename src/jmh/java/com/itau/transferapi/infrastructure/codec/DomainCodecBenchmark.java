@@ -0,0 +1,145 @@
+package com.itau.transferapi.infrastructure.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão e tamanho do DomainBinaryCodec comparados ao Jackson.
+ *
+ * O Jackson serializa um espelho da transferência (o domínio não tem
+ * construtor para desserialização); a conversão entra na medição.
+ *
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="DomainCodecBenchmark"
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainCodecBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ByteBuffer buffer = ByteBuffer.allocate(512);
+
+    private Transfer transfer;
+    private byte[] binary;
+    private byte[] json;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        LocalDateTime now = LocalDateTime.now();
+        transfer = Transfer.builder()
+            .id(TransferId.generate())
+            .sourceAccountId(AccountId.generate())
+            .targetAccountId(AccountId.generate())
+            .amount(Money.of("1500.75"))
+            .status(TransferStatus.COMPLETED)
+            .createdAt(now)
+            .completedAt(now)
+            .bacenNotifiedAt(now)
+            .bacenNotificationId("BACEN-20260314-000123")
+            .build();
+
+        buffer.clear();
+        DomainBinaryCodec.encode(transfer, buffer);
+        binary = new byte[buffer.position()];
+        buffer.flip().get(binary);
+        json = objectMapper.writeValueAsBytes(TransferJson.from(transfer));
+
+        System.out.printf("%nTamanho codificado: binário=%d bytes, JSON=%d bytes%n", binary.length, json.length);
+    }
+
+    @Benchmark
+    public int binaryEncode() {
+        buffer.clear();
+        DomainBinaryCodec.encode(transfer, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Transfer binaryDecode() {
+        return DomainBinaryCodec.decodeTransfer(ByteBuffer.wrap(binary));
+    }
+
+    @Benchmark
+    public byte[] jacksonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(TransferJson.from(transfer));
+    }
+
+    @Benchmark
+    public Transfer jacksonDecode() throws IOException {
+        return objectMapper.readValue(json, TransferJson.class).toDomain();
+    }
+
+    /**
+     * Espelho serializável de {@link Transfer} para o Jackson.
+     */
+    public record TransferJson(
+            UUID id,
+            UUID sourceAccountId,
+            UUID targetAccountId,
+            BigDecimal amount,
+            TransferStatus status,
+            String failureReason,
+            String bacenNotificationId,
+            LocalDateTime createdAt,
+            LocalDateTime completedAt,
+            LocalDateTime bacenNotifiedAt,
+            int bacenRetryCount) {
+
+        static TransferJson from(Transfer transfer) {
+            return new TransferJson(
+                transfer.getId().value(),
+                transfer.getSourceAccountId().value(),
+                transfer.getTargetAccountId().value(),
+                transfer.getAmount().getValue(),
+                transfer.getStatus(),
+                transfer.getFailureReason(),
+                transfer.getBacenNotificationId(),
+                transfer.getCreatedAt(),
+                transfer.getCompletedAt(),
+                transfer.getBacenNotifiedAt(),
+                transfer.getBacenRetryCount());
+        }
+
+        Transfer toDomain() {
+            return Transfer.builder()
+                .id(TransferId.of(id))
+                .sourceAccountId(AccountId.of(sourceAccountId))
+                .targetAccountId(AccountId.of(targetAccountId))
+                .amount(Money.of(amount))
+                .status(status)
+                .failureReason(failureReason)
+                .bacenNotificationId(bacenNotificationId)
+                .createdAt(createdAt)
+                .completedAt(completedAt)
+                .bacenNotifiedAt(bacenNotifiedAt)
+                .bacenRetryCount(bacenRetryCount)
+                .build();
+        }
+    }
+}
@@ -0,0 +1,204 @@
+package com.itau.transferapi.web.controller;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.JsonEncoder;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.OutputStreamAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vazão de logging por transferência, vista pela thread da requisição.
+ *
+ * Cada operação emite os mesmos eventos de uma transferência, nos mesmos
+ * níveis, nos dois appenders; só o caminho de escrita muda:
+ * - sync: eventos formatados e escritos sob o lock do appender na própria thread
+ * - async: eventos enfileirados no AsyncAppender
+ * - disabledDebugFormatted / disabledDebugKeyValues: custo de um evento com o
+ *   nível desligado, parametrizado e fluente
+ *
+ * O parâmetro {@code events} escolhe o conjunto de eventos: {@code legacy}
+ * reproduz o comportamento anterior (4 eventos INFO parametrizados) e
+ * {@code keyValues} o atual (1 evento INFO com key-values, os demais em DEBUG
+ * desligado).
+ *
+ * O parâmetro {@code format} alterna entre padrão de texto e JSON. Com a fila
+ * cheia, a variante assíncrona descarta eventos INFO (política do
+ * logback-spring.xml); a saída é descartada em ambos os casos.
+ *
+ * Execução: mvn -Pbenchmark test-compile exec:exec -Djmh.args="TransferLoggingBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class TransferLoggingBenchmark {
+
+    private static final String PATTERN =
+        "%d{yyyy-MM-dd HH:mm:ss.SSS} [%thread] [%X{traceId:-}] %-5level %logger{36} - %msg %kvp%n";
+
+    @Param({"pattern", "json"})
+    private String format;
+
+    @Param({"legacy", "keyValues"})
+    private String events;
+
+    private LoggerContext syncContext;
+    private LoggerContext asyncContext;
+    private Logger syncLogger;
+    private Logger asyncLogger;
+
+    private final String sourceAccount = "12345-6";
+    private final String sourceAgency = "0001";
+    private final String targetAccount = "98765-4";
+    private final String targetAgency = "0002";
+    private final BigDecimal amount = new BigDecimal("100.00");
+    private final UUID transferId = UUID.randomUUID();
+    private final String bacenId = "BCN-" + transferId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        syncContext = new LoggerContext();
+        syncLogger = logger(syncContext, discardingAppender(syncContext));
+
+        asyncContext = new LoggerContext();
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(asyncContext);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(1024);
+        async.setIncludeCallerData(false);
+        async.addAppender(discardingAppender(asyncContext));
+        async.start();
+        asyncLogger = logger(asyncContext, async);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        syncContext.stop();
+        asyncContext.stop();
+    }
+
+    @Benchmark
+    public void sync() {
+        logTransfer(syncLogger);
+    }
+
+    @Benchmark
+    public void async() {
+        logTransfer(asyncLogger);
+    }
+
+    @Benchmark
+    public void disabledDebugFormatted() {
+        asyncLogger.debug("Iniciando transferência: origem={}/{}, destino={}/{}, valor={}",
+            sourceAccount, sourceAgency, targetAccount, targetAgency, amount);
+    }
+
+    @Benchmark
+    public void disabledDebugKeyValues() {
+        asyncLogger.atDebug()
+            .setMessage("Iniciando transferência")
+            .addKeyValue("sourceAccount", sourceAccount)
+            .addKeyValue("targetAccount", targetAccount)
+            .addKeyValue("amount", amount)
+            .log();
+    }
+
+    private void logTransfer(Logger logger) {
+        if ("legacy".equals(events)) {
+            logLegacy(logger);
+        } else {
+            logKeyValues(logger);
+        }
+    }
+
+    private void logLegacy(Logger logger) {
+        logger.info("Recebida requisição de transferência: origem={}/{} -> destino={}/{}, valor={}",
+            sourceAccount, sourceAgency, targetAccount, targetAgency, amount);
+        logger.info("Iniciando transferência: origem={}/{}, destino={}/{}, valor={}",
+            sourceAccount, sourceAgency, targetAccount, targetAgency, amount);
+        logger.info("Transferência concluída com sucesso: id={}, bacenId={}", transferId, bacenId);
+        logger.info("Transferência processada: id={}, status={}", transferId, "BACEN_NOTIFIED");
+    }
+
+    private void logKeyValues(Logger logger) {
+        logger.atDebug()
+            .setMessage("Recebida requisição de transferência")
+            .addKeyValue("sourceAccount", sourceAccount)
+            .addKeyValue("targetAccount", targetAccount)
+            .addKeyValue("amount", amount)
+            .log();
+        logger.atDebug()
+            .setMessage("Iniciando transferência")
+            .addKeyValue("sourceAccount", sourceAccount)
+            .addKeyValue("targetAccount", targetAccount)
+            .addKeyValue("amount", amount)
+            .log();
+        logger.atInfo()
+            .setMessage("Transferência concluída")
+            .addKeyValue("transferId", transferId)
+            .addKeyValue("bacenId", bacenId)
+            .log();
+        logger.atDebug()
+            .setMessage("Transferência processada")
+            .addKeyValue("transferId", transferId)
+            .addKeyValue("status", "BACEN_NOTIFIED")
+            .log();
+    }
+
+    private Logger logger(LoggerContext context, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(TransferController.class);
+        logger.setAdditive(false);
+        logger.setLevel(ch.qos.logback.classic.Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    private OutputStreamAppender<ILoggingEvent> discardingAppender(LoggerContext context) {
+        OutputStreamAppender<ILoggingEvent> appender = new OutputStreamAppender<>();
+        appender.setContext(context);
+        appender.setEncoder(encoder(context));
+        appender.setOutputStream(OutputStream.nullOutputStream());
+        appender.start();
+        return appender;
+    }
+
+    private Encoder<ILoggingEvent> encoder(LoggerContext context) {
+        if ("json".equals(format)) {
+            JsonEncoder json = new JsonEncoder();
+            json.setContext(context);
+            json.start();
+            return json;
+        }
+        PatternLayoutEncoder pattern = new PatternLayoutEncoder();
+        pattern.setContext(context);
+        pattern.setPattern(PATTERN);
+        pattern.start();
+        return pattern;
+    }
+}
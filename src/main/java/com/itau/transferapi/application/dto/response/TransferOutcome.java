@@ -0,0 +1,34 @@
+package com.itau.transferapi.application.dto.response;
+
+import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.RuleViolation;
+
+/**
+ * Resultado de uma transferência sem exceções para recusas de negócio.
+ *
+ * - {@link Success}: transferência efetivada e notificada ao BACEN
+ * - {@link PendingBacen}: efetivada, notificação ao BACEN pendente
+ * - {@link Rejected}: recusada por regra de negócio; nada foi gravado
+ */
+public sealed interface TransferOutcome {
+
+    record Success(TransferResponse response) implements TransferOutcome {
+    }
+
+    record PendingBacen(TransferResponse response) implements TransferOutcome {
+    }
+
+    record Rejected(RuleViolation violation) implements TransferOutcome {
+
+        public ErrorCode errorCode() {
+            return violation.getErrorCode();
+        }
+
+        /**
+         * Detalhes da recusa, formatados na primeira leitura.
+         */
+        public String details() {
+            return violation.getDetails();
+        }
+    }
+}
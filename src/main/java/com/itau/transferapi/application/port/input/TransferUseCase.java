@@ -1,6 +1,7 @@
 package com.itau.transferapi.application.port.input;
 
 import com.itau.transferapi.application.dto.request.TransferRequest;
+import com.itau.transferapi.application.dto.response.TransferOutcome;
 import com.itau.transferapi.application.dto.response.TransferResponse;
 
 /**
@@ -27,6 +28,20 @@ public interface TransferUseCase {
      * @return resposta com detalhes da transferência
      */
     TransferResponse execute(TransferRequest request);
+    
+    /**
+     * Executa a transferência retornando recusas de negócio como resultado.
+     * 
+     * Mesmo fluxo de {@link #execute(TransferRequest)}, mas regras violadas
+     * (mesma conta, conta ou cliente inativo, saldo, limite disponível,
+     * limite diário) retornam {@link TransferOutcome.Rejected} sem lançar
+     * exceção nem desfazer a transação por exceção. Recursos inexistentes e
+     * falhas técnicas continuam sendo lançados.
+     * 
+     * @param request dados da transferência
+     * @return resultado da transferência
+     */
+    TransferOutcome executeForResult(TransferRequest request);
 }
 
 
@@ -0,0 +1,34 @@
+package com.itau.transferapi.application.port.output;
+
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
+import com.itau.transferapi.domain.valueobject.AccountId;
+
+import java.util.Optional;
+
+/**
+ * Porta de saída para leitura do estado de saldo das contas.
+ *
+ * Implementações:
+ * - leitura direta do repositório de contas (padrão)
+ * - tabela de slots fora do heap, carregada sob demanda
+ *   (engine.offheap.enabled=true)
+ */
+public interface AccountStatePort {
+
+    /**
+     * Busca saldo, limite e status da conta.
+     *
+     * @param accountId ID da conta
+     * @return estado da conta ou vazio se ela não existir
+     */
+    Optional<AccountBalanceState> findBalance(AccountId accountId);
+
+    /**
+     * Descarta o estado conhecido da conta após uma movimentação.
+     *
+     * Em uma transação, o descarte ocorre ao final dela.
+     *
+     * @param accountId ID da conta
+     */
+    void invalidate(AccountId accountId);
+}
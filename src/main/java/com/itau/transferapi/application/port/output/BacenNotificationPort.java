@@ -2,6 +2,8 @@ package com.itau.transferapi.application.port.output;
 
 import com.itau.transferapi.domain.entity.Transfer;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Porta de saída para notificação ao BACEN.
  * 
@@ -18,6 +20,14 @@ public interface BacenNotificationPort {
      */
     String notifyTransfer(Transfer transfer);
     
+    /**
+     * Notifica o BACEN sobre uma transferência sem bloquear a thread chamadora.
+     * 
+     * @param transfer transferência a ser notificada
+     * @return future com o ID da notificação gerado pelo BACEN
+     */
+    CompletableFuture<String> notifyTransferAsync(Transfer transfer);
+    
     /**
      * Verifica o status de uma notificação anterior.
      * 
@@ -0,0 +1,27 @@
+package com.itau.transferapi.application.port.output;
+
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+
+/**
+ * Porta de saída para registro dos efeitos de uma transferência nos saldos.
+ *
+ * Implementações:
+ * - atualização in-place das contas (padrão)
+ * - lançamentos em livro-razão append-only, com saldo derivado
+ *   (ledger.enabled=true)
+ */
+public interface BalanceLedgerPort {
+
+    /**
+     * Registra o débito na conta origem e o crédito na conta destino.
+     *
+     * As contas já refletem a transferência em memória
+     * ({@link Account#debit} e {@link Account#credit}).
+     *
+     * @param transfer transferência executada
+     * @param source conta origem, lida com lock para atualização
+     * @param target conta destino
+     */
+    void post(Transfer transfer, Account source, Account target);
+}
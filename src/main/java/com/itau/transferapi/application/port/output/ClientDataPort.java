@@ -4,6 +4,7 @@ import com.itau.transferapi.domain.entity.Client;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Porta de saída para integração com API de Cadastro.
@@ -21,6 +22,17 @@ public interface ClientDataPort {
      */
     Optional<Client> findClientById(UUID clientId);
     
+    /**
+     * Busca dados de um cliente pelo seu ID sem bloquear a thread chamadora.
+     * 
+     * Permite sobrepor a consulta ao Cadastro com outras etapas
+     * (ex: leitura das contas no banco de dados).
+     * 
+     * @param clientId ID do cliente
+     * @return future com Optional contendo o cliente ou vazio
+     */
+    CompletableFuture<Optional<Client>> findClientByIdAsync(UUID clientId);
+    
     /**
      * Busca dados de um cliente pelo número do documento.
      * 
@@ -2,16 +2,18 @@ package com.itau.transferapi.application.usecase;
 
 import com.itau.transferapi.application.dto.response.BalanceResponse;
 import com.itau.transferapi.application.port.input.BalanceQueryUseCase;
+import com.itau.transferapi.application.port.output.AccountStatePort;
 import com.itau.transferapi.application.port.output.ClientDataPort;
 import com.itau.transferapi.domain.entity.Account;
 import com.itau.transferapi.domain.entity.Client;
 import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.exception.IntegrationException;
 import com.itau.transferapi.domain.exception.ResourceNotFoundException;
 import com.itau.transferapi.domain.repository.AccountRepository;
 import com.itau.transferapi.domain.repository.DailyTransferLimitRepository;
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 import com.itau.transferapi.domain.valueobject.Money;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
@@ -26,7 +28,9 @@ import java.time.LocalDateTime;
  * 
  * Características:
  * - Cache para alta performance
- * - Circuit Breaker para resiliência
+ * - Saldo, limite e status lidos pela porta de estado das contas
+ *   (opcionalmente fora do heap); dados cadastrais vêm da referência
+ * - Resiliência delegada ao cliente da API de Cadastro
  * - Consulta otimizada
  */
 @Slf4j
@@ -37,6 +41,7 @@ public class BalanceQueryUseCaseImpl implements BalanceQueryUseCase {
     private final AccountRepository accountRepository;
     private final DailyTransferLimitRepository dailyTransferLimitRepository;
     private final ClientDataPort clientDataPort;
+    private final AccountStatePort accountState;
     
     @Override
     @Transactional(readOnly = true)
@@ -44,9 +49,14 @@ public class BalanceQueryUseCaseImpl implements BalanceQueryUseCase {
     public BalanceResponse getBalance(String accountNumber, String agencyNumber) {
         log.debug("Consultando saldo: conta={}, agência={}", accountNumber, agencyNumber);
         
-        Account account = accountRepository.findByAccountAndAgency(accountNumber, agencyNumber)
+        AccountReference reference = accountRepository
+            .findReferenceByAccountAndAgency(accountNumber, agencyNumber)
             .orElseThrow(() -> ResourceNotFoundException.account(accountNumber));
         
+        AccountBalanceState state = accountState.findBalance(reference.accountId())
+            .orElseThrow(() -> ResourceNotFoundException.account(accountNumber));
+        Account account = toAccount(reference, accountNumber, agencyNumber, state);
+        
         // Validar que a conta está ativa
         account.validateActive();
         
@@ -70,18 +80,32 @@ public class BalanceQueryUseCaseImpl implements BalanceQueryUseCase {
             .build();
     }
     
-    @CircuitBreaker(name = "cadastroApi", fallbackMethod = "getClientNameFallback")
-    @Retry(name = "cadastroApi")
-    private String getClientName(Account account) {
-        return clientDataPort.findClientById(account.getClientId())
-            .map(Client::getName)
-            .orElse("Cliente");
+    private Account toAccount(AccountReference reference, String accountNumber, String agencyNumber,
+                              AccountBalanceState state) {
+        return Account.builder()
+            .id(reference.accountId())
+            .accountNumber(accountNumber)
+            .agencyNumber(agencyNumber)
+            .clientId(reference.clientId())
+            .balance(state.balance())
+            .availableLimit(state.availableLimit())
+            .status(state.status())
+            .build();
     }
     
-    @SuppressWarnings("unused")
-    private String getClientNameFallback(Account account, Throwable t) {
-        log.warn("Fallback para nome do cliente: {}", t.getMessage());
-        return "Cliente";
+    /**
+     * O nome do titular é informativo: com o Cadastro indisponível o saldo
+     * ainda é consultado, com um nome genérico.
+     */
+    private String getClientName(Account account) {
+        try {
+            return clientDataPort.findClientById(account.getClientId())
+                .map(Client::getName)
+                .orElse("Cliente");
+        } catch (IntegrationException e) {
+            log.warn("Nome do titular indisponível: {}", e.getMessage());
+            return "Cliente";
+        }
     }
     
     private Money calculateDailyLimitAvailable(Account account) {
@@ -0,0 +1,86 @@
+package com.itau.transferapi.application.usecase;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latência por etapa da transferência ({@code transfer.stage.duration}).
+ *
+ * Complementa o {@code transfer.execution.time} do controller, que mede a
+ * requisição inteira, apontando em qual etapa está o p99. As tags têm
+ * cardinalidade fixa (etapa x resultado) e todos os timers são registrados
+ * na criação, de modo que o caminho da transferência não consulta o registry.
+ */
+@Component
+public class TransferStageMetrics {
+
+    static final String METRIC = "transfer.stage.duration";
+
+    /** Etapas medidas dentro do caso de uso. */
+    public enum Stage {
+        /** Leitura da conta origem com lock (inclui a espera pelo lock). */
+        ACCOUNT_LOCK("account_lock"),
+        /** Consulta ao Cadastro e validação do cliente, em paralelo às leituras. */
+        CLIENT_VALIDATION("client_validation"),
+        /** Leitura do limite diário com lock e verificação do limite. */
+        DAILY_LIMIT("daily_limit"),
+        /** Gravação de saldos, limite diário e transferência. */
+        PERSISTENCE("persistence"),
+        /** Notificação ao BACEN, incluindo retries. */
+        BACEN_NOTIFY("bacen_notify");
+
+        private final String tag;
+
+        Stage(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /** Resultado da etapa. */
+    public enum Outcome {
+        SUCCESS("success"),
+        /** Recusa de regra de negócio. */
+        REJECTED("rejected"),
+        /** Falha técnica. */
+        ERROR("error");
+
+        private final String tag;
+
+        Outcome(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private final Timer[][] timers;
+
+    public TransferStageMetrics(MeterRegistry meterRegistry) {
+        Stage[] stages = Stage.values();
+        Outcome[] outcomes = Outcome.values();
+        this.timers = new Timer[stages.length][outcomes.length];
+        for (Stage stage : stages) {
+            for (Outcome outcome : outcomes) {
+                timers[stage.ordinal()][outcome.ordinal()] = Timer.builder(METRIC)
+                    .description("Duração das etapas da transferência")
+                    .tag("stage", stage.tag)
+                    .tag("outcome", outcome.tag)
+                    .register(meterRegistry);
+            }
+        }
+    }
+
+    /**
+     * Marca o início de uma etapa.
+     *
+     * @return instante em nanossegundos, a ser passado para {@link #record}
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void record(Stage stage, Outcome outcome, long startNanos) {
+        timers[stage.ordinal()][outcome.ordinal()].record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+}
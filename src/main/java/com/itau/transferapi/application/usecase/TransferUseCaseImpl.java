@@ -1,23 +1,29 @@
 package com.itau.transferapi.application.usecase;
 
 import com.itau.transferapi.application.dto.request.TransferRequest;
+import com.itau.transferapi.application.dto.response.TransferOutcome;
 import com.itau.transferapi.application.dto.response.TransferResponse;
 import com.itau.transferapi.application.port.input.TransferUseCase;
+import com.itau.transferapi.application.port.output.AccountStatePort;
 import com.itau.transferapi.application.port.output.BacenNotificationPort;
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
 import com.itau.transferapi.application.port.output.ClientDataPort;
+import com.itau.transferapi.application.usecase.TransferStageMetrics.Outcome;
+import com.itau.transferapi.application.usecase.TransferStageMetrics.Stage;
 import com.itau.transferapi.domain.entity.*;
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
 import com.itau.transferapi.domain.exception.IntegrationException;
 import com.itau.transferapi.domain.exception.ResourceNotFoundException;
+import com.itau.transferapi.domain.exception.RuleViolation;
 import com.itau.transferapi.domain.repository.AccountRepository;
 import com.itau.transferapi.domain.repository.DailyTransferLimitRepository;
 import com.itau.transferapi.domain.repository.TransferRepository;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 import com.itau.transferapi.domain.valueobject.Money;
 import com.itau.transferapi.domain.valueobject.TransferId;
 import com.itau.transferapi.domain.valueobject.TransferStatus;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -26,73 +32,117 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Implementação do caso de uso de Transferência Bancária.
  * 
  * Esta classe orquestra todo o fluxo de transferência:
  * 1. Validação de dados
- * 2. Consulta de cliente (API Cadastro)
+ * 2. Pré-carga: consulta de cliente (API Cadastro) em paralelo às leituras no banco
  * 3. Validação de conta ativa
  * 4. Validação de limite disponível
  * 5. Validação de limite diário
  * 6. Execução da transferência
  * 7. Notificação ao BACEN
  * 
+ * A latência de cada etapa (lock da conta, cliente, limite diário, gravação
+ * e BACEN) é publicada em {@link TransferStageMetrics}.
+ * 
  * Padrões utilizados:
  * - Use Case (Clean Architecture)
  * - Transaction Script (para operações atômicas)
- * - Circuit Breaker (resiliência)
- * - Retry (resiliência)
+ * 
+ * A resiliência das integrações (Circuit Breaker, Retry, fallbacks) é aplicada
+ * uma única vez nos clientes de infraestrutura, atrás das portas de saída.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TransferUseCaseImpl implements TransferUseCase {
     
+    /** Recusa sem dados variáveis: pré-alocada, assim como sua exceção. */
+    private static final TransferOutcome.Rejected SAME_ACCOUNT_TRANSFER = new TransferOutcome.Rejected(
+        RuleViolation.of(ErrorCode.SAME_ACCOUNT_TRANSFER, "Não é permitido transferir para a mesma conta")
+    );
+    
     private final AccountRepository accountRepository;
     private final TransferRepository transferRepository;
     private final DailyTransferLimitRepository dailyTransferLimitRepository;
     private final ClientDataPort clientDataPort;
     private final BacenNotificationPort bacenNotificationPort;
+    private final BalanceLedgerPort balanceLedger;
+    private final AccountStatePort accountState;
+    private final TransferStageMetrics stageMetrics;
+    
+    /** Executor da etapa de pré-carga: tarefas curtas e bloqueantes em I/O. */
+    private final ExecutorService prefetchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    
+    /**
+     * Encerra o executor de pré-carga aguardando as tarefas em andamento.
+     */
+    @PreDestroy
+    public void shutdown() {
+        prefetchExecutor.close();
+    }
     
     @Override
     @Transactional(isolation = Isolation.REPEATABLE_READ)
     public TransferResponse execute(TransferRequest request) {
-        log.info("Iniciando transferência: origem={}/{}, destino={}/{}, valor={}",
-            request.sourceAccountNumber(), request.sourceAgencyNumber(),
-            request.targetAccountNumber(), request.targetAgencyNumber(),
-            request.amount());
+        return switch (process(request)) {
+            case TransferOutcome.Success success -> success.response();
+            case TransferOutcome.PendingBacen pending -> pending.response();
+            case TransferOutcome.Rejected rejected -> throw rejected.violation().toException();
+        };
+    }
+    
+    @Override
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public TransferOutcome executeForResult(TransferRequest request) {
+        return process(request);
+    }
+    
+    /**
+     * Fluxo comum às duas variantes: recusas de negócio são retornadas antes
+     * de qualquer escrita; execute as converte em exceção.
+     */
+    private TransferOutcome process(TransferRequest request) {
+        log.atDebug()
+            .setMessage("Iniciando transferência")
+            .addKeyValue("sourceAccount", request.sourceAccountNumber())
+            .addKeyValue("targetAccount", request.targetAccountNumber())
+            .addKeyValue("amount", request.amount())
+            .log();
         
         // Validação: contas diferentes
-        validateDifferentAccounts(request);
+        if (!request.isDifferentAccounts()) {
+            return reject(SAME_ACCOUNT_TRANSFER);
+        }
         
         // Criar valor monetário
         Money amount = Money.of(request.amount());
         
-        // Buscar contas com lock para atualização
-        Account sourceAccount = findAccountForUpdate(
-            request.sourceAccountNumber(), 
-            request.sourceAgencyNumber()
-        );
-        Account targetAccount = findAccount(
-            request.targetAccountNumber(), 
-            request.targetAgencyNumber()
-        );
-        
-        // Validar cliente na API de Cadastro
-        validateClient(sourceAccount);
-        
-        // Validar conta origem ativa
-        sourceAccount.validateActive();
-        targetAccount.validateActive();
-        
-        // Validar limite disponível na conta
-        sourceAccount.validateAvailableLimit(amount);
+        // Etapa de pré-carga: contas, cliente e limite diário
+        PrefetchedTransfer prefetched = prefetch(request, amount);
+        if (prefetched.violation() != null) {
+            return reject(new TransferOutcome.Rejected(prefetched.violation()));
+        }
+        Account sourceAccount = prefetched.sourceAccount();
+        Account targetAccount = prefetched.targetAccount();
+        DailyTransferLimit dailyLimit = prefetched.dailyLimit();
         
-        // Validar limite diário
-        DailyTransferLimit dailyLimit = getOrCreateDailyLimit(sourceAccount);
-        dailyLimit.validateLimit(amount);
+        // Regras de débito verificadas antes de qualquer escrita
+        Optional<RuleViolation> debitViolation = sourceAccount.checkDebit(amount);
+        if (debitViolation.isPresent()) {
+            return reject(new TransferOutcome.Rejected(debitViolation.get()));
+        }
         
         // Criar transferência
         Transfer transfer = createTransfer(sourceAccount, targetAccount, amount);
@@ -106,25 +156,32 @@ public class TransferUseCaseImpl implements TransferUseCase {
             // Atualizar limite diário
             dailyLimit.useLimit(amount);
             
-            // Persistir alterações
-            accountRepository.save(sourceAccount);
-            accountRepository.save(targetAccount);
-            dailyTransferLimitRepository.save(dailyLimit);
-            
-            // Marcar transferência como completa
-            transfer.complete();
-            transfer.markBacenPending();
-            transferRepository.save(transfer);
+            // Persistir alterações (saldos in-place ou lançamentos no livro-razão)
+            timed(Stage.PERSISTENCE, () -> {
+                balanceLedger.post(transfer, sourceAccount, targetAccount);
+                accountState.invalidate(sourceAccount.getId());
+                accountState.invalidate(targetAccount.getId());
+                dailyTransferLimitRepository.save(dailyLimit);
+                
+                // Marcar transferência como completa
+                transfer.complete();
+                transfer.markBacenPending();
+                return transferRepository.save(transfer);
+            });
             
             // Notificar BACEN (síncrono com retry)
-            String bacenNotificationId = notifyBacen(transfer);
+            String bacenNotificationId = timed(Stage.BACEN_NOTIFY, () -> notifyBacen(transfer));
             transfer.markBacenNotified(bacenNotificationId);
             transferRepository.save(transfer);
             
-            log.info("Transferência concluída com sucesso: id={}, bacenId={}", 
-                transfer.getId(), bacenNotificationId);
+            // Único evento INFO por transferência efetivada
+            log.atInfo()
+                .setMessage("Transferência concluída")
+                .addKeyValue("transferId", transfer.getId())
+                .addKeyValue("bacenId", bacenNotificationId)
+                .log();
             
-            return buildSuccessResponse(transfer, sourceAccount, targetAccount);
+            return new TransferOutcome.Success(buildSuccessResponse(transfer, sourceAccount, targetAccount));
             
         } catch (IntegrationException e) {
             // Transferência foi realizada, mas BACEN não foi notificado
@@ -135,7 +192,14 @@ public class TransferUseCaseImpl implements TransferUseCase {
             transfer.incrementBacenRetryCount();
             transferRepository.save(transfer);
             
-            return buildPendingBacenResponse(transfer, sourceAccount, targetAccount);
+            return new TransferOutcome.PendingBacen(buildPendingBacenResponse(transfer, sourceAccount, targetAccount));
+            
+        } catch (BusinessException e) {
+            // Regras já verificadas acima; mantido como defesa das invariantes
+            log.debug("Transferência recusada: id={}, código={}", transfer.getId(), e.getErrorCode().getCode());
+            transfer.fail(e.getMessage());
+            transferRepository.save(transfer);
+            throw e;
             
         } catch (Exception e) {
             log.error("Erro ao processar transferência: {}", e.getMessage(), e);
@@ -145,47 +209,154 @@ public class TransferUseCaseImpl implements TransferUseCase {
         }
     }
     
-    private void validateDifferentAccounts(TransferRequest request) {
-        if (!request.isDifferentAccounts()) {
-            throw new BusinessException(
-                ErrorCode.SAME_ACCOUNT_TRANSFER,
-                "Não é permitido transferir para a mesma conta"
-            );
-        }
+    private TransferOutcome.Rejected reject(TransferOutcome.Rejected rejected) {
+        log.debug("Transferência recusada: código={}", rejected.errorCode().getCode());
+        return rejected;
     }
     
-    private Account findAccountForUpdate(String accountNumber, String agencyNumber) {
-        return accountRepository.findByAccountAndAgency(accountNumber, agencyNumber)
-            .orElseThrow(() -> ResourceNotFoundException.account(accountNumber));
+    /**
+     * Etapa de pré-carga da transferência.
+     * 
+     * Executa em paralelo as etapas independentes entre si:
+     * - Resolução das referências de origem e destino (mapeamento imutável,
+     *   lido fora da transação em virtual threads)
+     * - Validação do cliente na API de Cadastro, disparada assim que o
+     *   clientId da origem é conhecido
+     * 
+     * As leituras com lock (conta origem e limite diário) e a leitura da conta
+     * destino permanecem na thread da transação, que detém a conexão e os locks.
+     * As regras só são avaliadas depois das leituras, numa ordem fixa: contas
+     * ativas, limite disponível, cliente e limite diário. O código de erro
+     * não depende de quando o Cadastro responde.
+     * Uma falha ou recusa cancela as etapas ainda pendentes.
+     */
+    private PrefetchedTransfer prefetch(TransferRequest request, Money amount) {
+        CompletableFuture<AccountReference> sourceLookup = CompletableFuture.supplyAsync(
+            () -> resolveAccount(request.sourceAccountNumber(), request.sourceAgencyNumber()),
+            prefetchExecutor);
+        CompletableFuture<AccountReference> targetLookup = CompletableFuture.supplyAsync(
+            () -> resolveAccount(request.targetAccountNumber(), request.targetAgencyNumber()),
+            prefetchExecutor);
+        CompletableFuture<Optional<Client>> clientLookup = null;
+        
+        try {
+            AccountReference sourceReference = await(sourceLookup);
+            long clientStart = stageMetrics.start();
+            clientLookup = clientDataPort.findClientByIdAsync(sourceReference.clientId());
+            CompletableFuture<Optional<RuleViolation>> clientCheck =
+                clientLookup.thenApply(client -> checkClient(sourceReference, client));
+            // Cancelada após outra recusa ou falha: não é resultado do Cadastro
+            clientCheck.whenComplete((clientViolation, error) -> {
+                if (!isCancellation(error)) {
+                    stageMetrics.record(Stage.CLIENT_VALIDATION,
+                        error != null ? outcomeOf(error) : rejectedIf(clientViolation), clientStart);
+                }
+            });
+            
+            // Conta origem com lock para atualização
+            Account sourceAccount = timed(Stage.ACCOUNT_LOCK, () -> accountRepository
+                .findByIdForUpdate(sourceReference.accountId())
+                .orElseThrow(() -> ResourceNotFoundException.account(request.sourceAccountNumber())));
+            
+            // Conta destino carregada antes das regras: conta inexistente
+            // prevalece sobre qualquer violação
+            AccountReference targetReference = await(targetLookup);
+            Account targetAccount = accountRepository.findById(targetReference.accountId())
+                .orElseThrow(() -> ResourceNotFoundException.account(request.targetAccountNumber()));
+            
+            // Limite diário com lock para atualização
+            DailyTransferLimit dailyLimit = timed(Stage.DAILY_LIMIT, () -> getOrCreateDailyLimit(sourceAccount),
+                limit -> rejectedIf(limit.checkLimit(amount)));
+            
+            // Regras avaliadas sempre na mesma ordem, independente de quando
+            // o Cadastro responde
+            Optional<RuleViolation> violation = sourceAccount.checkActive()
+                .or(targetAccount::checkActive)
+                .or(() -> sourceAccount.checkAvailableLimit(amount))
+                .or(() -> await(clientCheck))
+                .or(() -> dailyLimit.checkLimit(amount));
+            if (violation.isPresent()) {
+                return PrefetchedTransfer.rejected(violation.get());
+            }
+            
+            return new PrefetchedTransfer(sourceAccount, targetAccount, dailyLimit, null);
+            
+        } finally {
+            // Sem efeito nas etapas já concluídas
+            sourceLookup.cancel(true);
+            targetLookup.cancel(true);
+            if (clientLookup != null) {
+                clientLookup.cancel(true);
+            }
+        }
     }
     
-    private Account findAccount(String accountNumber, String agencyNumber) {
-        return accountRepository.findByAccountAndAgency(accountNumber, agencyNumber)
+    private AccountReference resolveAccount(String accountNumber, String agencyNumber) {
+        return accountRepository.findReferenceByAccountAndAgency(accountNumber, agencyNumber)
             .orElseThrow(() -> ResourceNotFoundException.account(accountNumber));
     }
     
-    @CircuitBreaker(name = "cadastroApi", fallbackMethod = "validateClientFallback")
-    @Retry(name = "cadastroApi")
-    private void validateClient(Account account) {
-        Client client = clientDataPort.findClientById(account.getClientId())
-            .orElseThrow(() -> ResourceNotFoundException.client(account.getClientId().toString()));
+    private Optional<RuleViolation> checkClient(AccountReference reference, Optional<Client> clientData) {
+        Client client = clientData
+            .orElseThrow(() -> ResourceNotFoundException.client(reference.clientId().toString()));
         
         if (!client.isActive()) {
-            throw new BusinessException(
+            return Optional.of(RuleViolation.of(
                 ErrorCode.CLIENT_NOT_ACTIVE,
-                String.format("Cliente %s não está ativo no sistema de cadastro", client.getName())
-            );
+                () -> String.format("Cliente %s não está ativo no sistema de cadastro", client.getName())
+            ));
         }
         
         log.debug("Cliente validado: {}", client.getName());
+        return Optional.empty();
+    }
+    
+    private <T> T timed(Stage stage, Supplier<T> step) {
+        return timed(stage, step, result -> Outcome.SUCCESS);
+    }
+    
+    /**
+     * Executa a etapa registrando sua duração; exceções são registradas
+     * conforme o tipo e relançadas.
+     */
+    private <T> T timed(Stage stage, Supplier<T> step, Function<T, Outcome> outcome) {
+        long start = stageMetrics.start();
+        T result;
+        try {
+            result = step.get();
+        } catch (RuntimeException e) {
+            stageMetrics.record(stage, outcomeOf(e), start);
+            throw e;
+        }
+        stageMetrics.record(stage, outcome.apply(result), start);
+        return result;
+    }
+    
+    private static Outcome rejectedIf(Optional<RuleViolation> violation) {
+        return violation.isPresent() ? Outcome.REJECTED : Outcome.SUCCESS;
     }
     
-    @SuppressWarnings("unused")
-    private void validateClientFallback(Account account, Throwable t) {
-        log.warn("Fallback ativado para validação de cliente: {}", t.getMessage());
-        // Em caso de falha na API de Cadastro, permitimos a operação
-        // mas registramos para auditoria posterior
-        // Esta é uma decisão de negócio: priorizar disponibilidade sobre consistência
+    private static boolean isCancellation(Throwable error) {
+        return error instanceof CancellationException
+            || error instanceof CompletionException && error.getCause() instanceof CancellationException;
+    }
+    
+    private static Outcome outcomeOf(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null
+            ? error.getCause()
+            : error;
+        return cause instanceof BusinessException ? Outcome.REJECTED : Outcome.ERROR;
+    }
+    
+    private <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
     
     private DailyTransferLimit getOrCreateDailyLimit(Account account) {
@@ -206,19 +377,15 @@ public class TransferUseCaseImpl implements TransferUseCase {
             .build();
     }
     
-    @CircuitBreaker(name = "bacenApi", fallbackMethod = "notifyBacenFallback")
-    @Retry(name = "bacenApi")
+    /**
+     * A resiliência (retry, circuit breaker, rate limit) fica no cliente do BACEN;
+     * falhas esgotadas chegam aqui como {@link IntegrationException}.
+     */
     private String notifyBacen(Transfer transfer) {
-        log.info("Notificando BACEN sobre transferência: {}", transfer.getId());
+        log.debug("Notificando BACEN sobre transferência: {}", transfer.getId());
         return bacenNotificationPort.notifyTransfer(transfer);
     }
     
-    @SuppressWarnings("unused")
-    private String notifyBacenFallback(Transfer transfer, Throwable t) {
-        log.warn("Fallback ativado para notificação BACEN: {}", t.getMessage());
-        throw IntegrationException.bacenUnavailable(t);
-    }
-    
     private TransferResponse buildSuccessResponse(Transfer transfer, Account source, Account target) {
         return TransferResponse.builder()
             .transferId(transfer.getId().value())
@@ -251,6 +418,16 @@ public class TransferUseCaseImpl implements TransferUseCase {
             .message("Transferência realizada. Notificação ao BACEN pendente.")
             .build();
     }
+    
+    private record PrefetchedTransfer(
+        Account sourceAccount, 
+        Account targetAccount, 
+        DailyTransferLimit dailyLimit,
+        RuleViolation violation
+    ) {
+        
+        static PrefetchedTransfer rejected(RuleViolation violation) {
+            return new PrefetchedTransfer(null, null, null, violation);
+        }
+    }
 }
-
-
@@ -2,6 +2,7 @@ package com.itau.transferapi.domain.entity;
 
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.RuleViolation;
 import com.itau.transferapi.domain.valueobject.AccountId;
 import com.itau.transferapi.domain.valueobject.AccountStatus;
 import com.itau.transferapi.domain.valueobject.Money;
@@ -10,6 +11,7 @@ import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -39,19 +41,52 @@ public class Account {
     private final LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
+    /**
+     * Verifica se a conta está ativa para realizar operações.
+     * 
+     * @return violação ACCOUNT_NOT_ACTIVE, ou vazio se ativa
+     */
+    public Optional<RuleViolation> checkActive() {
+        if (AccountStatus.ACTIVE.equals(this.status)) {
+            return Optional.empty();
+        }
+        // Detalhes formatados só se a recusa for exibida; captura o estado atual
+        AccountStatus currentStatus = this.status;
+        return Optional.of(RuleViolation.of(
+            ErrorCode.ACCOUNT_NOT_ACTIVE,
+            () -> String.format("Conta %s não está ativa. Status atual: %s", 
+                this.accountNumber, currentStatus)
+        ));
+    }
+    
     /**
      * Valida se a conta está ativa para realizar operações.
      * 
      * @throws BusinessException se a conta não estiver ativa
      */
     public void validateActive() {
-        if (!AccountStatus.ACTIVE.equals(this.status)) {
-            throw new BusinessException(
-                ErrorCode.ACCOUNT_NOT_ACTIVE,
-                String.format("Conta %s não está ativa. Status atual: %s", 
-                    this.accountNumber, this.status)
-            );
+        checkActive().ifPresent(RuleViolation::raise);
+    }
+    
+    /**
+     * Verifica se há limite disponível para realizar a transferência.
+     * 
+     * @param amount valor a ser transferido
+     * @return violação INSUFFICIENT_LIMIT, ou vazio se houver limite
+     */
+    public Optional<RuleViolation> checkAvailableLimit(Money amount) {
+        Objects.requireNonNull(amount, "Valor da transferência não pode ser nulo");
+        
+        if (!this.availableLimit.isLessThan(amount)) {
+            return Optional.empty();
         }
+        Money available = this.availableLimit;
+        return Optional.of(RuleViolation.of(
+            ErrorCode.INSUFFICIENT_LIMIT,
+            () -> String.format("Limite disponível insuficiente. Disponível: %s, Solicitado: %s",
+                available.getFormattedValue(), 
+                amount.getFormattedValue())
+        ));
     }
     
     /**
@@ -61,16 +96,28 @@ public class Account {
      * @throws BusinessException se não houver limite disponível
      */
     public void validateAvailableLimit(Money amount) {
+        checkAvailableLimit(amount).ifPresent(RuleViolation::raise);
+    }
+    
+    /**
+     * Verifica se há saldo suficiente para realizar a transferência.
+     * 
+     * @param amount valor a ser transferido
+     * @return violação INSUFFICIENT_BALANCE, ou vazio se houver saldo
+     */
+    public Optional<RuleViolation> checkBalance(Money amount) {
         Objects.requireNonNull(amount, "Valor da transferência não pode ser nulo");
         
-        if (this.availableLimit.isLessThan(amount)) {
-            throw new BusinessException(
-                ErrorCode.INSUFFICIENT_LIMIT,
-                String.format("Limite disponível insuficiente. Disponível: %s, Solicitado: %s",
-                    this.availableLimit.getFormattedValue(), 
-                    amount.getFormattedValue())
-            );
+        if (!this.balance.isLessThan(amount)) {
+            return Optional.empty();
         }
+        Money available = this.balance;
+        return Optional.of(RuleViolation.of(
+            ErrorCode.INSUFFICIENT_BALANCE,
+            () -> String.format("Saldo insuficiente. Disponível: %s, Solicitado: %s",
+                available.getFormattedValue(), 
+                amount.getFormattedValue())
+        ));
     }
     
     /**
@@ -80,16 +127,19 @@ public class Account {
      * @throws BusinessException se não houver saldo suficiente
      */
     public void validateBalance(Money amount) {
-        Objects.requireNonNull(amount, "Valor da transferência não pode ser nulo");
-        
-        if (this.balance.isLessThan(amount)) {
-            throw new BusinessException(
-                ErrorCode.INSUFFICIENT_BALANCE,
-                String.format("Saldo insuficiente. Disponível: %s, Solicitado: %s",
-                    this.balance.getFormattedValue(), 
-                    amount.getFormattedValue())
-            );
-        }
+        checkBalance(amount).ifPresent(RuleViolation::raise);
+    }
+    
+    /**
+     * Verifica as regras de débito: conta ativa, saldo e limite disponível.
+     * 
+     * @param amount valor a ser debitado
+     * @return primeira violação encontrada, ou vazio se o débito é permitido
+     */
+    public Optional<RuleViolation> checkDebit(Money amount) {
+        return checkActive()
+            .or(() -> checkBalance(amount))
+            .or(() -> checkAvailableLimit(amount));
     }
     
     /**
@@ -99,13 +149,8 @@ public class Account {
      * @throws BusinessException se a conta não estiver ativa ou sem saldo
      */
     public void debit(Money amount) {
-        validateActive();
-        validateBalance(amount);
-        validateAvailableLimit(amount);
-        
-        this.balance = this.balance.subtract(amount);
-        this.availableLimit = this.availableLimit.subtract(amount);
-        this.updatedAt = LocalDateTime.now();
+        checkDebit(amount).ifPresent(RuleViolation::raise);
+        replayDebit(amount);
     }
     
     /**
@@ -116,6 +161,32 @@ public class Account {
      */
     public void credit(Money amount) {
         validateActive();
+        replayCredit(amount);
+    }
+    
+    /**
+     * Reaplica um débito já aceito, sem reavaliar as regras de negócio.
+     * 
+     * Usado na recuperação de efeitos registrados (journal): as regras
+     * valeram no momento da transferência e não mudam o que já ocorreu.
+     * 
+     * @param amount valor debitado
+     */
+    public void replayDebit(Money amount) {
+        Objects.requireNonNull(amount, "Valor do débito não pode ser nulo");
+        
+        this.balance = this.balance.subtract(amount);
+        this.availableLimit = this.availableLimit.subtract(amount);
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * Reaplica um crédito já aceito, sem reavaliar as regras de negócio.
+     * 
+     * @param amount valor creditado
+     * @see #replayDebit(Money)
+     */
+    public void replayCredit(Money amount) {
         Objects.requireNonNull(amount, "Valor do crédito não pode ser nulo");
         
         this.balance = this.balance.add(amount);
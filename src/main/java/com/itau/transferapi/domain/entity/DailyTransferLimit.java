@@ -2,6 +2,7 @@ package com.itau.transferapi.domain.entity;
 
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.RuleViolation;
 import com.itau.transferapi.domain.valueobject.AccountId;
 import com.itau.transferapi.domain.valueobject.Money;
 import lombok.Builder;
@@ -9,6 +10,7 @@ import lombok.Getter;
 
 import java.time.LocalDate;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Entidade de domínio que representa o controle de limite diário de transferências.
@@ -22,7 +24,7 @@ import java.util.Objects;
 @Builder
 public class DailyTransferLimit {
     
-    private static final Money DEFAULT_DAILY_LIMIT = Money.of("1000.00");
+    public static final Money DEFAULT_DAILY_LIMIT = Money.of("1000.00");
     
     private final AccountId accountId;
     private final LocalDate date;
@@ -54,26 +56,40 @@ public class DailyTransferLimit {
     }
     
     /**
-     * Valida se o valor está dentro do limite diário disponível.
+     * Verifica se o valor está dentro do limite diário disponível.
      * 
      * @param amount valor a ser transferido
-     * @throws BusinessException se o limite diário for excedido
+     * @return violação DAILY_LIMIT_EXCEEDED, ou vazio se couber no limite
      */
-    public void validateLimit(Money amount) {
+    public Optional<RuleViolation> checkLimit(Money amount) {
         Objects.requireNonNull(amount, "Valor da transferência não pode ser nulo");
         
         Money newUsedAmount = usedAmount.add(amount);
         
-        if (newUsedAmount.isGreaterThan(dailyLimit)) {
-            throw new BusinessException(
-                ErrorCode.DAILY_LIMIT_EXCEEDED,
-                String.format("Limite diário excedido. Limite: %s, Utilizado: %s, Solicitado: %s, Disponível: %s",
-                    dailyLimit.getFormattedValue(),
-                    usedAmount.getFormattedValue(),
-                    amount.getFormattedValue(),
-                    getAvailableLimit().getFormattedValue())
-            );
+        if (!newUsedAmount.isGreaterThan(dailyLimit)) {
+            return Optional.empty();
         }
+        // Detalhes formatados só se a recusa for exibida; captura o estado atual
+        Money limit = dailyLimit;
+        Money used = usedAmount;
+        return Optional.of(RuleViolation.of(
+            ErrorCode.DAILY_LIMIT_EXCEEDED,
+            () -> String.format("Limite diário excedido. Limite: %s, Utilizado: %s, Solicitado: %s, Disponível: %s",
+                limit.getFormattedValue(),
+                used.getFormattedValue(),
+                amount.getFormattedValue(),
+                limit.subtract(used).getFormattedValue())
+        ));
+    }
+    
+    /**
+     * Valida se o valor está dentro do limite diário disponível.
+     * 
+     * @param amount valor a ser transferido
+     * @throws BusinessException se o limite diário for excedido
+     */
+    public void validateLimit(Money amount) {
+        checkLimit(amount).ifPresent(RuleViolation::raise);
     }
     
     /**
@@ -1,7 +1,10 @@
 package com.itau.transferapi.domain.exception;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.util.function.Supplier;
+
 /**
  * Exceção base para erros de negócio da aplicação.
  * 
@@ -11,47 +14,84 @@ import lombok.Getter;
  * - Condições de erro esperadas
  * 
  * Não deve ser utilizada para erros técnicos/infraestrutura.
+ * 
+ * Recusas de negócio são tráfego normal (limite, saldo, conta inativa), por
+ * isso a exceção não captura stack trace nem aceita exceções suprimidas, e
+ * os detalhes podem ser informados por um {@link Supplier}, formatado apenas
+ * quando a mensagem é lida. Sem estado mutável visível, uma instância com
+ * detalhes fixos pode ser pré-alocada e relançada.
  */
 @Getter
 public class BusinessException extends RuntimeException {
     
     private final ErrorCode errorCode;
-    private final String details;
+    
+    @Getter(AccessLevel.NONE)
+    private final transient Supplier<String> detailsSupplier;
+    private volatile String details;
     
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getDefaultMessage());
-        this.errorCode = errorCode;
-        this.details = null;
+        this(errorCode, (String) null);
     }
     
     public BusinessException(ErrorCode errorCode, String details) {
-        super(details != null ? details : errorCode.getDefaultMessage());
+        this(errorCode, details, null);
+    }
+    
+    /**
+     * @param details detalhes formatados apenas quando lidos
+     */
+    public BusinessException(ErrorCode errorCode, Supplier<String> details) {
+        super(null, null, false, false);
         this.errorCode = errorCode;
-        this.details = details;
+        this.detailsSupplier = details;
     }
     
     public BusinessException(ErrorCode errorCode, String details, Throwable cause) {
-        super(details != null ? details : errorCode.getDefaultMessage(), cause);
+        super(null, cause, false, false);
         this.errorCode = errorCode;
+        this.detailsSupplier = null;
         this.details = details;
     }
     
+    /**
+     * Detalhes da recusa, formatados na primeira leitura.
+     *
+     * @return detalhes ou null
+     */
+    public String getDetails() {
+        String resolved = details;
+        if (resolved == null) {
+            Supplier<String> supplier = detailsSupplier;
+            if (supplier != null) {
+                resolved = supplier.get();
+                details = resolved;
+            }
+        }
+        return resolved;
+    }
+    
+    @Override
+    public String getMessage() {
+        String resolved = getDetails();
+        return resolved != null ? resolved : errorCode.getDefaultMessage();
+    }
+    
     /**
      * Retorna a mensagem completa formatada.
-     * 
+     *
      * @return mensagem formatada
      */
     public String getFormattedMessage() {
-        if (details != null) {
-            return String.format("[%s] %s - %s", 
-                errorCode.getCode(), 
-                errorCode.getDefaultMessage(), 
-                details);
+        String resolved = getDetails();
+        if (resolved != null) {
+            return String.format("[%s] %s - %s",
+                errorCode.getCode(),
+                errorCode.getDefaultMessage(),
+                resolved);
         }
-        return String.format("[%s] %s", 
-            errorCode.getCode(), 
+        return String.format("[%s] %s",
+            errorCode.getCode(),
             errorCode.getDefaultMessage());
     }
 }
-
-
@@ -43,7 +43,8 @@ public enum ErrorCode {
     // Erros internos (500)
     INTERNAL_ERROR("ITAU-5001", "Erro interno do servidor", HttpStatus.INTERNAL_SERVER_ERROR),
     DATABASE_ERROR("ITAU-5002", "Erro ao acessar banco de dados", HttpStatus.INTERNAL_SERVER_ERROR),
-    CONCURRENT_MODIFICATION("ITAU-5003", "Conflito de atualização concorrente", HttpStatus.CONFLICT);
+    CONCURRENT_MODIFICATION("ITAU-5003", "Conflito de atualização concorrente", HttpStatus.CONFLICT),
+    SERVICE_OVERLOADED("ITAU-5004", "Serviço sobrecarregado", HttpStatus.SERVICE_UNAVAILABLE);
     
     private final String code;
     private final String defaultMessage;
@@ -12,7 +12,7 @@ public class ResourceNotFoundException extends BusinessException {
     private final String resourceId;
     
     public ResourceNotFoundException(ErrorCode errorCode, String resourceType, String resourceId) {
-        super(errorCode, String.format("%s não encontrado: %s", resourceType, resourceId));
+        super(errorCode, () -> resourceType + " não encontrado: " + resourceId);
         this.resourceType = resourceType;
         this.resourceId = resourceId;
     }
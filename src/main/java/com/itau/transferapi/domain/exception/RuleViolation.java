@@ -0,0 +1,83 @@
+package com.itau.transferapi.domain.exception;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Violação de regra de negócio como valor, sem lançamento.
+ *
+ * Retornada pelas verificações do domínio (check*) para quem trata recusas
+ * como resultado; as variantes validate* a convertem em
+ * {@link BusinessException}. Os detalhes são formatados apenas na primeira
+ * leitura e a exceção é criada uma única vez, de modo que uma violação
+ * constante pode ser pré-alocada.
+ */
+public final class RuleViolation {
+
+    private final ErrorCode errorCode;
+    private final Supplier<String> detailsSupplier;
+    private volatile String details;
+    private volatile BusinessException exception;
+
+    private RuleViolation(ErrorCode errorCode, Supplier<String> detailsSupplier) {
+        this.errorCode = Objects.requireNonNull(errorCode, "Código de erro não pode ser nulo");
+        this.detailsSupplier = detailsSupplier;
+    }
+
+    public static RuleViolation of(ErrorCode errorCode, String details) {
+        RuleViolation violation = new RuleViolation(errorCode, null);
+        violation.details = details;
+        return violation;
+    }
+
+    /**
+     * @param details detalhes formatados apenas quando lidos
+     */
+    public static RuleViolation of(ErrorCode errorCode, Supplier<String> details) {
+        return new RuleViolation(errorCode, details);
+    }
+
+    public ErrorCode getErrorCode() {
+        return errorCode;
+    }
+
+    /**
+     * Detalhes da violação, formatados na primeira leitura.
+     *
+     * @return detalhes ou null
+     */
+    public String getDetails() {
+        String resolved = details;
+        if (resolved == null && detailsSupplier != null) {
+            resolved = detailsSupplier.get();
+            details = resolved;
+        }
+        return resolved;
+    }
+
+    /**
+     * Exceção equivalente, criada na primeira chamada e reutilizada.
+     */
+    public BusinessException toException() {
+        BusinessException created = exception;
+        if (created == null) {
+            created = new BusinessException(errorCode, this::getDetails);
+            exception = created;
+        }
+        return created;
+    }
+
+    /**
+     * Lança a exceção equivalente; usado pelas variantes validate*.
+     *
+     * @throws BusinessException sempre
+     */
+    public void raise() {
+        throw toException();
+    }
+
+    @Override
+    public String toString() {
+        return "RuleViolation[" + errorCode.getCode() + "]";
+    }
+}
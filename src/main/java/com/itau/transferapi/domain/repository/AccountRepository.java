@@ -2,6 +2,7 @@ package com.itau.transferapi.domain.repository;
 
 import com.itau.transferapi.domain.entity.Account;
 import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -30,7 +31,19 @@ public interface AccountRepository {
      * @return Optional contendo a conta ou vazio
      */
     Optional<Account> findByAccountAndAgency(String accountNumber, String agencyNumber);
-    
+
+    /**
+     * Resolve o número da conta e agência para a referência imutável da conta.
+     *
+     * Não carrega a linha completa: o resultado pode vir de cache e deve ser
+     * seguido de uma busca por ID quando o estado da conta for necessário.
+     *
+     * @param accountNumber número da conta
+     * @param agencyNumber número da agência
+     * @return Optional contendo a referência ou vazio
+     */
+    Optional<AccountReference> findReferenceByAccountAndAgency(String accountNumber, String agencyNumber);
+
     /**
      * Busca uma conta pelo ID do cliente.
      * 
@@ -25,6 +25,18 @@ public interface TransferRepository {
      */
     Optional<Transfer> findById(TransferId transferId);
     
+    /**
+     * Busca uma transferência pelo ID e pela data de criação.
+     * 
+     * Preferível a {@link #findById(TransferId)} quando a data é conhecida:
+     * com a tabela particionada por mês, lê uma única partição.
+     * 
+     * @param transferId ID da transferência
+     * @param createdAt data de criação da transferência
+     * @return Optional contendo a transferência ou vazio
+     */
+    Optional<Transfer> findById(TransferId transferId, LocalDateTime createdAt);
+    
     /**
      * Salva ou atualiza uma transferência.
      * 
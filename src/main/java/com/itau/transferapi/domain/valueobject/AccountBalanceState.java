@@ -0,0 +1,18 @@
+package com.itau.transferapi.domain.valueobject;
+
+import java.util.Objects;
+
+/**
+ * Value Object imutável com o estado de saldo de uma conta.
+ *
+ * Apenas o que muda com as transferências (saldo, limite e status); os dados
+ * cadastrais da conta vêm de {@link AccountReference}.
+ */
+public record AccountBalanceState(Money balance, Money availableLimit, AccountStatus status) {
+
+    public AccountBalanceState {
+        Objects.requireNonNull(balance, "Saldo não pode ser nulo");
+        Objects.requireNonNull(availableLimit, "Limite disponível não pode ser nulo");
+        Objects.requireNonNull(status, "Status não pode ser nulo");
+    }
+}
@@ -0,0 +1,30 @@
+package com.itau.transferapi.domain.valueobject;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Value Object imutável que resolve o par (conta, agência) para a identidade da conta.
+ *
+ * O mapeamento de número/agência para ID da conta e ID do cliente nunca muda
+ * após a abertura da conta, o que permite mantê-lo em cache e seguir
+ * direto para buscas por chave primária no caminho crítico.
+ */
+public record AccountReference(AccountId accountId, UUID clientId) {
+
+    public AccountReference {
+        Objects.requireNonNull(accountId, "ID da conta não pode ser nulo");
+        Objects.requireNonNull(clientId, "ID do cliente não pode ser nulo");
+    }
+
+    /**
+     * Cria uma referência de conta.
+     *
+     * @param accountId ID da conta
+     * @param clientId ID do cliente titular
+     * @return AccountReference
+     */
+    public static AccountReference of(UUID accountId, UUID clientId) {
+        return new AccountReference(AccountId.of(accountId), clientId);
+    }
+}
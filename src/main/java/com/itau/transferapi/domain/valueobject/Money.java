@@ -83,6 +83,26 @@ public final class Money {
         return ZERO;
     }
     
+    /**
+     * Cria um Money a partir de um valor em centavos.
+     * 
+     * @param minorUnits valor em centavos
+     * @return instância de Money
+     */
+    public static Money ofMinorUnits(long minorUnits) {
+        return new Money(BigDecimal.valueOf(minorUnits, SCALE));
+    }
+    
+    /**
+     * Retorna o valor em centavos.
+     * 
+     * @return valor em centavos
+     * @throws ArithmeticException se o valor não couber em um long
+     */
+    public long toMinorUnits() {
+        return value.unscaledValue().longValueExact();
+    }
+    
     /**
      * Adiciona outro Money a este.
      * 
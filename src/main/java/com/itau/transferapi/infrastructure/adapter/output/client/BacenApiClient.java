@@ -1,33 +1,43 @@
 package com.itau.transferapi.infrastructure.adapter.output.client;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.transferapi.application.port.output.BacenNotificationPort;
 import com.itau.transferapi.domain.entity.Transfer;
 import com.itau.transferapi.domain.exception.IntegrationException;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
-import io.github.resilience4j.retry.annotation.Retry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Cliente para integração com API do BACEN.
  * 
- * Implementa padrões de resiliência especiais para o BACEN:
+ * Implementa padrões de resiliência especiais para o BACEN,
+ * aplicados via {@link ExternalCallExecutor}:
  * - Circuit Breaker
  * - Retry com backoff exponencial
  * - Rate Limiter (respeitando limites do BACEN)
  * - Bulkhead para limitar concorrência
- * - Time Limiter
+ * - Time Limiter (variante assíncrona)
  * 
  * Em caso de rate limit (HTTP 429), a transferência é marcada
  * como BACEN_PENDING para retry assíncrono posterior.
@@ -37,29 +47,36 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class BacenApiClient implements BacenNotificationPort {
     
+    private static final String SERVICE = "bacenApi";
+    
     private final RestTemplate bacenRestTemplate;
+    private final HttpClient bacenHttpClient;
+    private final ObjectMapper objectMapper;
+    private final ExternalCallExecutor externalCallExecutor;
+    private final TraceHeaders traceHeaders;
     
     @Value("${external.bacen.base-url}")
     private String baseUrl;
     
+    @Value("${external.bacen.timeout.read:5000}")
+    private int readTimeout;
+    
     @Override
-    @CircuitBreaker(name = "bacenApi", fallbackMethod = "notifyTransferFallback")
-    @Retry(name = "bacenApi")
-    @RateLimiter(name = "bacenApi")
-    @Bulkhead(name = "bacenApi")
     public String notifyTransfer(Transfer transfer) {
-        log.info("Notificando BACEN sobre transferência: {}", transfer.getId());
+        return externalCallExecutor.execute(SERVICE, "notifyTransfer",
+            () -> sendNotification(transfer),
+            t -> {
+                throw notifyTransferFallbackError(transfer, t);
+            });
+    }
+    
+    private String sendNotification(Transfer transfer) {
+        log.debug("Notificando BACEN sobre transferência: {}", transfer.getId());
         
         try {
             String url = baseUrl + "/api/v1/notifications";
             
-            BacenNotificationRequest request = new BacenNotificationRequest(
-                transfer.getId().value(),
-                transfer.getSourceAccountId().value(),
-                transfer.getTargetAccountId().value(),
-                transfer.getAmount().getValue(),
-                transfer.getCreatedAt()
-            );
+            BacenNotificationRequest request = toNotificationRequest(transfer);
             
             BacenNotificationResponse response = bacenRestTemplate.postForObject(
                 url, 
@@ -71,7 +88,7 @@ public class BacenApiClient implements BacenNotificationPort {
                 throw IntegrationException.bacenError("Resposta vazia do BACEN", null);
             }
             
-            log.info("BACEN notificado com sucesso: notificationId={}", response.notificationId());
+            log.debug("BACEN notificado com sucesso: notificationId={}", response.notificationId());
             return response.notificationId();
             
         } catch (HttpClientErrorException e) {
@@ -84,9 +101,38 @@ public class BacenApiClient implements BacenNotificationPort {
     }
     
     @Override
-    @CircuitBreaker(name = "bacenApi")
-    @Retry(name = "bacenApi")
+    public CompletableFuture<String> notifyTransferAsync(Transfer transfer) {
+        Map<String, String> trace = traceHeaders.current();
+        return externalCallExecutor.executeAsync(SERVICE, "notifyTransfer",
+            () -> sendNotificationAsync(transfer, trace),
+            t -> {
+                throw notifyTransferFallbackError(transfer, t);
+            });
+    }
+    
+    private CompletableFuture<String> sendNotificationAsync(Transfer transfer, Map<String, String> trace) {
+        log.debug("Notificando BACEN sobre transferência (assíncrono): {}", transfer.getId());
+        
+        HttpRequest request = TraceHeaders.apply(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/notifications")), trace)
+            .timeout(Duration.ofMillis(readTimeout))
+            .header("Content-Type", "application/json")
+            .header("Accept", "application/json")
+            .POST(HttpRequest.BodyPublishers.ofByteArray(toJson(toNotificationRequest(transfer))))
+            .build();
+        
+        return bacenHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+            .thenApply(response -> toNotificationId(transfer, response));
+    }
+    
+    @Override
     public NotificationStatus checkNotificationStatus(String notificationId) {
+        return externalCallExecutor.execute(SERVICE, "checkNotificationStatus",
+            () -> fetchNotificationStatus(notificationId),
+            null);
+    }
+    
+    private NotificationStatus fetchNotificationStatus(String notificationId) {
         log.debug("Verificando status da notificação: {}", notificationId);
         
         try {
@@ -112,11 +158,55 @@ public class BacenApiClient implements BacenNotificationPort {
         }
     }
     
-    @SuppressWarnings("unused")
-    private String notifyTransferFallback(Transfer transfer, Throwable t) {
+    private IntegrationException notifyTransferFallbackError(Transfer transfer, Throwable t) {
         log.error("Fallback ativado para notificação BACEN da transferência {}: {}", 
             transfer.getId(), t.getMessage());
-        throw IntegrationException.bacenUnavailable(t);
+        return IntegrationException.bacenUnavailable(t);
+    }
+    
+    private BacenNotificationRequest toNotificationRequest(Transfer transfer) {
+        return new BacenNotificationRequest(
+            transfer.getId().value(),
+            transfer.getSourceAccountId().value(),
+            transfer.getTargetAccountId().value(),
+            transfer.getAmount().getValue(),
+            transfer.getCreatedAt()
+        );
+    }
+    
+    private String toNotificationId(Transfer transfer, HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            log.warn("Rate limit do BACEN atingido para transferência: {}", transfer.getId());
+            throw IntegrationException.bacenRateLimit();
+        }
+        if (status >= 500) {
+            throw HttpServerErrorException.create(
+                HttpStatusCode.valueOf(status), "Erro na API do BACEN", null, response.body(), null);
+        }
+        if (status >= 400) {
+            throw IntegrationException.bacenError("Erro ao notificar BACEN: HTTP " + status, null);
+        }
+        
+        try {
+            BacenNotificationResponse body = objectMapper.readValue(
+                response.body(), BacenNotificationResponse.class);
+            if (body == null) {
+                throw IntegrationException.bacenError("Resposta vazia do BACEN", null);
+            }
+            log.debug("BACEN notificado com sucesso: notificationId={}", body.notificationId());
+            return body.notificationId();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    private byte[] toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
     }
     
     /**
@@ -1,49 +1,118 @@
 package com.itau.transferapi.infrastructure.adapter.output.client;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.transferapi.application.port.output.ClientDataPort;
 import com.itau.transferapi.domain.entity.Client;
 import com.itau.transferapi.domain.exception.IntegrationException;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Cliente para integração com API de Cadastro.
  * 
- * Implementa padrões de resiliência:
+ * Implementa padrões de resiliência via {@link ExternalCallExecutor}:
  * - Circuit Breaker
  * - Retry com backoff exponencial
  * - Bulkhead para limitar concorrência
- * - Time Limiter
- * - Cache para reduzir chamadas
+ * - Time Limiter (variante assíncrona)
+ * - Orçamento de retries (token bucket)
+ * - Hedging opcional da consulta assíncrona por ID
+ * - Cache com revalidação em background e cache negativo ({@link CadastroClientCache})
+ * 
+ * A variante assíncrona usa o {@link HttpClient} não bloqueante do JDK
+ * e compartilha o cache de clientes com a variante síncrona; o trace atual
+ * segue nos cabeçalhos via {@link TraceHeaders}.
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CadastroApiClient implements ClientDataPort {
     
+    private static final String SERVICE = "cadastroApi";
+    
     private final RestTemplate cadastroRestTemplate;
+    private final HttpClient cadastroHttpClient;
+    private final ObjectMapper objectMapper;
+    private final CadastroClientCache clientCache;
+    private final ExternalCallExecutor externalCallExecutor;
+    private final TraceHeaders traceHeaders;
     
     @Value("${external.cadastro.base-url}")
     private String baseUrl;
     
+    @Value("${external.cadastro.timeout.read:3000}")
+    private int readTimeout;
+    
+    @Value("${external.cadastro.retry-budget.ratio:0.1}")
+    private double retryBudgetRatio;
+    
+    @Value("${external.cadastro.retry-budget.max-tokens:10}")
+    private int retryBudgetMaxTokens;
+    
+    @Value("${external.cadastro.hedging.enabled:false}")
+    private boolean hedgingEnabled;
+    
+    @Value("${external.cadastro.hedging.initial-delay:100ms}")
+    private Duration hedgingInitialDelay;
+    
+    @Value("${external.cadastro.hedging.min-delay:10ms}")
+    private Duration hedgingMinDelay;
+    
+    private RequestHedger hedger;
+    
+    /**
+     * Limita os retries ao orçamento de tokens e, se habilitado, ativa o
+     * hedging da consulta por ID, que compartilha o mesmo orçamento.
+     */
+    @PostConstruct
+    void configureResilience() {
+        RetryBudget retryBudget = externalCallExecutor.applyRetryBudget(
+            SERVICE, retryBudgetRatio, retryBudgetMaxTokens);
+        if (hedgingEnabled) {
+            hedger = externalCallExecutor.hedger(
+                SERVICE, "findClientById", retryBudget, hedgingInitialDelay, hedgingMinDelay);
+            log.info("Hedging habilitado para a API de Cadastro: atraso inicial={}", hedgingInitialDelay);
+        }
+    }
+    
     @Override
-    @Cacheable(value = "clients", key = "#clientId", unless = "#result == null")
-    @CircuitBreaker(name = "cadastroApi", fallbackMethod = "findClientByIdFallback")
-    @Retry(name = "cadastroApi")
-    @Bulkhead(name = "cadastroApi")
     public Optional<Client> findClientById(UUID clientId) {
+        Optional<CadastroClientCache.Lookup> cached = clientCache.get(clientId);
+        if (cached.isPresent()) {
+            return fromCache(clientId, cached.get());
+        }
+        
+        return externalCallExecutor.execute(SERVICE, "findClientById",
+            () -> {
+                Optional<Client> client = fetchClientById(clientId);
+                clientCache.put(clientId, client);
+                return client;
+            },
+            t -> findClientByIdFallback(clientId, t));
+    }
+    
+    private Optional<Client> fetchClientById(UUID clientId) {
         log.debug("Buscando cliente na API de Cadastro: {}", clientId);
         
         try {
@@ -69,12 +138,78 @@ public class CadastroApiClient implements ClientDataPort {
         }
     }
     
+    @Override
+    public CompletableFuture<Optional<Client>> findClientByIdAsync(UUID clientId) {
+        Optional<CadastroClientCache.Lookup> cached = clientCache.get(clientId);
+        if (cached.isPresent()) {
+            return CompletableFuture.completedFuture(fromCache(clientId, cached.get()));
+        }
+        
+        return loadClientAsync(clientId);
+    }
+    
+    /**
+     * Serve a entrada do cache, disparando a revalidação em background
+     * (uma por cliente) quando a entrada estiver velha.
+     */
+    private Optional<Client> fromCache(UUID clientId, CadastroClientCache.Lookup cached) {
+        if (cached.needsRevalidation() && clientCache.tryStartRefresh(clientId)) {
+            log.debug("Revalidando cliente em background: {}", clientId);
+            loadClientAsync(clientId)
+                .whenComplete((client, error) -> clientCache.finishRefresh(clientId));
+        }
+        return cached.client();
+    }
+    
+    private CompletableFuture<Optional<Client>> loadClientAsync(UUID clientId) {
+        Map<String, String> trace = traceHeaders.current();
+        return externalCallExecutor.executeAsync(SERVICE, "findClientById",
+            () -> fetchClientByIdAsync(clientId, trace),
+            t -> findClientByIdFallback(clientId, t));
+    }
+    
+    private CompletableFuture<Optional<Client>> fetchClientByIdAsync(UUID clientId, Map<String, String> trace) {
+        log.debug("Buscando cliente na API de Cadastro (assíncrono): {}", clientId);
+        
+        HttpRequest request = TraceHeaders.apply(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/clients/" + clientId)), trace)
+            .timeout(Duration.ofMillis(readTimeout))
+            .header("Accept", "application/json")
+            .GET()
+            .build();
+        
+        CompletableFuture<Optional<Client>> lookup = hedger != null
+            ? hedger.execute(() -> sendClientRequest(request))
+            : sendClientRequest(request);
+        lookup.thenAccept(client -> clientCache.put(clientId, client));
+        return lookup;
+    }
+    
+    /**
+     * Envia a requisição e converte a resposta. O cancelamento do future
+     * retornado (hedge perdedor) aborta a troca HTTP em andamento.
+     */
+    private CompletableFuture<Optional<Client>> sendClientRequest(HttpRequest request) {
+        CompletableFuture<HttpResponse<byte[]>> exchange = 
+            cadastroHttpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        CompletableFuture<Optional<Client>> client = exchange.thenApply(this::toClient);
+        client.whenComplete((value, error) -> {
+            if (client.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return client;
+    }
+    
     @Override
     @Cacheable(value = "clientsByDocument", key = "#documentNumber", unless = "#result == null")
-    @CircuitBreaker(name = "cadastroApi", fallbackMethod = "findClientByDocumentFallback")
-    @Retry(name = "cadastroApi")
-    @Bulkhead(name = "cadastroApi")
     public Optional<Client> findClientByDocument(String documentNumber) {
+        return externalCallExecutor.execute(SERVICE, "findClientByDocument",
+            () -> fetchClientByDocument(documentNumber),
+            t -> findClientByDocumentFallback(documentNumber, t));
+    }
+    
+    private Optional<Client> fetchClientByDocument(String documentNumber) {
         log.debug("Buscando cliente por documento: {}", documentNumber);
         
         try {
@@ -100,25 +235,54 @@ public class CadastroApiClient implements ClientDataPort {
         }
     }
     
-    @SuppressWarnings("unused")
+    /**
+     * Serve o último cliente conhecido, dentro da idade máxima permitida.
+     * Sem ele a falha é propagada como indisponibilidade (retentável): um
+     * cliente sintético ativo aprovaria transferências de clientes inativos.
+     */
     private Optional<Client> findClientByIdFallback(UUID clientId, Throwable t) {
         log.warn("Fallback ativado para busca de cliente {}: {}", clientId, t.getMessage());
-        // Retorna um cliente padrão em caso de falha
-        // Decisão de negócio: priorizar disponibilidade
-        return Optional.of(Client.builder()
-            .id(clientId)
-            .name("Cliente")
-            .documentNumber("***")
-            .active(true)
-            .build());
+        
+        Optional<Client> lastKnown = clientCache.lastKnown(clientId);
+        if (lastKnown.isPresent()) {
+            log.info("Servindo último cliente conhecido para {}", clientId);
+            return lastKnown;
+        }
+        
+        throw IntegrationException.cadastroUnavailable(t);
     }
     
-    @SuppressWarnings("unused")
     private Optional<Client> findClientByDocumentFallback(String documentNumber, Throwable t) {
         log.warn("Fallback ativado para busca de cliente por documento: {}", t.getMessage());
         return Optional.empty();
     }
     
+    private Optional<Client> toClient(HttpResponse<byte[]> response) {
+        int status = response.statusCode();
+        if (status == HttpStatus.NOT_FOUND.value()) {
+            return Optional.empty();
+        }
+        if (status >= 500) {
+            throw HttpServerErrorException.create(
+                HttpStatusCode.valueOf(status), "Erro na API de Cadastro", null, response.body(), null);
+        }
+        if (status >= 400) {
+            throw IntegrationException.cadastroError("Erro ao buscar cliente: HTTP " + status, null);
+        }
+        
+        try {
+            ClientResponse body = objectMapper.readValue(response.body(), ClientResponse.class);
+            return Optional.of(Client.builder()
+                .id(body.id())
+                .name(body.name())
+                .documentNumber(body.documentNumber())
+                .active(body.active())
+                .build());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
     /**
      * DTO para resposta da API de Cadastro.
      */
@@ -0,0 +1,227 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.itau.transferapi.domain.entity.Client;
+import com.itau.transferapi.infrastructure.jfr.CacheLookupEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache explícito de clientes da API de Cadastro.
+ *
+ * Janelas por idade da entrada (semântica de stale-while-revalidate e
+ * stale-if-error do HTTP):
+ * - até fresh-ttl: entrada fresca, servida diretamente
+ * - até fresh-ttl + stale-while-revalidate: servida e revalidada em background
+ * - até max-staleness: só é servida como último valor conhecido quando a
+ *   API de Cadastro falha, antes de recorrer ao cliente sintético
+ *
+ * Clientes inexistentes (HTTP 404) são guardados como entradas negativas
+ * com TTL curto, evitando consultas repetidas para IDs desconhecidos.
+ *
+ * Métricas:
+ * - cadastro.client.cache.age: idade da entrada servida, por estado
+ *   (fresh, stale, negative, last_known)
+ * - cadastro.client.cache.misses: consultas sem entrada utilizável
+ *
+ * Cada consulta também gera o evento JFR {@link CacheLookupEvent}.
+ */
+@Component
+public class CadastroClientCache {
+
+    static final String AGE_METRIC = "cadastro.client.cache.age";
+    private static final String CACHE_NAME = "cadastro.client";
+
+    private final Cache<UUID, Entry> cache;
+    private final Ticker ticker;
+    private final long freshNanos;
+    private final long revalidateNanos;
+    private final long maxStalenessNanos;
+    private final Set<UUID> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Timer freshAge;
+    private final Timer staleAge;
+    private final Timer negativeAge;
+    private final Timer lastKnownAge;
+    private final Counter misses;
+
+    @Autowired
+    public CadastroClientCache(
+            @Value("${cache.clients.fresh-ttl:5m}") Duration freshTtl,
+            @Value("${cache.clients.stale-while-revalidate:1m}") Duration staleWhileRevalidate,
+            @Value("${cache.clients.max-staleness:1h}") Duration maxStaleness,
+            @Value("${cache.clients.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${cache.clients.maximum-size:100000}") long maximumSize,
+            MeterRegistry meterRegistry) {
+        this(freshTtl, staleWhileRevalidate, maxStaleness, negativeTtl, maximumSize,
+            meterRegistry, Ticker.systemTicker());
+    }
+
+    CadastroClientCache(Duration freshTtl, Duration staleWhileRevalidate, Duration maxStaleness,
+                        Duration negativeTtl, long maximumSize, MeterRegistry meterRegistry,
+                        Ticker ticker) {
+        this.ticker = ticker;
+        this.freshNanos = freshTtl.toNanos();
+        this.revalidateNanos = freshNanos + staleWhileRevalidate.toNanos();
+        this.maxStalenessNanos = Math.max(revalidateNanos, maxStaleness.toNanos());
+
+        long negativeNanos = negativeTtl.toNanos();
+        long positiveNanos = maxStalenessNanos;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maximumSize)
+            .ticker(ticker)
+            .expireAfter(new Expiry<UUID, Entry>() {
+                @Override
+                public long expireAfterCreate(UUID key, Entry entry, long currentTime) {
+                    return entry.isNegative() ? negativeNanos : positiveNanos;
+                }
+
+                @Override
+                public long expireAfterUpdate(UUID key, Entry entry, long currentTime,
+                        long currentDuration) {
+                    return expireAfterCreate(key, entry, currentTime);
+                }
+
+                @Override
+                public long expireAfterRead(UUID key, Entry entry, long currentTime,
+                        long currentDuration) {
+                    return currentDuration;
+                }
+            })
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "cadastroClients");
+
+        this.freshAge = ageTimer(meterRegistry, "fresh");
+        this.staleAge = ageTimer(meterRegistry, "stale");
+        this.negativeAge = ageTimer(meterRegistry, "negative");
+        this.lastKnownAge = ageTimer(meterRegistry, "last_known");
+        this.misses = Counter.builder("cadastro.client.cache.misses")
+            .description("Consultas ao cache de clientes sem entrada utilizável")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Busca uma entrada utilizável (fresca, em revalidação ou negativa).
+     *
+     * @param clientId ID do cliente
+     * @return resultado do cache ou vazio se for necessário consultar a API
+     */
+    public Optional<Lookup> get(UUID clientId) {
+        CacheLookupEvent event = CacheLookupEvent.start(CACHE_NAME);
+        Entry entry = cache.getIfPresent(clientId);
+        if (entry == null) {
+            misses.increment();
+            event.commit("miss");
+            return Optional.empty();
+        }
+
+        long age = ageNanos(entry);
+        if (entry.isNegative()) {
+            negativeAge.record(age, TimeUnit.NANOSECONDS);
+            event.commit("negative");
+            return Optional.of(new Lookup(Optional.empty(), false));
+        }
+        if (age < freshNanos) {
+            freshAge.record(age, TimeUnit.NANOSECONDS);
+            event.commit("fresh");
+            return Optional.of(new Lookup(Optional.of(entry.client()), false));
+        }
+        if (age < revalidateNanos) {
+            staleAge.record(age, TimeUnit.NANOSECONDS);
+            event.commit("stale");
+            return Optional.of(new Lookup(Optional.of(entry.client()), true));
+        }
+        misses.increment();
+        event.commit("miss");
+        return Optional.empty();
+    }
+
+    /**
+     * Último cliente conhecido, dentro da idade máxima, para uso quando a API falha.
+     *
+     * @param clientId ID do cliente
+     * @return cliente conhecido ou vazio
+     */
+    public Optional<Client> lastKnown(UUID clientId) {
+        Entry entry = cache.getIfPresent(clientId);
+        if (entry == null || entry.isNegative()) {
+            return Optional.empty();
+        }
+        long age = ageNanos(entry);
+        if (age >= maxStalenessNanos) {
+            return Optional.empty();
+        }
+        lastKnownAge.record(age, TimeUnit.NANOSECONDS);
+        return Optional.of(entry.client());
+    }
+
+    /**
+     * Armazena o resultado de uma consulta à API (cliente ou não encontrado).
+     *
+     * @param clientId ID do cliente
+     * @param client resultado da consulta
+     */
+    public void put(UUID clientId, Optional<Client> client) {
+        cache.put(clientId, new Entry(client.orElse(null), ticker.read()));
+    }
+
+    /**
+     * Marca o início de uma revalidação em background.
+     *
+     * @param clientId ID do cliente
+     * @return false se já houver uma revalidação em andamento para o cliente
+     */
+    public boolean tryStartRefresh(UUID clientId) {
+        return refreshing.add(clientId);
+    }
+
+    /**
+     * Marca o fim da revalidação em background.
+     *
+     * @param clientId ID do cliente
+     */
+    public void finishRefresh(UUID clientId) {
+        refreshing.remove(clientId);
+    }
+
+    private long ageNanos(Entry entry) {
+        return Math.max(0, ticker.read() - entry.storedAtNanos());
+    }
+
+    private static Timer ageTimer(MeterRegistry meterRegistry, String state) {
+        return Timer.builder(AGE_METRIC)
+            .description("Idade da entrada servida pelo cache de clientes")
+            .tag("state", state)
+            .register(meterRegistry);
+    }
+
+    /**
+     * Resultado de uma consulta ao cache.
+     *
+     * @param client cliente em cache (vazio para entrada negativa)
+     * @param needsRevalidation true se a entrada está velha e deve ser revalidada
+     */
+    public record Lookup(Optional<Client> client, boolean needsRevalidation) {}
+
+    private record Entry(Client client, long storedAtNanos) {
+        boolean isNegative() {
+            return client == null;
+        }
+    }
+}
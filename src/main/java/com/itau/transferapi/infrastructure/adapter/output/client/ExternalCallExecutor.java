@@ -0,0 +1,343 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import com.itau.transferapi.infrastructure.jfr.ExternalCallEvent;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiter;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Executor único de resiliência para chamadas a APIs externas.
+ *
+ * Substitui as anotações do Resilience4j nos clientes: a composição fica
+ * explícita e é aplicada em uma única camada, evitando tentativas
+ * multiplicadas por anotações aninhadas.
+ *
+ * Ordem de composição (de fora para dentro):
+ * Fallback → Retry → Circuit Breaker → Rate Limiter → Time Limiter → Bulkhead → chamada
+ *
+ * O fallback só roda após esgotar as tentativas; com a anotação no
+ * Circuit Breaker ele rodava a cada tentativa e o Retry nunca via a falha.
+ *
+ * Métricas (Micrometer):
+ * - external.call: chamada completa, incluindo retries e esperas
+ * - external.call.attempt: cada tentativa efetivamente enviada
+ *
+ * Ambas com as tags service, operation e outcome, o que permite medir a
+ * amplificação por retry (attempts/calls) e a latência de cauda. A chamada
+ * completa também gera o evento JFR do serviço ({@link ExternalCallEvent}).
+ *
+ * Serviços podem registrar um {@link RetryBudget}, que passa a limitar os
+ * retries do Resilience4j, e criar um {@link RequestHedger} que compartilha
+ * o mesmo orçamento.
+ */
+@Slf4j
+@Component
+public class ExternalCallExecutor {
+
+    static final String CALL_METRIC = "external.call";
+    static final String ATTEMPT_METRIC = "external.call.attempt";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final RetryRegistry retryRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+    private final RateLimiterRegistry rateLimiterRegistry;
+    private final TimeLimiterRegistry timeLimiterRegistry;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService scheduler;
+    private final Map<String, RetryBudget> retryBudgets = new ConcurrentHashMap<>();
+
+    public ExternalCallExecutor(CircuitBreakerRegistry circuitBreakerRegistry,
+                                RetryRegistry retryRegistry,
+                                BulkheadRegistry bulkheadRegistry,
+                                RateLimiterRegistry rateLimiterRegistry,
+                                TimeLimiterRegistry timeLimiterRegistry,
+                                MeterRegistry meterRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.retryRegistry = retryRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+        this.rateLimiterRegistry = rateLimiterRegistry;
+        this.timeLimiterRegistry = timeLimiterRegistry;
+        this.meterRegistry = meterRegistry;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("external-call-scheduler").daemon().factory());
+    }
+
+    /**
+     * Limita os retries do serviço a um orçamento de tokens.
+     *
+     * A instância de Retry do registry é substituída por uma cópia cuja
+     * condição de retry exige, além das exceções configuradas, um token
+     * disponível no orçamento. As listas de exceções da cópia são zeradas:
+     * o Resilience4j as combina com "ou" ao predicado, o que ignoraria o
+     * orçamento. O predicado também é avaliado na última falha, então uma
+     * chamada que esgota as tentativas consome um token a mais.
+     *
+     * @param service nome da instância Resilience4j
+     * @param ratio fração de retries permitida por chamada
+     * @param maxTokens máximo de tokens acumulados
+     * @return orçamento registrado para o serviço
+     */
+    public RetryBudget applyRetryBudget(String service, double ratio, int maxTokens) {
+        RetryBudget budget = new RetryBudget(ratio, maxTokens);
+        RetryConfig baseConfig = retryRegistry.retry(service).getRetryConfig();
+        Predicate<Throwable> retryable = baseConfig.getExceptionPredicate();
+        RetryConfig budgetedConfig = RetryConfig.from(baseConfig)
+            .retryExceptions()
+            .ignoreExceptions()
+            .retryOnException(error -> retryable.test(error) && budget.tryAcquire())
+            .build();
+        retryRegistry.replace(service, Retry.of(service, budgetedConfig));
+        retryBudgets.put(service, budget);
+
+        Gauge.builder("external.call.retry.budget", budget, RetryBudget::availableTokens)
+            .description("Tokens disponíveis para retries e hedging")
+            .tag("service", service)
+            .register(meterRegistry);
+        return budget;
+    }
+
+    /**
+     * Cria um hedger para requisições do serviço, usando o agendador interno.
+     *
+     * @param service nome do serviço para as métricas
+     * @param operation nome da operação para as métricas
+     * @param budget orçamento compartilhado com os retries
+     * @param initialDelay atraso do hedge até haver amostras suficientes
+     * @param minDelay atraso mínimo do hedge
+     * @return hedger configurado
+     */
+    public RequestHedger hedger(String service, String operation, RetryBudget budget,
+            Duration initialDelay, Duration minDelay) {
+        return new RequestHedger(service, operation, budget, scheduler, meterRegistry,
+            initialDelay, minDelay);
+    }
+
+    /**
+     * Executa uma chamada síncrona com as políticas de resiliência do serviço.
+     *
+     * @param service nome da instância Resilience4j (ex: cadastroApi)
+     * @param operation nome da operação para as métricas
+     * @param call chamada remota
+     * @param fallback fallback aplicado após esgotar as tentativas (pode ser null)
+     * @return resultado da chamada ou do fallback
+     */
+    public <T> T execute(String service, String operation, Supplier<T> call,
+            Function<Throwable, T> fallback) {
+        recordCall(service);
+        Supplier<T> decorated = Bulkhead.decorateSupplier(
+            bulkheadRegistry.bulkhead(service), timedAttempt(service, operation, call));
+        Optional<RateLimiter> rateLimiter = rateLimiterRegistry.find(service);
+        if (rateLimiter.isPresent()) {
+            decorated = RateLimiter.decorateSupplier(rateLimiter.get(), decorated);
+        }
+        decorated = CircuitBreaker.decorateSupplier(circuitBreakerRegistry.circuitBreaker(service), decorated);
+        decorated = Retry.decorateSupplier(retryRegistry.retry(service), decorated);
+
+        CallSample sample = startCall(service, operation, false);
+        try {
+            T result = decorated.get();
+            sample.stop("success");
+            return result;
+        } catch (RuntimeException e) {
+            return applyFallback(sample, e, fallback);
+        }
+    }
+
+    /**
+     * Executa uma chamada assíncrona com as políticas de resiliência do serviço.
+     *
+     * O supplier é invocado a cada tentativa; o Time Limiter limita cada
+     * tentativa individualmente e cancela a requisição em andamento.
+     *
+     * @param service nome da instância Resilience4j (ex: cadastroApi)
+     * @param operation nome da operação para as métricas
+     * @param call chamada remota não bloqueante
+     * @param fallback fallback aplicado após esgotar as tentativas (pode ser null)
+     * @return future com o resultado da chamada ou do fallback
+     */
+    public <T> CompletableFuture<T> executeAsync(String service, String operation,
+            Supplier<CompletionStage<T>> call, Function<Throwable, T> fallback) {
+        recordCall(service);
+        Supplier<CompletionStage<T>> decorated = Bulkhead.decorateCompletionStage(
+            bulkheadRegistry.bulkhead(service), timedAsyncAttempt(service, operation, call));
+        TimeLimiter timeLimiter = timeLimiterRegistry.timeLimiter(service);
+        Supplier<CompletionStage<T>> bulkheaded = decorated;
+        decorated = () -> timeLimiter.executeCompletionStage(scheduler, bulkheaded);
+        Optional<RateLimiter> rateLimiter = rateLimiterRegistry.find(service);
+        if (rateLimiter.isPresent()) {
+            decorated = RateLimiter.decorateCompletionStage(rateLimiter.get(), decorated);
+        }
+        decorated = CircuitBreaker.decorateCompletionStage(
+            circuitBreakerRegistry.circuitBreaker(service), decorated);
+        decorated = Retry.decorateCompletionStage(retryRegistry.retry(service), scheduler, decorated);
+
+        CallSample sample = startCall(service, operation, true);
+        CompletableFuture<T> result = new CompletableFuture<>();
+        decorated.get().whenComplete((value, error) -> {
+            if (error == null) {
+                sample.stop("success");
+                result.complete(value);
+                return;
+            }
+            try {
+                result.complete(applyFallback(sample, unwrap(error), fallback));
+            } catch (RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    private void recordCall(String service) {
+        RetryBudget budget = retryBudgets.get(service);
+        if (budget != null) {
+            budget.recordCall();
+        }
+    }
+
+    private <T> T applyFallback(CallSample sample, Throwable error, Function<Throwable, T> fallback) {
+        String outcome = outcome(error);
+        if (fallback == null) {
+            sample.stop(outcome);
+            throw asRuntimeException(error);
+        }
+
+        log.debug("Fallback de {}.{} após {}: {}", sample.service, sample.operation, outcome, error.getMessage());
+        try {
+            T value = fallback.apply(error);
+            sample.stop("fallback");
+            return value;
+        } catch (RuntimeException e) {
+            sample.stop(outcome);
+            throw e;
+        }
+    }
+
+    private CallSample startCall(String service, String operation, boolean async) {
+        ExternalCallEvent event = ExternalCallEvent.forService(service);
+        if (event != null) {
+            event.begin();
+        }
+        return new CallSample(service, operation, async, Timer.start(meterRegistry), event);
+    }
+
+    /**
+     * Medição da chamada completa: timer {@code external.call} e evento JFR do serviço.
+     */
+    private final class CallSample {
+
+        private final String service;
+        private final String operation;
+        private final boolean async;
+        private final Timer.Sample timerSample;
+        private final ExternalCallEvent event;
+
+        CallSample(String service, String operation, boolean async, Timer.Sample timerSample,
+                ExternalCallEvent event) {
+            this.service = service;
+            this.operation = operation;
+            this.async = async;
+            this.timerSample = timerSample;
+            this.event = event;
+        }
+
+        void stop(String outcome) {
+            timerSample.stop(timer(CALL_METRIC, service, operation, outcome));
+            if (event != null) {
+                event.commit(operation, outcome, async);
+            }
+        }
+    }
+
+    private <T> Supplier<T> timedAttempt(String service, String operation, Supplier<T> call) {
+        return () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            try {
+                T result = call.get();
+                sample.stop(timer(ATTEMPT_METRIC, service, operation, "success"));
+                return result;
+            } catch (RuntimeException e) {
+                sample.stop(timer(ATTEMPT_METRIC, service, operation, outcome(e)));
+                throw e;
+            }
+        };
+    }
+
+    private <T> Supplier<CompletionStage<T>> timedAsyncAttempt(String service, String operation,
+            Supplier<CompletionStage<T>> call) {
+        return () -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            return call.get().whenComplete((value, error) -> sample.stop(timer(
+                ATTEMPT_METRIC, service, operation, error == null ? "success" : outcome(unwrap(error)))));
+        };
+    }
+
+    private Timer timer(String name, String service, String operation, String outcome) {
+        return Timer.builder(name)
+            .tag("service", service)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    private static String outcome(Throwable error) {
+        if (error instanceof CallNotPermittedException
+                || error instanceof BulkheadFullException
+                || error instanceof RequestNotPermitted) {
+            return "rejected";
+        }
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        return "error";
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        if ((error instanceof CompletionException || error instanceof ExecutionException)
+                && error.getCause() != null) {
+            return error.getCause();
+        }
+        return error;
+    }
+
+    private static RuntimeException asRuntimeException(Throwable error) {
+        return error instanceof RuntimeException runtime ? runtime : new CompletionException(error);
+    }
+}
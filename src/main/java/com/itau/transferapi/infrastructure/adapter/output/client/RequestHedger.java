@@ -0,0 +1,184 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Hedging de requisições idempotentes.
+ *
+ * Se a requisição original não responder até o p95 observado, uma segunda
+ * requisição idêntica é enviada; a primeira resposta com sucesso vence e a
+ * outra é cancelada. A falha só é propagada quando todas as requisições em
+ * andamento falharem.
+ *
+ * Cada hedge consome um token do {@link RetryBudget} compartilhado com os
+ * retries, de modo que o hedging corta a cauda de latência (p99) sem
+ * amplificar a carga quando o serviço remoto está degradado.
+ *
+ * O p95 vem de um {@link Timer} com percentil publicado, recalculado no
+ * máximo uma vez por segundo. Até haver amostras suficientes usa-se o
+ * atraso inicial configurado.
+ */
+public class RequestHedger {
+
+    static final String LATENCY_METRIC = "external.request.latency";
+    static final String HEDGE_METRIC = "external.call.hedge";
+
+    private static final long MIN_SAMPLES = 100;
+    private static final long REFRESH_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final RetryBudget budget;
+    private final ScheduledExecutorService scheduler;
+    private final Timer latency;
+    private final Counter hedgesSent;
+    private final Counter hedgesWon;
+    private final Counter hedgesSkipped;
+    private final long initialDelayNanos;
+    private final long minDelayNanos;
+
+    private volatile long hedgeDelayNanos;
+    private volatile long nextRefreshNanos;
+
+    RequestHedger(String service, String operation, RetryBudget budget,
+                  ScheduledExecutorService scheduler, MeterRegistry meterRegistry,
+                  Duration initialDelay, Duration minDelay) {
+        this.budget = budget;
+        this.scheduler = scheduler;
+        this.latency = Timer.builder(LATENCY_METRIC)
+            .description("Latência de cada requisição individual (original ou hedge)")
+            .tag("service", service)
+            .tag("operation", operation)
+            .publishPercentiles(0.95)
+            .distributionStatisticExpiry(Duration.ofMinutes(1))
+            .register(meterRegistry);
+        this.hedgesSent = hedgeCounter(meterRegistry, service, operation, "sent");
+        this.hedgesWon = hedgeCounter(meterRegistry, service, operation, "won");
+        this.hedgesSkipped = hedgeCounter(meterRegistry, service, operation, "skipped");
+        this.initialDelayNanos = initialDelay.toNanos();
+        this.minDelayNanos = minDelay.toNanos();
+        this.hedgeDelayNanos = initialDelayNanos;
+        this.nextRefreshNanos = System.nanoTime();
+    }
+
+    /**
+     * Executa a requisição com hedge após o p95 observado.
+     *
+     * @param request fábrica de requisições; chamada uma vez para a original
+     *                e novamente para o hedge
+     * @return future concluído pela primeira resposta com sucesso
+     */
+    public <T> CompletableFuture<T> execute(Supplier<CompletableFuture<T>> request) {
+        CompletableFuture<T> result = new CompletableFuture<>();
+        AtomicInteger inFlight = new AtomicInteger(1);
+
+        CompletableFuture<T> primary = timed(request);
+        primary.whenComplete((value, error) -> settle(result, inFlight, value, error, false));
+
+        ScheduledFuture<?> hedgeTask = scheduler.schedule(() -> {
+            if (result.isDone()) {
+                return;
+            }
+            if (!budget.tryAcquire()) {
+                hedgesSkipped.increment();
+                return;
+            }
+            if (!tryAddInFlight(inFlight)) {
+                return;
+            }
+            hedgesSent.increment();
+            CompletableFuture<T> hedge = timed(request);
+            hedge.whenComplete((value, error) -> settle(result, inFlight, value, error, true));
+            result.whenComplete((value, error) -> hedge.cancel(true));
+        }, hedgeDelayNanos(), TimeUnit.NANOSECONDS);
+
+        result.whenComplete((value, error) -> {
+            hedgeTask.cancel(false);
+            primary.cancel(true);
+        });
+        return result;
+    }
+
+    /**
+     * @return atraso atual do hedge
+     */
+    public Duration currentDelay() {
+        return Duration.ofNanos(hedgeDelayNanos());
+    }
+
+    private <T> void settle(CompletableFuture<T> result, AtomicInteger inFlight,
+            T value, Throwable error, boolean hedge) {
+        if (error == null) {
+            if (result.complete(value) && hedge) {
+                hedgesWon.increment();
+            }
+            return;
+        }
+        // Falha só é propagada quando não há outra requisição em andamento
+        if (inFlight.decrementAndGet() == 0) {
+            result.completeExceptionally(error);
+        }
+    }
+
+    private static boolean tryAddInFlight(AtomicInteger inFlight) {
+        int current;
+        do {
+            current = inFlight.get();
+            if (current == 0) {
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    private <T> CompletableFuture<T> timed(Supplier<CompletableFuture<T>> request) {
+        long start = System.nanoTime();
+        // Retorna o future original para que o cancelamento alcance a requisição
+        CompletableFuture<T> future = request.get();
+        future.whenComplete((value, error) -> {
+            if (error == null) {
+                latency.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        });
+        return future;
+    }
+
+    private long hedgeDelayNanos() {
+        long now = System.nanoTime();
+        if (now - nextRefreshNanos >= 0) {
+            nextRefreshNanos = now + REFRESH_INTERVAL_NANOS;
+            hedgeDelayNanos = computeDelayNanos();
+        }
+        return hedgeDelayNanos;
+    }
+
+    private long computeDelayNanos() {
+        if (latency.count() < MIN_SAMPLES) {
+            return initialDelayNanos;
+        }
+        for (ValueAtPercentile percentile : latency.takeSnapshot().percentileValues()) {
+            if (percentile.percentile() == 0.95 && percentile.value() > 0) {
+                return Math.max(minDelayNanos, (long) percentile.value(TimeUnit.NANOSECONDS));
+            }
+        }
+        return initialDelayNanos;
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String service,
+            String operation, String outcome) {
+        return Counter.builder(HEDGE_METRIC)
+            .tag("service", service)
+            .tag("operation", operation)
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,70 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Orçamento de retries no formato token bucket.
+ *
+ * Cada chamada original deposita uma fração de token ({@code ratio}) e cada
+ * retry ou requisição de hedge consome um token inteiro. Assim, em regime, as
+ * requisições extras ficam limitadas a {@code ratio} das chamadas. Durante uma
+ * degradação do serviço remoto, o orçamento se esgota e as falhas seguem
+ * direto para o fallback, em vez de multiplicar a carga.
+ *
+ * O saldo começa cheio ({@code maxTokens}) para não penalizar a partida
+ * e é mantido em milésimos de token em um {@link AtomicLong} (sem locks).
+ */
+public class RetryBudget {
+
+    private static final long SCALE = 1_000;
+
+    private final long depositPerCall;
+    private final long capacity;
+    private final AtomicLong balance;
+
+    /**
+     * @param ratio fração de retries permitida por chamada (ex: 0.1 = 10%)
+     * @param maxTokens máximo de tokens acumulados (rajada de retries permitida)
+     */
+    public RetryBudget(double ratio, int maxTokens) {
+        if (ratio <= 0 || ratio > 1) {
+            throw new IllegalArgumentException("Proporção de retries deve estar entre 0 e 1");
+        }
+        if (maxTokens < 1) {
+            throw new IllegalArgumentException("Capacidade do orçamento deve ser positiva");
+        }
+        this.depositPerCall = Math.max(1, Math.round(ratio * SCALE));
+        this.capacity = maxTokens * SCALE;
+        this.balance = new AtomicLong(capacity);
+    }
+
+    /**
+     * Registra uma chamada original, depositando a fração de token correspondente.
+     */
+    public void recordCall() {
+        balance.getAndUpdate(current -> Math.min(capacity, current + depositPerCall));
+    }
+
+    /**
+     * Tenta consumir um token para uma requisição extra (retry ou hedge).
+     *
+     * @return true se havia saldo e o token foi consumido
+     */
+    public boolean tryAcquire() {
+        long current;
+        do {
+            current = balance.get();
+            if (current < SCALE) {
+                return false;
+            }
+        } while (!balance.compareAndSet(current, current - SCALE));
+        return true;
+    }
+
+    /**
+     * @return saldo atual em tokens
+     */
+    public double availableTokens() {
+        return (double) balance.get() / SCALE;
+    }
+}
@@ -0,0 +1,63 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import io.micrometer.tracing.TraceContext;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.net.http.HttpRequest;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cabeçalhos de propagação do trace atual para chamadas feitas com o
+ * {@link java.net.http.HttpClient} do JDK.
+ *
+ * Os RestTemplates criados pelo RestTemplateBuilder já são instrumentados
+ * pelo Spring Boot; o HttpClient não. Os cabeçalhos são capturados na thread
+ * da requisição, antes de a chamada passar pelos retries e pelo time limiter
+ * (executados no scheduler, fora do contexto do trace), e repetidos em cada
+ * tentativa.
+ *
+ * Sem tracing configurado (ex: testes), nenhum cabeçalho é gerado.
+ */
+@Component
+public class TraceHeaders {
+
+    private final ObjectProvider<Tracer> tracer;
+    private final ObjectProvider<Propagator> propagator;
+
+    public TraceHeaders(ObjectProvider<Tracer> tracer, ObjectProvider<Propagator> propagator) {
+        this.tracer = tracer;
+        this.propagator = propagator;
+    }
+
+    /**
+     * Cabeçalhos do contexto de trace corrente.
+     *
+     * @return cabeçalhos (ex: traceparent) ou mapa vazio sem trace ativo
+     */
+    public Map<String, String> current() {
+        Tracer currentTracer = tracer.getIfAvailable();
+        Propagator currentPropagator = propagator.getIfAvailable();
+        if (currentTracer == null || currentPropagator == null) {
+            return Map.of();
+        }
+        TraceContext context = currentTracer.currentTraceContext().context();
+        if (context == null) {
+            return Map.of();
+        }
+        Map<String, String> headers = new HashMap<>(4);
+        currentPropagator.inject(context, headers, Map::put);
+        return headers;
+    }
+
+    /**
+     * Copia os cabeçalhos capturados para a requisição.
+     */
+    public static HttpRequest.Builder apply(HttpRequest.Builder builder, Map<String, String> headers) {
+        headers.forEach(builder::header);
+        return builder;
+    }
+}
@@ -3,25 +3,42 @@ package com.itau.transferapi.infrastructure.adapter.output.persistence;
 import com.itau.transferapi.domain.entity.Account;
 import com.itau.transferapi.domain.repository.AccountRepository;
 import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 import com.itau.transferapi.domain.valueobject.AccountStatus;
 import com.itau.transferapi.domain.valueobject.Money;
 import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.AccountJpaRepository;
 import com.itau.transferapi.infrastructure.entity.AccountJpaEntity;
 import com.itau.transferapi.infrastructure.entity.AccountJpaEntity.AccountStatusJpa;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.LedgerEntryJpaRepository.DerivedBalanceView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
 import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Adapter que implementa o repositório de Account usando JPA.
+ * 
+ * A resolução de (conta, agência) para {@link AccountReference} é mantida
+ * no cache "accountReferences", invalidado apenas em mudanças de status.
+ * 
+ * Com o livro-razão ativo ({@link LedgerBalanceAdapter}), saldo e limite
+ * disponível são derivados dos lançamentos e não são gravados em accounts.
  */
 @Component
 @RequiredArgsConstructor
 public class AccountRepositoryAdapter implements AccountRepository {
     
+    private static final String ACCOUNT_REFERENCES_CACHE = "accountReferences";
+    
     private final AccountJpaRepository jpaRepository;
+    private final CacheManager cacheManager;
+    private final Optional<LedgerBalanceAdapter> ledger;
     
     @Override
     public Optional<Account> findById(AccountId accountId) {
@@ -35,6 +52,15 @@ public class AccountRepositoryAdapter implements AccountRepository {
             .map(this::toDomain);
     }
     
+    @Override
+    @Cacheable(value = ACCOUNT_REFERENCES_CACHE,
+        key = "new org.springframework.cache.interceptor.SimpleKey(#accountNumber, #agencyNumber)",
+        unless = "#result == null")
+    public Optional<AccountReference> findReferenceByAccountAndAgency(String accountNumber, String agencyNumber) {
+        return jpaRepository.findReferenceByAccountNumberAndAgencyNumber(accountNumber, agencyNumber)
+            .map(view -> AccountReference.of(view.getId(), view.getClientId()));
+    }
+    
     @Override
     public Optional<Account> findByClientId(UUID clientId) {
         return jpaRepository.findByClientId(clientId)
@@ -46,9 +72,15 @@ public class AccountRepositoryAdapter implements AccountRepository {
         // Busca entidade existente para evitar conflito de sessão
         AccountJpaEntity entity = jpaRepository.findById(account.getId().value())
             .map(existing -> {
-                existing.setBalance(account.getBalance().getValue());
-                existing.setAvailableLimit(account.getAvailableLimit().getValue());
-                existing.setStatus(mapStatus(account.getStatus()));
+                AccountStatusJpa newStatus = mapStatus(account.getStatus());
+                if (existing.getStatus() != newStatus) {
+                    evictReference(existing.getAccountNumber(), existing.getAgencyNumber());
+                }
+                if (ledger.isEmpty()) {
+                    existing.setBalance(account.getBalance().getValue());
+                    existing.setAvailableLimit(account.getAvailableLimit().getValue());
+                }
+                existing.setStatus(newStatus);
                 existing.setUpdatedAt(account.getUpdatedAt());
                 return existing;
             })
@@ -69,14 +101,29 @@ public class AccountRepositoryAdapter implements AccountRepository {
             .map(this::toDomain);
     }
     
+    private void evictReference(String accountNumber, String agencyNumber) {
+        Cache cache = cacheManager.getCache(ACCOUNT_REFERENCES_CACHE);
+        if (cache != null) {
+            cache.evict(new SimpleKey(accountNumber, agencyNumber));
+        }
+    }
+    
     private Account toDomain(AccountJpaEntity entity) {
+        BigDecimal balance = entity.getBalance();
+        BigDecimal availableLimit = entity.getAvailableLimit();
+        Optional<DerivedBalanceView> derived = ledger.flatMap(l -> l.currentBalance(entity.getId()));
+        if (derived.isPresent()) {
+            balance = derived.get().getBalance();
+            availableLimit = derived.get().getAvailableLimit();
+        }
+        
         return Account.builder()
             .id(AccountId.of(entity.getId()))
             .accountNumber(entity.getAccountNumber())
             .agencyNumber(entity.getAgencyNumber())
             .clientId(entity.getClientId())
-            .balance(Money.of(entity.getBalance()))
-            .availableLimit(Money.of(entity.getAvailableLimit()))
+            .balance(Money.of(balance))
+            .availableLimit(Money.of(availableLimit))
             .status(mapStatus(entity.getStatus()))
             .createdAt(entity.getCreatedAt())
             .updatedAt(entity.getUpdatedAt())
@@ -43,6 +43,25 @@ public class DailyTransferLimitRepositoryAdapter implements DailyTransferLimitRe
         return toDomain(saved);
     }
     
+    /**
+     * Grava apenas o valor utilizado, mantendo o limite do registro existente
+     * (ou o padrão, em registro novo).
+     */
+    public void saveUsedAmount(AccountId accountId, LocalDate date, Money usedAmount) {
+        DailyTransferLimitJpaEntity entity = jpaRepository.findByAccountIdAndDate(accountId.value(), date)
+            .map(existing -> {
+                existing.setUsedAmount(usedAmount.getValue());
+                return existing;
+            })
+            .orElseGet(() -> toEntity(DailyTransferLimit.builder()
+                .accountId(accountId)
+                .date(date)
+                .usedAmount(usedAmount)
+                .dailyLimit(DailyTransferLimit.DEFAULT_DAILY_LIMIT)
+                .build()));
+        jpaRepository.save(entity);
+    }
+    
     @Override
     public Optional<DailyTransferLimit> findByAccountIdAndDateForUpdate(AccountId accountId, LocalDate date) {
         return jpaRepository.findByAccountIdAndDateForUpdate(accountId.value(), date)
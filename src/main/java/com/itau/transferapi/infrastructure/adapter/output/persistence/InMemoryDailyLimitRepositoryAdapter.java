@@ -0,0 +1,300 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.repository.DailyTransferLimitRepository;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.TransferJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.TransferJpaRepository.SourceAmountView;
+import com.itau.transferapi.infrastructure.entity.TransferJpaEntity.TransferStatusJpa;
+import com.itau.transferapi.infrastructure.limit.DailyLimitTracker;
+import com.itau.transferapi.infrastructure.limit.DailyLimitTracker.DailyUsage;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Limite diário acumulado em memória (engine.daily-limit.in-memory=true).
+ *
+ * Decora o {@link DailyTransferLimitRepositoryAdapter}: o uso do dia
+ * corrente fica em um {@link DailyLimitTracker} e a tabela
+ * daily_transfer_limits passa a ser gravada em lote, de forma assíncrona
+ * (write-behind). Datas que não são o dia corrente vão direto ao banco.
+ *
+ * - o dia segue o fuso da JVM, o mesmo da data com que o caso de uso
+ *   consulta o limite; engine.daily-limit.zone, se definido, deve ser o fuso
+ *   da JVM (TZ) e a aplicação não sobe se for outro
+ * - save aplica a diferença entre o valor gravado e o lido na mesma
+ *   transação (serializada pelo lock da conta origem) e a estorna se a
+ *   transação não confirmar
+ * - na subida, o uso do dia é reconstruído somando as transferências
+ *   efetivadas, que são a fonte da verdade
+ * - o limite da conta no dia é lido do banco na primeira consulta e
+ *   mantido em memória junto ao uso; sem registro, vale o padrão
+ * - pressupõe uma única instância processando as transferências das contas
+ */
+@Slf4j
+@Primary
+@Component
+@ConditionalOnProperty(name = "engine.daily-limit.in-memory", havingValue = "true")
+public class InMemoryDailyLimitRepositoryAdapter implements DailyTransferLimitRepository {
+
+    /** Status de transferências que consomem o limite diário. */
+    static final List<TransferStatusJpa> COUNTED_STATUSES =
+        List.of(TransferStatusJpa.COMPLETED, TransferStatusJpa.BACEN_PENDING, TransferStatusJpa.BACEN_NOTIFIED);
+
+    private final DailyTransferLimitRepositoryAdapter delegate;
+    private final TransferJpaRepository transferRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final DailyLimitTracker tracker;
+    private final ZoneId zone;
+    private final ZoneId storageZone;
+
+    @Autowired
+    public InMemoryDailyLimitRepositoryAdapter(
+            DailyTransferLimitRepositoryAdapter delegate,
+            TransferJpaRepository transferRepository,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${engine.daily-limit.capacity:1000000}") int capacity,
+            @Value("${engine.daily-limit.zone:}") String zone) {
+        this(delegate, transferRepository, transactionManager, capacity, resolveZone(zone), Clock.systemDefaultZone());
+        Gauge.builder("engine.daily-limit.accounts", tracker, DailyLimitTracker::trackedAccounts)
+            .description("Contas com limite diário acumulado em memória")
+            .register(meterRegistry);
+    }
+
+    /**
+     * @param clock relógio do acumulador; seu fuso é o usado em created_at
+     */
+    InMemoryDailyLimitRepositoryAdapter(
+            DailyTransferLimitRepositoryAdapter delegate,
+            TransferJpaRepository transferRepository,
+            PlatformTransactionManager transactionManager,
+            int capacity,
+            ZoneId zone,
+            Clock clock) {
+        this.delegate = delegate;
+        this.transferRepository = transferRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.tracker = new DailyLimitTracker(capacity, zone, clock);
+        this.zone = zone;
+        this.storageZone = clock.getZone();
+    }
+
+    /**
+     * Fuso do acumulador: o da JVM, do qual o caso de uso tira a data
+     * (LocalDate.now()). Um fuso diferente faria as datas divergirem em
+     * parte do dia e o uso iria ao banco sem ser contado em memória.
+     *
+     * @throws IllegalStateException se o fuso configurado diferir do da JVM
+     */
+    static ZoneId resolveZone(String configured) {
+        ZoneId system = ZoneId.systemDefault();
+        if (configured == null || configured.isBlank()) {
+            return system;
+        }
+        ZoneId zone = ZoneId.of(configured.trim());
+        if (!zone.getRules().equals(system.getRules())) {
+            throw new IllegalStateException("engine.daily-limit.zone=" + zone + " difere do fuso da JVM ("
+                + system + "), usado pelo caso de uso na data do limite: rode a JVM no mesmo fuso (TZ="
+                + zone + ") ou remova engine.daily-limit.zone");
+        }
+        return zone;
+    }
+
+    /**
+     * Reconstrói o uso do dia corrente a partir das transferências.
+     *
+     * @return número de contas com uso no dia
+     */
+    @PostConstruct
+    public int rebuild() {
+        LocalDate today = tracker.today();
+        List<SourceAmountView> usages = transferRepository.sumAmountBySourceAccount(
+            toStorageTime(today), toStorageTime(today.plusDays(1)), COUNTED_STATUSES);
+        for (SourceAmountView usage : usages) {
+            tracker.restore(today, usage.getAccountId(), Money.of(usage.getAmount()).toMinorUnits());
+        }
+        log.info("Limite diário em memória reconstruído: day={}, accounts={}", today, usages.size());
+        return usages.size();
+    }
+
+    @Override
+    public Optional<DailyTransferLimit> findByAccountIdAndDate(AccountId accountId, LocalDate date) {
+        if (!tracks(accountId, date)) {
+            return delegate.findByAccountIdAndDate(accountId, date);
+        }
+        return Optional.of(toDomain(accountId, date, tracker.usedCents(accountId.value())));
+    }
+
+    @Override
+    public Optional<DailyTransferLimit> findByAccountIdAndDateForUpdate(AccountId accountId, LocalDate date) {
+        if (!tracks(accountId, date)) {
+            return delegate.findByAccountIdAndDateForUpdate(accountId, date);
+        }
+        long used = tracker.usedCents(accountId.value());
+        rememberLoaded(accountId.value(), used);
+        return Optional.of(toDomain(accountId, date, used));
+    }
+
+    @Override
+    public DailyTransferLimit save(DailyTransferLimit dailyLimit) {
+        UUID accountId = dailyLimit.getAccountId().value();
+        LocalDate date = dailyLimit.getDate();
+        if (!tracks(dailyLimit.getAccountId(), date)) {
+            return delegate.save(dailyLimit);
+        }
+        if (tracker.limitCents(accountId, date) == DailyLimitTracker.UNKNOWN_LIMIT) {
+            tracker.setLimit(accountId, date, dailyLimit.getDailyLimit().toMinorUnits());
+        }
+        long used = dailyLimit.getUsedAmount().toMinorUnits();
+        long delta = used - loadedUsed(accountId);
+        if (delta != 0 && tracker.add(accountId, date, delta)) {
+            compensateOnRollback(accountId, date, delta);
+        }
+        rememberLoaded(accountId, used);
+        return dailyLimit;
+    }
+
+    /**
+     * Grava no banco os usos alterados desde a última execução; em caso de
+     * falha eles voltam para a próxima. Só o valor usado é gravado: o limite
+     * do registro (personalizado por conta) não é alterado.
+     *
+     * @return número de registros gravados
+     */
+    @Scheduled(fixedDelayString = "${engine.daily-limit.flush-interval-ms:1000}")
+    public int flush() {
+        List<DailyUsage> usages = tracker.drainDirty();
+        if (usages.isEmpty()) {
+            return 0;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> usages.forEach(usage -> delegate.saveUsedAmount(
+                AccountId.of(usage.accountId()), usage.date(), Money.ofMinorUnits(usage.usedCents()))));
+        } catch (RuntimeException e) {
+            tracker.requeue(usages);
+            log.warn("Falha ao gravar limites diários, nova tentativa na próxima execução: count={}",
+                usages.size(), e);
+            return 0;
+        }
+        log.debug("Limites diários gravados: count={}", usages.size());
+        return usages.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    DailyLimitTracker tracker() {
+        return tracker;
+    }
+
+    private boolean tracks(AccountId accountId, LocalDate date) {
+        return date.equals(tracker.today()) && tracker.canTrack(accountId.value());
+    }
+
+    private LocalDateTime toStorageTime(LocalDate day) {
+        return day.atStartOfDay(zone).withZoneSameInstant(storageZone).toLocalDateTime();
+    }
+
+    /**
+     * Guarda o valor lido na transação corrente, base do delta no save.
+     */
+    private void rememberLoaded(UUID accountId, long usedCents) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        loadedInTransaction().put(accountId, usedCents);
+    }
+
+    private long loadedUsed(UUID accountId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            Long loaded = loadedInTransaction().get(accountId);
+            if (loaded != null) {
+                return loaded;
+            }
+        }
+        return tracker.usedCents(accountId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<UUID, Long> loadedInTransaction() {
+        Map<UUID, Long> loaded = (Map<UUID, Long>) TransactionSynchronizationManager.getResource(this);
+        if (loaded == null) {
+            Map<UUID, Long> created = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(InMemoryDailyLimitRepositoryAdapter.this);
+                }
+            });
+            loaded = created;
+        }
+        return loaded;
+    }
+
+    private void compensateOnRollback(UUID accountId, LocalDate date, long delta) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    tracker.add(accountId, date, -delta);
+                }
+            }
+        });
+    }
+
+    private DailyTransferLimit toDomain(AccountId accountId, LocalDate date, long usedCents) {
+        return DailyTransferLimit.builder()
+            .accountId(accountId)
+            .date(date)
+            .usedAmount(Money.ofMinorUnits(usedCents))
+            .dailyLimit(limitOf(accountId, date))
+            .build();
+    }
+
+    /**
+     * Limite da conta no dia: da memória ou, na primeira consulta, do
+     * registro em daily_transfer_limits (padrão se não houver).
+     */
+    private Money limitOf(AccountId accountId, LocalDate date) {
+        long cents = tracker.limitCents(accountId.value(), date);
+        if (cents != DailyLimitTracker.UNKNOWN_LIMIT) {
+            return Money.ofMinorUnits(cents);
+        }
+        Money limit = delegate.findByAccountIdAndDate(accountId, date)
+            .map(DailyTransferLimit::getDailyLimit)
+            .orElse(DailyTransferLimit.DEFAULT_DAILY_LIMIT);
+        tracker.setLimit(accountId.value(), date, limit.toMinorUnits());
+        return limit;
+    }
+}
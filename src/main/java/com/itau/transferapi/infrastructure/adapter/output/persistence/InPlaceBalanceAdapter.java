@@ -0,0 +1,28 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Registro de saldos in-place: grava saldo e limite nas linhas de accounts.
+ *
+ * Modo padrão. Cada transferência atualiza as duas contas envolvidas.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "false", matchIfMissing = true)
+public class InPlaceBalanceAdapter implements BalanceLedgerPort {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public void post(Transfer transfer, Account source, Account target) {
+        accountRepository.save(source);
+        accountRepository.save(target);
+    }
+}
@@ -0,0 +1,123 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.BalanceSnapshotJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.LedgerEntryJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.LedgerEntryJpaRepository.DerivedBalanceView;
+import com.itau.transferapi.infrastructure.entity.BalanceSnapshotJpaEntity;
+import com.itau.transferapi.infrastructure.entity.LedgerEntryJpaEntity;
+import com.itau.transferapi.infrastructure.entity.LedgerEntryJpaEntity.EntryTypeJpa;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Registro de saldos em livro-razão append-only (ledger.enabled=true).
+ *
+ * Cada transferência vira dois INSERTs em ledger_entries; as linhas de
+ * accounts deixam de ser atualizadas e seus saldos passam a ser apenas os
+ * valores de abertura. O saldo corrente é derivado do snapshot mais recente
+ * somado aos lançamentos posteriores (ver {@link LedgerCompactor}).
+ *
+ * Débitos concorrentes na mesma conta são serializados pelo lock da conta
+ * origem; em REPEATABLE READ o lock não renova o snapshot da transação, e
+ * quem leu um saldo desatualizado colide em uk_ledger_entries_debit_seq.
+ *
+ * Uma vez ativado, o modo não deve ser desligado: o saldo em accounts não
+ * reflete os lançamentos.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerBalanceAdapter implements BalanceLedgerPort {
+
+    private final LedgerEntryJpaRepository entryRepository;
+    private final BalanceSnapshotJpaRepository snapshotRepository;
+
+    @Override
+    public void post(Transfer transfer, Account source, Account target) {
+        UUID transferId = transfer.getId().value();
+        long debitSeq = entryRepository.findLastDebitSeq(source.getId().value()).orElse(0L) + 1;
+
+        entryRepository.saveAll(List.of(
+            LedgerEntryJpaEntity.builder()
+                .transferId(transferId)
+                .accountId(source.getId().value())
+                .entryType(EntryTypeJpa.DEBIT)
+                .amount(transfer.getAmount().getValue())
+                .debitSeq(debitSeq)
+                .build(),
+            LedgerEntryJpaEntity.builder()
+                .transferId(transferId)
+                .accountId(target.getId().value())
+                .entryType(EntryTypeJpa.CREDIT)
+                .amount(transfer.getAmount().getValue())
+                .build()));
+    }
+
+    /**
+     * Saldo e limite disponível correntes da conta.
+     *
+     * @param accountId ID da conta
+     * @return saldos derivados ou vazio se a conta não existir
+     */
+    public Optional<DerivedBalanceView> currentBalance(UUID accountId) {
+        return entryRepository.findDerivedBalance(accountId, Long.MAX_VALUE);
+    }
+
+    /**
+     * Último lançamento criado antes do corte.
+     *
+     * @param afterEntryId lançamentos anteriores a este já foram consolidados
+     * @param cutoff instante de corte
+     * @return ID do lançamento ou vazio se não houver novos
+     */
+    public Optional<Long> lastEntryIdBefore(long afterEntryId, LocalDateTime cutoff) {
+        return entryRepository.findLastEntryIdBefore(afterEntryId, cutoff);
+    }
+
+    /**
+     * Contas com lançamentos ainda não consolidados no intervalo.
+     */
+    public List<UUID> accountsToCompact(long afterEntryId, long upToEntryId, int limit) {
+        return entryRepository.findAccountsToCompact(afterEntryId, upToEntryId, Limit.of(limit));
+    }
+
+    /**
+     * Avança o snapshot da conta até o lançamento informado.
+     *
+     * Instâncias concorrentes compactando a mesma conta colidem na versão
+     * (ou na chave primária, no primeiro snapshot); a perdedora é descartada.
+     *
+     * @param accountId ID da conta
+     * @param upToEntryId último lançamento a consolidar (inclusive)
+     * @return true se o snapshot foi avançado
+     */
+    @Transactional
+    public boolean compact(UUID accountId, long upToEntryId) {
+        BalanceSnapshotJpaEntity snapshot = snapshotRepository.findById(accountId)
+            .orElseGet(() -> BalanceSnapshotJpaEntity.builder().accountId(accountId).build());
+        if (snapshot.getLastEntryId() != null && snapshot.getLastEntryId() >= upToEntryId) {
+            return false;
+        }
+
+        Optional<DerivedBalanceView> balance = entryRepository.findDerivedBalance(accountId, upToEntryId);
+        if (balance.isEmpty()) {
+            return false;
+        }
+        snapshot.setLastEntryId(upToEntryId);
+        snapshot.setBalance(balance.get().getBalance());
+        snapshot.setAvailableLimit(balance.get().getAvailableLimit());
+        snapshotRepository.save(snapshot);
+        return true;
+    }
+}
@@ -0,0 +1,103 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Compactador do livro-razão: avança periodicamente os snapshots de saldo
+ * das contas com lançamentos novos, limitando quantos lançamentos a leitura
+ * do saldo precisa somar.
+ *
+ * Só consolida lançamentos criados há mais de lag-seconds: o ID do
+ * lançamento é atribuído no INSERT e a transação pode confirmar depois
+ * (a notificação ao BACEN roda dentro dela). Um lançamento com ID abaixo do
+ * snapshot que ainda não estivesse visível ficaria fora do saldo, por isso
+ * o lag deve ser maior que a duração máxima de uma transferência.
+ *
+ * Entre execuções mantém em memória o último lançamento consolidado para
+ * varrer apenas o intervalo novo; na subida a primeira execução varre tudo.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "ledger.enabled", havingValue = "true")
+public class LedgerCompactor {
+
+    private final LedgerBalanceAdapter ledger;
+    private final Clock clock;
+    private final Duration lag;
+    private final int batchSize;
+    private volatile long compactedUpTo;
+
+    @Autowired
+    public LedgerCompactor(
+            LedgerBalanceAdapter ledger,
+            @Value("${ledger.compaction.lag-seconds:300}") long lagSeconds,
+            @Value("${ledger.compaction.batch-size:1000}") int batchSize) {
+        this(ledger, Clock.systemDefaultZone(), Duration.ofSeconds(lagSeconds), batchSize);
+    }
+
+    LedgerCompactor(LedgerBalanceAdapter ledger, Clock clock, Duration lag, int batchSize) {
+        this.ledger = ledger;
+        this.clock = clock;
+        this.lag = lag;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Consolida os lançamentos anteriores ao corte em snapshots.
+     *
+     * @return número de snapshots avançados
+     */
+    @Scheduled(
+        fixedDelayString = "${ledger.compaction.interval-ms:60000}",
+        initialDelayString = "${ledger.compaction.interval-ms:60000}")
+    public int compact() {
+        long from = compactedUpTo;
+        Optional<Long> upTo = ledger.lastEntryIdBefore(from, LocalDateTime.now(clock).minus(lag));
+        if (upTo.isEmpty()) {
+            return 0;
+        }
+
+        int compacted = 0;
+        List<UUID> accounts;
+        boolean progress;
+        do {
+            accounts = ledger.accountsToCompact(from, upTo.get(), batchSize);
+            progress = false;
+            for (UUID accountId : accounts) {
+                if (compactAccount(accountId, upTo.get())) {
+                    compacted++;
+                    progress = true;
+                }
+            }
+        } while (accounts.size() == batchSize && progress);
+
+        if (accounts.size() < batchSize) {
+            compactedUpTo = upTo.get();
+        }
+        log.info("Compactação do livro-razão: {} snapshots avançados até o lançamento {}", compacted, upTo.get());
+        return compacted;
+    }
+
+    private boolean compactAccount(UUID accountId, long upToEntryId) {
+        try {
+            return ledger.compact(accountId, upToEntryId);
+        } catch (OptimisticLockingFailureException | DataIntegrityViolationException e) {
+            log.debug("Snapshot da conta {} avançado por outra instância", accountId);
+            return false;
+        }
+    }
+}
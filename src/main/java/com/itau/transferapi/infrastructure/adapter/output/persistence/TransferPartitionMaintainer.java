@@ -0,0 +1,162 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Mantém as partições mensais da tabela transfers (ver migração V2).
+ *
+ * Na subida e diariamente:
+ * - cria as partições do mês corrente e dos próximos months-ahead meses
+ * - remove as partições inteiramente anteriores à janela de retenção
+ *   (DETACH CONCURRENTLY seguido de DROP, sem bloquear inserções)
+ *
+ * Só atua quando transfers é particionada (PostgreSQL com Flyway); nos
+ * perfis com H2 a tabela é criada pelo Hibernate e a manutenção é ignorada.
+ * Várias instâncias podem rodar a manutenção ao mesmo tempo: os comandos
+ * são idempotentes e uma corrida perdida é resolvida na execução seguinte.
+ */
+@Slf4j
+@Component
+public class TransferPartitionMaintainer {
+
+    static final String TABLE = "transfers";
+    private static final String PARTITION_PREFIX = TABLE + "_p";
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private volatile Boolean partitioned;
+
+    @Autowired
+    public TransferPartitionMaintainer(
+            JdbcTemplate jdbcTemplate,
+            @Value("${transfers.partitions.months-ahead:3}") int monthsAhead,
+            @Value("${transfers.partitions.retention-months:60}") int retentionMonths) {
+        this(jdbcTemplate, Clock.systemDefaultZone(), monthsAhead, retentionMonths);
+    }
+
+    TransferPartitionMaintainer(JdbcTemplate jdbcTemplate, Clock clock, int monthsAhead, int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    /**
+     * Cria as partições futuras e aplica a retenção.
+     */
+    @Scheduled(cron = "${transfers.partitions.maintenance-cron:0 15 3 * * *}")
+    public void maintain() {
+        if (!isPartitioned()) {
+            return;
+        }
+        YearMonth current = YearMonth.now(clock);
+        try {
+            ensurePartitions(current, current.plusMonths(monthsAhead));
+            if (retentionMonths > 0) {
+                dropPartitionsBefore(current.minusMonths(retentionMonths));
+            }
+        } catch (DataAccessException e) {
+            log.warn("Falha na manutenção das partições de {}: {}", TABLE, e.getMessage());
+        }
+    }
+
+    /**
+     * Garante que existam partições para todos os meses do intervalo.
+     *
+     * @param from primeiro mês (inclusive)
+     * @param to último mês (inclusive)
+     */
+    public void ensurePartitions(YearMonth from, YearMonth to) {
+        if (!isPartitioned()) {
+            return;
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            jdbcTemplate.execute(String.format(
+                "CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')",
+                partitionName(month), TABLE, month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    /**
+     * Remove as partições de meses anteriores ao limite.
+     *
+     * @param cutoff primeiro mês mantido
+     * @return partições removidas
+     */
+    List<String> dropPartitionsBefore(YearMonth cutoff) {
+        List<String> expired = listPartitions().stream()
+            .filter(name -> partitionMonth(name).map(month -> month.isBefore(cutoff)).orElse(false))
+            .sorted()
+            .toList();
+
+        for (String partition : expired) {
+            // CONCURRENTLY não pode rodar em transação: cada comando em auto-commit
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DETACH PARTITION " + partition + " CONCURRENTLY");
+            jdbcTemplate.execute("DROP TABLE " + partition);
+            log.info("Partição {} removida pela retenção de {} meses", partition, retentionMonths);
+        }
+        return expired;
+    }
+
+    List<String> listPartitions() {
+        return jdbcTemplate.queryForList(
+            "SELECT child.relname FROM pg_inherits i "
+                + "JOIN pg_class parent ON parent.oid = i.inhparent "
+                + "JOIN pg_class child ON child.oid = i.inhrelid "
+                + "WHERE parent.relname = ?",
+            String.class, TABLE);
+    }
+
+    static String partitionName(YearMonth month) {
+        return PARTITION_PREFIX + month.format(SUFFIX);
+    }
+
+    static Optional<YearMonth> partitionMonth(String partitionName) {
+        if (!partitionName.startsWith(PARTITION_PREFIX)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(YearMonth.parse(partitionName.substring(PARTITION_PREFIX.length()), SUFFIX));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    private boolean isPartitioned() {
+        Boolean result = partitioned;
+        if (result == null) {
+            result = Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+                "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName())))
+                && Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                    "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table pt "
+                        + "JOIN pg_class c ON c.oid = pt.partrelid WHERE c.relname = ?)",
+                    Boolean.class, TABLE));
+            partitioned = result;
+        }
+        return result;
+    }
+}
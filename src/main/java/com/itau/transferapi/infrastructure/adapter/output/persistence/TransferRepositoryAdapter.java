@@ -13,12 +13,19 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Adapter que implementa o repositório de Transfer usando JPA.
+ * 
+ * Leituras e atualizações usam a chave completa (id, created_at) e tocam
+ * uma única partição; só {@link #findById(TransferId)}, sem a data,
+ * percorre todas.
+ * A unicidade global do id vem de {@link TransferId#generate()} (UUID
+ * aleatório), sem índice global sobre as partições.
  */
 @Component
 @RequiredArgsConstructor
@@ -28,14 +35,20 @@ public class TransferRepositoryAdapter implements TransferRepository {
     
     @Override
     public Optional<Transfer> findById(TransferId transferId) {
-        return jpaRepository.findById(transferId.value())
+        return jpaRepository.findOneById(transferId.value())
+            .map(this::toDomain);
+    }
+    
+    @Override
+    public Optional<Transfer> findById(TransferId transferId, LocalDateTime createdAt) {
+        return jpaRepository.findById(key(transferId, createdAt))
             .map(this::toDomain);
     }
     
     @Override
     public Transfer save(Transfer transfer) {
         // Busca entidade existente para evitar conflito de sessão
-        TransferJpaEntity entity = jpaRepository.findById(transfer.getId().value())
+        TransferJpaEntity entity = jpaRepository.findById(key(transfer.getId(), transfer.getCreatedAt()))
             .map(existing -> {
                 existing.setStatus(mapStatus(transfer.getStatus()));
                 existing.setFailureReason(transfer.getFailureReason());
@@ -65,8 +78,10 @@ public class TransferRepositoryAdapter implements TransferRepository {
     
     @Override
     public List<Transfer> findByStatusAndRetryCountLessThan(TransferStatus status, int maxRetries) {
-        return jpaRepository.findByStatusAndBacenRetryCountLessThan(
-                mapStatus(status), maxRetries)
+        List<TransferJpaEntity> entities = status == TransferStatus.BACEN_PENDING
+            ? jpaRepository.findBacenPendingByRetryCountLessThan(maxRetries)
+            : jpaRepository.findByStatusAndBacenRetryCountLessThan(mapStatus(status), maxRetries);
+        return entities
             .stream()
             .map(this::toDomain)
             .collect(Collectors.toList());
@@ -109,13 +124,26 @@ public class TransferRepositoryAdapter implements TransferRepository {
             .status(mapStatus(transfer.getStatus()))
             .failureReason(transfer.getFailureReason())
             .bacenNotificationId(transfer.getBacenNotificationId())
-            .createdAt(transfer.getCreatedAt())
+            .createdAt(partitionKey(transfer.getCreatedAt()))
             .completedAt(transfer.getCompletedAt())
             .bacenNotifiedAt(transfer.getBacenNotifiedAt())
             .bacenRetryCount(transfer.getBacenRetryCount())
             .build();
     }
     
+    private static TransferJpaEntity.Key key(TransferId transferId, LocalDateTime createdAt) {
+        return new TransferJpaEntity.Key(transferId.value(), partitionKey(createdAt));
+    }
+    
+    /**
+     * created_at na precisão da coluna (microssegundos): a chave usada na
+     * busca é igual à gravada, e a transferência já carregada na sessão é
+     * encontrada sem nova consulta.
+     */
+    private static LocalDateTime partitionKey(LocalDateTime createdAt) {
+        return (createdAt != null ? createdAt : LocalDateTime.now()).truncatedTo(ChronoUnit.MICROS);
+    }
+    
     private TransferStatus mapStatus(TransferStatusJpa status) {
         return switch (status) {
             case PENDING -> TransferStatus.PENDING;
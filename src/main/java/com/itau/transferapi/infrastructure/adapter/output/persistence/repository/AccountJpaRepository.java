@@ -22,6 +22,16 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, UU
         String agencyNumber
     );
     
+    /**
+     * Projeção enxuta do índice único (conta, agência): apenas ID e cliente.
+     */
+    @Query("SELECT a.id AS id, a.clientId AS clientId FROM AccountJpaEntity a " +
+           "WHERE a.accountNumber = :accountNumber AND a.agencyNumber = :agencyNumber")
+    Optional<AccountReferenceView> findReferenceByAccountNumberAndAgencyNumber(
+        @Param("accountNumber") String accountNumber,
+        @Param("agencyNumber") String agencyNumber
+    );
+    
     Optional<AccountJpaEntity> findByClientId(UUID clientId);
     
     @Lock(LockModeType.PESSIMISTIC_WRITE)
@@ -34,6 +44,12 @@ public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, UU
         @Param("accountNumber") String accountNumber,
         @Param("agencyNumber") String agencyNumber
     );
+    
+    /**
+     * Projeção de referência da conta.
+     */
+    interface AccountReferenceView {
+        UUID getId();
+        UUID getClientId();
+    }
 }
-
-
@@ -0,0 +1,14 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence.repository;
+
+import com.itau.transferapi.infrastructure.entity.BalanceSnapshotJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório JPA para snapshots de saldo do livro-razão.
+ */
+@Repository
+public interface BalanceSnapshotJpaRepository extends JpaRepository<BalanceSnapshotJpaEntity, UUID> {
+}
@@ -0,0 +1,77 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence.repository;
+
+import com.itau.transferapi.infrastructure.entity.LedgerEntryJpaEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repositório JPA para lançamentos do livro-razão.
+ */
+@Repository
+public interface LedgerEntryJpaRepository extends JpaRepository<LedgerEntryJpaEntity, Long> {
+
+    /**
+     * Saldo e limite disponível derivados: snapshot (ou valores de abertura
+     * da conta, se não houver snapshot) mais os lançamentos posteriores ao
+     * snapshot até upToEntryId (inclusive).
+     */
+    @Query(value = "SELECT COALESCE(s.balance, a.balance) + COALESCE(SUM(CASE WHEN e.entry_type = 'CREDIT' "
+                 + "THEN e.amount ELSE -e.amount END), 0) AS balance, "
+                 + "COALESCE(s.available_limit, a.available_limit) - COALESCE(SUM(CASE WHEN e.entry_type = 'DEBIT' "
+                 + "THEN e.amount ELSE 0 END), 0) AS availableLimit "
+                 + "FROM accounts a "
+                 + "LEFT JOIN balance_snapshots s ON s.account_id = a.id "
+                 + "LEFT JOIN ledger_entries e ON e.account_id = a.id "
+                 + "AND e.id > COALESCE(s.last_entry_id, 0) AND e.id <= :upToEntryId "
+                 + "WHERE a.id = :accountId "
+                 + "GROUP BY a.balance, a.available_limit, s.balance, s.available_limit",
+           nativeQuery = true)
+    Optional<DerivedBalanceView> findDerivedBalance(
+        @Param("accountId") UUID accountId,
+        @Param("upToEntryId") long upToEntryId
+    );
+
+    @Query("SELECT MAX(e.debitSeq) FROM LedgerEntryJpaEntity e WHERE e.accountId = :accountId")
+    Optional<Long> findLastDebitSeq(@Param("accountId") UUID accountId);
+
+    /**
+     * Último lançamento criado antes do corte, a partir de afterEntryId.
+     */
+    @Query("SELECT MAX(e.id) FROM LedgerEntryJpaEntity e WHERE e.id > :afterEntryId AND e.createdAt < :cutoff")
+    Optional<Long> findLastEntryIdBefore(
+        @Param("afterEntryId") long afterEntryId,
+        @Param("cutoff") LocalDateTime cutoff
+    );
+
+    /**
+     * Contas com lançamentos no intervalo (afterEntryId, upToEntryId]
+     * ainda não consolidados em snapshot.
+     */
+    @Query("SELECT e.accountId FROM LedgerEntryJpaEntity e "
+         + "LEFT JOIN BalanceSnapshotJpaEntity s ON s.accountId = e.accountId "
+         + "WHERE e.id > :afterEntryId AND e.id <= :upToEntryId "
+         + "AND e.id > COALESCE(s.lastEntryId, 0) "
+         + "GROUP BY e.accountId")
+    List<UUID> findAccountsToCompact(
+        @Param("afterEntryId") long afterEntryId,
+        @Param("upToEntryId") long upToEntryId,
+        Limit limit
+    );
+
+    /**
+     * Projeção do saldo derivado.
+     */
+    interface DerivedBalanceView {
+        BigDecimal getBalance();
+        BigDecimal getAvailableLimit();
+    }
+}
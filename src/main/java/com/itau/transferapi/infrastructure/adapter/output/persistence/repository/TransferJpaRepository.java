@@ -7,15 +7,24 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
  * Repositório JPA para operações com Transfer.
  */
 @Repository
-public interface TransferJpaRepository extends JpaRepository<TransferJpaEntity, UUID> {
+public interface TransferJpaRepository extends JpaRepository<TransferJpaEntity, TransferJpaEntity.Key> {
+    
+    /**
+     * Busca só pelo id, sem created_at: no PostgreSQL lê todas as
+     * partições. Prefira {@link #findById} com a chave completa.
+     */
+    Optional<TransferJpaEntity> findOneById(UUID id);
     
     List<TransferJpaEntity> findBySourceAccountIdAndCreatedAtBetween(
         UUID sourceAccountId,
@@ -28,6 +37,19 @@ public interface TransferJpaRepository extends JpaRepository<TransferJpaEntity,
         int maxRetries
     );
     
+    /**
+     * Transferências pendentes de notificação ao BACEN.
+     * 
+     * O status vai como literal no SQL para que o índice parcial
+     * idx_transfers_bacen_pending também seja usado em planos genéricos
+     * de prepared statements (com status como parâmetro o predicado do
+     * índice não pode ser provado e o PostgreSQL varre a tabela).
+     */
+    @Query("SELECT t FROM TransferJpaEntity t WHERE " +
+           "t.status = com.itau.transferapi.infrastructure.entity.TransferJpaEntity$TransferStatusJpa.BACEN_PENDING " +
+           "AND t.bacenRetryCount < :maxRetries")
+    List<TransferJpaEntity> findBacenPendingByRetryCountLessThan(@Param("maxRetries") int maxRetries);
+    
     @Query("SELECT t FROM TransferJpaEntity t WHERE " +
            "(t.sourceAccountId = :accountId OR t.targetAccountId = :accountId) " +
            "AND t.createdAt BETWEEN :startDate AND :endDate")
@@ -36,6 +58,22 @@ public interface TransferJpaRepository extends JpaRepository<TransferJpaEntity,
         @Param("startDate") LocalDateTime startDate,
         @Param("endDate") LocalDateTime endDate
     );
+    
+    /**
+     * Valor transferido por conta origem no intervalo, usado para
+     * reconstruir o limite diário em memória.
+     */
+    @Query("SELECT t.sourceAccountId AS accountId, SUM(t.amount) AS amount FROM TransferJpaEntity t " +
+           "WHERE t.createdAt >= :from AND t.createdAt < :to AND t.status IN :statuses " +
+           "GROUP BY t.sourceAccountId")
+    List<SourceAmountView> sumAmountBySourceAccount(
+        @Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to,
+        @Param("statuses") Collection<TransferStatusJpa> statuses
+    );
+    
+    interface SourceAmountView {
+        UUID getAccountId();
+        BigDecimal getAmount();
+    }
 }
-
-
@@ -0,0 +1,35 @@
+package com.itau.transferapi.infrastructure.adapter.output.state;
+
+import com.itau.transferapi.application.port.output.AccountStatePort;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Estado de saldo lido diretamente do repositório de contas.
+ *
+ * Modo padrão. Não mantém estado próprio: não há o que invalidar.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "engine.offheap.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseAccountStateAdapter implements AccountStatePort {
+
+    private final AccountRepository accountRepository;
+
+    @Override
+    public Optional<AccountBalanceState> findBalance(AccountId accountId) {
+        return accountRepository.findById(accountId)
+            .map(account -> new AccountBalanceState(
+                account.getBalance(), account.getAvailableLimit(), account.getStatus()));
+    }
+
+    @Override
+    public void invalidate(AccountId accountId) {
+    }
+}
@@ -0,0 +1,141 @@
+package com.itau.transferapi.infrastructure.adapter.output.state;
+
+import com.itau.transferapi.application.port.output.AccountStatePort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.infrastructure.codec.DomainBinaryCodec;
+import com.itau.transferapi.infrastructure.offheap.AccountSlotTable;
+import com.itau.transferapi.infrastructure.offheap.AccountSlotTable.AccountSlot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Optional;
+
+/**
+ * Estado de saldo em uma tabela de slots fora do heap (engine.offheap.enabled=true).
+ *
+ * Milhões de {@link Account} no heap custam centenas de bytes cada e alongam
+ * as pausas do G1; aqui cada conta ocupa um slot de 64 bytes em memória direta.
+ *
+ * A tabela é carregada sob demanda a partir do repositório. Movimentações
+ * invalidam o slot após o commit; uma carga concorrente com a invalidação
+ * perde o CAS de versão e não é gravada. Invalidações de outras instâncias
+ * não chegam aqui: o modo pressupõe uma única instância dona das contas.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "engine.offheap.enabled", havingValue = "true")
+public class OffHeapAccountStateAdapter implements AccountStatePort {
+
+    /**
+     * Estimativa do grafo de um Account no heap (oops comprimidos): objeto,
+     * AccountId + UUID, UUID do cliente, dois Strings, dois Money com
+     * BigDecimal e dois LocalDateTime com LocalDate e LocalTime.
+     */
+    static final long ESTIMATED_HEAP_BYTES_PER_ACCOUNT = 496;
+
+    private static final AccountStatus[] STATUSES = AccountStatus.values();
+
+    private final AccountRepository accountRepository;
+    private final AccountSlotTable table;
+
+    public OffHeapAccountStateAdapter(
+            AccountRepository accountRepository,
+            MeterRegistry meterRegistry,
+            @Value("${engine.offheap.capacity:1000000}") int capacity) {
+        this.accountRepository = accountRepository;
+        this.table = new AccountSlotTable(capacity);
+
+        Gauge.builder("engine.offheap.accounts", table, AccountSlotTable::size)
+            .description("Contas carregadas na tabela fora do heap")
+            .register(meterRegistry);
+        Gauge.builder("engine.offheap.memory", table, AccountSlotTable::offHeapBytes)
+            .description("Memória reservada fora do heap pela tabela de contas")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+        Gauge.builder("engine.offheap.heap.equivalent", table, t -> (double) t.size() * ESTIMATED_HEAP_BYTES_PER_ACCOUNT)
+            .description("Estimativa de heap que as mesmas contas ocupariam como objetos Account")
+            .baseUnit("bytes")
+            .register(meterRegistry);
+
+        log.info("Tabela de contas fora do heap: {} slots, {} MB",
+            table.capacity(), table.offHeapBytes() / (1024 * 1024));
+    }
+
+    @Override
+    public Optional<AccountBalanceState> findBalance(AccountId accountId) {
+        int slot = table.find(accountId.value());
+        if (slot < 0) {
+            if (table.isFull()) {
+                return load(accountId).map(OffHeapAccountStateAdapter::toState);
+            }
+            slot = table.slotFor(accountId.value());
+        }
+
+        AccountSlot current = table.read(slot);
+        if (current.isLoaded()) {
+            return Optional.of(toState(current));
+        }
+
+        Optional<Account> account = load(accountId);
+        if (account.isPresent()) {
+            Account loaded = account.get();
+            table.compareAndSet(slot, current.version(),
+                loaded.getBalance().toMinorUnits(),
+                loaded.getAvailableLimit().toMinorUnits(),
+                (byte) loaded.getStatus().ordinal(),
+                DomainBinaryCodec.toEpochMicros(loaded.getUpdatedAt()));
+        }
+        return account.map(OffHeapAccountStateAdapter::toState);
+    }
+
+    @Override
+    public void invalidate(AccountId accountId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidateNow(accountId);
+                }
+            });
+        } else {
+            invalidateNow(accountId);
+        }
+    }
+
+    private void invalidateNow(AccountId accountId) {
+        int slot = table.find(accountId.value());
+        if (slot >= 0) {
+            table.invalidate(slot);
+        }
+    }
+
+    private Optional<Account> load(AccountId accountId) {
+        return accountRepository.findById(accountId);
+    }
+
+    AccountSlotTable table() {
+        return table;
+    }
+
+    private static AccountBalanceState toState(Account account) {
+        return new AccountBalanceState(account.getBalance(), account.getAvailableLimit(), account.getStatus());
+    }
+
+    private static AccountBalanceState toState(AccountSlot slot) {
+        return new AccountBalanceState(
+            Money.ofMinorUnits(slot.balanceCents()),
+            Money.ofMinorUnits(slot.limitCents()),
+            STATUSES[slot.status()]);
+    }
+}
@@ -0,0 +1,199 @@
+package com.itau.transferapi.infrastructure.codec;
+
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+/**
+ * Codificação binária versionada das entidades de domínio.
+ *
+ * Usada por caches, journal e mensagens entre nós, onde serialização Java ou
+ * JSON custariam caro. Escreve e lê na posição corrente de um ByteBuffer
+ * reutilizável, sem boxing:
+ * - cabeçalho: tipo(1) versão(1)
+ * - UUIDs como dois longs
+ * - Money como long de centavos
+ * - enums como byte (ordinal; reordenar um enum exige nova versão)
+ * - instantes como microssegundos desde a época (UTC), {@link #NULL_TIMESTAMP} se nulo
+ * - datas como dia desde a época (int)
+ * - textos como tamanho(2) + UTF-8, tamanho -1 se nulo
+ *
+ * Estouro do buffer lança {@link java.nio.BufferOverflowException}; cabeçalho
+ * desconhecido lança {@link IllegalArgumentException}.
+ */
+public final class DomainBinaryCodec {
+
+    public static final byte TYPE_TRANSFER = 1;
+    public static final byte TYPE_ACCOUNT = 2;
+    public static final byte TYPE_DAILY_LIMIT = 3;
+
+    public static final byte VERSION = 1;
+
+    static final long NULL_TIMESTAMP = Long.MIN_VALUE;
+
+    private static final TransferStatus[] TRANSFER_STATUSES = TransferStatus.values();
+    private static final AccountStatus[] ACCOUNT_STATUSES = AccountStatus.values();
+
+    private DomainBinaryCodec() {
+    }
+
+    public static void encode(Transfer transfer, ByteBuffer buffer) {
+        putHeader(buffer, TYPE_TRANSFER);
+        putUuid(buffer, transfer.getId().value());
+        putUuid(buffer, transfer.getSourceAccountId().value());
+        putUuid(buffer, transfer.getTargetAccountId().value());
+        buffer.putLong(transfer.getAmount().toMinorUnits());
+        buffer.put((byte) transfer.getStatus().ordinal());
+        buffer.putLong(toEpochMicros(transfer.getCreatedAt()));
+        buffer.putLong(toEpochMicros(transfer.getCompletedAt()));
+        buffer.putLong(toEpochMicros(transfer.getBacenNotifiedAt()));
+        buffer.putInt(transfer.getBacenRetryCount());
+        putString(buffer, transfer.getFailureReason());
+        putString(buffer, transfer.getBacenNotificationId());
+    }
+
+    public static Transfer decodeTransfer(ByteBuffer buffer) {
+        checkHeader(buffer, TYPE_TRANSFER);
+        return Transfer.builder()
+            .id(TransferId.of(getUuid(buffer)))
+            .sourceAccountId(AccountId.of(getUuid(buffer)))
+            .targetAccountId(AccountId.of(getUuid(buffer)))
+            .amount(Money.ofMinorUnits(buffer.getLong()))
+            .status(TRANSFER_STATUSES[buffer.get()])
+            .createdAt(fromEpochMicros(buffer.getLong()))
+            .completedAt(fromEpochMicros(buffer.getLong()))
+            .bacenNotifiedAt(fromEpochMicros(buffer.getLong()))
+            .bacenRetryCount(buffer.getInt())
+            .failureReason(getString(buffer))
+            .bacenNotificationId(getString(buffer))
+            .build();
+    }
+
+    public static void encode(Account account, ByteBuffer buffer) {
+        putHeader(buffer, TYPE_ACCOUNT);
+        putUuid(buffer, account.getId().value());
+        putUuid(buffer, account.getClientId());
+        buffer.putLong(account.getBalance().toMinorUnits());
+        buffer.putLong(account.getAvailableLimit().toMinorUnits());
+        buffer.put((byte) account.getStatus().ordinal());
+        buffer.putLong(toEpochMicros(account.getCreatedAt()));
+        buffer.putLong(toEpochMicros(account.getUpdatedAt()));
+        putString(buffer, account.getAccountNumber());
+        putString(buffer, account.getAgencyNumber());
+    }
+
+    public static Account decodeAccount(ByteBuffer buffer) {
+        checkHeader(buffer, TYPE_ACCOUNT);
+        return Account.builder()
+            .id(AccountId.of(getUuid(buffer)))
+            .clientId(getUuid(buffer))
+            .balance(Money.ofMinorUnits(buffer.getLong()))
+            .availableLimit(Money.ofMinorUnits(buffer.getLong()))
+            .status(ACCOUNT_STATUSES[buffer.get()])
+            .createdAt(fromEpochMicros(buffer.getLong()))
+            .updatedAt(fromEpochMicros(buffer.getLong()))
+            .accountNumber(getString(buffer))
+            .agencyNumber(getString(buffer))
+            .build();
+    }
+
+    public static void encode(DailyTransferLimit limit, ByteBuffer buffer) {
+        putHeader(buffer, TYPE_DAILY_LIMIT);
+        putUuid(buffer, limit.getAccountId().value());
+        buffer.putInt((int) limit.getDate().toEpochDay());
+        buffer.putLong(limit.getUsedAmount().toMinorUnits());
+        buffer.putLong(limit.getDailyLimit().toMinorUnits());
+    }
+
+    public static DailyTransferLimit decodeDailyTransferLimit(ByteBuffer buffer) {
+        checkHeader(buffer, TYPE_DAILY_LIMIT);
+        return DailyTransferLimit.builder()
+            .accountId(AccountId.of(getUuid(buffer)))
+            .date(LocalDate.ofEpochDay(buffer.getInt()))
+            .usedAmount(Money.ofMinorUnits(buffer.getLong()))
+            .dailyLimit(Money.ofMinorUnits(buffer.getLong()))
+            .build();
+    }
+
+    /**
+     * Tipo da mensagem na posição corrente, sem consumi-la.
+     */
+    public static byte peekType(ByteBuffer buffer) {
+        return buffer.get(buffer.position());
+    }
+
+    public static long toEpochMicros(LocalDateTime dateTime) {
+        if (dateTime == null) {
+            return NULL_TIMESTAMP;
+        }
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1_000;
+    }
+
+    public static LocalDateTime fromEpochMicros(long micros) {
+        if (micros == NULL_TIMESTAMP) {
+            return null;
+        }
+        return LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000L), (int) Math.floorMod(micros, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static void putHeader(ByteBuffer buffer, byte type) {
+        buffer.put(type);
+        buffer.put(VERSION);
+    }
+
+    private static void checkHeader(ByteBuffer buffer, byte expectedType) {
+        byte type = buffer.get();
+        byte version = buffer.get();
+        if (type != expectedType) {
+            throw new IllegalArgumentException("Tipo de mensagem inesperado: " + type + " (esperado " + expectedType + ")");
+        }
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Versão de codificação não suportada: " + version);
+        }
+    }
+
+    private static void putUuid(ByteBuffer buffer, UUID value) {
+        buffer.putLong(value.getMostSignificantBits());
+        buffer.putLong(value.getLeastSignificantBits());
+    }
+
+    private static UUID getUuid(ByteBuffer buffer) {
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    private static void putString(ByteBuffer buffer, String value) {
+        if (value == null) {
+            buffer.putShort((short) -1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Texto excede " + Short.MAX_VALUE + " bytes");
+        }
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private static String getString(ByteBuffer buffer) {
+        short length = buffer.getShort();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,292 @@
+package com.itau.transferapi.infrastructure.config;
+
+import com.itau.transferapi.infrastructure.adapter.output.persistence.TransferPartitionMaintainer;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.LongFunction;
+
+/**
+ * Seeding em massa para testes de capacidade.
+ *
+ * Gera milhões de contas (e, opcionalmente, transferências históricas e
+ * limites diários do dia) sem passar pelo JPA:
+ * - PostgreSQL: COPY FROM STDIN em CSV, um lote por comando
+ * - Outros bancos (H2): INSERT com múltiplas linhas por comando
+ *
+ * O intervalo de índices é dividido em partições processadas em paralelo,
+ * cada lote em sua própria transação (auto-commit). Ao final de cada tabela
+ * é reportada a vazão em linhas/s.
+ *
+ * Os dados são determinísticos: a conta de índice i tem agência
+ * {@link #AGENCY}, número {@code %07d-DV} (DV = soma dos dígitos módulo 10),
+ * id {@code 5eed0001-0000-4000-<i>} e cliente {@code 5eed0002-0000-4000-<i>}.
+ * O gerador de carga (módulo load-generator) usa o mesmo esquema, e o mock
+ * do Cadastro reconhece os clientes semeados como ativos.
+ *
+ * Ativado por seed.bulk.enabled=true, em qualquer perfil. Se a primeira
+ * conta semeada já existir, o seeding é ignorado. Como roda após a subida
+ * do servidor HTTP, a readiness só fica UP quando o seeding termina.
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@ConditionalOnProperty(name = "seed.bulk.enabled", havingValue = "true")
+public class BulkDataSeeder implements CommandLineRunner {
+
+    public static final String AGENCY = "7001";
+    public static final int MAX_ACCOUNTS = 10_000_000;
+
+    private static final long ACCOUNT_ID_MSB = 0x5eed0001_0000_4000L;
+    private static final long CLIENT_ID_MSB = 0x5eed0002_0000_4000L;
+    private static final long TRANSFER_ID_MSB = 0x5eed0003_0000_4000L;
+    private static final long DAILY_LIMIT_ID_MSB = 0x5eed0004_0000_4000L;
+
+    private static final BigDecimal DAILY_LIMIT = new BigDecimal("1000.00");
+
+    private static final String ACCOUNT_COLUMNS =
+        "id, account_number, agency_number, client_id, balance, available_limit, status, "
+            + "created_at, updated_at, version";
+    private static final String TRANSFER_COLUMNS =
+        "id, source_account_id, target_account_id, amount, status, failure_reason, "
+            + "bacen_notification_id, created_at, completed_at, bacen_notified_at, bacen_retry_count, version";
+    private static final String DAILY_LIMIT_COLUMNS =
+        "id, account_id, date, used_amount, daily_limit, version";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransferPartitionMaintainer partitionMaintainer;
+    private final int accounts;
+    private final int transfersPerAccount;
+    private final boolean dailyLimits;
+    private final int historyDays;
+    private final BigDecimal initialBalance;
+    private final int partitions;
+    private final int batchSize;
+    private final LocalDateTime seededAt = LocalDateTime.now().withNano(0);
+
+    public BulkDataSeeder(
+            JdbcTemplate jdbcTemplate,
+            TransferPartitionMaintainer partitionMaintainer,
+            @Value("${seed.bulk.accounts:1000000}") int accounts,
+            @Value("${seed.bulk.transfers-per-account:0}") int transfersPerAccount,
+            @Value("${seed.bulk.daily-limits:false}") boolean dailyLimits,
+            @Value("${seed.bulk.history-days:90}") int historyDays,
+            @Value("${seed.bulk.initial-balance:1000000.00}") BigDecimal initialBalance,
+            @Value("${seed.bulk.partitions:0}") int partitions,
+            @Value("${seed.bulk.batch-size:1000}") int batchSize) {
+        if (accounts < 2 || accounts > MAX_ACCOUNTS) {
+            throw new IllegalArgumentException("seed.bulk.accounts deve estar entre 2 e " + MAX_ACCOUNTS);
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.partitionMaintainer = partitionMaintainer;
+        this.accounts = accounts;
+        this.transfersPerAccount = transfersPerAccount;
+        this.dailyLimits = dailyLimits;
+        this.historyDays = Math.max(historyDays, 1);
+        this.initialBalance = initialBalance;
+        this.partitions = partitions > 0 ? partitions : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void run(String... args) throws Exception {
+        Integer existing = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM accounts WHERE id = ?", Integer.class, accountId(0));
+        if (existing != null && existing > 0) {
+            log.info("Contas semeadas já existentes, pulando seeding em massa.");
+            return;
+        }
+
+        boolean copy = isPostgres();
+        log.info("Seeding em massa: {} contas, {} transferências/conta, limites diários={}, "
+                + "{} partições, lotes de {} ({})",
+            accounts, transfersPerAccount, dailyLimits, partitions, batchSize,
+            copy ? "COPY" : "INSERT multi-linha");
+
+        long start = System.nanoTime();
+        long rows = seed("accounts", ACCOUNT_COLUMNS, accounts, this::accountRow, copy);
+        if (transfersPerAccount > 0) {
+            // Histórico anterior às partições criadas pela migração
+            partitionMaintainer.ensurePartitions(
+                YearMonth.from(seededAt.minusDays(historyDays + 1L)), YearMonth.from(seededAt));
+            rows += seed("transfers", TRANSFER_COLUMNS, (long) accounts * transfersPerAccount,
+                this::transferRow, copy);
+        }
+        if (dailyLimits) {
+            rows += seed("daily_transfer_limits", DAILY_LIMIT_COLUMNS, accounts, this::dailyLimitRow, copy);
+        }
+        report("total", rows, start);
+    }
+
+    /**
+     * @param index índice da conta semeada
+     * @return número da conta no formato {@code %07d-DV}
+     */
+    public static String accountNumber(int index) {
+        int sum = 0;
+        for (int value = index; value > 0; value /= 10) {
+            sum += value % 10;
+        }
+        return String.format("%07d-%d", index, sum % 10);
+    }
+
+    /**
+     * @param clientId id do cliente
+     * @return true se o cliente foi gerado pelo seeding em massa
+     */
+    public static boolean isSeededClient(UUID clientId) {
+        return clientId.getMostSignificantBits() == CLIENT_ID_MSB
+            && clientId.getLeastSignificantBits() >= 0
+            && clientId.getLeastSignificantBits() < MAX_ACCOUNTS;
+    }
+
+    static UUID accountId(long index) {
+        return new UUID(ACCOUNT_ID_MSB, index);
+    }
+
+    static UUID clientId(long index) {
+        return new UUID(CLIENT_ID_MSB, index);
+    }
+
+    private Object[] accountRow(long index) {
+        Timestamp now = Timestamp.valueOf(seededAt);
+        return new Object[] {
+            accountId(index), accountNumber((int) index), AGENCY, clientId(index),
+            initialBalance, initialBalance, "ACTIVE", now, now, 0L
+        };
+    }
+
+    /**
+     * Transferência k da conta de origem i para uma conta de destino
+     * espalhada pela base, em um dia dos últimos history-days.
+     */
+    private Object[] transferRow(long index) {
+        long source = index / transfersPerAccount;
+        long k = index % transfersPerAccount;
+        long target = (source + 1 + (k * 7919) % (accounts - 1)) % accounts;
+        Timestamp createdAt = Timestamp.valueOf(seededAt
+            .minusDays(1 + index % historyDays)
+            .minusSeconds(index % 86_400));
+        return new Object[] {
+            new UUID(TRANSFER_ID_MSB, index), accountId(source), accountId(target),
+            BigDecimal.valueOf(100 + index % 10_000, 2), "BACEN_NOTIFIED", null,
+            "SEED-" + index, createdAt, createdAt, createdAt, 0, 0L
+        };
+    }
+
+    private Object[] dailyLimitRow(long index) {
+        return new Object[] {
+            new UUID(DAILY_LIMIT_ID_MSB, index), accountId(index), seededAt.toLocalDate(),
+            BigDecimal.valueOf((index % 50) * 1000, 2), DAILY_LIMIT, 0L
+        };
+    }
+
+    private long seed(String table, String columns, long total, LongFunction<Object[]> row, boolean copy)
+            throws InterruptedException, ExecutionException {
+        long start = System.nanoTime();
+        List<Callable<Void>> tasks = new ArrayList<>(partitions);
+        for (int p = 0; p < partitions; p++) {
+            long from = total * p / partitions;
+            long to = total * (p + 1) / partitions;
+            tasks.add(() -> {
+                for (long batchStart = from; batchStart < to; batchStart += batchSize) {
+                    long batchEnd = Math.min(batchStart + batchSize, to);
+                    if (copy) {
+                        copyBatch(table, columns, batchStart, batchEnd, row);
+                    } else {
+                        insertBatch(table, columns, batchStart, batchEnd, row);
+                    }
+                }
+                return null;
+            });
+        }
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(partitions)) {
+            for (Future<Void> future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        }
+        report(table, total, start);
+        return total;
+    }
+
+    private void copyBatch(String table, String columns, long from, long to, LongFunction<Object[]> row) {
+        StringBuilder csv = new StringBuilder((int) (to - from) * 160);
+        for (long i = from; i < to; i++) {
+            Object[] values = row.apply(i);
+            for (int c = 0; c < values.length; c++) {
+                if (c > 0) {
+                    csv.append(',');
+                }
+                if (values[c] instanceof BigDecimal decimal) {
+                    csv.append(decimal.toPlainString());
+                } else if (values[c] != null) {
+                    csv.append(values[c]);
+                }
+            }
+            csv.append('\n');
+        }
+
+        String sql = "COPY " + table + " (" + columns + ") FROM STDIN (FORMAT csv)";
+        jdbcTemplate.execute((ConnectionCallback<Long>) connection -> {
+            try {
+                return connection.unwrap(PGConnection.class).getCopyAPI()
+                    .copyIn(sql, new StringReader(csv.toString()));
+            } catch (IOException e) {
+                throw new SQLException("Falha no COPY de " + table, e);
+            }
+        });
+    }
+
+    private void insertBatch(String table, String columns, long from, long to, LongFunction<Object[]> row) {
+        int count = (int) (to - from);
+        int width = columns.split(",").length;
+        String placeholders = "(" + "?,".repeat(width - 1) + "?)";
+
+        StringBuilder sql = new StringBuilder(64 + count * (placeholders.length() + 1))
+            .append("INSERT INTO ").append(table).append(" (").append(columns).append(") VALUES ");
+        Object[] args = new Object[count * width];
+        for (int r = 0; r < count; r++) {
+            if (r > 0) {
+                sql.append(',');
+            }
+            sql.append(placeholders);
+            System.arraycopy(row.apply(from + r), 0, args, r * width, width);
+        }
+        jdbcTemplate.update(sql.toString(), args);
+    }
+
+    private boolean isPostgres() {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) connection ->
+            connection.isWrapperFor(PGConnection.class)));
+    }
+
+    private static void report(String table, long rows, long startNanos) {
+        double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-9);
+        log.info("Seeding de {}: {} linhas em {} s ({} linhas/s)",
+            table, rows, String.format("%.1f", seconds), Math.round(rows / seconds));
+    }
+}
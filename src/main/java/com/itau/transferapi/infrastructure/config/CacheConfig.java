@@ -1,6 +1,7 @@
 package com.itau.transferapi.infrastructure.config;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
@@ -12,13 +13,19 @@ import java.util.concurrent.TimeUnit;
  * Configuração de cache com Caffeine para alta performance.
  * 
  * Caches configurados:
- * - clients: Dados de clientes da API de Cadastro (TTL: 5 min)
  * - balances: Saldos de conta (TTL: 30 seg)
  * - clientsByDocument: Clientes por documento (TTL: 5 min)
+ * - accountReferences: (conta, agência) → ID da conta/cliente (sem TTL, limitado por tamanho)
+ * 
+ * Clientes por ID usam um cache próprio com revalidação em background
+ * e cache negativo (ver CadastroClientCache).
  */
 @Configuration
 public class CacheConfig {
     
+    @Value("${cache.account-references.maximum-size:500000}")
+    private long accountReferencesMaxSize;
+    
     @Bean
     public CacheManager cacheManager() {
         CaffeineCacheManager cacheManager = new CaffeineCacheManager();
@@ -30,11 +37,16 @@ public class CacheConfig {
         
         // Configurações específicas por cache podem ser adicionadas aqui
         cacheManager.setCacheNames(java.util.List.of(
-            "clients",
             "clientsByDocument", 
             "balances"
         ));
         
+        // Chaves imutáveis: sem expiração por tempo, apenas limite de tamanho
+        cacheManager.registerCustomCache("accountReferences", Caffeine.newBuilder()
+            .maximumSize(accountReferencesMaxSize)
+            .recordStats()
+            .build());
+        
         return cacheManager;
     }
 }
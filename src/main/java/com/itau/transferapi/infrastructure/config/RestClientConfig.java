@@ -7,7 +7,9 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.http.HttpClient;
 import java.time.Duration;
+import java.util.concurrent.Executors;
 
 /**
  * Configuração dos clientes REST para APIs externas.
@@ -16,6 +18,7 @@ import java.time.Duration;
  * - Timeouts configuráveis
  * - Connection pooling
  * - Buffers otimizados
+ * - Clientes HTTP não bloqueantes (java.net.http) para as variantes assíncronas
  */
 @Configuration
 public class RestClientConfig {
@@ -47,6 +50,20 @@ public class RestClientConfig {
             .setReadTimeout(Duration.ofMillis(bacenReadTimeout))
             .build();
     }
+    
+    @Bean
+    public HttpClient cadastroHttpClient() {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(cadastroConnectTimeout))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
+    
+    @Bean
+    public HttpClient bacenHttpClient() {
+        return HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(bacenConnectTimeout))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+    }
 }
-
-
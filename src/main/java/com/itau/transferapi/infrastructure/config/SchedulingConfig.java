@@ -0,0 +1,16 @@
+package com.itau.transferapi.infrastructure.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas agendadas (@Scheduled).
+ * 
+ * Tarefas atuais:
+ * - Manutenção das partições mensais de transfers (TransferPartitionMaintainer)
+ * - Gravação assíncrona do limite diário em memória (InMemoryDailyLimitRepositoryAdapter)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -11,12 +11,14 @@ import java.util.UUID;
 
 /**
  * Entidade JPA para persistência de Conta Corrente.
+ * 
+ * Índices espelham as migrações Flyway (V3); no PostgreSQL a unique
+ * (conta, agência) também tem INCLUDE (id, client_id), que o JPA não expressa.
  */
 @Entity
-@Table(name = "accounts", indexes = {
-    @Index(name = "idx_account_number_agency", columnList = "account_number, agency_number"),
-    @Index(name = "idx_client_id", columnList = "client_id")
-})
+@Table(name = "accounts",
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_agency", columnNames = {"account_number", "agency_number"}),
+    indexes = @Index(name = "idx_accounts_client_id", columnList = "client_id"))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,46 @@
+package com.itau.transferapi.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA para o snapshot de saldo de uma conta no livro-razão.
+ *
+ * Guarda saldo e limite disponível consolidados até o lançamento
+ * last_entry_id. Atualizada apenas pelo compactador, em background.
+ */
+@Entity
+@Table(name = "balance_snapshots")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BalanceSnapshotJpaEntity {
+
+    @Id
+    @Column(name = "account_id", updatable = false, nullable = false)
+    private UUID accountId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "balance", nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @Column(name = "available_limit", nullable = false, precision = 15, scale = 2)
+    private BigDecimal availableLimit;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+}
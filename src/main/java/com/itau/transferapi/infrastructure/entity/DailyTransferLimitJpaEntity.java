@@ -11,9 +11,8 @@ import java.util.UUID;
  * Entidade JPA para persistência de Limite Diário de Transferência.
  */
 @Entity
-@Table(name = "daily_transfer_limits", indexes = {
-    @Index(name = "idx_account_date", columnList = "account_id, date", unique = true)
-})
+@Table(name = "daily_transfer_limits",
+    uniqueConstraints = @UniqueConstraint(name = "uk_account_date", columnNames = {"account_id", "date"}))
 @Getter
 @Setter
 @NoArgsConstructor
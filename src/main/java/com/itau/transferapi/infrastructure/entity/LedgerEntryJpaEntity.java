@@ -0,0 +1,63 @@
+package com.itau.transferapi.infrastructure.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entidade JPA para lançamentos do livro-razão (append-only).
+ *
+ * Cada transferência gera um DEBIT na origem e um CREDIT no destino.
+ * Lançamentos nunca são alterados: o saldo é derivado do último
+ * {@link BalanceSnapshotJpaEntity} somado aos lançamentos posteriores.
+ *
+ * Débitos carregam debit_seq, sequencial por conta e único: dois débitos
+ * concorrentes calculados sobre o mesmo saldo colidem na constraint.
+ */
+@Entity
+@Table(name = "ledger_entries",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ledger_entries_transfer", columnNames = {"transfer_id", "entry_type"}),
+        @UniqueConstraint(name = "uk_ledger_entries_debit_seq", columnNames = {"account_id", "debit_seq"})
+    },
+    indexes = @Index(name = "idx_ledger_entries_account", columnList = "account_id, id"))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LedgerEntryJpaEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", updatable = false, nullable = false)
+    private Long id;
+
+    @Column(name = "transfer_id", nullable = false, updatable = false)
+    private UUID transferId;
+
+    @Column(name = "account_id", nullable = false, updatable = false)
+    private UUID accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, updatable = false, length = 10)
+    private EntryTypeJpa entryType;
+
+    @Column(name = "amount", nullable = false, updatable = false, precision = 15, scale = 2)
+    private BigDecimal amount;
+
+    @Column(name = "debit_seq", updatable = false)
+    private Long debitSeq;
+
+    @CreationTimestamp
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum EntryTypeJpa {
+        DEBIT, CREDIT
+    }
+}
@@ -2,27 +2,35 @@ package com.itau.transferapi.infrastructure.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
-import org.hibernate.annotations.CreationTimestamp;
 
+import java.io.Serializable;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 /**
  * Entidade JPA para persistência de Transferência.
+ * 
+ * No PostgreSQL a tabela é particionada por mês em created_at (migração V2)
+ * e a chave primária é (id, created_at). A entidade usa a mesma chave
+ * ({@link Key}): buscas, UPDATE e DELETE incluem created_at no WHERE e
+ * tocam uma única partição.
+ * 
+ * Índices espelham as migrações Flyway (V3); no PostgreSQL
+ * idx_transfers_bacen_pending é parcial (WHERE status = 'BACEN_PENDING').
  */
 @Entity
 @Table(name = "transfers", indexes = {
-    @Index(name = "idx_source_account", columnList = "source_account_id"),
-    @Index(name = "idx_target_account", columnList = "target_account_id"),
-    @Index(name = "idx_status", columnList = "status"),
-    @Index(name = "idx_created_at", columnList = "created_at")
+    @Index(name = "idx_transfers_source_account_created", columnList = "source_account_id, created_at"),
+    @Index(name = "idx_transfers_target_account_created", columnList = "target_account_id, created_at"),
+    @Index(name = "idx_transfers_bacen_pending", columnList = "status, bacen_retry_count")
 })
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@IdClass(TransferJpaEntity.Key.class)
 public class TransferJpaEntity {
     
     @Id
@@ -48,7 +56,8 @@ public class TransferJpaEntity {
     @Column(name = "bacen_notification_id", length = 100)
     private String bacenNotificationId;
     
-    @CreationTimestamp
+    // Definido pelo adapter, na precisão da coluna
+    @Id
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
     
@@ -65,6 +74,18 @@ public class TransferJpaEntity {
     @Column(name = "version")
     private Long version;
     
+    /**
+     * Chave primária (id, created_at), igual à da tabela particionada.
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    public static class Key implements Serializable {
+        private UUID id;
+        private LocalDateTime createdAt;
+    }
+    
     public enum TransferStatusJpa {
         PENDING, PROCESSING, COMPLETED, FAILED, BACEN_PENDING, BACEN_NOTIFIED
     }
@@ -0,0 +1,32 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Leitura com lock pessimista (SELECT ... FOR UPDATE); a duração inclui a
+ * espera pelo lock de outra transação.
+ */
+@Name("com.itau.transferapi.AccountLockWait")
+@Label("Account Lock Wait")
+@Category({"Transfer API", "Persistence"})
+@Description("Leitura com lock de conta ou de limite diário")
+@StackTrace(false)
+public class AccountLockWaitEvent extends Event {
+
+    @Label("Repository")
+    String repository;
+
+    @Label("Method")
+    String method;
+
+    @Label("Found")
+    boolean found;
+
+    @Label("Failed")
+    boolean failed;
+}
@@ -0,0 +1,40 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Consulta a um cache local.
+ */
+@Name("com.itau.transferapi.CacheLookup")
+@Label("Cache Lookup")
+@Category({"Transfer API", "Cache"})
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    @Label("Cache")
+    String cache;
+
+    @Label("Result")
+    @Description("fresh, stale, negative ou miss")
+    String result;
+
+    public static CacheLookupEvent start(String cache) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.cache = cache;
+        event.begin();
+        return event;
+    }
+
+    public void commit(String result) {
+        end();
+        if (shouldCommit()) {
+            this.result = result;
+            commit();
+        }
+    }
+}
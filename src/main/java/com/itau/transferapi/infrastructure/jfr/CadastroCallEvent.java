@@ -0,0 +1,11 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name("com.itau.transferapi.CadastroCall")
+@Label("Cadastro Call")
+@Category({"Transfer API", "External"})
+public class CadastroCallEvent extends ExternalCallEvent {
+}
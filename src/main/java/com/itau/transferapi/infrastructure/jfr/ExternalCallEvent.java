@@ -0,0 +1,52 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+
+/**
+ * Chamada a uma API externa, incluindo retries e fallback.
+ *
+ * Base abstrata (não registrada); cada serviço tem seu tipo de evento para
+ * que possa ser habilitado e filtrado separadamente.
+ */
+@StackTrace(false)
+public abstract class ExternalCallEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("success, fallback, rejected, timeout ou error")
+    String outcome;
+
+    @Label("Asynchronous")
+    boolean async;
+
+    /**
+     * Evento para o serviço (nome da instância Resilience4j).
+     *
+     * @return evento ou null para serviços sem tipo próprio
+     */
+    public static ExternalCallEvent forService(String service) {
+        return switch (service) {
+            case "cadastroApi" -> new CadastroCallEvent();
+            case "bacenApi" -> new BacenCallEvent();
+            default -> null;
+        };
+    }
+
+    /**
+     * Encerra e grava o evento, se habilitado e acima do limiar.
+     */
+    public void commit(String operation, String outcome, boolean async) {
+        end();
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.outcome = outcome;
+            this.async = async;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+
+/**
+ * Endpoint {@code /actuator/jfr}, desligado por padrão (jfr.endpoint.enabled).
+ *
+ * A API não tem autenticação: ligado na porta da API, qualquer cliente
+ * poderia iniciar gravações "profile" e gravar arquivos no disco. Por isso
+ * o endpoint exige a porta de gerenciamento separada (management.server.port)
+ * escutando só em loopback (management.server.address), e a aplicação não
+ * sobe sem elas. No container, o acesso é por docker exec.
+ */
+@Configuration
+@ConditionalOnProperty(name = "jfr.endpoint.enabled", havingValue = "true")
+public class JfrEndpointConfig {
+
+    @Bean
+    public JfrRecordingEndpoint jfrRecordingEndpoint(
+            @Value("${server.port:8080}") int serverPort,
+            @Value("${management.server.port:${server.port:8080}}") int managementPort,
+            @Value("${management.server.address:}") String managementAddress,
+            @Value("${jfr.directory:${java.io.tmpdir}}") String directory,
+            @Value("${jfr.settings:default}") String defaultSettings,
+            @Value("${jfr.max-duration:15m}") Duration maxDuration) {
+        if (managementPort == serverPort) {
+            throw new IllegalStateException("jfr.endpoint.enabled exige management.server.port diferente de "
+                + "server.port (" + serverPort + "): o endpoint JFR não pode ficar na porta da API");
+        }
+        if (!isLoopback(managementAddress)) {
+            throw new IllegalStateException("jfr.endpoint.enabled exige management.server.address em loopback "
+                + "(ex.: 127.0.0.1), atual: " + (managementAddress.isEmpty() ? "todas as interfaces" : managementAddress));
+        }
+        return new JfrRecordingEndpoint(directory, defaultSettings, maxDuration);
+    }
+
+    private static boolean isLoopback(String address) {
+        if (address.isBlank()) {
+            return false;
+        }
+        try {
+            return InetAddress.getByName(address).isLoopbackAddress();
+        } catch (UnknownHostException e) {
+            return false;
+        }
+    }
+}
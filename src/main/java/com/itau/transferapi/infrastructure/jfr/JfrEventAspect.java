@@ -0,0 +1,93 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import com.itau.transferapi.application.dto.response.TransferOutcome;
+import com.itau.transferapi.application.dto.response.TransferResponse;
+import com.itau.transferapi.domain.exception.BusinessException;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Emite os eventos JFR do caso de uso de transferência e das leituras com
+ * lock, sem acoplar a camada de aplicação ao JFR.
+ *
+ * Precedência máxima: o evento de transferência envolve a transação e
+ * inclui o commit. Sem gravação ativa, os eventos não são gravados e o
+ * custo se resume ao begin/end.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class JfrEventAspect {
+
+    @Around("execution(* com.itau.transferapi.application.port.input.TransferUseCase.execute*(..))")
+    public Object transferExecuted(ProceedingJoinPoint joinPoint) throws Throwable {
+        TransferExecutedEvent event = new TransferExecutedEvent();
+        event.begin();
+        try {
+            Object result = joinPoint.proceed();
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                event.outcome = outcomeOf(result);
+                if (result instanceof TransferOutcome.Rejected rejected) {
+                    event.errorCode = rejected.errorCode().getCode();
+                }
+                event.commit();
+            }
+            return result;
+        } catch (Throwable e) {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = joinPoint.getSignature().getName();
+                if (e instanceof BusinessException business) {
+                    event.outcome = "rejected";
+                    event.errorCode = business.getErrorCode().getCode();
+                } else {
+                    event.outcome = "error";
+                }
+                event.commit();
+            }
+            throw e;
+        }
+    }
+
+    @Around("execution(* com.itau.transferapi.domain.repository.AccountRepository.findByIdForUpdate(..))"
+        + " || execution(* com.itau.transferapi.domain.repository.DailyTransferLimitRepository"
+        + ".findByAccountIdAndDateForUpdate(..))")
+    public Object lockWait(ProceedingJoinPoint joinPoint) throws Throwable {
+        AccountLockWaitEvent event = new AccountLockWaitEvent();
+        event.begin();
+        boolean failed = true;
+        Object result = null;
+        try {
+            result = joinPoint.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.repository = joinPoint.getTarget().getClass().getSimpleName();
+                event.method = joinPoint.getSignature().getName();
+                event.found = result instanceof Optional<?> found && found.isPresent();
+                event.failed = failed;
+                event.commit();
+            }
+        }
+    }
+
+    private static String outcomeOf(Object result) {
+        return switch (result) {
+            case TransferOutcome.Rejected rejected -> "rejected";
+            case TransferOutcome.PendingBacen pending -> "pending_bacen";
+            case TransferResponse response when response.status() == TransferStatus.BACEN_PENDING -> "pending_bacen";
+            case null, default -> "success";
+        };
+    }
+}
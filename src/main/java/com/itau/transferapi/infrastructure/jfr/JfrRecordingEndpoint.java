@@ -0,0 +1,180 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Endpoint {@code /actuator/jfr}: grava o JDK Flight Recorder sob demanda.
+ *
+ * - GET: estado da gravação do endpoint e gravações ativas na JVM
+ * - POST /jfr, /jfr/{settings} ou /jfr/{settings}/{durationSeconds}: inicia uma
+ *   gravação (settings "default" ou "profile"; padrão jfr.settings e jfr.max-duration)
+ * - DELETE: encerra a gravação e grava o arquivo .jfr em jfr.directory
+ *
+ * Os eventos da aplicação (categoria "Transfer API") são habilitados em
+ * qualquer configuração. Uma gravação por vez; a duração máxima encerra
+ * gravações esquecidas, mantendo os dados até o DELETE.
+ *
+ * Registrado só com jfr.endpoint.enabled (ver {@link JfrEndpointConfig}).
+ */
+@Slf4j
+@Endpoint(id = "jfr")
+public class JfrRecordingEndpoint {
+
+    private static final String RECORDING_NAME = "transfer-api";
+    private static final int STATUS_CONFLICT = 409;
+    private static final List<Class<? extends Event>> APPLICATION_EVENTS = List.of(
+        TransferExecutedEvent.class, AccountLockWaitEvent.class,
+        CadastroCallEvent.class, BacenCallEvent.class, CacheLookupEvent.class);
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    private final Path directory;
+    private final String defaultSettings;
+    private final Duration maxDuration;
+
+    private Recording recording;
+
+    public JfrRecordingEndpoint(String directory, String defaultSettings, Duration maxDuration) {
+        this.directory = Path.of(directory);
+        this.defaultSettings = defaultSettings;
+        this.maxDuration = maxDuration;
+    }
+
+    @ReadOperation
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("available", FlightRecorder.isAvailable());
+        status.put("recording", recording != null ? describe(recording) : null);
+        status.put("jvmRecordings", FlightRecorder.isAvailable()
+            ? FlightRecorder.getFlightRecorder().getRecordings().stream().map(this::describe).toList()
+            : List.of());
+        return status;
+    }
+
+    /** Inicia uma gravação com jfr.settings e jfr.max-duration. */
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start() {
+        return start(defaultSettings, maxDuration);
+    }
+
+    /**
+     * @param settings configuração do JDK ("default" ~1% de overhead, "profile" ~2%)
+     */
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Selector String settings) {
+        return start(settings, maxDuration);
+    }
+
+    /**
+     * @param settings configuração do JDK ("default" ~1% de overhead, "profile" ~2%)
+     * @param durationSeconds duração máxima da gravação
+     */
+    @WriteOperation
+    public WebEndpointResponse<Map<String, Object>> start(@Selector String settings, @Selector long durationSeconds) {
+        if (durationSeconds <= 0) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Duração inválida: " + durationSeconds);
+        }
+        return start(settings, Duration.ofSeconds(durationSeconds));
+    }
+
+    private synchronized WebEndpointResponse<Map<String, Object>> start(String settingsName, Duration duration) {
+        if (!FlightRecorder.isAvailable()) {
+            return error(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, "JFR não disponível nesta JVM");
+        }
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return error(STATUS_CONFLICT, "Gravação JFR já em andamento");
+        }
+        Configuration configuration;
+        try {
+            configuration = Configuration.getConfiguration(settingsName);
+        } catch (IOException | ParseException e) {
+            return error(WebEndpointResponse.STATUS_BAD_REQUEST, "Configuração JFR inválida: " + settingsName);
+        }
+        closeRecording();
+
+        Recording started = new Recording(configuration);
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setDuration(duration);
+        APPLICATION_EVENTS.forEach(started::enable);
+        started.start();
+        recording = started;
+
+        log.info("Gravação JFR iniciada: settings={}, duração máxima={}", configuration.getName(),
+            started.getDuration());
+        return new WebEndpointResponse<>(describe(started));
+    }
+
+    /**
+     * Encerra a gravação (se ativa) e grava o arquivo.
+     *
+     * @return caminho e tamanho do arquivo gravado
+     */
+    @DeleteOperation
+    public synchronized WebEndpointResponse<Map<String, Object>> stop() {
+        if (recording == null) {
+            return error(WebEndpointResponse.STATUS_NOT_FOUND, "Nenhuma gravação JFR iniciada pelo endpoint");
+        }
+        Path file = directory.resolve(RECORDING_NAME + "-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".jfr");
+        try {
+            Files.createDirectories(directory);
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            recording.dump(file);
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("file", file.toAbsolutePath().toString());
+            result.put("sizeBytes", Files.size(file));
+            log.info("Gravação JFR encerrada: {}", file.toAbsolutePath());
+            return new WebEndpointResponse<>(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar arquivo JFR: " + file, e);
+        } finally {
+            closeRecording();
+        }
+    }
+
+    private static WebEndpointResponse<Map<String, Object>> error(int status, String message) {
+        return new WebEndpointResponse<>(Map.of("error", message), status);
+    }
+
+    private void closeRecording() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private Map<String, Object> describe(Recording value) {
+        Map<String, Object> description = new LinkedHashMap<>();
+        description.put("id", value.getId());
+        description.put("name", value.getName());
+        description.put("state", value.getState().name());
+        description.put("startTime", value.getStartTime() != null ? value.getStartTime().toString() : null);
+        description.put("duration", value.getDuration() != null ? value.getDuration().toString() : null);
+        description.put("sizeBytes", value.getSize());
+        return description;
+    }
+}
@@ -0,0 +1,29 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Execução completa de uma transferência, incluindo o commit da transação.
+ */
+@Name("com.itau.transferapi.TransferExecuted")
+@Label("Transfer Executed")
+@Category({"Transfer API", "Transfer"})
+@Description("Execução do caso de uso de transferência")
+@StackTrace(false)
+public class TransferExecutedEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Outcome")
+    @Description("success, pending_bacen, rejected ou error")
+    String outcome;
+
+    @Label("Error Code")
+    String errorCode;
+}
@@ -0,0 +1,12 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.domain.entity.Transfer;
+
+/**
+ * Registro do journal: transferência e seu número de sequência.
+ *
+ * @param sequence sequência do registro, contígua e crescente a partir de 1
+ * @param transfer transferência registrada
+ */
+public record JournalRecord(long sequence, Transfer transfer) {
+}
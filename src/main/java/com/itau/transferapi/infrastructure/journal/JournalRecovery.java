@@ -0,0 +1,100 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.repository.TransferRepository;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Recuperação do journal após uma queda.
+ *
+ * No startup, reaplica no banco os registros posteriores ao checkpoint:
+ * - transferências já persistidas são ignoradas (reaplicação idempotente)
+ * - as demais debitam a origem, creditam o destino e são gravadas com o
+ *   status registrado, cada uma em sua própria transação
+ * - registros de transferências que falharam não movimentam saldo
+ *
+ * O registro é um efeito já aceito: as regras de negócio (conta ativa,
+ * saldo, limites) não são reavaliadas, senão um registro válido quando
+ * gravado seria descartado por uma mudança posterior de estado.
+ *
+ * Ao final o checkpoint avança até o último registro lido.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journal.enabled", havingValue = "true")
+public class JournalRecovery {
+
+    private final TransferJournal journal;
+    private final AccountRepository accountRepository;
+    private final TransferRepository transferRepository;
+    private final BalanceLedgerPort balanceLedger;
+    private final TransactionTemplate transactionTemplate;
+
+    public JournalRecovery(
+            TransferJournal journal,
+            AccountRepository accountRepository,
+            TransferRepository transferRepository,
+            BalanceLedgerPort balanceLedger,
+            PlatformTransactionManager transactionManager) {
+        this.journal = journal;
+        this.accountRepository = accountRepository;
+        this.transferRepository = transferRepository;
+        this.balanceLedger = balanceLedger;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Reaplica os registros pendentes do journal.
+     *
+     * @return quantidade de transferências aplicadas
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public int recover() {
+        long checkpoint = journal.checkpoint();
+        int[] applied = {0};
+        long last = journal.replay(checkpoint, record -> {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> apply(record)))) {
+                applied[0]++;
+            }
+        });
+        if (last > checkpoint) {
+            journal.checkpoint(last);
+            log.info("Journal recuperado: registros {} a {}, {} transferência(s) aplicada(s)",
+                checkpoint + 1, last, applied[0]);
+        }
+        return applied[0];
+    }
+
+    private boolean apply(JournalRecord record) {
+        Transfer transfer = record.transfer();
+        if (transferRepository.findById(transfer.getId(), transfer.getCreatedAt()).isPresent()) {
+            return false;
+        }
+        if (transfer.getStatus() == TransferStatus.FAILED) {
+            transferRepository.save(transfer);
+            return false;
+        }
+        Account source = accountRepository.findByIdForUpdate(transfer.getSourceAccountId()).orElse(null);
+        Account target = accountRepository.findById(transfer.getTargetAccountId()).orElse(null);
+        if (source == null || target == null) {
+            log.error("Registro {} do journal ignorado: conta inexistente (transferência {})",
+                record.sequence(), transfer.getId());
+            return false;
+        }
+        source.replayDebit(transfer.getAmount());
+        target.replayCredit(transfer.getAmount());
+        balanceLedger.post(transfer, source, target);
+        transferRepository.save(transfer);
+        return true;
+    }
+}
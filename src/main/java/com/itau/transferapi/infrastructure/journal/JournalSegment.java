@@ -0,0 +1,280 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+
+/**
+ * Segmento do journal: arquivo de tamanho fixo mapeado em memória.
+ *
+ * Cada registro é gravado como:
+ * <pre>
+ * tamanho do payload(4) CRC32C do payload(4) payload
+ * </pre>
+ * O arquivo tem tamanho fixo e começa zerado (arquivo novo, esparso); um
+ * tamanho zero marca o fim dos dados. Na leitura, o primeiro registro
+ * truncado, com CRC inválido ou fora de sequência encerra o segmento
+ * (escrita interrompida por uma queda).
+ *
+ * O nome do arquivo é a sequência do primeiro registro do segmento. O
+ * próximo segmento é pré-alocado com o sufixo {@link #PREPARED_SUFFIX},
+ * ignorado na leitura, e renomeado ao se tornar o ativo.
+ */
+final class JournalSegment implements Closeable {
+
+    static final String SUFFIX = ".journal";
+    static final String PREPARED_SUFFIX = SUFFIX + ".next";
+    static final int HEADER_SIZE = 2 * Integer.BYTES;
+    static final int RECORD_SIZE = HEADER_SIZE + TransferJournalCodec.PAYLOAD_SIZE;
+
+    private Path path;
+    private final long firstSequence;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final CRC32C crc = new CRC32C();
+    private int position;
+    private long lastSequence;
+
+    private JournalSegment(Path path, long firstSequence, FileChannel channel, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.channel = channel;
+        this.buffer = buffer;
+        this.lastSequence = firstSequence - 1;
+    }
+
+    /**
+     * Abre (ou cria) o segmento para escrita, posicionando após o último
+     * registro válido. Só um segmento reaberto tem o restante zerado e
+     * persistido; um arquivo novo já é lido como zeros.
+     */
+    static JournalSegment openForAppend(Path directory, long firstSequence, int size) {
+        Path path = directory.resolve(fileName(firstSequence));
+        try {
+            FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            boolean reopened = channel.size() > 0;
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            JournalSegment segment = new JournalSegment(path, firstSequence, channel, buffer);
+            if (reopened) {
+                segment.position = scan(buffer, firstSequence, record -> segment.lastSequence = record.sequence());
+                segment.clearTail();
+            } else {
+                channel.force(true);
+            }
+            return segment;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir segmento " + path, e);
+        }
+    }
+
+    /**
+     * Cria o próximo segmento com o sufixo {@link #PREPARED_SUFFIX}, já com
+     * o tamanho final persistido, fora do caminho do append.
+     */
+    static JournalSegment preallocate(Path directory, long firstSequence, int size) {
+        Path path = directory.resolve(preparedFileName(firstSequence));
+        try {
+            FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            channel.force(true);
+            return new JournalSegment(path, firstSequence, channel, buffer);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao pré-alocar segmento " + path, e);
+        }
+    }
+
+    /**
+     * Trata um segmento pré-alocado que sobrou de uma queda: adotado com o
+     * nome final se já recebeu registros (renomeação não persistida), senão
+     * removido.
+     */
+    static void recoverPrepared(Path prepared) {
+        String name = prepared.getFileName().toString();
+        long firstSequence = Long.parseLong(name.substring(0, name.length() - PREPARED_SUFFIX.length()));
+        Path segment = prepared.resolveSibling(fileName(firstSequence));
+        try {
+            boolean hasRecords;
+            try (FileChannel channel = FileChannel.open(prepared, StandardOpenOption.READ)) {
+                hasRecords = scan(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()),
+                    firstSequence, record -> { }) > 0;
+            }
+            if (hasRecords) {
+                Files.move(prepared, segment, StandardCopyOption.ATOMIC_MOVE);
+            } else {
+                Files.delete(prepared);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao recuperar segmento pré-alocado " + prepared, e);
+        }
+    }
+
+    /**
+     * Lê os registros válidos de um segmento.
+     *
+     * @return sequência do último registro lido (firstSequence - 1 se vazio)
+     */
+    static long read(Path path, Consumer<JournalRecord> consumer) {
+        long firstSequence = firstSequenceOf(path).orElseThrow();
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            long[] last = {firstSequence - 1};
+            scan(buffer, firstSequence, record -> {
+                last[0] = record.sequence();
+                consumer.accept(record);
+            });
+            return last[0];
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler segmento " + path, e);
+        }
+    }
+
+    private static int scan(ByteBuffer buffer, long firstSequence, Consumer<JournalRecord> consumer) {
+        CRC32C crc = new CRC32C();
+        long expected = firstSequence;
+        int position = 0;
+        while (position + HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(position);
+            if (length != TransferJournalCodec.PAYLOAD_SIZE || position + HEADER_SIZE + length > buffer.capacity()) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.slice(position + HEADER_SIZE, length));
+            if ((int) crc.getValue() != buffer.getInt(position + Integer.BYTES)) {
+                break;
+            }
+            JournalRecord record = TransferJournalCodec.decode(buffer, position + HEADER_SIZE);
+            if (record.sequence() != expected) {
+                break;
+            }
+            consumer.accept(record);
+            expected++;
+            position += HEADER_SIZE + length;
+        }
+        return position;
+    }
+
+    static String fileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, SUFFIX);
+    }
+
+    static String preparedFileName(long firstSequence) {
+        return String.format("%020d%s", firstSequence, PREPARED_SUFFIX);
+    }
+
+    static boolean isPrepared(Path path) {
+        return path.getFileName().toString().endsWith(PREPARED_SUFFIX);
+    }
+
+    static OptionalLong firstSequenceOf(Path path) {
+        String name = path.getFileName().toString();
+        if (!name.endsWith(SUFFIX)) {
+            return OptionalLong.empty();
+        }
+        try {
+            return OptionalLong.of(Long.parseLong(name.substring(0, name.length() - SUFFIX.length())));
+        } catch (NumberFormatException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Sequência do primeiro registro do segmento seguinte, quando este encher.
+     */
+    long nextSegmentSequence() {
+        return firstSequence + buffer.capacity() / RECORD_SIZE;
+    }
+
+    /**
+     * Dá ao segmento pré-alocado o nome final (sem cópia de dados).
+     */
+    void activate() {
+        Path target = path.resolveSibling(fileName(firstSequence));
+        try {
+            Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ativar segmento " + path, e);
+        }
+        path = target;
+    }
+
+    boolean hasRoomForRecord() {
+        return position + RECORD_SIZE <= buffer.capacity();
+    }
+
+    /**
+     * Grava o registro; o payload e o CRC vão antes do tamanho, que o torna visível.
+     */
+    void append(JournalRecord record) {
+        int payloadOffset = position + HEADER_SIZE;
+        TransferJournalCodec.encode(record.sequence(), record.transfer(), buffer, payloadOffset);
+        crc.reset();
+        crc.update(buffer.slice(payloadOffset, TransferJournalCodec.PAYLOAD_SIZE));
+        buffer.putInt(position + Integer.BYTES, (int) crc.getValue());
+        buffer.putInt(position, TransferJournalCodec.PAYLOAD_SIZE);
+        position += RECORD_SIZE;
+        lastSequence = record.sequence();
+    }
+
+    /**
+     * Persiste em disco o intervalo [from, to) do segmento.
+     */
+    void force(int from, int to) {
+        if (to > from) {
+            buffer.force(from, to - from);
+        }
+    }
+
+    private void clearTail() {
+        byte[] zeros = new byte[4096];
+        for (int i = position; i < buffer.capacity(); i += zeros.length) {
+            buffer.put(i, zeros, 0, Math.min(zeros.length, buffer.capacity() - i));
+        }
+        buffer.force();
+    }
+
+    void delete() {
+        close();
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover segmento " + path, e);
+        }
+    }
+
+    Path path() {
+        return path;
+    }
+
+    long firstSequence() {
+        return firstSequence;
+    }
+
+    long lastSequence() {
+        return lastSequence;
+    }
+
+    int position() {
+        return position;
+    }
+
+    @Override
+    public void close() {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao fechar segmento " + path, e);
+        }
+    }
+}
@@ -0,0 +1,387 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.domain.entity.Transfer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Journal local de transferências (write-ahead), em segmentos mapeados em memória.
+ *
+ * Durabilidade sem um commit no PostgreSQL por transferência:
+ * - append copia o registro para o segmento ativo e devolve um future
+ * - uma única thread de flush agrupa os registros pendentes e faz um
+ *   force() por lote (group commit); os futures completam após o force
+ * - o próximo segmento é pré-alocado pela thread de flush; no rollover o
+ *   append só o ativa, e o restante do segmento cheio é persistido no
+ *   próximo lote
+ * - o checkpoint marca até onde os registros já foram aplicados no banco;
+ *   segmentos inteiramente anteriores a ele são removidos (compactação)
+ *
+ * A recuperação após uma queda é feita por {@link JournalRecovery}.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "journal.enabled", havingValue = "true")
+public class TransferJournal implements Closeable {
+
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    private final Path directory;
+    private final int segmentSize;
+    private final List<JournalSegment> segments = new ArrayList<>();
+    private final Object lock = new Object();
+    private final AtomicLong syncCount = new AtomicLong();
+    private final Thread flusher;
+
+    private JournalSegment active;
+    private JournalSegment next;
+    private boolean preparing;
+    private long preparedSequence;
+    private long lastSequence;
+    private int syncedPosition;
+    private List<SyncRange> sealed = new ArrayList<>();
+    private List<PendingSync> pending = new ArrayList<>();
+    private boolean closed;
+
+    public TransferJournal(
+            @Value("${journal.directory:./data/journal}") Path directory,
+            @Value("${journal.segment-size:64MB}") DataSize segmentSize) {
+        if (segmentSize.toBytes() < JournalSegment.RECORD_SIZE || segmentSize.toBytes() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Tamanho de segmento inválido: " + segmentSize);
+        }
+        this.directory = directory;
+        this.segmentSize = (int) segmentSize.toBytes();
+        open();
+        this.flusher = Thread.ofPlatform().name("journal-flusher").daemon().start(this::flushLoop);
+    }
+
+    private void open() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> listing = Files.list(directory)) {
+                listing.filter(JournalSegment::isPrepared).toList().forEach(JournalSegment::recoverPrepared);
+            }
+            List<Path> files = segmentFiles();
+            long first = files.isEmpty() ? checkpoint() + 1
+                : JournalSegment.firstSequenceOf(files.get(files.size() - 1)).orElseThrow();
+            active = JournalSegment.openForAppend(directory, first, segmentSize);
+            segments.add(active);
+            syncedPosition = active.position();
+            lastSequence = active.lastSequence();
+            log.info("Journal aberto em {}: {} segmento(s), última sequência {}",
+                directory, files.isEmpty() ? 1 : files.size(), lastSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao abrir journal em " + directory, e);
+        }
+    }
+
+    /**
+     * Registra a transferência no journal.
+     *
+     * @param transfer transferência a registrar
+     * @return future completado com a sequência do registro quando ele estiver em disco
+     */
+    public CompletableFuture<Long> append(Transfer transfer) {
+        CompletableFuture<Long> durable = new CompletableFuture<>();
+        synchronized (lock) {
+            if (closed) {
+                throw new IllegalStateException("Journal fechado");
+            }
+            if (!active.hasRoomForRecord()) {
+                roll();
+            }
+            long sequence = lastSequence + 1;
+            active.append(new JournalRecord(sequence, transfer));
+            lastSequence = sequence;
+            pending.add(new PendingSync(sequence, durable));
+            lock.notifyAll();
+        }
+        return durable;
+    }
+
+    /**
+     * Troca o segmento cheio pelo pré-alocado. Executado com o lock: o
+     * restante do segmento cheio fica para a thread de flush.
+     */
+    private void roll() {
+        sealed.add(new SyncRange(active, syncedPosition, active.position()));
+        awaitPrepared();
+        JournalSegment prepared = next;
+        next = null;
+        if (prepared != null && prepared.firstSequence() == lastSequence + 1) {
+            prepared.activate();
+            active = prepared;
+        } else {
+            // Pré-alocação indisponível: abre o segmento na própria thread
+            if (prepared != null) {
+                prepared.delete();
+            }
+            active = JournalSegment.openForAppend(directory, lastSequence + 1, segmentSize);
+        }
+        segments.add(active);
+        syncedPosition = 0;
+    }
+
+    /**
+     * Aguarda a pré-alocação em andamento, se houver. Executado com o lock.
+     */
+    private void awaitPrepared() {
+        while (next == null && preparing) {
+            try {
+                lock.wait();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private boolean needsPrepared() {
+        return next == null && !preparing && !closed && preparedSequence != active.nextSegmentSequence();
+    }
+
+    private void flushLoop() {
+        while (true) {
+            List<PendingSync> batch;
+            List<SyncRange> ranges;
+            long prepare = 0;
+            synchronized (lock) {
+                while (pending.isEmpty() && !closed && !needsPrepared()) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+                if (pending.isEmpty() && closed) {
+                    return;
+                }
+                if (needsPrepared()) {
+                    preparing = true;
+                    prepare = active.nextSegmentSequence();
+                    preparedSequence = prepare;
+                }
+                batch = pending;
+                pending = new ArrayList<>();
+                ranges = sealed;
+                sealed = new ArrayList<>();
+                ranges.add(new SyncRange(active, syncedPosition, active.position()));
+                syncedPosition = active.position();
+            }
+            if (!batch.isEmpty()) {
+                sync(batch, ranges);
+            }
+            if (prepare > 0) {
+                prepare(prepare);
+            }
+        }
+    }
+
+    private void sync(List<PendingSync> batch, List<SyncRange> ranges) {
+        try {
+            ranges.forEach(range -> range.segment().force(range.from(), range.to()));
+            syncCount.incrementAndGet();
+            batch.forEach(sync -> sync.future().complete(sync.sequence()));
+        } catch (RuntimeException e) {
+            log.error("Falha ao persistir journal: {}", e.getMessage());
+            batch.forEach(sync -> sync.future().completeExceptionally(e));
+        }
+    }
+
+    /**
+     * Pré-aloca o próximo segmento fora do lock. Em caso de falha o rollover
+     * abre o segmento por conta própria.
+     */
+    private void prepare(long firstSequence) {
+        JournalSegment prepared = null;
+        try {
+            prepared = JournalSegment.preallocate(directory, firstSequence, segmentSize);
+        } catch (RuntimeException e) {
+            log.warn("Falha ao pré-alocar segmento do journal: {}", e.getMessage());
+        }
+        synchronized (lock) {
+            preparing = false;
+            if (closed && prepared != null) {
+                prepared.delete();
+            } else {
+                next = prepared;
+            }
+            lock.notifyAll();
+        }
+    }
+
+    /**
+     * Lê os registros posteriores à sequência informada, em ordem.
+     *
+     * Deve ser chamado antes de novos appends (na recuperação).
+     *
+     * @param afterSequence última sequência já aplicada
+     * @param consumer destino dos registros
+     * @return última sequência lida
+     */
+    public long replay(long afterSequence, Consumer<JournalRecord> consumer) {
+        long last = afterSequence;
+        List<Path> files = segmentFiles();
+        for (int i = 0; i < files.size(); i++) {
+            boolean hasLaterSegment = i + 1 < files.size();
+            if (hasLaterSegment
+                    && JournalSegment.firstSequenceOf(files.get(i + 1)).orElseThrow() <= afterSequence + 1) {
+                continue;
+            }
+            long[] lastRead = {last};
+            JournalSegment.read(files.get(i), record -> {
+                if (record.sequence() > afterSequence) {
+                    consumer.accept(record);
+                    lastRead[0] = record.sequence();
+                }
+            });
+            last = lastRead[0];
+        }
+        return last;
+    }
+
+    /**
+     * Última sequência aplicada no banco.
+     */
+    public long checkpoint() {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return 0L;
+        }
+        try {
+            return ByteBuffer.wrap(Files.readAllBytes(file)).getLong();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler checkpoint do journal", e);
+        }
+    }
+
+    /**
+     * Registra que os registros até a sequência já foram aplicados no banco
+     * e remove os segmentos inteiramente cobertos pelo checkpoint.
+     *
+     * @param sequence última sequência aplicada
+     */
+    public void checkpoint(long sequence) {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        Path temporary = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        try {
+            Files.write(temporary, ByteBuffer.allocate(Long.BYTES).putLong(sequence).array(),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+            Files.move(temporary, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar checkpoint do journal", e);
+        }
+        compact(sequence);
+    }
+
+    private void compact(long checkpoint) {
+        List<Path> files = segmentFiles();
+        synchronized (lock) {
+            for (int i = 0; i + 1 < files.size(); i++) {
+                Path path = files.get(i);
+                if (JournalSegment.firstSequenceOf(files.get(i + 1)).orElseThrow() > checkpoint + 1) {
+                    continue;
+                }
+                JournalSegment open = segments.stream()
+                    .filter(segment -> segment.path().equals(path))
+                    .findFirst()
+                    .orElse(null);
+                if (open != null) {
+                    segments.remove(open);
+                    open.delete();
+                } else {
+                    deleteFile(path);
+                }
+                log.debug("Segmento {} removido pelo checkpoint {}", path.getFileName(), checkpoint);
+            }
+        }
+    }
+
+    private static void deleteFile(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover segmento " + path, e);
+        }
+    }
+
+    private List<Path> segmentFiles() {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files
+                .filter(path -> JournalSegment.firstSequenceOf(path).isPresent())
+                .sorted((a, b) -> Long.compare(
+                    JournalSegment.firstSequenceOf(a).orElseThrow(), JournalSegment.firstSequenceOf(b).orElseThrow()))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao listar segmentos em " + directory, e);
+        }
+    }
+
+    public long lastSequence() {
+        synchronized (lock) {
+            return lastSequence;
+        }
+    }
+
+    /**
+     * Número de force() executados pelo group commit.
+     */
+    long syncCount() {
+        return syncCount.get();
+    }
+
+    @Override
+    @PreDestroy
+    public void close() {
+        synchronized (lock) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            lock.notifyAll();
+        }
+        try {
+            flusher.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (lock) {
+            sealed.forEach(range -> range.segment().force(range.from(), range.to()));
+            active.force(syncedPosition, active.position());
+            segments.forEach(JournalSegment::close);
+            if (next != null) {
+                next.delete();
+            }
+        }
+    }
+
+    private record PendingSync(long sequence, CompletableFuture<Long> future) {
+    }
+
+    /**
+     * Intervalo [from, to) de um segmento ainda não persistido.
+     */
+    private record SyncRange(JournalSegment segment, int from, int to) {
+    }
+}
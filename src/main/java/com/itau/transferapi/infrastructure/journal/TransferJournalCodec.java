@@ -0,0 +1,92 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import com.itau.transferapi.infrastructure.codec.DomainBinaryCodec;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+/**
+ * Codificação binária de tamanho fixo de uma transferência no journal.
+ *
+ * Layout (big-endian, 74 bytes):
+ * <pre>
+ * tipo(1) sequência(8) id(16) origem(16) destino(16) valor em centavos(8)
+ * createdAt em microssegundos(8) status(1)
+ * </pre>
+ * Registro de tamanho fixo, para que o segmento possa ser pré-alocado; usa as
+ * mesmas convenções de {@link DomainBinaryCodec}. Motivo de falha e dados do BACEN não
+ * são registrados: o journal guarda apenas o efeito da transferência nos saldos.
+ */
+final class TransferJournalCodec {
+
+    static final byte TYPE_TRANSFER = 1;
+    static final int PAYLOAD_SIZE = 1 + Long.BYTES + 3 * 2 * Long.BYTES + Long.BYTES + Long.BYTES + 1;
+
+    private static final TransferStatus[] STATUSES = TransferStatus.values();
+
+    private TransferJournalCodec() {
+    }
+
+    static void encode(long sequence, Transfer transfer, ByteBuffer buffer, int offset) {
+        int position = offset;
+        buffer.put(position, TYPE_TRANSFER);
+        position += 1;
+        buffer.putLong(position, sequence);
+        position += Long.BYTES;
+        position = putUuid(buffer, position, transfer.getId().value());
+        position = putUuid(buffer, position, transfer.getSourceAccountId().value());
+        position = putUuid(buffer, position, transfer.getTargetAccountId().value());
+        buffer.putLong(position, transfer.getAmount().toMinorUnits());
+        position += Long.BYTES;
+        buffer.putLong(position, DomainBinaryCodec.toEpochMicros(transfer.getCreatedAt()));
+        position += Long.BYTES;
+        buffer.put(position, (byte) transfer.getStatus().ordinal());
+    }
+
+    /**
+     * @throws IllegalArgumentException se o registro não for uma transferência
+     */
+    static JournalRecord decode(ByteBuffer buffer, int offset) {
+        int position = offset;
+        if (buffer.get(position) != TYPE_TRANSFER) {
+            throw new IllegalArgumentException("Tipo de registro desconhecido: " + buffer.get(position));
+        }
+        position += 1;
+        long sequence = buffer.getLong(position);
+        position += Long.BYTES;
+        UUID id = getUuid(buffer, position);
+        UUID source = getUuid(buffer, position + 16);
+        UUID target = getUuid(buffer, position + 32);
+        position += 48;
+        long cents = buffer.getLong(position);
+        position += Long.BYTES;
+        long createdAtMicros = buffer.getLong(position);
+        position += Long.BYTES;
+        TransferStatus status = STATUSES[buffer.get(position)];
+
+        Transfer transfer = Transfer.builder()
+            .id(TransferId.of(id))
+            .sourceAccountId(AccountId.of(source))
+            .targetAccountId(AccountId.of(target))
+            .amount(Money.ofMinorUnits(cents))
+            .status(status)
+            .createdAt(DomainBinaryCodec.fromEpochMicros(createdAtMicros))
+            .build();
+        return new JournalRecord(sequence, transfer);
+    }
+
+    private static int putUuid(ByteBuffer buffer, int position, UUID value) {
+        buffer.putLong(position, value.getMostSignificantBits());
+        buffer.putLong(position + Long.BYTES, value.getLeastSignificantBits());
+        return position + 2 * Long.BYTES;
+    }
+
+    private static UUID getUuid(ByteBuffer buffer, int position) {
+        return new UUID(buffer.getLong(position), buffer.getLong(position + Long.BYTES));
+    }
+}
@@ -0,0 +1,289 @@
+package com.itau.transferapi.infrastructure.limit;
+
+import com.itau.transferapi.infrastructure.offheap.AccountSlotTable;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Acumulador em memória do limite diário utilizado por conta.
+ *
+ * Cada conta recebe um slot em uma {@link AccountSlotTable}; o valor usado
+ * no dia e o limite da conta no dia ficam em centavos em dois
+ * {@link AtomicLongArray} indexados pelo slot, sem objetos por conta. Um bitmap de slots alterados alimenta a gravação
+ * assíncrona (write-behind).
+ *
+ * O dia corrente é um {@link DayState} trocado por CAS na virada da
+ * meia-noite do fuso configurado: quem chega primeiro instala o estado
+ * zerado do novo dia e o anterior fica retido até ser gravado. O dia retido
+ * só é descartado depois de fechado (sem escritas em andamento, recusando
+ * as seguintes) e drenado de novo, para nenhuma escrita tardia se perder.
+ */
+public final class DailyLimitTracker {
+
+    /** Retorno de {@link #limitCents} para limite ainda não carregado. */
+    public static final long UNKNOWN_LIMIT = -1L;
+
+    private final AccountSlotTable slots;
+    private final ZoneId zone;
+    private final Clock clock;
+    private final AtomicReference<DayState> current;
+    private final AtomicReference<DayState> retired = new AtomicReference<>();
+
+    public DailyLimitTracker(int expectedAccounts, ZoneId zone, Clock clock) {
+        this.slots = new AccountSlotTable(expectedAccounts);
+        this.zone = zone;
+        this.clock = clock;
+        this.current = new AtomicReference<>(newDay(LocalDate.now(clock.withZone(zone))));
+    }
+
+    /**
+     * Dia corrente no fuso do acumulador.
+     */
+    public LocalDate today() {
+        return state().day;
+    }
+
+    /**
+     * Indica se a conta tem (ou ainda pode receber) um slot.
+     */
+    public boolean canTrack(UUID accountId) {
+        return slots.find(accountId) >= 0 || !slots.isFull();
+    }
+
+    /**
+     * Valor usado hoje pela conta, em centavos.
+     */
+    public long usedCents(UUID accountId) {
+        int slot = slots.find(accountId);
+        return slot < 0 ? 0L : state().used.get(slot);
+    }
+
+    /**
+     * Limite da conta no dia, em centavos.
+     *
+     * @return {@link #UNKNOWN_LIMIT} se ainda não foi carregado ou o dia não
+     *         estiver mais em memória
+     */
+    public long limitCents(UUID accountId, LocalDate date) {
+        int slot = slots.find(accountId);
+        DayState day = dayFor(date);
+        // Guardado com +1: zero no array indica limite não carregado
+        return slot < 0 || day == null ? UNKNOWN_LIMIT : day.limits.get(slot) - 1;
+    }
+
+    /**
+     * Define o limite da conta no dia, lido do banco.
+     * Ignorado se o dia não estiver mais em memória.
+     *
+     * @throws IllegalStateException se a conta não puder ser rastreada
+     */
+    public void setLimit(UUID accountId, LocalDate date, long limitCents) {
+        int slot = slots.slotFor(accountId);
+        DayState day = dayFor(date);
+        if (day != null) {
+            day.limits.set(slot, limitCents + 1);
+        }
+    }
+
+    /**
+     * Soma (ou estorna, se negativo) um valor ao uso da conta no dia.
+     *
+     * @param date dia do uso; aceito se for o corrente ou o retido ainda aberto
+     * @return false se o dia não estiver mais em memória
+     * @throws IllegalStateException se a conta não puder ser rastreada
+     */
+    public boolean add(UUID accountId, LocalDate date, long deltaCents) {
+        int slot = slots.slotFor(accountId);
+        DayState day = dayFor(date);
+        if (day == null || !day.enter()) {
+            return false;
+        }
+        try {
+            day.used.addAndGet(slot, deltaCents);
+            day.markDirty(slot);
+        } finally {
+            day.exit();
+        }
+        return true;
+    }
+
+    /**
+     * Define o uso de uma conta em um dia, na reconstrução após restart.
+     * Ignorado se o dia não for o corrente.
+     */
+    public void restore(LocalDate date, UUID accountId, long usedCents) {
+        DayState day = state();
+        if (!day.day.equals(date)) {
+            return;
+        }
+        int slot = slots.slotFor(accountId);
+        day.used.set(slot, usedCents);
+        day.markDirty(slot);
+    }
+
+    /**
+     * Retira os valores alterados desde a última chamada, do dia retido
+     * (se houver) e do corrente.
+     *
+     * O dia retido é descartado quando uma drenagem não encontra alterações,
+     * consegue fechá-lo (nenhum add em andamento) e a nova drenagem, já sem
+     * escritas possíveis, também vem vazia. Valores que chegaram entre a
+     * primeira drenagem e o fechamento vão nesta chamada, e o dia continua
+     * retido (fechado) para um eventual requeue.
+     */
+    public List<DailyUsage> drainDirty() {
+        List<DailyUsage> usages = new ArrayList<>();
+        DayState previous = retired.get();
+        if (previous != null && previous.drainInto(slots, usages) == 0 && previous.close()
+                && previous.drainInto(slots, usages) == 0) {
+            retired.compareAndSet(previous, null);
+        }
+        state().drainInto(slots, usages);
+        return usages;
+    }
+
+    /**
+     * Devolve valores não gravados para a próxima drenagem.
+     */
+    public void requeue(List<DailyUsage> usages) {
+        for (DailyUsage usage : usages) {
+            int slot = slots.find(usage.accountId());
+            DayState day = dayOf(usage.date());
+            if (slot >= 0 && day != null) {
+                day.markDirty(slot);
+            }
+        }
+    }
+
+    public int trackedAccounts() {
+        return slots.size();
+    }
+
+    /**
+     * Estado do dia, aplicando antes a virada se houver.
+     */
+    private DayState dayFor(LocalDate date) {
+        DayState day = state();
+        return day.day.equals(date) ? day : dayOf(date);
+    }
+
+    private DayState dayOf(LocalDate date) {
+        DayState day = current.get();
+        if (day.day.equals(date)) {
+            return day;
+        }
+        DayState previous = retired.get();
+        return previous != null && previous.day.equals(date) ? previous : null;
+    }
+
+    private DayState state() {
+        DayState day = current.get();
+        if (clock.millis() < day.rolloverAtMillis) {
+            return day;
+        }
+        DayState next = newDay(LocalDate.now(clock.withZone(zone)));
+        if (next.day.isAfter(day.day) && current.compareAndSet(day, next)) {
+            retired.set(day);
+            return next;
+        }
+        return current.get();
+    }
+
+    private DayState newDay(LocalDate date) {
+        long rolloverAt = date.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        return new DayState(date, rolloverAt, slots.capacity());
+    }
+
+    /**
+     * Uso diário de uma conta, para gravação.
+     */
+    public record DailyUsage(LocalDate date, UUID accountId, long usedCents) {
+    }
+
+    /**
+     * Valores de um dia: uso e limite por slot, bitmap de slots alterados e
+     * escritas em andamento (negativo quando fechado).
+     */
+    static final class DayState {
+
+        private static final int CLOSED = -1;
+
+        final LocalDate day;
+        final long rolloverAtMillis;
+        final AtomicLongArray used;
+        final AtomicLongArray limits;
+        final AtomicLongArray dirty;
+        private final AtomicInteger writers = new AtomicInteger();
+
+        DayState(LocalDate day, long rolloverAtMillis, int capacity) {
+            this.day = day;
+            this.rolloverAtMillis = rolloverAtMillis;
+            this.used = new AtomicLongArray(capacity);
+            this.limits = new AtomicLongArray(capacity);
+            this.dirty = new AtomicLongArray((capacity + Long.SIZE - 1) / Long.SIZE);
+        }
+
+        /**
+         * Registra uma escrita em andamento.
+         *
+         * @return false se o dia já foi fechado
+         */
+        boolean enter() {
+            int current;
+            do {
+                current = writers.get();
+                if (current == CLOSED) {
+                    return false;
+                }
+            } while (!writers.compareAndSet(current, current + 1));
+            return true;
+        }
+
+        void exit() {
+            writers.decrementAndGet();
+        }
+
+        /**
+         * Fecha o dia para novas escritas.
+         *
+         * @return false se há escritas em andamento; true se fechou (ou já estava fechado)
+         */
+        boolean close() {
+            return writers.compareAndSet(0, CLOSED) || writers.get() == CLOSED;
+        }
+
+        void markDirty(int slot) {
+            int word = slot >>> 6;
+            long bit = 1L << slot;
+            long bits;
+            do {
+                bits = dirty.get(word);
+            } while ((bits & bit) == 0 && !dirty.compareAndSet(word, bits, bits | bit));
+        }
+
+        int drainInto(AccountSlotTable slots, List<DailyUsage> usages) {
+            int drained = 0;
+            for (int word = 0; word < dirty.length(); word++) {
+                if (dirty.get(word) == 0) {
+                    continue;
+                }
+                long bits = dirty.getAndSet(word, 0);
+                while (bits != 0) {
+                    int slot = (word << 6) + Long.numberOfTrailingZeros(bits);
+                    usages.add(new DailyUsage(day, slots.keyAt(slot), used.get(slot)));
+                    bits &= bits - 1;
+                    drained++;
+                }
+            }
+            return drained;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.itau.transferapi.infrastructure.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Limite adaptativo de requisições simultâneas por gradiente de latência
+ * (no estilo do Gradient2 do Netflix concurrency-limits).
+ *
+ * Duas médias móveis exponenciais da latência:
+ * - curta: latência recente
+ * - longa: referência "sem fila"
+ *
+ * gradiente = clamp(tolerância * longa / curta, 0.5, 1.0)
+ * novo limite = limite * gradiente + fila (raiz do limite)
+ *
+ * Enquanto a latência recente não passa da tolerância, o limite cresce pela
+ * fila; quando o banco ou o pool começam a enfileirar, a latência curta
+ * sobe e o limite cai antes de as requisições esperarem connection-timeout.
+ * Amostras descartadas (falhas 5xx, pool esgotado) reduzem o limite
+ * diretamente. Com menos da metade do limite em uso, a aplicação não está
+ * limitada pela concorrência e o limite não muda.
+ *
+ * tryAcquire/release não bloqueiam; apenas a atualização do limite
+ * (uma por requisição concluída) é sincronizada.
+ */
+public final class GradientConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    private static final double MAX_GRADIENT = 1.0;
+    private static final double DROP_BACKOFF = 0.9;
+    private static final int SHORT_WINDOW = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private volatile int limit;
+
+    private final ExponentialAverage shortRtt = new ExponentialAverage(SHORT_WINDOW);
+    private final ExponentialAverage longRtt;
+    private double estimatedLimit;
+
+    /**
+     * @param initialLimit limite inicial
+     * @param minLimit limite mínimo (nunca rejeita abaixo disso)
+     * @param maxLimit limite máximo (ex.: threads do Tomcat)
+     * @param rttTolerance quanto a latência recente pode exceder a longa sem reduzir o limite
+     * @param smoothing peso do novo limite calculado (0 a 1)
+     * @param longWindow janela, em amostras, da média longa
+     */
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit,
+                                    double rttTolerance, double smoothing, int longWindow) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limites inválidos: inicial=" + initialLimit
+                + ", mínimo=" + minLimit + ", máximo=" + maxLimit);
+        }
+        if (rttTolerance < 1.0 || smoothing <= 0 || smoothing > 1.0 || longWindow <= SHORT_WINDOW) {
+            throw new IllegalArgumentException("Parâmetros inválidos: tolerância=" + rttTolerance
+                + ", suavização=" + smoothing + ", janela longa=" + longWindow);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.longRtt = new ExponentialAverage(longWindow);
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Reserva uma vaga.
+     *
+     * @return false se o limite foi atingido; nesse caso nada precisa ser liberado
+     */
+    public boolean tryAcquire() {
+        int current = inflight.incrementAndGet();
+        if (current > limit) {
+            inflight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Libera a vaga e atualiza o limite com a latência da requisição.
+     *
+     * @param rttNanos latência da requisição
+     * @param dropped true se a requisição falhou por sobrecarga (não é uma amostra de latência válida)
+     */
+    public void release(long rttNanos, boolean dropped) {
+        int inflightAtCompletion = inflight.getAndDecrement();
+        onSample(rttNanos, inflightAtCompletion, dropped);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtCompletion, boolean dropped) {
+        if (dropped) {
+            update(estimatedLimit * DROP_BACKOFF);
+            return;
+        }
+
+        double sample = Math.max(rttNanos, 1);
+        double shortAverage = shortRtt.add(sample);
+        double longAverage = longRtt.add(sample);
+
+        // Latência longa muito acima da recente (ex.: após um pico): converge mais rápido
+        if (longAverage / shortAverage > 2.0) {
+            longRtt.scale(0.95);
+        }
+
+        // Aplicação não limitada pela concorrência: a amostra não diz nada sobre o limite
+        if (inflightAtCompletion < estimatedLimit / 2) {
+            return;
+        }
+
+        double gradient = Math.max(MIN_GRADIENT, Math.min(MAX_GRADIENT, rttTolerance * longAverage / shortAverage));
+        double queueSize = Math.sqrt(estimatedLimit);
+        double newLimit = estimatedLimit * gradient + queueSize;
+        update(estimatedLimit * (1 - smoothing) + newLimit * smoothing);
+    }
+
+    private void update(double newLimit) {
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+        limit = (int) estimatedLimit;
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    /**
+     * Média móvel exponencial com aquecimento: nas primeiras amostras usa a
+     * média simples, para não partir de zero.
+     */
+    private static final class ExponentialAverage {
+
+        private final int window;
+        private final double factor;
+        private int count;
+        private double value;
+
+        ExponentialAverage(int window) {
+            this.window = window;
+            this.factor = 2.0 / (window + 1);
+        }
+
+        double add(double sample) {
+            if (count < window) {
+                count++;
+                value += (sample - value) / count;
+            } else {
+                value += (sample - value) * factor;
+            }
+            return value;
+        }
+
+        void scale(double ratio) {
+            value *= ratio;
+        }
+    }
+}
@@ -1,14 +1,19 @@
 package com.itau.transferapi.infrastructure.mock;
 
+import com.itau.transferapi.infrastructure.config.BulkDataSeeder;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Mock da API de Cadastro para desenvolvimento e testes.
@@ -16,18 +21,37 @@ import java.util.concurrent.ConcurrentHashMap;
  * Este controller simula a API externa de Cadastro,
  * permitindo testes locais sem dependência de serviços externos.
  * 
+ * Injeção de falhas (para testar retry budget e hedging):
+ * - Latência base com jitter
+ * - Fração de requisições lentas (cauda de latência)
+ * - Fração de requisições com HTTP 503
+ * 
+ * Configurável via propriedades mock.cadastro.* e alterável em tempo de
+ * execução pelo endpoint /mock/cadastro/fault-injection.
+ * 
+ * Clientes gerados pelo seeding em massa (BulkDataSeeder) são sintetizados
+ * como ativos, sem ocupar memória no mock.
+ * 
  * Ativo apenas nos perfis: local, test
  */
 @Slf4j
 @RestController
-@RequestMapping("/mock/cadastro/api/v1/clients")
+@RequestMapping("/mock/cadastro")
 @Profile({"local", "test"})
 @Hidden
 public class MockCadastroController {
     
     private final Map<UUID, ClientData> clients = new ConcurrentHashMap<>();
+    private final AtomicReference<FaultProfile> faultProfile;
     
-    public MockCadastroController() {
+    public MockCadastroController(
+            @Value("${mock.cadastro.latency-ms:0}") long latencyMs,
+            @Value("${mock.cadastro.latency-jitter-ms:0}") long latencyJitterMs,
+            @Value("${mock.cadastro.slow-rate:0.0}") double slowRate,
+            @Value("${mock.cadastro.slow-latency-ms:1500}") long slowLatencyMs,
+            @Value("${mock.cadastro.failure-rate:0.0}") double failureRate) {
+        this.faultProfile = new AtomicReference<>(
+            new FaultProfile(latencyMs, latencyJitterMs, slowRate, slowLatencyMs, failureRate));
         // Inicializa com alguns clientes de teste
         initializeTestData();
     }
@@ -42,11 +66,18 @@ public class MockCadastroController {
         clients.put(client3, new ClientData(client3, "Carlos Oliveira", "11122233344", false));
     }
     
-    @GetMapping("/{clientId}")
+    @GetMapping("/api/v1/clients/{clientId}")
     public ResponseEntity<ClientData> getClient(@PathVariable UUID clientId) {
         log.debug("[MOCK CADASTRO] Buscando cliente: {}", clientId);
         
+        if (injectFault()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        
         ClientData client = clients.get(clientId);
+        if (client == null && BulkDataSeeder.isSeededClient(clientId)) {
+            client = seededClient(clientId);
+        }
         if (client == null) {
             log.debug("[MOCK CADASTRO] Cliente não encontrado: {}", clientId);
             return ResponseEntity.notFound().build();
@@ -56,10 +87,19 @@ public class MockCadastroController {
         return ResponseEntity.ok(client);
     }
     
-    @GetMapping("/document/{documentNumber}")
+    private static ClientData seededClient(UUID clientId) {
+        long index = clientId.getLeastSignificantBits();
+        return new ClientData(clientId, "Cliente Semeado " + index, String.format("%011d", index), true);
+    }
+    
+    @GetMapping("/api/v1/clients/document/{documentNumber}")
     public ResponseEntity<ClientData> getClientByDocument(@PathVariable String documentNumber) {
         log.debug("[MOCK CADASTRO] Buscando cliente por documento: {}", documentNumber);
         
+        if (injectFault()) {
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        
         return clients.values().stream()
             .filter(c -> c.documentNumber().equals(documentNumber))
             .findFirst()
@@ -67,13 +107,73 @@ public class MockCadastroController {
             .orElse(ResponseEntity.notFound().build());
     }
     
-    @PostMapping
+    @PostMapping("/api/v1/clients")
     public ResponseEntity<ClientData> createClient(@RequestBody ClientData client) {
         log.debug("[MOCK CADASTRO] Criando cliente: {}", client.name());
         clients.put(client.id(), client);
         return ResponseEntity.ok(client);
     }
     
+    @GetMapping("/fault-injection")
+    public ResponseEntity<FaultProfile> getFaultProfile() {
+        return ResponseEntity.ok(faultProfile.get());
+    }
+    
+    @PutMapping("/fault-injection")
+    public ResponseEntity<FaultProfile> updateFaultProfile(@RequestBody FaultProfile profile) {
+        log.info("[MOCK CADASTRO] Perfil de falhas atualizado: {}", profile);
+        faultProfile.set(profile);
+        return ResponseEntity.ok(profile);
+    }
+    
+    /**
+     * Aplica a latência configurada e sorteia se a requisição deve falhar.
+     * 
+     * @return true se a requisição deve responder HTTP 503
+     */
+    private boolean injectFault() {
+        FaultProfile profile = faultProfile.get();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        
+        long delay = profile.latencyMs();
+        if (profile.latencyJitterMs() > 0) {
+            delay += random.nextLong(profile.latencyJitterMs() + 1);
+        }
+        if (random.nextDouble() < profile.slowRate()) {
+            delay += profile.slowLatencyMs();
+        }
+        if (delay > 0) {
+            try {
+                Thread.sleep(delay);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        
+        if (random.nextDouble() < profile.failureRate()) {
+            log.debug("[MOCK CADASTRO] Falha injetada após {}ms", delay);
+            return true;
+        }
+        return false;
+    }
+    
+    /**
+     * Perfil de injeção de falhas.
+     * 
+     * @param latencyMs latência base de cada requisição
+     * @param latencyJitterMs jitter uniforme somado à latência base
+     * @param slowRate fração de requisições lentas (0.0 a 1.0)
+     * @param slowLatencyMs latência extra das requisições lentas
+     * @param failureRate fração de requisições com HTTP 503 (0.0 a 1.0)
+     */
+    public record FaultProfile(
+        long latencyMs,
+        long latencyJitterMs,
+        double slowRate,
+        long slowLatencyMs,
+        double failureRate
+    ) {}
+    
     public record ClientData(
         UUID id,
         String name,
@@ -0,0 +1,258 @@
+package com.itau.transferapi.infrastructure.offheap;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Tabela de estado de contas fora do heap, com slots de largura fixa.
+ *
+ * Hash de endereçamento aberto (sondagem linear) das duas metades do UUID
+ * para um slot de 64 bytes em um buffer direto:
+ * <pre>
+ * estado(8) uuid msb(8) uuid lsb(8) versão(8)
+ * saldo em centavos(8) limite em centavos(8) updatedAt em micros(8) status(8)
+ * </pre>
+ * - slots são reservados por CAS no estado (vazio, reservando, ocupado) e
+ *   nunca removidos: contas não são excluídas
+ * - a versão funciona como seqlock: ímpar durante uma escrita; leituras não
+ *   bloqueiam e repetem se a versão mudar durante a cópia dos campos
+ * - escritas são CAS sobre a versão esperada, o que permite descartar a
+ *   carga de um valor que foi invalidado enquanto era lido do banco
+ * - status {@link #STATUS_UNLOADED} marca um slot sem valor carregado
+ *
+ * Como a quantidade de slots é potência de dois e o buffer é endereçado por
+ * int, a tabela chega a no máximo 2^24 slots (1 GB, cerca de 16,7 milhões
+ * de slots, ou cerca de 12,6 milhões de contas com o fator de carga máximo).
+ */
+public final class AccountSlotTable {
+
+    public static final int SLOT_SIZE = 64;
+    public static final long STATUS_UNLOADED = -1L;
+
+    /** Fração máxima de slots ocupados; acima dela a sondagem degrada. */
+    private static final double MAX_LOAD_FACTOR = 0.75;
+
+    private static final int STATE = 0;
+    private static final int KEY_HIGH = 8;
+    private static final int KEY_LOW = 16;
+    private static final int VERSION = 24;
+    private static final int BALANCE = 32;
+    private static final int LIMIT = 40;
+    private static final int UPDATED_AT = 48;
+    private static final int STATUS = 56;
+
+    private static final long EMPTY = 0L;
+    private static final long CLAIMING = 1L;
+    private static final long OCCUPIED = 2L;
+
+    private static final VarHandle LONG =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final int mask;
+    private final int maxEntries;
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * @param expectedEntries quantidade de contas prevista
+     */
+    public AccountSlotTable(int expectedEntries) {
+        if (expectedEntries <= 0) {
+            throw new IllegalArgumentException("Quantidade de contas deve ser positiva: " + expectedEntries);
+        }
+        long slots = Long.highestOneBit((long) Math.ceil(expectedEntries / MAX_LOAD_FACTOR) * 2 - 1);
+        if (slots * SLOT_SIZE > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Quantidade de contas excede a tabela fora do heap: " + expectedEntries);
+        }
+        this.buffer = ByteBuffer.allocateDirect((int) (slots * SLOT_SIZE) + SLOT_SIZE)
+            .alignedSlice(SLOT_SIZE)
+            .order(ByteOrder.nativeOrder());
+        this.mask = (int) slots - 1;
+        this.maxEntries = (int) (slots * MAX_LOAD_FACTOR);
+    }
+
+    /**
+     * Slot da conta, reservando um novo (sem valor carregado) se ausente.
+     *
+     * Quem insere deve consultar {@link #isFull()} antes.
+     *
+     * @throws IllegalStateException se não houver slot livre
+     */
+    public int slotFor(UUID accountId) {
+        long high = accountId.getMostSignificantBits();
+        long low = accountId.getLeastSignificantBits();
+        for (int slot = indexFor(high, low), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int base = slot * SLOT_SIZE;
+            long state = (long) LONG.getAcquire(buffer, base + STATE);
+            if (state == EMPTY) {
+                if (LONG.compareAndSet(buffer, base + STATE, EMPTY, CLAIMING)) {
+                    LONG.set(buffer, base + KEY_HIGH, high);
+                    LONG.set(buffer, base + KEY_LOW, low);
+                    LONG.set(buffer, base + STATUS, STATUS_UNLOADED);
+                    LONG.setRelease(buffer, base + STATE, OCCUPIED);
+                    size.incrementAndGet();
+                    return slot;
+                }
+                awaitOccupied(base);
+            } else if (state == CLAIMING) {
+                awaitOccupied(base);
+            }
+            if (matches(base, high, low)) {
+                return slot;
+            }
+        }
+        throw new IllegalStateException("Tabela de contas fora do heap cheia: " + size.get());
+    }
+
+    /**
+     * Slot da conta, ou -1 se ausente.
+     */
+    public int find(UUID accountId) {
+        long high = accountId.getMostSignificantBits();
+        long low = accountId.getLeastSignificantBits();
+        for (int slot = indexFor(high, low), probes = 0; probes <= mask; slot = (slot + 1) & mask, probes++) {
+            int base = slot * SLOT_SIZE;
+            long state = (long) LONG.getAcquire(buffer, base + STATE);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == CLAIMING) {
+                awaitOccupied(base);
+            }
+            if (matches(base, high, low)) {
+                return slot;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * ID da conta de um slot ocupado.
+     */
+    public UUID keyAt(int slot) {
+        int base = slot * SLOT_SIZE;
+        if ((long) LONG.getAcquire(buffer, base + STATE) != OCCUPIED) {
+            throw new IllegalArgumentException("Slot não ocupado: " + slot);
+        }
+        return new UUID((long) LONG.get(buffer, base + KEY_HIGH), (long) LONG.get(buffer, base + KEY_LOW));
+    }
+
+    /**
+     * Cópia consistente do slot, sem bloqueio.
+     */
+    public AccountSlot read(int slot) {
+        int base = slot * SLOT_SIZE;
+        while (true) {
+            long version = (long) LONG.getAcquire(buffer, base + VERSION);
+            if ((version & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+            long balance = (long) LONG.getOpaque(buffer, base + BALANCE);
+            long limit = (long) LONG.getOpaque(buffer, base + LIMIT);
+            long updatedAt = (long) LONG.getOpaque(buffer, base + UPDATED_AT);
+            long status = (long) LONG.getOpaque(buffer, base + STATUS);
+            VarHandle.loadLoadFence();
+            if ((long) LONG.getOpaque(buffer, base + VERSION) == version) {
+                return new AccountSlot(version, balance, limit, (byte) status, updatedAt);
+            }
+        }
+    }
+
+    /**
+     * Grava o estado se a versão do slot ainda for a esperada.
+     *
+     * @param expectedVersion versão lida em {@link #read(int)}
+     * @return false se outra escrita ou invalidação ocorreu desde a leitura
+     */
+    public boolean compareAndSet(int slot, long expectedVersion,
+                                 long balanceCents, long limitCents, byte status, long updatedAtMicros) {
+        int base = slot * SLOT_SIZE;
+        if ((expectedVersion & 1) != 0
+                || !LONG.compareAndSet(buffer, base + VERSION, expectedVersion, expectedVersion + 1)) {
+            return false;
+        }
+        LONG.setOpaque(buffer, base + BALANCE, balanceCents);
+        LONG.setOpaque(buffer, base + LIMIT, limitCents);
+        LONG.setOpaque(buffer, base + UPDATED_AT, updatedAtMicros);
+        LONG.setOpaque(buffer, base + STATUS, (long) status);
+        LONG.setRelease(buffer, base + VERSION, expectedVersion + 2);
+        return true;
+    }
+
+    /**
+     * Descarta o valor do slot; a próxima leitura o recarrega.
+     */
+    public void invalidate(int slot) {
+        int base = slot * SLOT_SIZE;
+        while (true) {
+            long version = (long) LONG.getAcquire(buffer, base + VERSION);
+            if ((version & 1) == 0 && LONG.compareAndSet(buffer, base + VERSION, version, version + 1)) {
+                LONG.setOpaque(buffer, base + STATUS, STATUS_UNLOADED);
+                LONG.setRelease(buffer, base + VERSION, version + 2);
+                return;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Indica se a ocupação atingiu o fator de carga máximo.
+     */
+    public boolean isFull() {
+        return size.get() >= maxEntries;
+    }
+
+    public int size() {
+        return size.get();
+    }
+
+    public int capacity() {
+        return mask + 1;
+    }
+
+    /**
+     * Memória reservada fora do heap, em bytes.
+     */
+    public long offHeapBytes() {
+        return (long) capacity() * SLOT_SIZE;
+    }
+
+    private boolean matches(int base, long high, long low) {
+        return (long) LONG.get(buffer, base + KEY_HIGH) == high && (long) LONG.get(buffer, base + KEY_LOW) == low;
+    }
+
+    private void awaitOccupied(int base) {
+        while ((long) LONG.getAcquire(buffer, base + STATE) == CLAIMING) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private int indexFor(long high, long low) {
+        long hash = high ^ Long.rotateLeft(low, 32);
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return (int) hash & mask;
+    }
+
+    /**
+     * Cópia do estado de um slot.
+     *
+     * @param version versão do seqlock no momento da leitura
+     * @param balanceCents saldo em centavos
+     * @param limitCents limite disponível em centavos
+     * @param status ordinal do status, ou {@link #STATUS_UNLOADED}
+     * @param updatedAtMicros última atualização, em microssegundos desde a época
+     */
+    public record AccountSlot(long version, long balanceCents, long limitCents, byte status, long updatedAtMicros) {
+
+        public boolean isLoaded() {
+            return status != STATUS_UNLOADED;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Atribui os statements à operação de repositório que os emitiu
+ * (ex.: "AccountRepository.findByIdForUpdate").
+ *
+ * Usa a interface do domínio/porta, e não o adapter, para que o nome da
+ * operação não mude com a implementação (JPA, ledger, in-place).
+ */
+@Aspect
+public class SqlOperationAspect {
+
+    private final SqlStatementStats stats;
+    private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+    public SqlOperationAspect(SqlStatementStats stats) {
+        this.stats = stats;
+    }
+
+    @Around("execution(* com.itau.transferapi.domain.repository.*.*(..))"
+        + " || execution(* com.itau.transferapi.application.port.output.BalanceLedgerPort.*(..))")
+    public Object operation(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        String previous = stats.enterOperation(names.computeIfAbsent(method, SqlOperationAspect::operationName));
+        try {
+            return joinPoint.proceed();
+        } finally {
+            stats.exitOperation(previous);
+        }
+    }
+
+    /**
+     * Nome pela interface que declara o método; o join point aponta para o adapter.
+     */
+    private static String operationName(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        for (Class<?> type : owner.getInterfaces()) {
+            try {
+                type.getMethod(method.getName(), method.getParameterTypes());
+                return type.getSimpleName() + "." + method.getName();
+            } catch (NoSuchMethodException e) {
+                // método não pertence a esta interface
+            }
+        }
+        return owner.getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,21 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Conta cada statement preparado pelo Hibernate; o SQL não é alterado.
+ */
+public class SqlStatementInspector implements StatementInspector {
+
+    private final SqlStatementStats stats;
+
+    public SqlStatementInspector(SqlStatementStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    public String inspect(String sql) {
+        stats.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,49 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Conta os statements de cada requisição (sql.statements.per.request).
+ *
+ * A tag uri é o padrão da rota resolvido pelo Spring MVC; requisições sem
+ * handler ficam em "UNKNOWN" para manter a cardinalidade limitada.
+ */
+public class SqlStatementRequestFilter extends OncePerRequestFilter {
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final SqlStatementStats stats;
+
+    public SqlStatementRequestFilter(SqlStatementStats stats) {
+        this.stats = stats;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        SqlStatementStats.StatementScope scope = stats.openScope();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+            stats.recordRequest(uriOf(request), scope.total());
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : UNKNOWN_URI;
+    }
+}
@@ -0,0 +1,399 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Contagem de statements SQL emitidos pelo Hibernate.
+ *
+ * Alimentada pelo {@link SqlStatementInspector} (um registro por statement
+ * preparado) e pelo {@link SqlTimingEventListener} (duração da execução).
+ * Cada statement é atribuído:
+ * - ao tipo (SELECT/INSERT/UPDATE/DELETE/OTHER)
+ * - à operação de repositório em andamento na thread ({@link SqlOperationAspect})
+ * - aos escopos abertos ({@link StatementScope}), como o da requisição HTTP
+ *
+ * O escopo é herdado por threads criadas dentro dele, de modo que as
+ * leituras da pré-carga (threads virtuais do caso de uso) contam para a
+ * requisição que as disparou.
+ *
+ * Métricas:
+ * - sql.statements: contador por tipo e operação
+ * - sql.statement.duration: duração da execução por tipo
+ * - sql.statements.slow: execuções acima do limiar, por tipo
+ * - sql.statements.per.request: statements por requisição, por uri
+ *
+ * O Hibernate instancia o listener de sessão pelo nome da classe; por isso a
+ * instância ativa fica disponível em {@link #active()}.
+ */
+@Slf4j
+public class SqlStatementStats {
+
+    static final String STATEMENTS_METRIC = "sql.statements";
+    static final String DURATION_METRIC = "sql.statement.duration";
+    static final String SLOW_METRIC = "sql.statements.slow";
+    static final String PER_REQUEST_METRIC = "sql.statements.per.request";
+
+    /** Operação atribuída a statements fora de um repositório. */
+    static final String NO_OPERATION = "none";
+
+    private static final int MAX_SLOW_QUERIES = 50;
+    private static final int MAX_SQL_LENGTH = 500;
+
+    private static volatile SqlStatementStats active;
+
+    /** Tipo do statement, pela primeira palavra do SQL. */
+    public enum StatementType {
+        SELECT, INSERT, UPDATE, DELETE, OTHER;
+
+        static StatementType of(String sql) {
+            int start = 0;
+            int length = sql.length();
+            while (start < length && (Character.isWhitespace(sql.charAt(start)) || sql.charAt(start) == '(')) {
+                start++;
+            }
+            if (sql.regionMatches(true, start, "select", 0, 6) || sql.regionMatches(true, start, "with", 0, 4)) {
+                return SELECT;
+            }
+            if (sql.regionMatches(true, start, "insert", 0, 6)) {
+                return INSERT;
+            }
+            if (sql.regionMatches(true, start, "update", 0, 6)) {
+                return UPDATE;
+            }
+            if (sql.regionMatches(true, start, "delete", 0, 6)) {
+                return DELETE;
+            }
+            return OTHER;
+        }
+
+        String tag() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /** Statement recém-preparado na thread, aguardando a execução. */
+    private static final class PendingStatement {
+        String sql;
+        StatementType type;
+        String operation;
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+
+    private final ThreadLocal<String> operation = new ThreadLocal<>();
+    private final ThreadLocal<PendingStatement> pending = ThreadLocal.withInitial(PendingStatement::new);
+    private final InheritableThreadLocal<StatementScope> scope = new InheritableThreadLocal<>();
+
+    private final Map<StatementType, LongAdder> totals = new EnumMap<>(StatementType.class);
+    private final Map<String, OperationCounters> operations = new ConcurrentHashMap<>();
+    private final Map<StatementType, Timer> durations = new EnumMap<>(StatementType.class);
+    private final Map<StatementType, Counter> slowCounters = new EnumMap<>(StatementType.class);
+    private final Map<String, DistributionSummary> perRequest = new ConcurrentHashMap<>();
+    private final Deque<SlowStatement> slowStatements = new ConcurrentLinkedDeque<>();
+
+    public SqlStatementStats(MeterRegistry meterRegistry, Duration slowThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        for (StatementType type : StatementType.values()) {
+            totals.put(type, new LongAdder());
+            durations.put(type, Timer.builder(DURATION_METRIC)
+                .description("Duração da execução de statements SQL")
+                .tag("type", type.tag())
+                .register(meterRegistry));
+            slowCounters.put(type, Counter.builder(SLOW_METRIC)
+                .description("Statements SQL acima do limiar de lentidão")
+                .tag("type", type.tag())
+                .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Instância ativa, para componentes instanciados pelo Hibernate.
+     *
+     * @return instância ou null se a instrumentação estiver desligada
+     */
+    static SqlStatementStats active() {
+        return active;
+    }
+
+    void activate() {
+        active = this;
+    }
+
+    void deactivate() {
+        if (active == this) {
+            active = null;
+        }
+    }
+
+    /**
+     * Registra um statement preparado pelo Hibernate.
+     */
+    void onStatement(String sql) {
+        StatementType type = StatementType.of(sql);
+        String currentOperation = operation.get();
+        if (currentOperation == null) {
+            currentOperation = NO_OPERATION;
+        }
+
+        totals.get(type).increment();
+        operations.computeIfAbsent(currentOperation, OperationCounters::new).increment(type);
+        StatementScope currentScope = scope.get();
+        if (currentScope != null) {
+            currentScope.record(type);
+        }
+
+        PendingStatement statement = pending.get();
+        statement.sql = sql;
+        statement.type = type;
+        statement.operation = currentOperation;
+    }
+
+    /**
+     * Registra a duração da execução do último statement preparado na thread.
+     */
+    void onExecuted(long elapsedNanos) {
+        PendingStatement statement = pending.get();
+        StatementType type = statement.type != null ? statement.type : StatementType.OTHER;
+        durations.get(type).record(elapsedNanos, TimeUnit.NANOSECONDS);
+        if (elapsedNanos < slowThresholdNanos) {
+            return;
+        }
+
+        slowCounters.get(type).increment();
+        String sql = truncate(statement.sql);
+        long millis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        log.warn("SQL lento ({} ms) em {}: {}", millis, statement.operation, sql);
+        slowStatements.addFirst(new SlowStatement(Instant.now(), millis, statement.operation, sql));
+        while (slowStatements.size() > MAX_SLOW_QUERIES) {
+            slowStatements.pollLast();
+        }
+    }
+
+    /**
+     * Marca a operação de repositório em andamento na thread.
+     *
+     * @return operação anterior, a ser restaurada com {@link #exitOperation}
+     */
+    String enterOperation(String name) {
+        String previous = operation.get();
+        operation.set(name);
+        return previous;
+    }
+
+    void exitOperation(String previous) {
+        if (previous == null) {
+            operation.remove();
+        } else {
+            operation.set(previous);
+        }
+    }
+
+    /**
+     * Abre um escopo de contagem na thread atual (e nas threads criadas a
+     * partir dela). Escopos podem ser aninhados; todos os abertos contam.
+     */
+    public StatementScope openScope() {
+        StatementScope opened = new StatementScope(scope.get());
+        scope.set(opened);
+        return opened;
+    }
+
+    /**
+     * Registra o total de statements de uma requisição.
+     *
+     * @param uri padrão da rota (baixa cardinalidade)
+     */
+    void recordRequest(String uri, int statements) {
+        perRequest.computeIfAbsent(uri, key -> DistributionSummary.builder(PER_REQUEST_METRIC)
+                .description("Statements SQL por requisição")
+                .tag("uri", key)
+                .register(meterRegistry))
+            .record(statements);
+    }
+
+    /**
+     * Estado atual para o endpoint sqlstats.
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("slowThresholdMs", TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos));
+        snapshot.put("totals", typeCounts(type -> totals.get(type).sum()));
+
+        List<Map<String, Object>> byOperation = new ArrayList<>();
+        operations.values().stream()
+            .sorted(Comparator.comparingLong(OperationCounters::total).reversed())
+            .forEach(counters -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("operation", counters.name);
+                entry.put("total", counters.total());
+                entry.putAll(typeCounts(counters::count));
+                byOperation.add(entry);
+            });
+        snapshot.put("operations", byOperation);
+
+        Map<String, Object> requests = new LinkedHashMap<>();
+        perRequest.forEach((uri, summary) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("requests", summary.count());
+            entry.put("mean", summary.mean());
+            entry.put("max", summary.max());
+            requests.put(uri, entry);
+        });
+        snapshot.put("perRequest", requests);
+        snapshot.put("slowStatements", List.copyOf(slowStatements));
+        return snapshot;
+    }
+
+    /**
+     * Zera os contadores exibidos no endpoint (as métricas Micrometer são cumulativas).
+     */
+    void reset() {
+        totals.values().forEach(LongAdder::reset);
+        operations.clear();
+        slowStatements.clear();
+    }
+
+    private static Map<String, Long> typeCounts(java.util.function.ToLongFunction<StatementType> count) {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (StatementType type : StatementType.values()) {
+            counts.put(type.tag(), count.applyAsLong(type));
+        }
+        return counts;
+    }
+
+    private static String truncate(String sql) {
+        if (sql == null) {
+            return null;
+        }
+        return sql.length() <= MAX_SQL_LENGTH ? sql : sql.substring(0, MAX_SQL_LENGTH) + "...";
+    }
+
+    private final class OperationCounters {
+
+        private final String name;
+        private final Counter[] counters = new Counter[StatementType.values().length];
+        private final LongAdder[] counts = new LongAdder[StatementType.values().length];
+
+        OperationCounters(String name) {
+            this.name = name;
+            for (StatementType type : StatementType.values()) {
+                counts[type.ordinal()] = new LongAdder();
+                counters[type.ordinal()] = Counter.builder(STATEMENTS_METRIC)
+                    .description("Statements SQL por tipo e operação de repositório")
+                    .tag("type", type.tag())
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            }
+        }
+
+        void increment(StatementType type) {
+            counts[type.ordinal()].increment();
+            counters[type.ordinal()].increment();
+        }
+
+        long count(StatementType type) {
+            return counts[type.ordinal()].sum();
+        }
+
+        long total() {
+            long total = 0;
+            for (LongAdder count : counts) {
+                total += count.sum();
+            }
+            return total;
+        }
+    }
+
+    /**
+     * Statement acima do limiar de lentidão.
+     */
+    public record SlowStatement(Instant timestamp, long durationMs, String operation, String sql) {
+    }
+
+    /**
+     * Contagem de statements entre a abertura e o fechamento do escopo.
+     *
+     * Uso em testes como orçamento de statements:
+     * <pre>
+     * try (StatementScope scope = stats.openScope()) {
+     *     transferUseCase.execute(request);
+     *     assertThat(scope.total()).isLessThanOrEqualTo(10);
+     * }
+     * </pre>
+     */
+    public final class StatementScope implements AutoCloseable {
+
+        private final StatementScope parent;
+        private final AtomicIntegerArray counts = new AtomicIntegerArray(StatementType.values().length);
+        private volatile boolean closed;
+
+        private StatementScope(StatementScope parent) {
+            this.parent = parent;
+        }
+
+        private void record(StatementType type) {
+            // Threads que herdaram um escopo já fechado não contam mais
+            if (!closed) {
+                counts.incrementAndGet(type.ordinal());
+            }
+            if (parent != null) {
+                parent.record(type);
+            }
+        }
+
+        public int count(StatementType type) {
+            return counts.get(type.ordinal());
+        }
+
+        public int total() {
+            int total = 0;
+            for (int i = 0; i < counts.length(); i++) {
+                total += counts.get(i);
+            }
+            return total;
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+            if (scope.get() == this) {
+                if (parent == null) {
+                    scope.remove();
+                } else {
+                    scope.set(parent);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder text = new StringBuilder("StatementScope[total=").append(total());
+            for (StatementType type : StatementType.values()) {
+                text.append(", ").append(type.tag()).append('=').append(count(type));
+            }
+            return text.append(']').toString();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import java.time.Duration;
+
+/**
+ * Instrumentação de statements SQL, ligada por sqlstats.enabled.
+ *
+ * Alternativa leve ao hibernate.generate_statistics: um StatementInspector
+ * conta os statements e um SessionEventListener mede a execução JDBC, sem
+ * as estatísticas globais por entidade/coleção do Hibernate. Desligada, nada
+ * é registrado e o caminho JDBC não muda.
+ */
+@Configuration
+@ConditionalOnProperty(name = "sqlstats.enabled", havingValue = "true")
+public class SqlStatsConfig {
+
+    @Bean(initMethod = "activate", destroyMethod = "deactivate")
+    public SqlStatementStats sqlStatementStats(
+            MeterRegistry meterRegistry,
+            @Value("${sqlstats.slow-threshold:50ms}") Duration slowThreshold) {
+        return new SqlStatementStats(meterRegistry, slowThreshold);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatsHibernateCustomizer(SqlStatementStats stats) {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementInspector(stats));
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, SqlTimingEventListener.class.getName());
+        };
+    }
+
+    @Bean
+    public SqlOperationAspect sqlOperationAspect(SqlStatementStats stats) {
+        return new SqlOperationAspect(stats);
+    }
+
+    @Bean
+    public FilterRegistrationBean<SqlStatementRequestFilter> sqlStatementRequestFilter(SqlStatementStats stats) {
+        FilterRegistrationBean<SqlStatementRequestFilter> registration =
+            new FilterRegistrationBean<>(new SqlStatementRequestFilter(stats));
+        // Depois da observação HTTP, para o escopo ficar dentro da requisição medida
+        registration.setOrder(Ordered.LOWEST_PRECEDENCE - 10);
+        return registration;
+    }
+
+    @Bean
+    public SqlStatsEndpoint sqlStatsEndpoint(SqlStatementStats stats) {
+        return new SqlStatsEndpoint(stats);
+    }
+}
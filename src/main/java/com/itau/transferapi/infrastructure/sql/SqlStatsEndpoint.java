@@ -0,0 +1,34 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+
+import java.util.Map;
+
+/**
+ * Endpoint {@code /actuator/sqlstats}: statements SQL desde o último reset.
+ *
+ * - GET: totais por tipo, por operação de repositório, por requisição e
+ *   os statements lentos mais recentes
+ * - DELETE: zera os contadores do endpoint (métricas Micrometer não mudam)
+ */
+@Endpoint(id = "sqlstats")
+public class SqlStatsEndpoint {
+
+    private final SqlStatementStats stats;
+
+    public SqlStatsEndpoint(SqlStatementStats stats) {
+        this.stats = stats;
+    }
+
+    @ReadOperation
+    public Map<String, Object> stats() {
+        return stats.snapshot();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        stats.reset();
+    }
+}
@@ -0,0 +1,43 @@
+package com.itau.transferapi.infrastructure.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * Mede a execução JDBC de cada statement (e de cada lote) da sessão.
+ *
+ * Registrado pelo nome da classe em hibernate.session.events.auto: o
+ * Hibernate cria uma instância por sessão, que usa a {@link SqlStatementStats}
+ * ativa.
+ */
+public class SqlTimingEventListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long startNanos) {
+        SqlStatementStats stats = SqlStatementStats.active();
+        if (stats != null && startNanos != 0) {
+            stats.onExecuted(System.nanoTime() - startNanos);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.springframework.core.env.Environment;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Configuração com que o processamento AOT foi feito.
+ *
+ * Com AOT, @Profile e @ConditionalOnProperty são avaliados no build: os beans
+ * gerados correspondem aos profiles e às chaves abaixo naquele momento. O
+ * build grava esses valores em {@link #RESOURCE}
+ * ({@link AotBuildSettingsAotProcessor}) e o startup com AOT os compara com
+ * o ambiente ({@link AotBuildSettingsVerifier}).
+ *
+ * Ao criar um bean condicionado por propriedade, inclua a chave em {@link #TOGGLES}.
+ */
+public final class AotBuildSettings {
+
+    public static final String RESOURCE = "META-INF/transferapi/aot-build.properties";
+
+    static final String PROFILES_KEY = "spring.profiles.active";
+
+    /** Chaves de @ConditionalOnProperty dos beans da aplicação. */
+    static final List<String> TOGGLES = List.of(
+        "ledger.enabled",
+        "journal.enabled",
+        "engine.offheap.enabled",
+        "engine.daily-limit.in-memory",
+        "sqlstats.enabled",
+        "seed.bulk.enabled",
+        "concurrency-limit.enabled",
+        "jfr.endpoint.enabled");
+
+    private AotBuildSettings() {
+    }
+
+    /** Profiles ativos e valores das chaves de {@link #TOGGLES} no ambiente. */
+    public static Properties capture(Environment environment) {
+        Properties settings = new Properties();
+        settings.setProperty(PROFILES_KEY, String.join(",", environment.getActiveProfiles()));
+        for (String toggle : TOGGLES) {
+            settings.setProperty(toggle, normalize(environment.getProperty(toggle)));
+        }
+        return settings;
+    }
+
+    /**
+     * @return uma linha por chave com valor diferente do registrado no build; vazio se iguais
+     */
+    public static List<String> differences(Properties recorded, Environment environment) {
+        Properties current = capture(environment);
+        List<String> differences = new ArrayList<>();
+        for (String key : current.stringPropertyNames().stream().sorted().toList()) {
+            String built = recorded.getProperty(key, "");
+            String actual = current.getProperty(key);
+            if (!Objects.equals(built, actual)) {
+                differences.add(key + ": build=" + display(built) + ", runtime=" + display(actual));
+            }
+        }
+        return differences;
+    }
+
+    static String format(Properties settings) {
+        StringWriter writer = new StringWriter();
+        try {
+            settings.store(writer, "Profiles e chaves avaliados no processamento AOT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    private static String normalize(String value) {
+        return value == null ? "" : value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String display(String value) {
+        return value.isEmpty() ? "(ausente)" : value;
+    }
+}
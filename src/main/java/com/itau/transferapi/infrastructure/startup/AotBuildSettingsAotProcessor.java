@@ -0,0 +1,20 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.env.Environment;
+
+/**
+ * Grava no build AOT os profiles e chaves de {@link AotBuildSettings}
+ * (registrado em META-INF/spring/aot.factories).
+ */
+public class AotBuildSettingsAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        String settings = AotBuildSettings.format(AotBuildSettings.capture(beanFactory.getBean(Environment.class)));
+        return (generationContext, code) ->
+            generationContext.getGeneratedFiles().addResourceFile(AotBuildSettings.RESOURCE, settings);
+    }
+}
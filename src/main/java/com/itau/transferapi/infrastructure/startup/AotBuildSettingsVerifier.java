@@ -0,0 +1,61 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.springframework.aot.AotDetector;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Properties;
+
+/**
+ * Impede o startup com AOT quando os profiles ou as chaves de
+ * {@link AotBuildSettings} diferem dos usados no build: os beans gerados não
+ * refletiriam a configuração, e a mudança (ex.: LEDGER_ENABLED=true) seria
+ * ignorada sem aviso. Sem AOT, não faz nada.
+ *
+ * Registrado em META-INF/spring.factories; roda depois da leitura dos
+ * arquivos de configuração, com os profiles já ativos.
+ */
+public class AotBuildSettingsVerifier implements EnvironmentPostProcessor, Ordered {
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!AotDetector.useGeneratedArtifacts()) {
+            return;
+        }
+        verify(load(new ClassPathResource(AotBuildSettings.RESOURCE)), environment);
+    }
+
+    static void verify(Properties recorded, ConfigurableEnvironment environment) {
+        List<String> differences = AotBuildSettings.differences(recorded, environment);
+        if (!differences.isEmpty()) {
+            throw new IllegalStateException("Configuração diferente da usada no build AOT (beans condicionais "
+                + "já resolvidos): " + String.join("; ", differences)
+                + ". Rode com os valores do build, gere a imagem com eles ou sem AOT (SPRING_AOT=false)");
+        }
+    }
+
+    private static Properties load(Resource resource) {
+        if (!resource.exists()) {
+            throw new IllegalStateException("spring.aot.enabled=true sem " + AotBuildSettings.RESOURCE
+                + ": o jar não foi gerado com o processamento AOT (mvn -Pstartup)");
+        }
+        try {
+            return PropertiesLoaderUtils.loadProperties(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler " + AotBuildSettings.RESOURCE, e);
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+}
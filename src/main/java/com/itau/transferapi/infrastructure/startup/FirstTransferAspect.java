@@ -0,0 +1,63 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import com.itau.transferapi.application.dto.response.TransferOutcome;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tempo até a primeira transferência concluída, a partir do início da JVM
+ * ({@code application.first.transfer.time}).
+ *
+ * Complementa application.started.time/application.ready.time do Spring
+ * Boot: inclui o boot da JVM e o aquecimento do primeiro request (pool de
+ * conexões, clientes HTTP, caches), que é o que o autoscaling enxerga.
+ * Depois da primeira transferência, o custo é uma leitura volátil.
+ */
+@Slf4j
+@Aspect
+@Component
+public class FirstTransferAspect {
+
+    static final String METRIC = "application.first.transfer.time";
+
+    private static final long NOT_RECORDED = -1;
+
+    private final AtomicLong firstTransferMillis = new AtomicLong(NOT_RECORDED);
+
+    public FirstTransferAspect(MeterRegistry meterRegistry) {
+        TimeGauge.builder(METRIC, firstTransferMillis, TimeUnit.MILLISECONDS, value -> Math.max(value.get(), 0))
+            .description("Tempo desde o início da JVM até a primeira transferência concluída")
+            .register(meterRegistry);
+    }
+
+    @AfterReturning(
+        pointcut = "execution(* com.itau.transferapi.application.port.input.TransferUseCase.execute*(..))",
+        returning = "result")
+    public void transferCompleted(Object result) {
+        if (firstTransferMillis.get() != NOT_RECORDED || result instanceof TransferOutcome.Rejected) {
+            return;
+        }
+        long uptime = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstTransferMillis.compareAndSet(NOT_RECORDED, uptime)) {
+            log.atInfo()
+                .setMessage("Primeira transferência concluída")
+                .addKeyValue("uptimeMs", uptime)
+                .log();
+        }
+    }
+
+    /**
+     * @return milissegundos desde o início da JVM, ou -1 se ainda não houve transferência
+     */
+    public long firstTransferMillis() {
+        return firstTransferMillis.get();
+    }
+}
@@ -0,0 +1,55 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.beans.factory.support.AbstractBeanDefinition;
+
+import java.util.List;
+
+/**
+ * Inicialização lazy apenas para beans fora do caminho crítico.
+ *
+ * Diferente de spring.main.lazy-initialization (global), o caminho da
+ * transferência continua sendo criado no startup e o primeiro request não
+ * paga a inicialização de JPA, clientes HTTP e resiliência. Os beans dos
+ * pacotes configurados (springdoc, mocks) são criados no primeiro uso.
+ *
+ * Beans de @Bean são atribuídos ao pacote da classe de configuração que os
+ * declara. Beans com @Lazy explícito não são alterados.
+ */
+public class LazyPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packages;
+
+    public LazyPackagesPostProcessor(List<String> packages) {
+        this.packages = packages.stream().map(name -> name.endsWith(".") ? name : name + ".").toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) throws BeansException {
+        if (packages.isEmpty()) {
+            return;
+        }
+        for (String name : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(name);
+            if (definition instanceof AbstractBeanDefinition bean
+                    && bean.getLazyInit() == null
+                    && matches(originOf(beanFactory, definition))) {
+                bean.setLazyInit(true);
+            }
+        }
+    }
+
+    private boolean matches(String className) {
+        return className != null && packages.stream().anyMatch(className::startsWith);
+    }
+
+    private static String originOf(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        if (definition.getFactoryBeanName() != null && beanFactory.containsBeanDefinition(definition.getFactoryBeanName())) {
+            return beanFactory.getBeanDefinition(definition.getFactoryBeanName()).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,29 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.List;
+
+/**
+ * Ajustes de tempo de startup.
+ *
+ * - startup.lazy-packages: pacotes com inicialização lazy (ver LazyPackagesPostProcessor)
+ * - application.first.transfer.time: tempo até a primeira transferência (ver FirstTransferAspect)
+ *
+ * AOT e CDS ficam no profile Maven "startup" e no Dockerfile; o startup com AOT
+ * confere profiles e chaves com os do build (AotBuildSettingsVerifier).
+ */
+@Configuration(proxyBeanMethods = false)
+public class StartupConfig {
+
+    @Bean
+    static LazyPackagesPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        return new LazyPackagesPostProcessor(Binder.get(environment)
+            .bind("startup.lazy-packages", Bindable.listOf(String.class))
+            .orElse(List.of()));
+    }
+}
@@ -3,6 +3,7 @@ package com.itau.transferapi.web.controller;
 import com.itau.transferapi.application.dto.response.BalanceResponse;
 import com.itau.transferapi.application.dto.response.ErrorResponse;
 import com.itau.transferapi.application.port.input.BalanceQueryUseCase;
+import com.itau.transferapi.web.interceptor.ConcurrencyLane;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -28,6 +29,7 @@ import org.springframework.web.bind.annotation.*;
  */
 @Slf4j
 @RestController
+@ConcurrencyLane(ConcurrencyLane.Lane.BALANCE)
 @RequestMapping("/api/v1/accounts")
 @RequiredArgsConstructor
 @Validated
@@ -2,8 +2,11 @@ package com.itau.transferapi.web.controller;
 
 import com.itau.transferapi.application.dto.request.TransferRequest;
 import com.itau.transferapi.application.dto.response.ErrorResponse;
+import com.itau.transferapi.application.dto.response.TransferOutcome;
 import com.itau.transferapi.application.dto.response.TransferResponse;
 import com.itau.transferapi.application.port.input.TransferUseCase;
+import com.itau.transferapi.web.exception.GlobalExceptionHandler;
+import com.itau.transferapi.web.interceptor.ConcurrencyLane;
 import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -11,6 +14,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -27,6 +31,7 @@ import org.springframework.web.bind.annotation.*;
  */
 @Slf4j
 @RestController
+@ConcurrencyLane(ConcurrencyLane.Lane.TRANSFER)
 @RequestMapping("/api/v1/transfers")
 @RequiredArgsConstructor
 @Tag(name = "Transferências", description = "Operações de transferência bancária")
@@ -75,18 +80,32 @@ public class TransferController {
         description = "Tempo de execução de transferência",
         percentiles = {0.5, 0.95, 0.99}
     )
-    public ResponseEntity<TransferResponse> createTransfer(
-            @Valid @RequestBody TransferRequest request) {
+    public ResponseEntity<?> createTransfer(
+            @Valid @RequestBody TransferRequest request, HttpServletRequest httpRequest) {
         
-        log.info("Recebida requisição de transferência: origem={}/{} -> destino={}/{}, valor={}",
-            request.sourceAccountNumber(), request.sourceAgencyNumber(),
-            request.targetAccountNumber(), request.targetAgencyNumber(),
-            request.amount());
+        // Caminho quente: key-values sem formatação; nada é montado com DEBUG desligado
+        log.atDebug()
+            .setMessage("Recebida requisição de transferência")
+            .addKeyValue("sourceAccount", request.sourceAccountNumber())
+            .addKeyValue("targetAccount", request.targetAccountNumber())
+            .addKeyValue("amount", request.amount())
+            .log();
         
-        TransferResponse response = transferUseCase.execute(request);
-        
-        log.info("Transferência processada: id={}, status={}", 
-            response.transferId(), response.status());
+        // Recusas de negócio chegam como resultado, sem exceção
+        return switch (transferUseCase.executeForResult(request)) {
+            case TransferOutcome.Success success -> created(success.response());
+            case TransferOutcome.PendingBacen pending -> created(pending.response());
+            case TransferOutcome.Rejected rejected -> GlobalExceptionHandler.businessError(
+                rejected.errorCode(), rejected.details(), httpRequest.getRequestURI());
+        };
+    }
+    
+    private ResponseEntity<TransferResponse> created(TransferResponse response) {
+        log.atDebug()
+            .setMessage("Transferência processada")
+            .addKeyValue("transferId", response.transferId())
+            .addKeyValue("status", response.status())
+            .log();
         
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
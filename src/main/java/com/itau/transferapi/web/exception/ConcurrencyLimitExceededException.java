@@ -0,0 +1,45 @@
+package com.itau.transferapi.web.exception;
+
+import lombok.Getter;
+
+/**
+ * Requisição recusada antes de chegar ao controller por excesso de carga
+ * (ver ConcurrencyLimitInterceptor). Respondida com 503 e Retry-After.
+ *
+ * Sob sobrecarga a recusa é o caminho comum: sem stack trace e com uma
+ * instância pré-alocada por motivo.
+ */
+@Getter
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    /** Motivo da recusa, usado como tag da métrica. */
+    public enum Reason {
+        /** Limite adaptativo de requisições simultâneas atingido. */
+        CONCURRENCY_LIMIT("concurrency_limit"),
+        /** Fila de espera por conexão do pool acima do máximo. */
+        PENDING_CONNECTIONS("pending_connections");
+
+        @Getter
+        private final String tag;
+
+        Reason(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    private static final ConcurrencyLimitExceededException CONCURRENCY_LIMIT =
+        new ConcurrencyLimitExceededException(Reason.CONCURRENCY_LIMIT);
+    private static final ConcurrencyLimitExceededException PENDING_CONNECTIONS =
+        new ConcurrencyLimitExceededException(Reason.PENDING_CONNECTIONS);
+
+    private final Reason reason;
+
+    private ConcurrencyLimitExceededException(Reason reason) {
+        super("Requisição recusada: " + reason.getTag(), null, false, false);
+        this.reason = reason;
+    }
+
+    public static ConcurrencyLimitExceededException of(Reason reason) {
+        return reason == Reason.CONCURRENCY_LIMIT ? CONCURRENCY_LIMIT : PENDING_CONNECTIONS;
+    }
+}
@@ -10,6 +10,8 @@ import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
+import org.slf4j.MDC;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -26,29 +28,48 @@ import java.util.stream.Collectors;
  * 
  * Mapeia exceções para respostas HTTP apropriadas com
  * códigos de erro e mensagens padronizadas.
+ * 
+ * O traceId da resposta é o mesmo do trace distribuído da requisição,
+ * permitindo cruzar a resposta com os logs e com as chamadas ao Cadastro/BACEN.
  */
 @Slf4j
 @RestControllerAdvice
 public class GlobalExceptionHandler {
     
+    private static final String TRACE_ID_KEY = "traceId";
+    private static final String RETRY_AFTER_SECONDS = "1";
+    
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ErrorResponse> handleBusinessException(
             BusinessException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
-        log.warn("[{}] Erro de negócio: {}", traceId, ex.getFormattedMessage());
+        return businessError(ex.getErrorCode(), ex.getDetails(), request.getRequestURI());
+    }
+    
+    /**
+     * Resposta de recusa de negócio, usada também por quem recebe a recusa
+     * como resultado em vez de exceção.
+     * 
+     * @param errorCode código da regra violada
+     * @param details detalhes exibidos ao cliente
+     * @param path caminho da requisição
+     */
+    public static ResponseEntity<ErrorResponse> businessError(ErrorCode errorCode, String details, String path) {
+        String traceId = currentTraceId();
+        // Recusas são tráfego normal: só o código; os detalhes vão na resposta
+        log.warn("[{}] Erro de negócio: {}", traceId, errorCode.getCode());
         
         ErrorResponse response = ErrorResponse.builder()
-            .code(ex.getErrorCode().getCode())
-            .message(ex.getErrorCode().getDefaultMessage())
-            .details(ex.getDetails())
-            .path(request.getRequestURI())
+            .code(errorCode.getCode())
+            .message(errorCode.getDefaultMessage())
+            .details(details)
+            .path(path)
             .timestamp(LocalDateTime.now())
             .traceId(traceId)
             .build();
         
         return ResponseEntity
-            .status(ex.getErrorCode().getHttpStatus())
+            .status(errorCode.getHttpStatus())
             .body(response);
     }
     
@@ -56,7 +77,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleResourceNotFoundException(
             ResourceNotFoundException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         log.warn("[{}] Recurso não encontrado: {} - {}", 
             traceId, ex.getResourceType(), ex.getResourceId());
         
@@ -76,7 +97,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleIntegrationException(
             IntegrationException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         log.error("[{}] Erro de integração com {}: {}", 
             traceId, ex.getServiceName(), ex.getMessage(), ex);
         
@@ -100,7 +121,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleValidationException(
             MethodArgumentNotValidException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         
         List<ErrorResponse.FieldError> fieldErrors = ex.getBindingResult()
             .getFieldErrors()
@@ -130,7 +151,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleConstraintViolationException(
             ConstraintViolationException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         
         List<ErrorResponse.FieldError> fieldErrors = ex.getConstraintViolations()
             .stream()
@@ -159,7 +180,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleCircuitBreakerException(
             CallNotPermittedException ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         log.error("[{}] Circuit breaker aberto: {}", traceId, ex.getMessage());
         
         ErrorResponse response = ErrorResponse.builder()
@@ -178,7 +199,7 @@ public class GlobalExceptionHandler {
     public ResponseEntity<ErrorResponse> handleRateLimiterException(
             RequestNotPermitted ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         log.warn("[{}] Rate limit excedido: {}", traceId, ex.getMessage());
         
         ErrorResponse response = ErrorResponse.builder()
@@ -193,11 +214,33 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(response);
     }
     
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<ErrorResponse> handleConcurrencyLimitExceeded(
+            ConcurrencyLimitExceededException ex, HttpServletRequest request) {
+        
+        String traceId = currentTraceId();
+        // Sob sobrecarga, uma linha por recusa só agravaria: a contagem fica em http.concurrency.rejected
+        log.debug("[{}] Requisição recusada por sobrecarga: {}", traceId, ex.getReason().getTag());
+        
+        ErrorResponse response = ErrorResponse.builder()
+            .code(ErrorCode.SERVICE_OVERLOADED.getCode())
+            .message(ErrorCode.SERVICE_OVERLOADED.getDefaultMessage())
+            .details("Capacidade momentaneamente esgotada. Tente novamente em instantes.")
+            .path(request.getRequestURI())
+            .timestamp(LocalDateTime.now())
+            .traceId(traceId)
+            .build();
+        
+        return ResponseEntity.status(ErrorCode.SERVICE_OVERLOADED.getHttpStatus())
+            .header(HttpHeaders.RETRY_AFTER, RETRY_AFTER_SECONDS)
+            .body(response);
+    }
+    
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(
             Exception ex, HttpServletRequest request) {
         
-        String traceId = generateTraceId();
+        String traceId = currentTraceId();
         log.error("[{}] Erro interno não tratado: {}", traceId, ex.getMessage(), ex);
         
         ErrorResponse response = ErrorResponse.builder()
@@ -212,8 +255,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
     }
     
-    private String generateTraceId() {
-        return UUID.randomUUID().toString().substring(0, 8);
+    /**
+     * Trace id da requisição, colocado no MDC pelo tracing (Brave) ao abrir o
+     * span do servidor. Só gera um id local quando não há trace ativo.
+     */
+    private static String currentTraceId() {
+        String traceId = MDC.get(TRACE_ID_KEY);
+        return traceId != null ? traceId : UUID.randomUUID().toString().substring(0, 8);
     }
 }
 
@@ -0,0 +1,38 @@
+package com.itau.transferapi.web.interceptor;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Faixa de concorrência do controller (ou do método), com limite próprio no
+ * {@link ConcurrencyLimitInterceptor}. Handlers sem a anotação usam
+ * {@link Lane#TRANSFER}, a faixa mais restrita.
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConcurrencyLane {
+
+    Lane value();
+
+    /** Faixas configuráveis em concurrency-limit.lanes.&lt;tag&gt;. */
+    enum Lane {
+        /** Escritas: transferências (banco com lock, Cadastro e BACEN). */
+        TRANSFER("transfer"),
+        /** Leituras curtas: consulta de saldo. */
+        BALANCE("balance");
+
+        private final String tag;
+
+        Lane(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.itau.transferapi.web.interceptor;
+
+import com.itau.transferapi.infrastructure.limit.GradientConcurrencyLimit;
+import com.itau.transferapi.web.interceptor.ConcurrencyLane.Lane;
+import com.itau.transferapi.web.interceptor.ConcurrencyLimitInterceptor.LaneLimit;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * Registra o {@link ConcurrencyLimitInterceptor} nas rotas da API (/api/**).
+ *
+ * Actuator e mocks ficam de fora: health checks e métricas continuam
+ * respondendo com a API sobrecarregada.
+ *
+ * Os limites globais (inicial, mínimo, máximo) são divididos entre as faixas
+ * pela parte (share) de cada uma; a soma das partes não passa de 1, para
+ * uma faixa nunca ocupar as vagas da outra. A fila máxima do pool é por
+ * faixa: transferências recusam antes de a fila chegar ao limite da faixa
+ * de saldo.
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true", matchIfMissing = true)
+public class ConcurrencyLimitConfig implements WebMvcConfigurer {
+
+    private final ConcurrencyLimitInterceptor interceptor;
+
+    public ConcurrencyLimitConfig(
+            ObjectProvider<DataSource> dataSource,
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${concurrency-limit.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.min-limit:10}") int minLimit,
+            @Value("${concurrency-limit.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${concurrency-limit.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.long-window:600}") int longWindow,
+            @Value("${concurrency-limit.lanes.transfer.share:0.7}") double transferShare,
+            @Value("${concurrency-limit.lanes.transfer.max-pending-connections:20}") int transferMaxPending,
+            @Value("${concurrency-limit.lanes.balance.share:0.3}") double balanceShare,
+            @Value("${concurrency-limit.lanes.balance.max-pending-connections:${concurrency-limit.max-pending-connections:30}}")
+            int balanceMaxPending) {
+        if (transferShare <= 0 || balanceShare <= 0 || transferShare + balanceShare > 1.0 + 1e-9) {
+            throw new IllegalArgumentException("Partes inválidas das faixas: transfer=" + transferShare
+                + ", balance=" + balanceShare + " (cada uma > 0, soma até 1)");
+        }
+        LaneSplit split = new LaneSplit(initialLimit, minLimit, maxLimit, rttTolerance, smoothing, longWindow);
+        this.interceptor = new ConcurrencyLimitInterceptor(
+            Map.of(
+                Lane.TRANSFER, split.lane(transferShare, transferMaxPending),
+                Lane.BALANCE, split.lane(balanceShare, balanceMaxPending)),
+            new HikariPendingConnections(dataSource),
+            meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(interceptor).addPathPatterns("/api/**");
+    }
+
+    /** Parte dos limites globais de uma faixa (arredondada para cima, no mínimo 1). */
+    private record LaneSplit(int initialLimit, int minLimit, int maxLimit,
+                             double rttTolerance, double smoothing, int longWindow) {
+
+        LaneLimit lane(double share, int maxPendingConnections) {
+            return new LaneLimit(
+                new GradientConcurrencyLimit(part(initialLimit, share), part(minLimit, share),
+                    part(maxLimit, share), rttTolerance, smoothing, longWindow),
+                maxPendingConnections);
+        }
+
+        private static int part(int value, double share) {
+            return Math.max(1, (int) Math.ceil(value * share));
+        }
+    }
+
+    /**
+     * Threads esperando conexão do Hikari; 0 sem Hikari ou antes de o pool iniciar.
+     * O pool é resolvido uma vez, na primeira requisição com ele disponível.
+     */
+    private static final class HikariPendingConnections implements IntSupplier {
+
+        private final ObjectProvider<DataSource> dataSource;
+        private volatile HikariPoolMXBean pool;
+
+        HikariPendingConnections(ObjectProvider<DataSource> dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @Override
+        public int getAsInt() {
+            HikariPoolMXBean current = pool;
+            if (current == null) {
+                current = resolve();
+                if (current == null) {
+                    return 0;
+                }
+                pool = current;
+            }
+            return current.getThreadsAwaitingConnection();
+        }
+
+        private HikariPoolMXBean resolve() {
+            DataSource candidate = dataSource.getIfAvailable();
+            try {
+                if (candidate != null && candidate.isWrapperFor(HikariDataSource.class)) {
+                    return candidate.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+                }
+            } catch (SQLException e) {
+                // sem Hikari: critério de fila desativado
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,161 @@
+package com.itau.transferapi.web.interceptor;
+
+import com.itau.transferapi.infrastructure.limit.GradientConcurrencyLimit;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException.Reason;
+import com.itau.transferapi.web.interceptor.ConcurrencyLane.Lane;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntSupplier;
+
+/**
+ * Recusa requisições da API com 503 antes de o pool de conexões saturar.
+ *
+ * Dois critérios, verificados antes do controller (nenhuma conexão é
+ * pedida para uma requisição recusada):
+ * - limite adaptativo de requisições simultâneas ({@link GradientConcurrencyLimit}),
+ *   ajustado pela latência das requisições concluídas
+ * - fila de espera por conexão do pool acima de max-pending-connections
+ *
+ * Com 200 threads do Tomcat e 30 conexões, sem o limite as requisições
+ * excedentes esperariam até connection-timeout por uma conexão. Respostas
+ * 5xx contam como descarte e reduzem o limite.
+ *
+ * Cada faixa ({@link ConcurrencyLane}) tem limite e fila máxima próprios:
+ * uma enxurrada de transferências com o BACEN lento esgota só a faixa de
+ * transferências, e a faixa de saldo continua com vagas e com a parte da
+ * fila do pool que a outra faixa não pode ocupar.
+ *
+ * Métricas (tag lane):
+ * - http.concurrency.limit / http.concurrency.inflight: limite atual e em uso
+ * - http.concurrency.rejected: recusas por motivo
+ * - http.concurrency.pending.connections: fila do pool vista por cada requisição que chega
+ */
+public class ConcurrencyLimitInterceptor implements HandlerInterceptor {
+
+    /** Faixa dos handlers sem {@link ConcurrencyLane}: a mais restrita. */
+    static final Lane DEFAULT_LANE = Lane.TRANSFER;
+
+    private static final String ADMISSION_ATTRIBUTE = ConcurrencyLimitInterceptor.class.getName() + ".admission";
+
+    private final Map<Lane, LaneState> lanes = new EnumMap<>(Lane.class);
+    private final Map<Method, Lane> laneByMethod = new ConcurrentHashMap<>();
+    private final IntSupplier pendingConnections;
+    private final DistributionSummary pendingOnArrival;
+
+    /**
+     * @param limits limite e fila máxima de cada faixa (todas as faixas)
+     * @param pendingConnections threads esperando conexão do pool
+     */
+    public ConcurrencyLimitInterceptor(Map<Lane, LaneLimit> limits, IntSupplier pendingConnections,
+                                       MeterRegistry meterRegistry) {
+        for (Lane lane : Lane.values()) {
+            LaneLimit laneLimit = limits.get(lane);
+            if (laneLimit == null) {
+                throw new IllegalArgumentException("Limite não configurado para a faixa " + lane.getTag());
+            }
+            lanes.put(lane, new LaneState(lane, laneLimit, meterRegistry));
+        }
+        this.pendingConnections = pendingConnections;
+        this.pendingOnArrival = DistributionSummary.builder("http.concurrency.pending.connections")
+            .description("Threads esperando conexão do pool na chegada de cada requisição")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        LaneState lane = lanes.get(resolveLane(handler));
+        int pending = pendingConnections.getAsInt();
+        pendingOnArrival.record(pending);
+        if (pending >= lane.maxPendingConnections) {
+            throw lane.reject(Reason.PENDING_CONNECTIONS);
+        }
+        if (!lane.limit.tryAcquire()) {
+            throw lane.reject(Reason.CONCURRENCY_LIMIT);
+        }
+        request.setAttribute(ADMISSION_ATTRIBUTE, new Admission(lane.limit, System.nanoTime()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        if (request.getAttribute(ADMISSION_ATTRIBUTE) instanceof Admission admission) {
+            request.removeAttribute(ADMISSION_ATTRIBUTE);
+            admission.limit().release(System.nanoTime() - admission.start(),
+                ex != null || response.getStatus() >= 500);
+        }
+    }
+
+    /** Faixa do método ou, sem anotação no método, do controller. */
+    Lane resolveLane(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return DEFAULT_LANE;
+        }
+        return laneByMethod.computeIfAbsent(handlerMethod.getMethod(), method -> {
+            ConcurrencyLane annotation = AnnotatedElementUtils.findMergedAnnotation(method, ConcurrencyLane.class);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(
+                    handlerMethod.getBeanType(), ConcurrencyLane.class);
+            }
+            return annotation != null ? annotation.value() : DEFAULT_LANE;
+        });
+    }
+
+    /**
+     * Configuração de uma faixa.
+     *
+     * @param limit limite adaptativo de requisições simultâneas da faixa
+     * @param maxPendingConnections fila do pool a partir da qual a faixa recusa
+     */
+    public record LaneLimit(GradientConcurrencyLimit limit, int maxPendingConnections) {
+    }
+
+    private record Admission(GradientConcurrencyLimit limit, long start) {
+    }
+
+    private static final class LaneState {
+
+        private final GradientConcurrencyLimit limit;
+        private final int maxPendingConnections;
+        private final Map<Reason, Counter> rejected = new EnumMap<>(Reason.class);
+
+        LaneState(Lane lane, LaneLimit laneLimit, MeterRegistry meterRegistry) {
+            this.limit = laneLimit.limit();
+            this.maxPendingConnections = laneLimit.maxPendingConnections();
+
+            Gauge.builder("http.concurrency.limit", limit, GradientConcurrencyLimit::limit)
+                .description("Limite adaptativo de requisições simultâneas da API")
+                .tag("lane", lane.getTag())
+                .register(meterRegistry);
+            Gauge.builder("http.concurrency.inflight", limit, GradientConcurrencyLimit::inflight)
+                .description("Requisições da API em andamento")
+                .tag("lane", lane.getTag())
+                .register(meterRegistry);
+            for (Reason reason : Reason.values()) {
+                rejected.put(reason, Counter.builder("http.concurrency.rejected")
+                    .description("Requisições recusadas com 503 por sobrecarga")
+                    .tag("lane", lane.getTag())
+                    .tag("reason", reason.getTag())
+                    .register(meterRegistry));
+            }
+        }
+
+        ConcurrencyLimitExceededException reject(Reason reason) {
+            rejected.get(reason).increment();
+            return ConcurrencyLimitExceededException.of(reason);
+        }
+    }
+}
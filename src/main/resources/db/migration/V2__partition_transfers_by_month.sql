@@ -0,0 +1,81 @@
+-- ============================================
+-- Itaú Transfer API - Particionamento de transfers
+-- Version: 2.0.0
+-- ============================================
+--
+-- Converte transfers em tabela particionada por mês (RANGE em created_at).
+-- Índices e VACUUM passam a trabalhar em partições pequenas, consultas com
+-- faixa de created_at leem apenas as partições do período (partition
+-- pruning) e a retenção vira DROP de partição em vez de DELETE em massa.
+--
+-- Em tabelas particionadas a chave primária precisa conter a chave de
+-- partição: a PK passa a ser (id, created_at). O id continua sendo UUID
+-- gerado pela aplicação e created_at nunca é alterado.
+--
+-- Partições futuras e retenção são mantidas pela aplicação
+-- (TransferPartitionMaintainer), com o mesmo padrão de nome transfers_pYYYYMM.
+
+ALTER TABLE transfers RENAME TO transfers_legacy;
+
+CREATE TABLE transfers (
+    id UUID NOT NULL,
+    source_account_id UUID NOT NULL,
+    target_account_id UUID NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    failure_reason VARCHAR(500),
+    bacen_notification_id VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    completed_at TIMESTAMP,
+    bacen_notified_at TIMESTAMP,
+    bacen_retry_count INT NOT NULL DEFAULT 0,
+    version BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT pk_transfers PRIMARY KEY (id, created_at),
+    CONSTRAINT fk_transfers_source_account FOREIGN KEY (source_account_id) REFERENCES accounts(id),
+    CONSTRAINT fk_transfers_target_account FOREIGN KEY (target_account_id) REFERENCES accounts(id),
+    CONSTRAINT chk_transfers_amount_positive CHECK (amount > 0),
+    CONSTRAINT chk_transfers_status CHECK (status IN ('PENDING', 'PROCESSING', 'COMPLETED', 'FAILED', 'BACEN_PENDING', 'BACEN_NOTIFIED')),
+    CONSTRAINT chk_transfers_different_accounts CHECK (source_account_id != target_account_id)
+) PARTITION BY RANGE (created_at);
+
+-- Partições mensais: do mês da transferência mais antiga até 3 meses à frente
+DO $$
+DECLARE
+    first_month DATE;
+    last_month DATE := date_trunc('month', CURRENT_DATE) + INTERVAL '3 months';
+    partition_month DATE;
+BEGIN
+    SELECT COALESCE(date_trunc('month', MIN(created_at)), date_trunc('month', CURRENT_DATE))
+      INTO first_month
+      FROM transfers_legacy;
+
+    partition_month := first_month;
+    WHILE partition_month <= last_month LOOP
+        EXECUTE format(
+            'CREATE TABLE transfers_p%s PARTITION OF transfers FOR VALUES FROM (%L) TO (%L)',
+            to_char(partition_month, 'YYYYMM'), partition_month, partition_month + INTERVAL '1 month');
+        partition_month := partition_month + INTERVAL '1 month';
+    END LOOP;
+END $$;
+
+INSERT INTO transfers (
+    id, source_account_id, target_account_id, amount, status, failure_reason,
+    bacen_notification_id, created_at, completed_at, bacen_notified_at, bacen_retry_count, version)
+SELECT
+    id, source_account_id, target_account_id, amount, status, failure_reason,
+    bacen_notification_id, created_at, completed_at, bacen_notified_at, bacen_retry_count, version
+FROM transfers_legacy;
+
+DROP TABLE transfers_legacy;
+
+-- Índices definidos na tabela pai são criados em cada partição
+CREATE INDEX idx_transfers_source_account ON transfers(source_account_id);
+CREATE INDEX idx_transfers_target_account ON transfers(target_account_id);
+CREATE INDEX idx_transfers_status ON transfers(status);
+CREATE INDEX idx_transfers_created_at ON transfers(created_at);
+CREATE INDEX idx_transfers_bacen_pending ON transfers(status, bacen_retry_count) WHERE status = 'BACEN_PENDING';
+
+COMMENT ON TABLE transfers IS 'Histórico de transferências realizadas (particionada por mês em created_at)';
+COMMENT ON COLUMN transfers.status IS 'Status da transferência: PENDING, PROCESSING, COMPLETED, FAILED, BACEN_PENDING, BACEN_NOTIFIED';
+COMMENT ON COLUMN transfers.bacen_retry_count IS 'Número de tentativas de notificação ao BACEN';
@@ -0,0 +1,53 @@
+-- ============================================
+-- Itaú Transfer API - Revisão de índices
+-- Version: 3.0.0
+-- ============================================
+--
+-- Cada índice é mantido em todo INSERT e em todo UPDATE que não seja HOT.
+-- O conjunto abaixo é o mínimo que atende às consultas dos repositórios
+-- (validado por IndexAuditTest):
+--
+-- accounts
+--   PK (id)                               findById, findByIdForUpdate
+--   uk_account_agency (conta, agência)    findByAccountNumberAndAgencyNumber[ForUpdate],
+--     INCLUDE (id, client_id)             findReferenceByAccountNumberAndAgencyNumber (index-only)
+--   idx_accounts_client_id                findByClientId
+--
+-- transfers (particionada por mês, ver V2)
+--   PK (id, created_at)                   findById, UPDATE por id + created_at
+--   (source_account_id, created_at)       findBySourceAccountIdAndCreatedAtBetween, FK
+--   (target_account_id, created_at)       findByAccountIdAndDateRange (BitmapOr com o anterior), FK
+--   parcial (bacen_retry_count)           findBacenPendingByRetryCountLessThan
+--     WHERE status = 'BACEN_PENDING'
+--
+-- daily_transfer_limits
+--   uk_account_date (account_id, date)    findByAccountIdAndDate[ForUpdate]
+--
+-- As colunas INCLUDE são imutáveis: incluir colunas alteradas a cada
+-- transferência (balance, available_limit) impediria updates HOT.
+
+-- accounts: status não é filtro de nenhuma consulta
+DROP INDEX IF EXISTS idx_accounts_status;
+
+-- accounts: unique (conta, agência) passa a cobrir a projeção de referência
+ALTER TABLE accounts DROP CONSTRAINT uk_account_agency;
+ALTER TABLE accounts ADD CONSTRAINT uk_account_agency
+    UNIQUE (account_number, agency_number) INCLUDE (id, client_id);
+
+-- transfers: índices por conta passam a ser compostos com created_at
+DROP INDEX IF EXISTS idx_transfers_source_account;
+DROP INDEX IF EXISTS idx_transfers_target_account;
+CREATE INDEX idx_transfers_source_account_created ON transfers(source_account_id, created_at);
+CREATE INDEX idx_transfers_target_account_created ON transfers(target_account_id, created_at);
+
+-- transfers: status sozinho é pouco seletivo e só é consultado para BACEN_PENDING;
+-- created_at é atendido pelo partition pruning e pelos índices compostos
+DROP INDEX IF EXISTS idx_transfers_status;
+DROP INDEX IF EXISTS idx_transfers_created_at;
+
+-- transfers: o índice parcial não precisa repetir status, constante no predicado
+DROP INDEX IF EXISTS idx_transfers_bacen_pending;
+CREATE INDEX idx_transfers_bacen_pending ON transfers(bacen_retry_count) WHERE status = 'BACEN_PENDING';
+
+-- daily_transfer_limits: duplicava o índice da constraint uk_account_date
+DROP INDEX IF EXISTS idx_daily_limits_account_date;
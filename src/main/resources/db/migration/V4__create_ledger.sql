@@ -0,0 +1,52 @@
+-- ============================================
+-- Itaú Transfer API - Livro-razão append-only
+-- Version: 4.0.0
+-- ============================================
+--
+-- Usado quando ledger.enabled=true (ver LedgerBalanceAdapter). Cada
+-- transferência gera dois lançamentos e as linhas de accounts guardam
+-- apenas os valores de abertura:
+--
+--   saldo  = snapshot.balance         + créditos - débitos após o snapshot
+--   limite = snapshot.available_limit - débitos após o snapshot
+--
+-- Sem snapshot, a base é accounts.balance / accounts.available_limit.
+
+-- Lançamentos: nunca atualizados nem removidos
+CREATE TABLE ledger_entries (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    transfer_id UUID NOT NULL,
+    account_id UUID NOT NULL,
+    entry_type VARCHAR(10) NOT NULL,
+    amount DECIMAL(15,2) NOT NULL,
+    debit_seq BIGINT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT fk_ledger_entries_account FOREIGN KEY (account_id) REFERENCES accounts(id),
+    CONSTRAINT uk_ledger_entries_transfer UNIQUE (transfer_id, entry_type),
+    -- Débitos concorrentes calculados sobre o mesmo saldo colidem aqui
+    CONSTRAINT uk_ledger_entries_debit_seq UNIQUE (account_id, debit_seq),
+    CONSTRAINT chk_ledger_entries_type CHECK (entry_type IN ('DEBIT', 'CREDIT')),
+    CONSTRAINT chk_ledger_entries_debit_seq CHECK ((entry_type = 'DEBIT') = (debit_seq IS NOT NULL)),
+    CONSTRAINT chk_ledger_entries_amount_positive CHECK (amount > 0)
+);
+
+-- Soma dos lançamentos após o snapshot: index-only scan (linhas imutáveis
+-- ficam visíveis no visibility map após o vacuum)
+CREATE INDEX idx_ledger_entries_account ON ledger_entries(account_id, id) INCLUDE (entry_type, amount);
+
+-- Snapshots: uma linha por conta, avançada pelo LedgerCompactor
+CREATE TABLE balance_snapshots (
+    account_id UUID PRIMARY KEY,
+    last_entry_id BIGINT NOT NULL,
+    balance DECIMAL(15,2) NOT NULL,
+    available_limit DECIMAL(15,2) NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    version BIGINT NOT NULL DEFAULT 0,
+
+    CONSTRAINT fk_balance_snapshots_account FOREIGN KEY (account_id) REFERENCES accounts(id)
+);
+
+COMMENT ON TABLE ledger_entries IS 'Lançamentos de débito e crédito por transferência (append-only)';
+COMMENT ON TABLE balance_snapshots IS 'Saldos consolidados até last_entry_id';
+COMMENT ON COLUMN ledger_entries.debit_seq IS 'Sequencial de débitos por conta; nulo em créditos';
@@ -1,15 +1,19 @@
 package com.itau.transferapi.application.usecase;
 
 import com.itau.transferapi.application.dto.response.BalanceResponse;
+import com.itau.transferapi.application.port.output.AccountStatePort;
 import com.itau.transferapi.application.port.output.ClientDataPort;
 import com.itau.transferapi.domain.entity.Account;
 import com.itau.transferapi.domain.entity.Client;
 import com.itau.transferapi.domain.entity.DailyTransferLimit;
 import com.itau.transferapi.domain.exception.BusinessException;
+import com.itau.transferapi.domain.exception.IntegrationException;
 import com.itau.transferapi.domain.exception.ResourceNotFoundException;
 import com.itau.transferapi.domain.repository.AccountRepository;
 import com.itau.transferapi.domain.repository.DailyTransferLimitRepository;
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
 import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 import com.itau.transferapi.domain.valueobject.AccountStatus;
 import com.itau.transferapi.domain.valueobject.Money;
 import org.junit.jupiter.api.BeforeEach;
@@ -44,6 +48,9 @@ class BalanceQueryUseCaseImplTest {
     @Mock
     private ClientDataPort clientDataPort;
     
+    @Mock
+    private AccountStatePort accountState;
+    
     @InjectMocks
     private BalanceQueryUseCaseImpl balanceQueryUseCase;
     
@@ -83,6 +90,15 @@ class BalanceQueryUseCaseImplTest {
             .build();
     }
     
+    private void stubAccount(Account account) {
+        when(accountRepository.findReferenceByAccountAndAgency(
+                account.getAccountNumber(), account.getAgencyNumber()))
+            .thenReturn(Optional.of(new AccountReference(account.getId(), account.getClientId())));
+        when(accountState.findBalance(account.getId()))
+            .thenReturn(Optional.of(new AccountBalanceState(
+                account.getBalance(), account.getAvailableLimit(), account.getStatus())));
+    }
+    
     @Nested
     @DisplayName("Consulta de Saldo")
     class GetBalanceTests {
@@ -90,8 +106,7 @@ class BalanceQueryUseCaseImplTest {
         @Test
         @DisplayName("Deve retornar saldo com sucesso")
         void shouldReturnBalanceSuccessfully() {
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(activeAccount));
+            stubAccount(activeAccount);
             when(clientDataPort.findClientById(any()))
                 .thenReturn(Optional.of(activeClient));
             when(dailyTransferLimitRepository.findByAccountIdAndDate(any(), any()))
@@ -116,8 +131,7 @@ class BalanceQueryUseCaseImplTest {
                 .dailyLimit(Money.of("1000.00"))
                 .build();
             
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(activeAccount));
+            stubAccount(activeAccount);
             when(clientDataPort.findClientById(any()))
                 .thenReturn(Optional.of(activeClient));
             when(dailyTransferLimitRepository.findByAccountIdAndDate(any(), any()))
@@ -132,7 +146,7 @@ class BalanceQueryUseCaseImplTest {
         @Test
         @DisplayName("Deve lançar exceção para conta não encontrada")
         void shouldThrowExceptionForAccountNotFound() {
-            when(accountRepository.findByAccountAndAgency(anyString(), anyString()))
+            when(accountRepository.findReferenceByAccountAndAgency(anyString(), anyString()))
                 .thenReturn(Optional.empty());
             
             assertThatThrownBy(() -> balanceQueryUseCase.getBalance("99999-9", "9999"))
@@ -142,8 +156,7 @@ class BalanceQueryUseCaseImplTest {
         @Test
         @DisplayName("Deve lançar exceção para conta inativa")
         void shouldThrowExceptionForInactiveAccount() {
-            when(accountRepository.findByAccountAndAgency("11111-1", "0001"))
-                .thenReturn(Optional.of(inactiveAccount));
+            stubAccount(inactiveAccount);
             
             assertThatThrownBy(() -> balanceQueryUseCase.getBalance("11111-1", "0001"))
                 .isInstanceOf(BusinessException.class);
@@ -152,8 +165,7 @@ class BalanceQueryUseCaseImplTest {
         @Test
         @DisplayName("Deve usar fallback quando cliente não encontrado")
         void shouldUseFallbackWhenClientNotFound() {
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(activeAccount));
+            stubAccount(activeAccount);
             when(clientDataPort.findClientById(any()))
                 .thenReturn(Optional.empty());
             when(dailyTransferLimitRepository.findByAccountIdAndDate(any(), any()))
@@ -163,6 +175,20 @@ class BalanceQueryUseCaseImplTest {
             
             assertThat(response.holderName()).isEqualTo("Cliente");
         }
+        
+        @Test
+        @DisplayName("Deve consultar saldo com nome genérico quando Cadastro indisponível")
+        void shouldUseFallbackWhenCadastroUnavailable() {
+            stubAccount(activeAccount);
+            when(clientDataPort.findClientById(any()))
+                .thenThrow(IntegrationException.cadastroUnavailable(null));
+            when(dailyTransferLimitRepository.findByAccountIdAndDate(any(), any()))
+                .thenReturn(Optional.empty());
+            
+            BalanceResponse response = balanceQueryUseCase.getBalance("12345-6", "0001");
+            
+            assertThat(response.holderName()).isEqualTo("Cliente");
+        }
     }
 }
 
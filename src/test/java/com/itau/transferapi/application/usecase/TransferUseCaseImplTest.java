@@ -1,21 +1,28 @@
 package com.itau.transferapi.application.usecase;
 
 import com.itau.transferapi.application.dto.request.TransferRequest;
+import com.itau.transferapi.application.dto.response.TransferOutcome;
 import com.itau.transferapi.application.dto.response.TransferResponse;
+import com.itau.transferapi.application.port.output.AccountStatePort;
 import com.itau.transferapi.application.port.output.BacenNotificationPort;
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
 import com.itau.transferapi.application.port.output.ClientDataPort;
 import com.itau.transferapi.domain.entity.Account;
 import com.itau.transferapi.domain.entity.Client;
 import com.itau.transferapi.domain.entity.DailyTransferLimit;
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.IntegrationException;
+import com.itau.transferapi.domain.exception.ResourceNotFoundException;
 import com.itau.transferapi.domain.repository.AccountRepository;
 import com.itau.transferapi.domain.repository.DailyTransferLimitRepository;
 import com.itau.transferapi.domain.repository.TransferRepository;
 import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountReference;
 import com.itau.transferapi.domain.valueobject.AccountStatus;
 import com.itau.transferapi.domain.valueobject.Money;
 import com.itau.transferapi.domain.valueobject.TransferStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -24,6 +31,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
@@ -31,9 +39,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -55,6 +65,17 @@ class TransferUseCaseImplTest {
     @Mock
     private BacenNotificationPort bacenNotificationPort;
     
+    @Mock
+    private BalanceLedgerPort balanceLedger;
+    
+    @Mock
+    private AccountStatePort accountState;
+    
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    
+    @Spy
+    private TransferStageMetrics stageMetrics = new TransferStageMetrics(meterRegistry);
+    
     @InjectMocks
     private TransferUseCaseImpl transferUseCase;
     
@@ -100,6 +121,38 @@ class TransferUseCaseImplTest {
             .build();
     }
     
+    private void stubSourceAccount(Account account) {
+        when(accountRepository.findReferenceByAccountAndAgency(
+                account.getAccountNumber(), account.getAgencyNumber()))
+            .thenReturn(Optional.of(new AccountReference(account.getId(), account.getClientId())));
+        when(accountRepository.findByIdForUpdate(account.getId()))
+            .thenReturn(Optional.of(account));
+    }
+    
+    private long stageCount(String stage, String outcome) {
+        return meterRegistry.get("transfer.stage.duration")
+            .tag("stage", stage)
+            .tag("outcome", outcome)
+            .timer()
+            .count();
+    }
+    
+    private void stubTargetAccount(Account account) {
+        stubTargetReference(account);
+        when(accountRepository.findById(account.getId()))
+            .thenReturn(Optional.of(account));
+    }
+    
+    /**
+     * A resolução do destino roda em paralelo na pré-carga e pode ser
+     * cancelada antes de executar quando outra etapa falha primeiro.
+     */
+    private void stubTargetReference(Account account) {
+        lenient().when(accountRepository.findReferenceByAccountAndAgency(
+                account.getAccountNumber(), account.getAgencyNumber()))
+            .thenReturn(Optional.of(new AccountReference(account.getId(), account.getClientId())));
+    }
+    
     @Nested
     @DisplayName("Cenários de Sucesso")
     class SuccessScenarios {
@@ -108,15 +161,12 @@ class TransferUseCaseImplTest {
         @DisplayName("Deve realizar transferência com sucesso")
         void shouldExecuteTransferSuccessfully() {
             // Arrange
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(sourceAccount));
-            when(accountRepository.findByAccountAndAgency("98765-4", "0002"))
-                .thenReturn(Optional.of(targetAccount));
-            when(clientDataPort.findClientById(any()))
-                .thenReturn(Optional.of(client));
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
             when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
                 .thenReturn(Optional.empty());
-            when(accountRepository.save(any())).thenAnswer(i -> i.getArgument(0));
             when(transferRepository.save(any())).thenAnswer(i -> i.getArgument(0));
             when(dailyTransferLimitRepository.save(any())).thenAnswer(i -> i.getArgument(0));
             when(bacenNotificationPort.notifyTransfer(any()))
@@ -131,7 +181,11 @@ class TransferUseCaseImplTest {
             assertThat(response.bacenNotificationId()).isEqualTo("BCN-12345678");
             assertThat(response.amount()).isEqualByComparingTo("150.00");
             
-            verify(accountRepository, times(2)).save(any());
+            verify(balanceLedger).post(any(), eq(sourceAccount), eq(targetAccount));
+            verify(accountState).invalidate(sourceAccount.getId());
+            verify(accountState).invalidate(targetAccount.getId());
+            assertThat(sourceAccount.getBalance().getValue()).isEqualByComparingTo("4850.00");
+            assertThat(targetAccount.getBalance().getValue()).isEqualByComparingTo("1150.00");
             verify(transferRepository, times(2)).save(any());
             verify(bacenNotificationPort).notifyTransfer(any());
         }
@@ -158,10 +212,28 @@ class TransferUseCaseImplTest {
                 .isEqualTo(ErrorCode.SAME_ACCOUNT_TRANSFER);
         }
         
+        @Test
+        @DisplayName("Deve relançar a mesma instância pré-alocada para mesma conta")
+        void shouldReusePreallocatedSameAccountRejection() {
+            TransferRequest sameAccountRequest = TransferRequest.builder()
+                .sourceAccountNumber("12345-6")
+                .sourceAgencyNumber("0001")
+                .targetAccountNumber("12345-6")
+                .targetAgencyNumber("0001")
+                .amount(new BigDecimal("100.00"))
+                .build();
+            
+            Throwable first = catchThrowable(() -> transferUseCase.execute(sameAccountRequest));
+            Throwable second = catchThrowable(() -> transferUseCase.execute(sameAccountRequest));
+            
+            assertThat(first).isSameAs(second);
+            assertThat(first.getStackTrace()).isEmpty();
+        }
+        
         @Test
         @DisplayName("Deve rejeitar quando conta origem não existe")
         void shouldRejectWhenSourceAccountNotFound() {
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
+            when(accountRepository.findReferenceByAccountAndAgency("12345-6", "0001"))
                 .thenReturn(Optional.empty());
             
             assertThatThrownBy(() -> transferUseCase.execute(validRequest))
@@ -174,12 +246,10 @@ class TransferUseCaseImplTest {
             Account inactiveAccount = createAccount("12345-6", "0001", 
                 Money.of("5000.00"), Money.of("10000.00"), AccountStatus.INACTIVE);
             
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(inactiveAccount));
-            when(accountRepository.findByAccountAndAgency("98765-4", "0002"))
-                .thenReturn(Optional.of(targetAccount));
-            when(clientDataPort.findClientById(any()))
-                .thenReturn(Optional.of(client));
+            stubSourceAccount(inactiveAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
             
             assertThatThrownBy(() -> transferUseCase.execute(validRequest))
                 .isInstanceOf(BusinessException.class)
@@ -201,12 +271,10 @@ class TransferUseCaseImplTest {
                 .amount(new BigDecimal("100.00"))
                 .build();
             
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(lowBalanceAccount));
-            when(accountRepository.findByAccountAndAgency("98765-4", "0002"))
-                .thenReturn(Optional.of(targetAccount));
-            when(clientDataPort.findClientById(any()))
-                .thenReturn(Optional.of(client));
+            stubSourceAccount(lowBalanceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
             when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
                 .thenReturn(Optional.empty());
             
@@ -216,6 +284,21 @@ class TransferUseCaseImplTest {
                 .isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
         }
         
+        @Test
+        @DisplayName("Deve propagar falha da consulta assíncrona ao Cadastro sem CompletionException")
+        void shouldUnwrapAsyncClientLookupFailure() {
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.failedFuture(
+                    IntegrationException.cadastroError("Erro ao buscar cliente", null)));
+            
+            assertThatThrownBy(() -> transferUseCase.execute(validRequest))
+                .isInstanceOf(IntegrationException.class)
+                .extracting(e -> ((IntegrationException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CADASTRO_API_ERROR);
+        }
+        
         @Test
         @DisplayName("Deve rejeitar quando limite diário excedido")
         void shouldRejectWhenDailyLimitExceeded() {
@@ -226,12 +309,10 @@ class TransferUseCaseImplTest {
                 .dailyLimit(Money.of("1000.00"))
                 .build();
             
-            when(accountRepository.findByAccountAndAgency("12345-6", "0001"))
-                .thenReturn(Optional.of(sourceAccount));
-            when(accountRepository.findByAccountAndAgency("98765-4", "0002"))
-                .thenReturn(Optional.of(targetAccount));
-            when(clientDataPort.findClientById(any()))
-                .thenReturn(Optional.of(client));
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
             when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
                 .thenReturn(Optional.of(usedLimit));
             
@@ -241,6 +322,243 @@ class TransferUseCaseImplTest {
                 .isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
         }
     }
+    
+    @Nested
+    @DisplayName("Resultado sem exceções")
+    class ResultScenarios {
+        
+        @Test
+        @DisplayName("Deve retornar sucesso com a resposta da transferência")
+        void shouldReturnSuccessOutcome() {
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+            when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.empty());
+            when(transferRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+            when(dailyTransferLimitRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+            when(bacenNotificationPort.notifyTransfer(any())).thenReturn("BCN-12345678");
+            
+            TransferOutcome outcome = transferUseCase.executeForResult(validRequest);
+            
+            assertThat(outcome).isInstanceOfSatisfying(TransferOutcome.Success.class, success ->
+                assertThat(success.response().status()).isEqualTo(TransferStatus.BACEN_NOTIFIED));
+            assertThat(stageCount("account_lock", "success")).isEqualTo(1);
+            assertThat(stageCount("client_validation", "success")).isEqualTo(1);
+            assertThat(stageCount("daily_limit", "success")).isEqualTo(1);
+            assertThat(stageCount("persistence", "success")).isEqualTo(1);
+            assertThat(stageCount("bacen_notify", "success")).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("Deve retornar pendente quando o BACEN não é notificado")
+        void shouldReturnPendingBacenOutcome() {
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+            when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.empty());
+            when(transferRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+            when(dailyTransferLimitRepository.save(any())).thenAnswer(i -> i.getArgument(0));
+            when(bacenNotificationPort.notifyTransfer(any()))
+                .thenThrow(IntegrationException.bacenUnavailable(null));
+            
+            TransferOutcome outcome = transferUseCase.executeForResult(validRequest);
+            
+            assertThat(outcome).isInstanceOfSatisfying(TransferOutcome.PendingBacen.class, pending ->
+                assertThat(pending.response().status()).isEqualTo(TransferStatus.BACEN_PENDING));
+            assertThat(stageCount("persistence", "success")).isEqualTo(1);
+            assertThat(stageCount("bacen_notify", "error")).isEqualTo(1);
+        }
+        
+        @Test
+        @DisplayName("Deve retornar recusa por limite diário sem gravar nada")
+        void shouldReturnDailyLimitRejection() {
+            DailyTransferLimit usedLimit = DailyTransferLimit.builder()
+                .accountId(sourceAccount.getId())
+                .date(LocalDate.now())
+                .usedAmount(Money.of("950.00"))
+                .dailyLimit(Money.of("1000.00"))
+                .build();
+            
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+            when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.of(usedLimit));
+            
+            TransferOutcome outcome = transferUseCase.executeForResult(validRequest);
+            
+            assertThat(outcome).isInstanceOfSatisfying(TransferOutcome.Rejected.class, rejected -> {
+                assertThat(rejected.errorCode()).isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+                assertThat(rejected.details()).contains("Limite diário excedido");
+            });
+            verifyNoInteractions(transferRepository, balanceLedger, bacenNotificationPort);
+            verify(dailyTransferLimitRepository, never()).save(any());
+            assertThat(stageCount("daily_limit", "rejected")).isEqualTo(1);
+            assertThat(stageCount("persistence", "success")).isZero();
+        }
+        
+        @Test
+        @DisplayName("Deve retornar recusa por saldo antes de movimentar as contas")
+        void shouldReturnInsufficientBalanceRejection() {
+            Account lowBalanceAccount = createAccount("12345-6", "0001", 
+                Money.of("50.00"), Money.of("10000.00"), AccountStatus.ACTIVE);
+            
+            stubSourceAccount(lowBalanceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+            when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.empty());
+            
+            TransferOutcome outcome = transferUseCase.executeForResult(TransferRequest.builder()
+                .sourceAccountNumber("12345-6")
+                .sourceAgencyNumber("0001")
+                .targetAccountNumber("98765-4")
+                .targetAgencyNumber("0002")
+                .amount(new BigDecimal("100.00"))
+                .build());
+            
+            assertThat(outcome).isInstanceOfSatisfying(TransferOutcome.Rejected.class, rejected ->
+                assertThat(rejected.errorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE));
+            assertThat(lowBalanceAccount.getBalance()).isEqualTo(Money.of("50.00"));
+            verifyNoInteractions(transferRepository, balanceLedger);
+        }
+        
+        @Test
+        @DisplayName("Deve retornar recusa quando o cliente está inativo")
+        void shouldReturnInactiveClientRejection() {
+            Client inactiveClient = Client.builder()
+                .id(sourceAccount.getClientId())
+                .name("João Silva")
+                .documentNumber("12345678900")
+                .active(false)
+                .build();
+            
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            lenient().when(accountRepository.findById(targetAccount.getId())).thenReturn(Optional.of(targetAccount));
+            lenient().when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.empty());
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(inactiveClient)));
+            
+            TransferOutcome outcome = transferUseCase.executeForResult(validRequest);
+            
+            assertThat(outcome).isInstanceOfSatisfying(TransferOutcome.Rejected.class, rejected ->
+                assertThat(rejected.errorCode()).isEqualTo(ErrorCode.CLIENT_NOT_ACTIVE));
+        }
+    }
+    
+    @Nested
+    @DisplayName("Pré-carga")
+    class PrefetchStage {
+        
+        @Test
+        @DisplayName("Deve cancelar consulta pendente ao Cadastro na primeira falha de negócio")
+        void shouldCancelPendingClientLookupOnBusinessFailure() {
+            Account inactiveAccount = createAccount("12345-6", "0001", 
+                Money.of("5000.00"), Money.of("10000.00"), AccountStatus.INACTIVE);
+            CompletableFuture<Optional<Client>> pendingLookup = new CompletableFuture<>();
+            
+            stubSourceAccount(inactiveAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(inactiveAccount.getClientId()))
+                .thenReturn(pendingLookup);
+            
+            assertThatThrownBy(() -> transferUseCase.execute(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.ACCOUNT_NOT_ACTIVE);
+            
+            assertThat(pendingLookup).isCancelled();
+            // Cancelamento não conta como erro do Cadastro
+            assertThat(stageCount("client_validation", "error")).isZero();
+        }
+        
+        @Test
+        @DisplayName("Deve resolver a conta destino antes de validar o limite diário")
+        void shouldResolveTargetAccountBeforeDailyLimit() {
+            stubSourceAccount(sourceAccount);
+            stubTargetReference(targetAccount);
+            when(clientDataPort.findClientByIdAsync(any()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+            lenient().when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenReturn(Optional.of(DailyTransferLimit.builder()
+                    .accountId(sourceAccount.getId())
+                    .date(LocalDate.now())
+                    .usedAmount(Money.of("1000.00"))
+                    .dailyLimit(Money.of("1000.00"))
+                    .build()));
+            
+            assertThatThrownBy(() -> transferUseCase.execute(validRequest))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining(targetAccount.getAccountNumber());
+            
+            verify(dailyTransferLimitRepository, never()).findByAccountIdAndDateForUpdate(any(), any());
+        }
+        
+        @Test
+        @DisplayName("Deve interromper a pré-carga quando o cliente está inativo")
+        void shouldStopPrefetchWhenClientIsInactive() {
+            Client inactiveClient = Client.builder()
+                .id(sourceAccount.getClientId())
+                .name("João Silva")
+                .documentNumber("12345678900")
+                .active(false)
+                .build();
+            
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(sourceAccount.getClientId()))
+                .thenReturn(CompletableFuture.completedFuture(Optional.of(inactiveClient)));
+            
+            assertThatThrownBy(() -> transferUseCase.execute(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CLIENT_NOT_ACTIVE);
+            
+            verify(accountRepository, never()).save(any());
+            verify(balanceLedger, never()).post(any(), any(), any());
+            verifyNoInteractions(accountState);
+        }
+        
+        @Test
+        @DisplayName("Deve recusar por cliente inativo mesmo quando o Cadastro responde após o limite diário")
+        void shouldPreferClientViolationOverDailyLimitRegardlessOfTiming() {
+            Client inactiveClient = Client.builder()
+                .id(sourceAccount.getClientId())
+                .name("João Silva")
+                .documentNumber("12345678900")
+                .active(false)
+                .build();
+            CompletableFuture<Optional<Client>> pendingLookup = new CompletableFuture<>();
+            
+            stubSourceAccount(sourceAccount);
+            stubTargetAccount(targetAccount);
+            when(clientDataPort.findClientByIdAsync(sourceAccount.getClientId()))
+                .thenReturn(pendingLookup);
+            when(dailyTransferLimitRepository.findByAccountIdAndDateForUpdate(any(), any()))
+                .thenAnswer(invocation -> {
+                    // Limite diário já lido; o Cadastro responde só agora
+                    assertThat(pendingLookup).isNotDone();
+                    CompletableFuture.runAsync(() -> pendingLookup.complete(Optional.of(inactiveClient)));
+                    return Optional.of(DailyTransferLimit.builder()
+                        .accountId(sourceAccount.getId())
+                        .date(LocalDate.now())
+                        .usedAmount(Money.of("1000.00"))
+                        .dailyLimit(Money.of("1000.00"))
+                        .build());
+                });
+            
+            assertThatThrownBy(() -> transferUseCase.execute(validRequest))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CLIENT_NOT_ACTIVE);
+        }
+    }
 }
-
-
@@ -2,6 +2,7 @@ package com.itau.transferapi.domain.entity;
 
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.RuleViolation;
 import com.itau.transferapi.domain.valueobject.AccountId;
 import com.itau.transferapi.domain.valueobject.AccountStatus;
 import com.itau.transferapi.domain.valueobject.Money;
@@ -168,6 +169,17 @@ class AccountTest {
             assertThatThrownBy(() -> inactiveAccount.debit(Money.of("100.00")))
                 .isInstanceOf(BusinessException.class);
         }
+        
+        @Test
+        @DisplayName("Deve retornar a primeira violação de débito sem lançar")
+        void shouldReturnFirstDebitViolation() {
+            Account lowBalance = createActiveAccount(Money.of("50.00"), Money.of("10.00"));
+            
+            assertThat(account.checkDebit(Money.of("200.00"))).isEmpty();
+            assertThat(lowBalance.checkDebit(Money.of("100.00")))
+                .get().extracting(RuleViolation::getErrorCode).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+            assertThat(lowBalance.getBalance()).isEqualTo(Money.of("50.00"));
+        }
     }
     
     @Nested
@@ -186,6 +198,32 @@ class AccountTest {
                 .isEqualTo(initialBalance.add(creditAmount));
         }
     }
+    
+    @Nested
+    @DisplayName("Reaplicação de Efeitos Registrados")
+    class ReplayTests {
+        
+        @Test
+        @DisplayName("Deve reaplicar débito e crédito sem validar conta e saldo")
+        void shouldReplayWithoutValidation() {
+            Account inactiveAccount = Account.builder()
+                .id(AccountId.generate())
+                .accountNumber("12345-6")
+                .agencyNumber("0001")
+                .clientId(UUID.randomUUID())
+                .balance(Money.of("100.00"))
+                .availableLimit(Money.of("100.00"))
+                .status(AccountStatus.INACTIVE)
+                .createdAt(LocalDateTime.now())
+                .build();
+            
+            inactiveAccount.replayDebit(Money.of("300.00"));
+            inactiveAccount.replayCredit(Money.of("50.00"));
+            
+            assertThat(inactiveAccount.getBalance()).isEqualTo(Money.of("-150.00"));
+            assertThat(inactiveAccount.getAvailableLimit()).isEqualTo(Money.of("-200.00"));
+        }
+    }
 }
 
 
@@ -87,6 +87,16 @@ class DailyTransferLimitTest {
             assertThatNoException()
                 .isThrownBy(() -> dailyLimit.validateLimit(Money.of("800.00")));
         }
+        
+        @Test
+        @DisplayName("Deve retornar violação sem lançar quando excede limite")
+        void shouldReturnViolationWhenExceedsLimit() {
+            assertThat(dailyLimit.checkLimit(Money.of("500.00"))).isEmpty();
+            assertThat(dailyLimit.checkLimit(Money.of("900.00"))).get().satisfies(violation -> {
+                assertThat(violation.getErrorCode()).isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED);
+                assertThat(violation.getDetails()).contains("Disponível");
+            });
+        }
     }
     
     @Nested
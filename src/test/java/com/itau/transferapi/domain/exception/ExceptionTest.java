@@ -4,6 +4,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.assertj.core.api.Assertions.*;
 
 @DisplayName("Exception Tests")
@@ -147,6 +149,35 @@ class ExceptionTest {
             assertThat(formatted).contains("ITAU-1004");
             assertThat(formatted).contains("mesma conta");
         }
+        
+        @Test
+        @DisplayName("Não deve capturar stack trace nem exceções suprimidas")
+        void shouldBeStackless() {
+            BusinessException ex = new BusinessException(ErrorCode.DAILY_LIMIT_EXCEEDED, "Detalhes");
+        
+            ex.addSuppressed(new RuntimeException("suprimida"));
+        
+            assertThat(ex.getStackTrace()).isEmpty();
+            assertThat(ex.getSuppressed()).isEmpty();
+        }
+        
+        @Test
+        @DisplayName("Deve formatar detalhes apenas quando lidos, uma única vez")
+        void shouldFormatDetailsLazily() {
+            AtomicInteger formatted = new AtomicInteger();
+            BusinessException ex = new BusinessException(
+                ErrorCode.INSUFFICIENT_BALANCE,
+                () -> "Saldo insuficiente #" + formatted.incrementAndGet()
+            );
+        
+            assertThat(ex.getErrorCode()).isEqualTo(ErrorCode.INSUFFICIENT_BALANCE);
+            assertThat(formatted).hasValue(0);
+        
+            assertThat(ex.getDetails()).isEqualTo("Saldo insuficiente #1");
+            assertThat(ex.getMessage()).isEqualTo("Saldo insuficiente #1");
+            assertThat(ex.getFormattedMessage()).contains("ITAU-2002", "Saldo insuficiente #1");
+            assertThat(formatted).hasValue(1);
+        }
     }
     
     @Nested
@@ -0,0 +1,64 @@
+package com.itau.transferapi.domain.valueobject;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AccountReference Value Object Tests")
+class AccountReferenceTest {
+
+    @Nested
+    @DisplayName("Criação")
+    class CreationTests {
+
+        @Test
+        @DisplayName("Deve criar referência a partir de UUIDs")
+        void shouldCreateFromUUIDs() {
+            UUID accountId = UUID.randomUUID();
+            UUID clientId = UUID.randomUUID();
+
+            AccountReference reference = AccountReference.of(accountId, clientId);
+
+            assertThat(reference.accountId()).isEqualTo(AccountId.of(accountId));
+            assertThat(reference.clientId()).isEqualTo(clientId);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para ID da conta nulo")
+        void shouldThrowExceptionForNullAccountId() {
+            assertThatThrownBy(() -> new AccountReference(null, UUID.randomUUID()))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("não pode ser nulo");
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção para ID do cliente nulo")
+        void shouldThrowExceptionForNullClientId() {
+            assertThatThrownBy(() -> new AccountReference(AccountId.generate(), null))
+                .isInstanceOf(NullPointerException.class)
+                .hasMessageContaining("não pode ser nulo");
+        }
+    }
+
+    @Nested
+    @DisplayName("Equals e HashCode")
+    class EqualsHashCodeTests {
+
+        @Test
+        @DisplayName("Referências com mesmos IDs devem ser equals")
+        void equalReferencesShouldBeEqual() {
+            UUID accountId = UUID.randomUUID();
+            UUID clientId = UUID.randomUUID();
+
+            AccountReference a = AccountReference.of(accountId, clientId);
+            AccountReference b = AccountReference.of(accountId, clientId);
+
+            assertThat(a).isEqualTo(b);
+            assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        }
+    }
+}
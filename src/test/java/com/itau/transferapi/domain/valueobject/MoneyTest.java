@@ -286,6 +286,32 @@ class MoneyTest {
             assertThat(Money.of("0.01").isZero()).isFalse();
         }
     }
+    
+    @Nested
+    @DisplayName("Conversão para centavos")
+    class MinorUnitsTests {
+        
+        @Test
+        @DisplayName("Deve converter para centavos")
+        void shouldConvertToMinorUnits() {
+            assertThat(Money.of("1234.56").toMinorUnits()).isEqualTo(123456L);
+            assertThat(Money.of("-0.01").toMinorUnits()).isEqualTo(-1L);
+            assertThat(Money.zero().toMinorUnits()).isZero();
+        }
+        
+        @Test
+        @DisplayName("Deve criar Money a partir de centavos")
+        void shouldCreateFromMinorUnits() {
+            assertThat(Money.ofMinorUnits(123456L)).isEqualTo(Money.of("1234.56"));
+            assertThat(Money.ofMinorUnits(Long.MAX_VALUE).toMinorUnits()).isEqualTo(Long.MAX_VALUE);
+        }
+        
+        @Test
+        @DisplayName("Deve rejeitar valor que não cabe em centavos long")
+        void shouldRejectOverflow() {
+            Money huge = Money.of(new BigDecimal(Long.MAX_VALUE).add(BigDecimal.ONE));
+            
+            assertThatThrownBy(huge::toMinorUnits).isInstanceOf(ArithmeticException.class);
+        }
+    }
 }
-
-
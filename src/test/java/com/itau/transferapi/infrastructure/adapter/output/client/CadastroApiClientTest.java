@@ -0,0 +1,131 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.itau.transferapi.domain.entity.Client;
+import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.IntegrationException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("CadastroApiClient Tests")
+class CadastroApiClientTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private RestTemplate restTemplate;
+    private CadastroClientCache cache;
+    private ExternalCallExecutor executor;
+    private CadastroApiClient client;
+    private UUID clientId;
+
+    @BeforeEach
+    void setUp() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        restTemplate = mock(RestTemplate.class);
+        cache = new CadastroClientCache(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(1),
+            Duration.ofHours(1),
+            Duration.ofSeconds(30),
+            1000,
+            meterRegistry,
+            nanos::get);
+        executor = new ExternalCallExecutor(
+            CircuitBreakerRegistry.ofDefaults(),
+            RetryRegistry.of(RetryConfig.custom()
+                .maxAttempts(1)
+                .retryExceptions(HttpServerErrorException.class)
+                .build()),
+            BulkheadRegistry.ofDefaults(),
+            RateLimiterRegistry.ofDefaults(),
+            TimeLimiterRegistry.ofDefaults(),
+            meterRegistry);
+        client = new CadastroApiClient(restTemplate, mock(HttpClient.class), new ObjectMapper(),
+            cache, executor, mock(TraceHeaders.class));
+        ReflectionTestUtils.setField(client, "baseUrl", "http://cadastro");
+        clientId = UUID.randomUUID();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private void cadastroUnavailable() {
+        when(restTemplate.getForObject(anyString(), any(Class.class)))
+            .thenThrow(HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "indisponível", null, null, null));
+    }
+
+    @Nested
+    @DisplayName("Fallback da busca por ID")
+    class FallbackTests {
+
+        @Test
+        @DisplayName("Deve servir último cliente conhecido dentro da idade máxima")
+        void shouldServeLastKnownClient() {
+            Client inactive = Client.builder()
+                .id(clientId)
+                .name("João Silva")
+                .documentNumber("12345678900")
+                .active(false)
+                .build();
+            cache.put(clientId, Optional.of(inactive));
+            advance(Duration.ofMinutes(30));
+            cadastroUnavailable();
+
+            assertThat(client.findClientById(clientId)).contains(inactive);
+        }
+
+        @Test
+        @DisplayName("Deve falhar como indisponível sem último cliente conhecido")
+        void shouldFailWithoutLastKnownClient() {
+            cadastroUnavailable();
+
+            assertThatThrownBy(() -> client.findClientById(clientId))
+                .isInstanceOfSatisfying(IntegrationException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.CADASTRO_API_UNAVAILABLE);
+                    assertThat(e.isRetryable()).isTrue();
+                });
+        }
+
+        @Test
+        @DisplayName("Deve falhar como indisponível com último cliente além da idade máxima")
+        void shouldFailWithExpiredLastKnownClient() {
+            cache.put(clientId, Optional.of(Client.builder().id(clientId).name("João Silva").active(true).build()));
+            advance(Duration.ofMinutes(61));
+            cadastroUnavailable();
+
+            assertThatThrownBy(() -> client.findClientById(clientId))
+                .isInstanceOf(IntegrationException.class);
+        }
+    }
+}
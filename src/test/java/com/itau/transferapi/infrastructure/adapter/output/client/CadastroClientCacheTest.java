@@ -0,0 +1,171 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import com.itau.transferapi.domain.entity.Client;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("CadastroClientCache Tests")
+class CadastroClientCacheTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private CadastroClientCache cache;
+    private UUID clientId;
+    private Client client;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new CadastroClientCache(
+            Duration.ofMinutes(5),
+            Duration.ofMinutes(1),
+            Duration.ofHours(1),
+            Duration.ofSeconds(30),
+            1000,
+            meterRegistry,
+            nanos::get);
+        clientId = UUID.randomUUID();
+        client = Client.builder()
+            .id(clientId)
+            .name("João Silva")
+            .documentNumber("12345678900")
+            .active(true)
+            .build();
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private long served(String state) {
+        return meterRegistry.get(CadastroClientCache.AGE_METRIC).tag("state", state).timer().count();
+    }
+
+    @Nested
+    @DisplayName("Entradas positivas")
+    class PositiveEntries {
+
+        @Test
+        @DisplayName("Deve servir entrada fresca sem revalidação")
+        void shouldServeFreshEntry() {
+            cache.put(clientId, Optional.of(client));
+            advance(Duration.ofMinutes(4));
+
+            var lookup = cache.get(clientId);
+
+            assertThat(lookup).isPresent();
+            assertThat(lookup.get().client()).contains(client);
+            assertThat(lookup.get().needsRevalidation()).isFalse();
+            assertThat(served("fresh")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve servir entrada velha pedindo revalidação")
+        void shouldServeStaleEntryWithRevalidation() {
+            cache.put(clientId, Optional.of(client));
+            advance(Duration.ofSeconds(330));
+
+            var lookup = cache.get(clientId);
+
+            assertThat(lookup).isPresent();
+            assertThat(lookup.get().client()).contains(client);
+            assertThat(lookup.get().needsRevalidation()).isTrue();
+            assertThat(served("stale")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve tratar como ausente após a janela de revalidação")
+        void shouldMissAfterRevalidationWindow() {
+            cache.put(clientId, Optional.of(client));
+            advance(Duration.ofMinutes(10));
+
+            assertThat(cache.get(clientId)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Último valor conhecido")
+    class LastKnown {
+
+        @Test
+        @DisplayName("Deve servir último cliente conhecido dentro da idade máxima")
+        void shouldServeLastKnownWithinMaxStaleness() {
+            cache.put(clientId, Optional.of(client));
+            advance(Duration.ofMinutes(30));
+
+            assertThat(cache.lastKnown(clientId)).contains(client);
+            assertThat(served("last_known")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Não deve servir cliente além da idade máxima")
+        void shouldNotServeBeyondMaxStaleness() {
+            cache.put(clientId, Optional.of(client));
+            advance(Duration.ofMinutes(61));
+
+            assertThat(cache.lastKnown(clientId)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Não deve usar entrada negativa como último valor conhecido")
+        void shouldIgnoreNegativeEntry() {
+            cache.put(clientId, Optional.empty());
+
+            assertThat(cache.lastKnown(clientId)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Entradas negativas")
+    class NegativeEntries {
+
+        @Test
+        @DisplayName("Deve servir cliente inexistente a partir do cache")
+        void shouldServeNegativeEntry() {
+            cache.put(clientId, Optional.empty());
+            advance(Duration.ofSeconds(10));
+
+            var lookup = cache.get(clientId);
+
+            assertThat(lookup).isPresent();
+            assertThat(lookup.get().client()).isEmpty();
+            assertThat(lookup.get().needsRevalidation()).isFalse();
+            assertThat(served("negative")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve expirar entrada negativa após TTL curto")
+        void shouldExpireNegativeEntry() {
+            cache.put(clientId, Optional.empty());
+            advance(Duration.ofSeconds(31));
+
+            assertThat(cache.get(clientId)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Revalidação")
+    class Refresh {
+
+        @Test
+        @DisplayName("Deve permitir apenas uma revalidação por cliente")
+        void shouldAllowSingleRefreshPerClient() {
+            assertThat(cache.tryStartRefresh(clientId)).isTrue();
+            assertThat(cache.tryStartRefresh(clientId)).isFalse();
+
+            cache.finishRefresh(clientId);
+
+            assertThat(cache.tryStartRefresh(clientId)).isTrue();
+        }
+    }
+}
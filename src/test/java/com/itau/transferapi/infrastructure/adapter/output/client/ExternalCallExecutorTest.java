@@ -0,0 +1,178 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.retry.RetryConfig;
+import io.github.resilience4j.retry.RetryRegistry;
+import io.github.resilience4j.timelimiter.TimeLimiterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpServerErrorException;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExternalCallExecutor Tests")
+class ExternalCallExecutorTest {
+
+    private static final String SERVICE = "testApi";
+
+    private SimpleMeterRegistry meterRegistry;
+    private ExternalCallExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        RetryRegistry retryRegistry = RetryRegistry.of(RetryConfig.custom()
+            .maxAttempts(3)
+            .waitDuration(Duration.ofMillis(1))
+            .retryExceptions(HttpServerErrorException.class)
+            .build());
+        executor = new ExternalCallExecutor(
+            CircuitBreakerRegistry.ofDefaults(),
+            retryRegistry,
+            BulkheadRegistry.ofDefaults(),
+            RateLimiterRegistry.ofDefaults(),
+            TimeLimiterRegistry.ofDefaults(),
+            meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private long count(String metric, String outcome) {
+        var timer = meterRegistry.find(metric).tag("outcome", outcome).timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    @Nested
+    @DisplayName("Chamada síncrona")
+    class SyncCalls {
+
+        @Test
+        @DisplayName("Deve registrar cada tentativa e uma única chamada")
+        void shouldRecordAttemptsAndSingleCall() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = executor.execute(SERVICE, "op", () -> {
+                if (attempts.incrementAndGet() < 3) {
+                    throw HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "indisponível", null, null, null);
+                }
+                return "ok";
+            }, null);
+
+            assertThat(result).isEqualTo("ok");
+            assertThat(attempts).hasValue(3);
+            assertThat(count(ExternalCallExecutor.ATTEMPT_METRIC, "error")).isEqualTo(2);
+            assertThat(count(ExternalCallExecutor.ATTEMPT_METRIC, "success")).isEqualTo(1);
+            assertThat(count(ExternalCallExecutor.CALL_METRIC, "success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve aplicar fallback somente após esgotar as tentativas")
+        void shouldApplyFallbackAfterRetriesExhausted() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            String result = executor.execute(SERVICE, "op", () -> {
+                attempts.incrementAndGet();
+                throw HttpServerErrorException.create(
+                    HttpStatus.BAD_GATEWAY, "falha", null, null, null);
+            }, t -> "fallback");
+
+            assertThat(result).isEqualTo("fallback");
+            assertThat(attempts).hasValue(3);
+            assertThat(count(ExternalCallExecutor.CALL_METRIC, "fallback")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Não deve repetir exceções fora da lista de retry")
+        void shouldNotRetryNonRetryableException() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertThatThrownBy(() -> executor.execute(SERVICE, "op", () -> {
+                attempts.incrementAndGet();
+                throw new IllegalStateException("erro de negócio");
+            }, null))
+                .isInstanceOf(IllegalStateException.class);
+
+            assertThat(attempts).hasValue(1);
+            assertThat(count(ExternalCallExecutor.CALL_METRIC, "error")).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Chamada assíncrona")
+    class AsyncCalls {
+
+        @Test
+        @DisplayName("Deve repetir falhas assíncronas e entregar o resultado")
+        void shouldRetryAsyncFailures() {
+            AtomicInteger attempts = new AtomicInteger();
+
+            CompletableFuture<String> result = executor.executeAsync(SERVICE, "op", () -> {
+                if (attempts.incrementAndGet() < 2) {
+                    return CompletableFuture.failedFuture(HttpServerErrorException.create(
+                        HttpStatus.SERVICE_UNAVAILABLE, "indisponível", null, null, null));
+                }
+                return CompletableFuture.completedFuture("ok");
+            }, null);
+
+            assertThat(result.join()).isEqualTo("ok");
+            assertThat(attempts).hasValue(2);
+            assertThat(count(ExternalCallExecutor.ATTEMPT_METRIC, "error")).isEqualTo(1);
+            assertThat(count(ExternalCallExecutor.CALL_METRIC, "success")).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve propagar a exceção do fallback sem CompletionException aninhada")
+        void shouldPropagateFallbackException() {
+            CompletableFuture<String> result = executor.executeAsync(SERVICE, "op",
+                () -> CompletableFuture.failedFuture(new IllegalStateException("falha")),
+                t -> {
+                    throw new IllegalArgumentException("fallback: " + t.getMessage());
+                });
+
+            assertThatThrownBy(result::join)
+                .hasCauseInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("fallback: falha");
+        }
+    }
+
+    @Nested
+    @DisplayName("Orçamento de retries")
+    class RetryBudgetTests {
+
+        @Test
+        @DisplayName("Deve parar de repetir quando o orçamento se esgota")
+        void shouldStopRetryingWhenBudgetIsExhausted() {
+            RetryBudget budget = executor.applyRetryBudget(SERVICE, 0.1, 1);
+            AtomicInteger attempts = new AtomicInteger();
+            Supplier<String> failing = () -> {
+                attempts.incrementAndGet();
+                throw HttpServerErrorException.create(
+                    HttpStatus.SERVICE_UNAVAILABLE, "indisponível", null, null, null);
+            };
+
+            assertThat(executor.execute(SERVICE, "op", failing, t -> "fallback")).isEqualTo("fallback");
+            assertThat(attempts).hasValue(2);
+            assertThat(budget.availableTokens()).isLessThan(1.0);
+
+            attempts.set(0);
+            assertThat(executor.execute(SERVICE, "op", failing, t -> "fallback")).isEqualTo("fallback");
+            assertThat(attempts).hasValue(1);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.await;
+
+@DisplayName("RequestHedger Tests")
+class RequestHedgerTest {
+
+    private static final Duration HEDGE_DELAY = Duration.ofMillis(20);
+
+    private SimpleMeterRegistry meterRegistry;
+    private ScheduledExecutorService scheduler;
+    private List<CompletableFuture<String>> requests;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        scheduler = Executors.newSingleThreadScheduledExecutor();
+        requests = new CopyOnWriteArrayList<>();
+    }
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+    }
+
+    private RequestHedger hedger(RetryBudget budget) {
+        return new RequestHedger("testApi", "op", budget, scheduler, meterRegistry,
+            HEDGE_DELAY, Duration.ofMillis(1));
+    }
+
+    private CompletableFuture<String> pendingRequest() {
+        CompletableFuture<String> request = new CompletableFuture<>();
+        requests.add(request);
+        return request;
+    }
+
+    private double hedges(String outcome) {
+        return meterRegistry.get(RequestHedger.HEDGE_METRIC).tag("outcome", outcome).counter().count();
+    }
+
+    @Test
+    @DisplayName("Não deve enviar hedge quando a requisição original responde a tempo")
+    void shouldNotHedgeFastResponse() throws Exception {
+        RequestHedger hedger = hedger(new RetryBudget(0.1, 10));
+
+        CompletableFuture<String> result = hedger.execute(() -> CompletableFuture.completedFuture("ok"));
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+        Thread.sleep(HEDGE_DELAY.toMillis() * 3);
+        assertThat(hedges("sent")).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve enviar hedge após o atraso e cancelar a requisição perdedora")
+    void shouldHedgeSlowResponseAndCancelLoser() throws Exception {
+        RequestHedger hedger = hedger(new RetryBudget(0.1, 10));
+
+        CompletableFuture<String> result = hedger.execute(this::pendingRequest);
+        await().atMost(Duration.ofSeconds(2)).until(() -> requests.size() == 2);
+        requests.get(1).complete("hedge");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+        assertThat(requests.get(0)).isCancelled();
+        assertThat(hedges("sent")).isEqualTo(1);
+        await().atMost(Duration.ofSeconds(2)).until(() -> hedges("won") == 1);
+    }
+
+    @Test
+    @DisplayName("Deve aguardar o hedge quando a requisição original falha")
+    void shouldWaitForHedgeWhenPrimaryFails() throws Exception {
+        RequestHedger hedger = hedger(new RetryBudget(0.1, 10));
+
+        CompletableFuture<String> result = hedger.execute(this::pendingRequest);
+        await().atMost(Duration.ofSeconds(2)).until(() -> requests.size() == 2);
+        requests.get(0).completeExceptionally(new IllegalStateException("falha"));
+
+        assertThat(result).isNotDone();
+        requests.get(1).complete("hedge");
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("hedge");
+    }
+
+    @Test
+    @DisplayName("Não deve enviar hedge sem saldo no orçamento")
+    void shouldSkipHedgeWithoutBudget() throws Exception {
+        RetryBudget budget = new RetryBudget(0.1, 1);
+        budget.tryAcquire();
+        RequestHedger hedger = hedger(budget);
+
+        CompletableFuture<String> result = hedger.execute(this::pendingRequest);
+        await().atMost(Duration.ofSeconds(2)).until(() -> hedges("skipped") == 1);
+        requests.get(0).complete("original");
+
+        assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("original");
+        assertThat(requests).hasSize(1);
+    }
+}
@@ -0,0 +1,121 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("RetryBudget Tests")
+class RetryBudgetTest {
+
+    @Nested
+    @DisplayName("Criação")
+    class CreationTests {
+
+        @Test
+        @DisplayName("Deve iniciar com o orçamento cheio")
+        void shouldStartFull() {
+            RetryBudget budget = new RetryBudget(0.1, 5);
+
+            assertThat(budget.availableTokens()).isEqualTo(5.0);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar proporção inválida")
+        void shouldRejectInvalidRatio() {
+            assertThatThrownBy(() -> new RetryBudget(0, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new RetryBudget(1.5, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar capacidade não positiva")
+        void shouldRejectInvalidCapacity() {
+            assertThatThrownBy(() -> new RetryBudget(0.1, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Consumo e depósito")
+    class ConsumptionTests {
+
+        @Test
+        @DisplayName("Deve negar retries após esgotar os tokens")
+        void shouldDenyWhenExhausted() {
+            RetryBudget budget = new RetryBudget(0.1, 2);
+
+            assertThat(budget.tryAcquire()).isTrue();
+            assertThat(budget.tryAcquire()).isTrue();
+            assertThat(budget.tryAcquire()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve liberar um retry a cada 10 chamadas com proporção de 10%")
+        void shouldRefillProportionallyToCalls() {
+            RetryBudget budget = new RetryBudget(0.1, 1);
+            budget.tryAcquire();
+
+            for (int i = 0; i < 9; i++) {
+                budget.recordCall();
+            }
+            assertThat(budget.tryAcquire()).isFalse();
+
+            budget.recordCall();
+            assertThat(budget.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Não deve acumular além da capacidade")
+        void shouldNotExceedCapacity() {
+            RetryBudget budget = new RetryBudget(0.5, 3);
+
+            for (int i = 0; i < 100; i++) {
+                budget.recordCall();
+            }
+
+            assertThat(budget.availableTokens()).isEqualTo(3.0);
+        }
+
+        @Test
+        @DisplayName("Não deve conceder mais tokens que o saldo sob concorrência")
+        void shouldNotOverspendUnderContention() throws InterruptedException {
+            RetryBudget budget = new RetryBudget(0.1, 50);
+            AtomicInteger granted = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            int threads = 8;
+            CountDownLatch done = new CountDownLatch(threads);
+
+            try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+                for (int t = 0; t < threads; t++) {
+                    executor.submit(() -> {
+                        try {
+                            start.await();
+                            for (int i = 0; i < 100; i++) {
+                                if (budget.tryAcquire()) {
+                                    granted.incrementAndGet();
+                                }
+                            }
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                start.countDown();
+                done.await();
+            }
+
+            assertThat(granted).hasValue(50);
+            assertThat(budget.availableTokens()).isZero();
+        }
+    }
+}
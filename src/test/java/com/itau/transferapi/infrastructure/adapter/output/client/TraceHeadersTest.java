@@ -0,0 +1,81 @@
+package com.itau.transferapi.infrastructure.adapter.output.client;
+
+import brave.Tracing;
+import brave.propagation.ThreadLocalCurrentTraceContext;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.brave.bridge.BraveBaggageManager;
+import io.micrometer.tracing.brave.bridge.BraveCurrentTraceContext;
+import io.micrometer.tracing.brave.bridge.BravePropagator;
+import io.micrometer.tracing.brave.bridge.BraveTracer;
+import io.micrometer.tracing.propagation.Propagator;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TraceHeaders Tests")
+class TraceHeadersTest {
+
+    private Tracing tracing;
+    private Tracer tracer;
+    private TraceHeaders traceHeaders;
+
+    @BeforeEach
+    void setUp() {
+        tracing = Tracing.newBuilder()
+            .currentTraceContext(ThreadLocalCurrentTraceContext.create())
+            .build();
+        tracer = new BraveTracer(tracing.tracer(),
+            new BraveCurrentTraceContext(tracing.currentTraceContext()), new BraveBaggageManager());
+
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("tracer", tracer);
+        beanFactory.addBean("propagator", new BravePropagator(tracing));
+        traceHeaders = new TraceHeaders(
+            beanFactory.getBeanProvider(Tracer.class), beanFactory.getBeanProvider(Propagator.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracing.close();
+    }
+
+    @Test
+    @DisplayName("Deve propagar o trace corrente nos cabeçalhos")
+    void shouldInjectCurrentTrace() {
+        Span span = tracer.nextSpan().name("transfer").start();
+        Map<String, String> headers;
+        try (Tracer.SpanInScope ignored = tracer.withSpan(span)) {
+            headers = traceHeaders.current();
+        } finally {
+            span.end();
+        }
+
+        assertThat(headers).isNotEmpty();
+        assertThat(headers.values()).anyMatch(value -> value.contains(span.context().traceId()));
+
+        HttpRequest request = TraceHeaders.apply(HttpRequest.newBuilder(URI.create("http://localhost/")), headers)
+            .GET()
+            .build();
+        headers.forEach((name, value) -> assertThat(request.headers().firstValue(name)).hasValue(value));
+    }
+
+    @Test
+    @DisplayName("Não deve gerar cabeçalhos sem trace ativo ou sem tracing")
+    void shouldReturnEmptyWithoutTrace() {
+        assertThat(traceHeaders.current()).isEmpty();
+
+        StaticListableBeanFactory empty = new StaticListableBeanFactory();
+        TraceHeaders disabled = new TraceHeaders(
+            empty.getBeanProvider(Tracer.class), empty.getBeanProvider(Propagator.class));
+        assertThat(disabled.current()).isEmpty();
+    }
+}
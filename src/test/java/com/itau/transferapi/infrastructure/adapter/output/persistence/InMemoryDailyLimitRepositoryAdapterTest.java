@@ -0,0 +1,240 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.TransferJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.TransferJpaRepository.SourceAmountView;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InMemoryDailyLimitRepositoryAdapter Tests")
+class InMemoryDailyLimitRepositoryAdapterTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 10);
+
+    @Mock
+    private DailyTransferLimitRepositoryAdapter delegate;
+
+    @Mock
+    private TransferJpaRepository transferRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InMemoryDailyLimitRepositoryAdapter adapter;
+    private AccountId accountId;
+
+    @BeforeEach
+    void setUp() {
+        // Relógio em UTC: created_at gravado em UTC, dia contado em São Paulo
+        Clock clock = Clock.fixed(
+            LocalDateTime.of(2026, 3, 10, 12, 0).atZone(SAO_PAULO).toInstant(), ZoneOffset.UTC);
+        adapter = new InMemoryDailyLimitRepositoryAdapter(
+            delegate, transferRepository, transactionManager, 1_000, SAO_PAULO, clock);
+        accountId = AccountId.generate();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.unbindResourceIfPossible(adapter);
+    }
+
+    private DailyTransferLimit limit(LocalDate date, String used) {
+        return DailyTransferLimit.builder()
+            .accountId(accountId)
+            .date(date)
+            .usedAmount(Money.of(used))
+            .dailyLimit(DailyTransferLimit.DEFAULT_DAILY_LIMIT)
+            .build();
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+    }
+
+    @Nested
+    @DisplayName("Leitura e gravação")
+    class ReadWriteTests {
+
+        @Test
+        @DisplayName("Deve servir o dia corrente da memória sem consultar o banco")
+        void shouldServeTodayFromMemory() {
+            adapter.save(limit(TODAY, "150.00"));
+
+            Optional<DailyTransferLimit> result = adapter.findByAccountIdAndDateForUpdate(accountId, TODAY);
+
+            assertThat(result).get().satisfies(found -> {
+                assertThat(found.getUsedAmount()).isEqualTo(Money.of("150.00"));
+                assertThat(found.getDailyLimit()).isEqualTo(DailyTransferLimit.DEFAULT_DAILY_LIMIT);
+            });
+            verifyNoInteractions(delegate);
+        }
+
+        @Test
+        @DisplayName("Deve carregar o limite personalizado da conta uma única vez")
+        void shouldLoadCustomLimitOnce() {
+            Money custom = Money.of("5000.00");
+            when(delegate.findByAccountIdAndDate(accountId, TODAY)).thenReturn(Optional.of(
+                DailyTransferLimit.builder()
+                    .accountId(accountId)
+                    .date(TODAY)
+                    .usedAmount(Money.zero())
+                    .dailyLimit(custom)
+                    .build()));
+
+            DailyTransferLimit loaded = adapter.findByAccountIdAndDateForUpdate(accountId, TODAY).orElseThrow();
+            loaded.useLimit(Money.of("3000.00"));
+            adapter.save(loaded);
+
+            assertThat(adapter.findByAccountIdAndDate(accountId, TODAY)).get().satisfies(found -> {
+                assertThat(found.getDailyLimit()).isEqualTo(custom);
+                assertThat(found.getUsedAmount()).isEqualTo(Money.of("3000.00"));
+            });
+            verify(delegate, times(1)).findByAccountIdAndDate(accountId, TODAY);
+        }
+
+        @Test
+        @DisplayName("Deve delegar ao banco datas que não são o dia corrente")
+        void shouldDelegateOtherDays() {
+            LocalDate yesterday = TODAY.minusDays(1);
+            DailyTransferLimit stored = limit(yesterday, "10.00");
+            when(delegate.findByAccountIdAndDate(accountId, yesterday)).thenReturn(Optional.of(stored));
+
+            assertThat(adapter.findByAccountIdAndDate(accountId, yesterday)).contains(stored);
+            adapter.save(stored);
+
+            verify(delegate).save(stored);
+        }
+
+        @Test
+        @DisplayName("Deve aplicar apenas a diferença ao valor lido na transação")
+        void shouldApplyDeltaToLoadedValue() {
+            adapter.save(limit(TODAY, "100.00"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            DailyTransferLimit loaded = adapter.findByAccountIdAndDateForUpdate(accountId, TODAY).orElseThrow();
+            loaded.useLimit(Money.of("50.00"));
+            adapter.save(loaded);
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+            assertThat(adapter.tracker().usedCents(accountId.value())).isEqualTo(15_000);
+            assertThat(TransactionSynchronizationManager.getResource(adapter)).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve estornar o valor quando a transação é desfeita")
+        void shouldReverseOnRollback() {
+            adapter.save(limit(TODAY, "100.00"));
+            TransactionSynchronizationManager.initSynchronization();
+
+            DailyTransferLimit loaded = adapter.findByAccountIdAndDateForUpdate(accountId, TODAY).orElseThrow();
+            loaded.useLimit(Money.of("50.00"));
+            adapter.save(loaded);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            assertThat(adapter.tracker().usedCents(accountId.value())).isEqualTo(10_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fuso")
+    class ZoneTests {
+
+        @Test
+        @DisplayName("Deve usar o fuso da JVM e recusar fuso diferente")
+        void shouldUseJvmZone() {
+            ZoneId system = ZoneId.systemDefault();
+            String other = system.getRules().equals(SAO_PAULO.getRules()) ? "Asia/Tokyo" : SAO_PAULO.getId();
+
+            assertThat(InMemoryDailyLimitRepositoryAdapter.resolveZone("")).isEqualTo(system);
+            assertThat(InMemoryDailyLimitRepositoryAdapter.resolveZone(system.getId())).isEqualTo(system);
+            assertThatThrownBy(() -> InMemoryDailyLimitRepositoryAdapter.resolveZone(other))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("fuso da JVM");
+        }
+    }
+
+    @Nested
+    @DisplayName("Reconstrução e gravação assíncrona")
+    class PersistenceTests {
+
+        @Test
+        @DisplayName("Deve reconstruir o dia a partir das transferências no fuso de gravação")
+        void shouldRebuildFromTransfers() {
+            SourceAmountView view = mock(SourceAmountView.class);
+            when(view.getAccountId()).thenReturn(accountId.value());
+            when(view.getAmount()).thenReturn(new BigDecimal("320.50"));
+            when(transferRepository.sumAmountBySourceAccount(
+                    LocalDateTime.of(2026, 3, 10, 3, 0),
+                    LocalDateTime.of(2026, 3, 11, 3, 0),
+                    InMemoryDailyLimitRepositoryAdapter.COUNTED_STATUSES))
+                .thenReturn(List.of(view));
+
+            int accounts = adapter.rebuild();
+
+            assertThat(accounts).isEqualTo(1);
+            assertThat(adapter.findByAccountIdAndDate(accountId, TODAY))
+                .get().extracting(DailyTransferLimit::getUsedAmount).isEqualTo(Money.of("320.50"));
+        }
+
+        @Test
+        @DisplayName("Deve gravar os usos alterados em uma transação")
+        void shouldFlushDirtyUsages() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            adapter.save(limit(TODAY, "75.00"));
+
+            assertThat(adapter.flush()).isEqualTo(1);
+            assertThat(adapter.flush()).isZero();
+
+            verify(delegate).saveUsedAmount(accountId, TODAY, Money.of("75.00"));
+            verify(delegate, never()).save(any());
+            verify(transactionManager).commit(any());
+        }
+
+        @Test
+        @DisplayName("Deve devolver os usos para a próxima execução quando a gravação falha")
+        void shouldRequeueOnFailure() {
+            when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+            doThrow(new QueryTimeoutException("timeout")).doNothing()
+                .when(delegate).saveUsedAmount(any(), any(), any());
+            adapter.save(limit(TODAY, "75.00"));
+
+            assertThat(adapter.flush()).isZero();
+            assertThat(adapter.flush()).isEqualTo(1);
+
+            verify(delegate, times(2)).saveUsedAmount(any(), any(), any());
+        }
+    }
+}
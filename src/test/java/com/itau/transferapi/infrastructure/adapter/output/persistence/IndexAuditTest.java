@@ -0,0 +1,308 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.AccountJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.BalanceSnapshotJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.DailyTransferLimitJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.LedgerEntryJpaRepository;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.repository.TransferJpaRepository;
+import com.itau.transferapi.infrastructure.entity.TransferJpaEntity;
+import org.flywaydb.core.Flyway;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Auditoria de índices: executa cada método dos repositórios JPA contra um
+ * PostgreSQL semeado, captura o SQL que o Hibernate realmente gera (via
+ * {@link StatementInspector}) e falha em qualquer Seq Scan no plano.
+ *
+ * Cada statement capturado é preparado (PREPARE) e explicado com plano
+ * genérico, como o driver JDBC passa a usar após prepareThreshold execuções;
+ * o plano genérico não depende dos valores, que vão como NULL no EXECUTE.
+ * Ao adicionar um método de repositório, adicione a chamada aqui.
+ *
+ * Ignorado quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@DisplayName("Index Audit Tests (PostgreSQL)")
+class IndexAuditTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final int ACCOUNTS = 50_000;
+    private static final int TRANSFERS = 200_000;
+
+    /** SQL preparado pelo Hibernate na thread do teste, na ordem. */
+    private static final ThreadLocal<List<String>> CAPTURED = new ThreadLocal<>();
+
+    private static Map<String, Object> sample;
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCapture() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                (StatementInspector) sql -> {
+                    List<String> statements = CAPTURED.get();
+                    if (statements != null) {
+                        statements.add(sql);
+                    }
+                    return sql;
+                });
+        }
+    }
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private AccountJpaRepository accounts;
+
+    @Autowired
+    private TransferJpaRepository transfers;
+
+    @Autowired
+    private DailyTransferLimitJpaRepository dailyLimits;
+
+    @Autowired
+    private LedgerEntryJpaRepository ledgerEntries;
+
+    @Autowired
+    private BalanceSnapshotJpaRepository balanceSnapshots;
+
+    @BeforeAll
+    static void seed() {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .load()
+            .migrate();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+
+        YearMonth current = YearMonth.now();
+        new TransferPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), 3, 0)
+            .ensurePartitions(current.minusMonths(2), current);
+
+        jdbcTemplate.update(
+            "INSERT INTO accounts (id, account_number, agency_number, client_id, balance, available_limit) "
+                + "SELECT md5('a' || i)::uuid, lpad(i::text, 7, '0') || '-0', '0001', md5('c' || i)::uuid, "
+                + "1000, 1000 FROM generate_series(1, ?) i", ACCOUNTS);
+        jdbcTemplate.update(
+            "INSERT INTO transfers (id, source_account_id, target_account_id, amount, status, created_at) "
+                + "SELECT md5('t' || i)::uuid, md5('a' || (1 + i % ?))::uuid, md5('a' || (1 + (i + 1) % ?))::uuid, "
+                + "10.00, CASE WHEN i % 100 = 0 THEN 'BACEN_PENDING' ELSE 'BACEN_NOTIFIED' END, "
+                + "date_trunc('month', now()) - INTERVAL '2 months' + (i % 79200) * INTERVAL '1 minute' "
+                + "FROM generate_series(1, ?) i", ACCOUNTS, ACCOUNTS, TRANSFERS);
+        jdbcTemplate.update(
+            "INSERT INTO daily_transfer_limits (account_id, date, used_amount) "
+                + "SELECT md5('a' || i)::uuid, CURRENT_DATE, 0 FROM generate_series(1, ?) i", ACCOUNTS);
+        jdbcTemplate.update(
+            "INSERT INTO ledger_entries (transfer_id, account_id, entry_type, amount, debit_seq, created_at) "
+                + "SELECT id, source_account_id, 'DEBIT', amount, "
+                + "row_number() OVER (PARTITION BY source_account_id ORDER BY created_at), created_at FROM transfers "
+                + "UNION ALL SELECT id, target_account_id, 'CREDIT', amount, NULL, created_at FROM transfers");
+        jdbcTemplate.update(
+            "INSERT INTO balance_snapshots (account_id, last_entry_id, balance, available_limit) "
+                + "SELECT id, (SELECT MAX(id) - 1000 FROM ledger_entries), balance, available_limit FROM accounts");
+        jdbcTemplate.execute("VACUUM ANALYZE");
+
+        sample = jdbcTemplate.queryForMap(
+            "SELECT a.id, a.account_number, a.agency_number, a.client_id, t.id AS transfer_id, "
+                + "t.created_at AS transfer_created_at, (SELECT MAX(id) FROM ledger_entries) AS last_entry_id "
+                + "FROM accounts a "
+                + "JOIN transfers t ON t.source_account_id = a.id WHERE a.account_number = '0001234-0' LIMIT 1");
+    }
+
+    /**
+     * Chamadas dos repositórios: nome e chamada com os valores da amostra.
+     */
+    static Stream<Arguments> repositoryCalls() {
+        UUID id = (UUID) sample.get("id");
+        String accountNumber = (String) sample.get("account_number");
+        String agencyNumber = (String) sample.get("agency_number");
+        UUID clientId = (UUID) sample.get("client_id");
+        UUID transferId = (UUID) sample.get("transfer_id");
+        LocalDateTime transferCreatedAt = ((Timestamp) sample.get("transfer_created_at")).toLocalDateTime();
+        long lastEntryId = ((Number) sample.get("last_entry_id")).longValue();
+        LocalDateTime now = LocalDateTime.now();
+
+        return Stream.of(
+            call("AccountJpaRepository.findById", test -> test.accounts.findById(id)),
+            call("AccountJpaRepository.existsById", test -> test.accounts.existsById(id)),
+            call("AccountJpaRepository.findByIdForUpdate", test -> test.accounts.findByIdForUpdate(id)),
+            call("AccountJpaRepository.findByAccountNumberAndAgencyNumber",
+                test -> test.accounts.findByAccountNumberAndAgencyNumber(accountNumber, agencyNumber)),
+            call("AccountJpaRepository.findByAccountNumberAndAgencyNumberForUpdate",
+                test -> test.accounts.findByAccountNumberAndAgencyNumberForUpdate(accountNumber, agencyNumber)),
+            call("AccountJpaRepository.findByClientId", test -> test.accounts.findByClientId(clientId)),
+            call("AccountJpaRepository.save (update)", test -> test.accounts.findById(id).ifPresent(account -> {
+                account.setBalance(account.getBalance().subtract(BigDecimal.ONE));
+                test.accounts.saveAndFlush(account);
+            })),
+            call("TransferJpaRepository.findOneById", test -> test.transfers.findOneById(transferId)),
+            call("TransferJpaRepository.findById",
+                test -> test.transfers.findById(new TransferJpaEntity.Key(transferId, transferCreatedAt))),
+            call("TransferJpaRepository.save (update)", test -> test.transfers
+                .findById(new TransferJpaEntity.Key(transferId, transferCreatedAt)).ifPresent(transfer -> {
+                    transfer.setBacenRetryCount(transfer.getBacenRetryCount() + 1);
+                    test.transfers.saveAndFlush(transfer);
+                })),
+            call("TransferJpaRepository.findBySourceAccountIdAndCreatedAtBetween",
+                test -> test.transfers.findBySourceAccountIdAndCreatedAtBetween(id, now.minusDays(30), now)),
+            call("TransferJpaRepository.findByAccountIdAndDateRange",
+                test -> test.transfers.findByAccountIdAndDateRange(id, now.minusDays(30), now)),
+            call("TransferJpaRepository.findBacenPendingByRetryCountLessThan",
+                test -> test.transfers.findBacenPendingByRetryCountLessThan(5)),
+            call("DailyTransferLimitJpaRepository.findByAccountIdAndDate",
+                test -> test.dailyLimits.findByAccountIdAndDate(id, LocalDate.now())),
+            call("DailyTransferLimitJpaRepository.findByAccountIdAndDateForUpdate",
+                test -> test.dailyLimits.findByAccountIdAndDateForUpdate(id, LocalDate.now())),
+            call("LedgerEntryJpaRepository.findDerivedBalance",
+                test -> test.ledgerEntries.findDerivedBalance(id, Long.MAX_VALUE)),
+            call("LedgerEntryJpaRepository.findLastDebitSeq", test -> test.ledgerEntries.findLastDebitSeq(id)),
+            call("LedgerEntryJpaRepository.findLastEntryIdBefore",
+                test -> test.ledgerEntries.findLastEntryIdBefore(lastEntryId - 1000, now.minusMinutes(5))),
+            call("LedgerEntryJpaRepository.findAccountsToCompact",
+                test -> test.ledgerEntries.findAccountsToCompact(lastEntryId - 1000, lastEntryId, Limit.of(1000))),
+            call("BalanceSnapshotJpaRepository.findById", test -> test.balanceSnapshots.findById(id))
+        );
+    }
+
+    private static Arguments call(String method, Consumer<IndexAuditTest> call) {
+        return Arguments.of(method, call);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("repositoryCalls")
+    @DisplayName("Nenhuma consulta de repositório deve usar Seq Scan")
+    void shouldNotSequentialScan(String method, Consumer<IndexAuditTest> call) {
+        List<String> statements = capture(call);
+
+        assertThat(statements).as("%s não gerou SQL", method).isNotEmpty();
+        for (String sql : statements) {
+            String plan = explainGeneric(sql);
+
+            assertThat(plan)
+                .as("%s:%n%s%n%s", method, sql, plan)
+                .doesNotContain("\"Seq Scan\"");
+        }
+    }
+
+    @Test
+    @DisplayName("Projeção de referência da conta deve ser index-only")
+    void referenceProjectionShouldBeIndexOnly() {
+        List<String> statements = capture(test -> test.accounts.findReferenceByAccountNumberAndAgencyNumber(
+            (String) sample.get("account_number"), (String) sample.get("agency_number")));
+
+        assertThat(statements).hasSize(1);
+        String plan = explainGeneric(statements.get(0));
+        assertThat(plan).as("%s%n%s", statements.get(0), plan).contains("\"Index Only Scan\"");
+    }
+
+    /**
+     * Executa a chamada em uma transação desfeita ao final (os métodos com
+     * lock exigem transação) e devolve o SQL gerado por ela.
+     */
+    private List<String> capture(Consumer<IndexAuditTest> call) {
+        List<String> statements = new ArrayList<>();
+        CAPTURED.set(statements);
+        try {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                call.accept(this);
+                status.setRollbackOnly();
+            });
+        } finally {
+            CAPTURED.remove();
+        }
+        return statements;
+    }
+
+    /**
+     * Plano genérico do statement, com os parâmetros JDBC (?) convertidos
+     * para $n. Roda em uma única conexão: PREPARE e plan_cache_mode são
+     * estado da sessão.
+     */
+    private String explainGeneric(String sql) {
+        StringBuilder prepared = new StringBuilder();
+        int parameters = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                prepared.append('$').append(++parameters);
+            } else {
+                prepared.append(c);
+            }
+        }
+        String executeArgs = parameters == 0 ? ""
+            : " (" + String.join(", ", Collections.nCopies(parameters, "NULL")) + ")";
+
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET plan_cache_mode = force_generic_plan");
+                statement.execute("PREPARE audit_query AS " + prepared);
+                try (ResultSet plan = statement.executeQuery(
+                        "EXPLAIN (FORMAT JSON) EXECUTE audit_query" + executeArgs)) {
+                    StringBuilder text = new StringBuilder();
+                    while (plan.next()) {
+                        text.append(plan.getString(1)).append('\n');
+                    }
+                    return text.toString();
+                } finally {
+                    statement.execute("DEALLOCATE audit_query");
+                    statement.execute("RESET plan_cache_mode");
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,139 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TransferPartitionMaintainer Tests")
+class TransferPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(
+        Instant.parse("2026-10-19T12:00:00Z"), ZoneId.of("America/Sao_Paulo"));
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private TransferPartitionMaintainer maintainer;
+
+    @BeforeEach
+    void setUp() {
+        maintainer = new TransferPartitionMaintainer(jdbcTemplate, CLOCK, 2, 12);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubDatabase(boolean postgres, boolean partitioned) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(postgres);
+        if (postgres) {
+            when(jdbcTemplate.queryForObject(anyString(), eq(Boolean.class), eq("transfers")))
+                .thenReturn(partitioned);
+        }
+    }
+
+    private List<String> executedStatements() {
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, atLeastOnce()).execute(sql.capture());
+        return sql.getAllValues();
+    }
+
+    @Nested
+    @DisplayName("Manutenção")
+    class Maintenance {
+
+        @Test
+        @DisplayName("Deve criar as partições do mês corrente e dos meses seguintes")
+        void shouldCreateUpcomingPartitions() {
+            stubDatabase(true, true);
+            when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("transfers")))
+                .thenReturn(List.of("transfers_p202610", "transfers_p202611"));
+
+            maintainer.maintain();
+
+            assertThat(executedStatements()).containsExactly(
+                "CREATE TABLE IF NOT EXISTS transfers_p202610 PARTITION OF transfers "
+                    + "FOR VALUES FROM ('2026-10-01') TO ('2026-11-01')",
+                "CREATE TABLE IF NOT EXISTS transfers_p202611 PARTITION OF transfers "
+                    + "FOR VALUES FROM ('2026-11-01') TO ('2026-12-01')",
+                "CREATE TABLE IF NOT EXISTS transfers_p202612 PARTITION OF transfers "
+                    + "FOR VALUES FROM ('2026-12-01') TO ('2027-01-01')");
+        }
+
+        @Test
+        @DisplayName("Deve remover apenas partições anteriores à retenção")
+        void shouldDropExpiredPartitions() {
+            stubDatabase(true, true);
+            when(jdbcTemplate.queryForList(anyString(), eq(String.class), eq("transfers")))
+                .thenReturn(List.of("transfers_p202510", "transfers_p202509", "transfers_p202511",
+                    "transfers_p202610", "transfers_legacy_archive"));
+
+            maintainer.maintain();
+
+            assertThat(executedStatements())
+                .filteredOn(sql -> !sql.startsWith("CREATE"))
+                .containsExactly(
+                    "ALTER TABLE transfers DETACH PARTITION transfers_p202509 CONCURRENTLY",
+                    "DROP TABLE transfers_p202509");
+        }
+
+        @Test
+        @DisplayName("Não deve fazer nada fora do PostgreSQL")
+        void shouldSkipOnOtherDatabases() {
+            stubDatabase(false, false);
+
+            maintainer.maintain();
+            maintainer.ensurePartitions(YearMonth.of(2026, 1), YearMonth.of(2026, 12));
+
+            verify(jdbcTemplate, never()).execute(anyString());
+            verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        }
+
+        @Test
+        @DisplayName("Não deve fazer nada se transfers não for particionada")
+        void shouldSkipWhenNotPartitioned() {
+            stubDatabase(true, false);
+
+            maintainer.maintain();
+
+            verify(jdbcTemplate, never()).execute(anyString());
+        }
+    }
+
+    @Nested
+    @DisplayName("Nomes das partições")
+    class PartitionNames {
+
+        @Test
+        @DisplayName("Deve converter mês em nome de partição e vice-versa")
+        void shouldRoundTripPartitionName() {
+            assertThat(TransferPartitionMaintainer.partitionName(YearMonth.of(2026, 3)))
+                .isEqualTo("transfers_p202603");
+            assertThat(TransferPartitionMaintainer.partitionMonth("transfers_p202603"))
+                .contains(YearMonth.of(2026, 3));
+        }
+
+        @Test
+        @DisplayName("Deve ignorar tabelas fora do padrão")
+        void shouldIgnoreUnknownNames() {
+            assertThat(TransferPartitionMaintainer.partitionMonth("transfers_default")).isEqualTo(Optional.empty());
+            assertThat(TransferPartitionMaintainer.partitionMonth("accounts")).isEmpty();
+        }
+    }
+}
@@ -0,0 +1,196 @@
+package com.itau.transferapi.infrastructure.adapter.output.persistence;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.MatchResult;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Valida a migração V2 e o partition pruning em um PostgreSQL real.
+ *
+ * Ignorado quando não há Docker disponível.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("Transfer Partitioning Tests (PostgreSQL)")
+class TransferPartitioningTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private static final UUID SOURCE = UUID.fromString("aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa");
+    private static final UUID TARGET = UUID.fromString("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb");
+
+    private static final Pattern PARTITION = Pattern.compile("transfers_p\\d{6}");
+
+    private static JdbcTemplate jdbcTemplate;
+    private static YearMonth currentMonth;
+
+    @BeforeAll
+    static void migrate() {
+        Flyway.configure()
+            .dataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword())
+            .load()
+            .migrate();
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword()));
+        currentMonth = YearMonth.now();
+
+        insertAccount(SOURCE, "12345-6");
+        insertAccount(TARGET, "98765-4");
+
+        // Meses anteriores à migração: criados como faria o seeding em massa
+        new TransferPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), 3, 0)
+            .ensurePartitions(currentMonth.minusMonths(3), currentMonth);
+        for (int monthsAgo = 0; monthsAgo <= 3; monthsAgo++) {
+            for (int i = 0; i < 50; i++) {
+                insertTransfer(currentMonth.minusMonths(monthsAgo).atDay(1).atStartOfDay().plusHours(i));
+            }
+        }
+        jdbcTemplate.execute("ANALYZE transfers");
+    }
+
+    private static void insertAccount(UUID id, String number) {
+        jdbcTemplate.update(
+            "INSERT INTO accounts (id, account_number, agency_number, client_id, balance, available_limit) "
+                + "VALUES (?, ?, '0001', ?, 1000, 1000)",
+            id, number, UUID.randomUUID());
+    }
+
+    private static void insertTransfer(LocalDateTime createdAt) {
+        jdbcTemplate.update(
+            "INSERT INTO transfers (id, source_account_id, target_account_id, amount, status, created_at) "
+                + "VALUES (?, ?, ?, 10.00, 'BACEN_NOTIFIED', ?)",
+            UUID.randomUUID(), SOURCE, TARGET, Timestamp.valueOf(createdAt));
+    }
+
+    private static String explain(String sql, Object... args) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class, args));
+    }
+
+    private static List<String> scannedPartitions(String plan) {
+        return plan.lines()
+            .flatMap(line -> PARTITION.matcher(line).results())
+            .map(MatchResult::group)
+            .distinct()
+            .toList();
+    }
+
+    private static Timestamp monthStart(YearMonth month) {
+        return Timestamp.valueOf(month.atDay(1).atStartOfDay());
+    }
+
+    @Nested
+    @DisplayName("Migração V2")
+    class Migration {
+
+        @Test
+        @DisplayName("Deve criar transfers particionada com partições futuras")
+        void shouldCreatePartitionedTable() {
+            List<String> partitions = new TransferPartitionMaintainer(
+                jdbcTemplate, Clock.systemDefaultZone(), 3, 0).listPartitions();
+
+            assertThat(partitions).contains(
+                TransferPartitionMaintainer.partitionName(currentMonth),
+                TransferPartitionMaintainer.partitionName(currentMonth.plusMonths(3)));
+        }
+
+        @Test
+        @DisplayName("Deve manter a chave estrangeira para accounts")
+        void shouldKeepForeignKeys() {
+            assertThatThrownBy(() -> jdbcTemplate.update(
+                "INSERT INTO transfers (id, source_account_id, target_account_id, amount, created_at) "
+                    + "VALUES (?, ?, ?, 1.00, now())",
+                UUID.randomUUID(), UUID.randomUUID(), TARGET))
+                .hasMessageContaining("fk_transfers_source_account");
+        }
+    }
+
+    @Nested
+    @DisplayName("Partition pruning")
+    class Pruning {
+
+        @Test
+        @DisplayName("findBySourceAccountIdAndCreatedAtBetween deve ler só a partição do período")
+        void shouldPruneSourceAccountQuery() {
+            YearMonth month = currentMonth.minusMonths(1);
+            String plan = explain(
+                "SELECT * FROM transfers t WHERE t.source_account_id = ? AND t.created_at BETWEEN ? AND ?",
+                SOURCE, monthStart(month), Timestamp.valueOf(month.atEndOfMonth().atTime(23, 59)));
+
+            assertThat(scannedPartitions(plan))
+                .containsExactly(TransferPartitionMaintainer.partitionName(month));
+        }
+
+        @Test
+        @DisplayName("findByAccountIdAndDateRange deve ler só as partições do período")
+        void shouldPruneAccountRangeQuery() {
+            String plan = explain(
+                "SELECT * FROM transfers t WHERE (t.source_account_id = ? OR t.target_account_id = ?) "
+                    + "AND t.created_at BETWEEN ? AND ?",
+                TARGET, TARGET, monthStart(currentMonth.minusMonths(2)),
+                Timestamp.valueOf(currentMonth.minusMonths(1).atDay(15).atStartOfDay()));
+
+            assertThat(scannedPartitions(plan)).containsExactlyInAnyOrder(
+                TransferPartitionMaintainer.partitionName(currentMonth.minusMonths(2)),
+                TransferPartitionMaintainer.partitionName(currentMonth.minusMonths(1)));
+        }
+
+        @Test
+        @DisplayName("findById com a chave completa deve ler uma única partição")
+        void shouldPruneIdLookupWithPartitionKey() {
+            String plan = explain("SELECT * FROM transfers t WHERE t.id = ? AND t.created_at = ?",
+                UUID.randomUUID(), monthStart(currentMonth.minusMonths(2)));
+
+            assertThat(scannedPartitions(plan))
+                .containsExactly(TransferPartitionMaintainer.partitionName(currentMonth.minusMonths(2)));
+        }
+
+        @Test
+        @DisplayName("UPDATE com a chave de partição deve tocar uma única partição")
+        void shouldPruneUpdateWithPartitionKey() {
+            String plan = explain(
+                "UPDATE transfers SET status = 'BACEN_NOTIFIED', version = version + 1 "
+                    + "WHERE id = ? AND created_at = ? AND version = ?",
+                UUID.randomUUID(), monthStart(currentMonth), 0L);
+
+            assertThat(scannedPartitions(plan))
+                .containsExactly(TransferPartitionMaintainer.partitionName(currentMonth));
+        }
+    }
+
+    @Nested
+    @DisplayName("Retenção")
+    class Retention {
+
+        @Test
+        @DisplayName("Deve remover partições anteriores à janela de retenção")
+        void shouldDropExpiredPartitions() {
+            YearMonth old = currentMonth.minusMonths(30);
+            TransferPartitionMaintainer maintainer =
+                new TransferPartitionMaintainer(jdbcTemplate, Clock.systemDefaultZone(), 3, 24);
+            maintainer.ensurePartitions(old, old);
+
+            List<String> dropped = maintainer.dropPartitionsBefore(currentMonth.minusMonths(24));
+
+            assertThat(dropped).containsExactly(TransferPartitionMaintainer.partitionName(old));
+            assertThat(maintainer.listPartitions()).doesNotContain(TransferPartitionMaintainer.partitionName(old));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.itau.transferapi.infrastructure.adapter.output.state;
+
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.valueobject.AccountBalanceState;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("OffHeapAccountStateAdapter Tests")
+class OffHeapAccountStateAdapterTest {
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OffHeapAccountStateAdapter adapter;
+    private Account account;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new OffHeapAccountStateAdapter(accountRepository, meterRegistry, 1_000);
+        account = Account.builder()
+            .id(AccountId.generate())
+            .accountNumber("12345-6")
+            .agencyNumber("0001")
+            .clientId(UUID.randomUUID())
+            .balance(Money.of("5000.00"))
+            .availableLimit(Money.of("10000.00"))
+            .status(AccountStatus.ACTIVE)
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Leitura")
+    class FindTests {
+
+        @Test
+        @DisplayName("Deve carregar do repositório uma única vez")
+        void shouldLoadOnce() {
+            when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+
+            Optional<AccountBalanceState> first = adapter.findBalance(account.getId());
+            Optional<AccountBalanceState> second = adapter.findBalance(account.getId());
+
+            AccountBalanceState expected = new AccountBalanceState(
+                Money.of("5000.00"), Money.of("10000.00"), AccountStatus.ACTIVE);
+            assertThat(first).contains(expected);
+            assertThat(second).contains(expected);
+            verify(accountRepository, times(1)).findById(account.getId());
+        }
+
+        @Test
+        @DisplayName("Deve retornar vazio para conta inexistente")
+        void shouldReturnEmptyForMissingAccount() {
+            AccountId missing = AccountId.generate();
+            when(accountRepository.findById(missing)).thenReturn(Optional.empty());
+
+            assertThat(adapter.findBalance(missing)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Invalidação")
+    class InvalidationTests {
+
+        @Test
+        @DisplayName("Deve recarregar a conta após invalidação fora de transação")
+        void shouldReloadAfterInvalidate() {
+            when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+            adapter.findBalance(account.getId());
+
+            account.debit(Money.of("100.00"));
+            adapter.invalidate(account.getId());
+
+            assertThat(adapter.findBalance(account.getId()))
+                .map(AccountBalanceState::balance)
+                .contains(Money.of("4900.00"));
+            verify(accountRepository, times(2)).findById(account.getId());
+        }
+
+        @Test
+        @DisplayName("Deve adiar a invalidação para o fim da transação")
+        void shouldDeferInvalidationToTransactionEnd() {
+            when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+            adapter.findBalance(account.getId());
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                adapter.invalidate(account.getId());
+                adapter.findBalance(account.getId());
+                verify(accountRepository, times(1)).findById(account.getId());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            adapter.findBalance(account.getId());
+            verify(accountRepository, times(2)).findById(account.getId());
+        }
+    }
+
+    @Nested
+    @DisplayName("Métricas")
+    class MetricsTests {
+
+        @Test
+        @DisplayName("Deve reportar memória fora do heap e equivalente em heap")
+        void shouldReportFootprint() {
+            when(accountRepository.findById(account.getId())).thenReturn(Optional.of(account));
+            adapter.findBalance(account.getId());
+
+            assertThat(meterRegistry.get("engine.offheap.accounts").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("engine.offheap.memory").gauge().value())
+                .isEqualTo((double) adapter.table().offHeapBytes());
+            assertThat(meterRegistry.get("engine.offheap.heap.equivalent").gauge().value())
+                .isEqualTo((double) OffHeapAccountStateAdapter.ESTIMATED_HEAP_BYTES_PER_ACCOUNT);
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package com.itau.transferapi.infrastructure.codec;
+
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.DailyTransferLimit;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DomainBinaryCodec Tests")
+class DomainBinaryCodecTest {
+
+    /** Quantidade de objetos aleatórios por propriedade de round trip. */
+    private static final int SAMPLES = 2_000;
+
+    private final Random random = new Random(20260314L);
+    private final ByteBuffer buffer = ByteBuffer.allocate(4096);
+
+    private UUID randomUuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private Money randomMoney() {
+        return Money.ofMinorUnits(random.nextLong());
+    }
+
+    private LocalDateTime randomTimestamp() {
+        if (random.nextInt(4) == 0) {
+            return null;
+        }
+        long seconds = random.nextLong(-5_000_000_000L, 5_000_000_000L);
+        return LocalDateTime.ofEpochSecond(seconds, random.nextInt(1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+
+    private String randomText() {
+        if (random.nextInt(4) == 0) {
+            return null;
+        }
+        StringBuilder text = new StringBuilder();
+        int length = random.nextInt(40);
+        for (int i = 0; i < length; i++) {
+            text.appendCodePoint(random.nextBoolean() ? 'a' + random.nextInt(26) : 0xC0 + random.nextInt(0x2000));
+        }
+        return text.toString();
+    }
+
+    private Transfer randomTransfer() {
+        return Transfer.builder()
+            .id(TransferId.of(randomUuid()))
+            .sourceAccountId(AccountId.of(randomUuid()))
+            .targetAccountId(AccountId.of(randomUuid()))
+            .amount(randomMoney())
+            .status(TransferStatus.values()[random.nextInt(TransferStatus.values().length)])
+            .createdAt(randomTimestamp())
+            .completedAt(randomTimestamp())
+            .bacenNotifiedAt(randomTimestamp())
+            .bacenRetryCount(random.nextInt())
+            .failureReason(randomText())
+            .bacenNotificationId(randomText())
+            .build();
+    }
+
+    private Account randomAccount() {
+        return Account.builder()
+            .id(AccountId.of(randomUuid()))
+            .clientId(randomUuid())
+            .accountNumber(String.format("%05d-%d", random.nextInt(100_000), random.nextInt(10)))
+            .agencyNumber(String.format("%04d", random.nextInt(10_000)))
+            .balance(randomMoney())
+            .availableLimit(randomMoney())
+            .status(AccountStatus.values()[random.nextInt(AccountStatus.values().length)])
+            .createdAt(randomTimestamp())
+            .updatedAt(randomTimestamp())
+            .build();
+    }
+
+    private DailyTransferLimit randomDailyLimit() {
+        return DailyTransferLimit.builder()
+            .accountId(AccountId.of(randomUuid()))
+            .date(LocalDate.ofEpochDay(random.nextInt(-1_000_000, 1_000_000)))
+            .usedAmount(randomMoney())
+            .dailyLimit(randomMoney())
+            .build();
+    }
+
+    @Nested
+    @DisplayName("Round trip")
+    class RoundTripTests {
+
+        @Test
+        @DisplayName("Deve preservar todos os campos de Transfer")
+        void shouldRoundTripTransfers() {
+            for (int i = 0; i < SAMPLES; i++) {
+                Transfer transfer = randomTransfer();
+                buffer.clear();
+                DomainBinaryCodec.encode(transfer, buffer);
+                int written = buffer.position();
+                buffer.flip();
+
+                assertThat(DomainBinaryCodec.decodeTransfer(buffer)).usingRecursiveComparison().isEqualTo(transfer);
+                assertThat(buffer.position()).isEqualTo(written);
+            }
+        }
+
+        @Test
+        @DisplayName("Deve preservar todos os campos de Account")
+        void shouldRoundTripAccounts() {
+            for (int i = 0; i < SAMPLES; i++) {
+                Account account = randomAccount();
+                buffer.clear();
+                DomainBinaryCodec.encode(account, buffer);
+                buffer.flip();
+
+                assertThat(DomainBinaryCodec.decodeAccount(buffer)).usingRecursiveComparison().isEqualTo(account);
+                assertThat(buffer.hasRemaining()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve preservar todos os campos de DailyTransferLimit")
+        void shouldRoundTripDailyLimits() {
+            for (int i = 0; i < SAMPLES; i++) {
+                DailyTransferLimit limit = randomDailyLimit();
+                buffer.clear();
+                DomainBinaryCodec.encode(limit, buffer);
+                buffer.flip();
+
+                assertThat(DomainBinaryCodec.decodeDailyTransferLimit(buffer))
+                    .usingRecursiveComparison().isEqualTo(limit);
+                assertThat(buffer.hasRemaining()).isFalse();
+            }
+        }
+
+        @Test
+        @DisplayName("Deve ler mensagens consecutivas do mesmo buffer")
+        void shouldDecodeConsecutiveMessages() {
+            Transfer transfer = randomTransfer();
+            Account account = randomAccount();
+            DailyTransferLimit limit = randomDailyLimit();
+            ByteBuffer direct = ByteBuffer.allocateDirect(1024);
+
+            DomainBinaryCodec.encode(transfer, direct);
+            DomainBinaryCodec.encode(account, direct);
+            DomainBinaryCodec.encode(limit, direct);
+            direct.flip();
+
+            assertThat(DomainBinaryCodec.peekType(direct)).isEqualTo(DomainBinaryCodec.TYPE_TRANSFER);
+            assertThat(DomainBinaryCodec.decodeTransfer(direct)).usingRecursiveComparison().isEqualTo(transfer);
+            assertThat(DomainBinaryCodec.peekType(direct)).isEqualTo(DomainBinaryCodec.TYPE_ACCOUNT);
+            assertThat(DomainBinaryCodec.decodeAccount(direct)).usingRecursiveComparison().isEqualTo(account);
+            assertThat(DomainBinaryCodec.decodeDailyTransferLimit(direct)).usingRecursiveComparison().isEqualTo(limit);
+        }
+
+        @Test
+        @DisplayName("Deve truncar instantes para microssegundos")
+        void shouldTruncateToMicros() {
+            LocalDateTime withNanos = LocalDateTime.of(2026, 1, 2, 3, 4, 5, 123_456_789);
+
+            long micros = DomainBinaryCodec.toEpochMicros(withNanos);
+
+            assertThat(DomainBinaryCodec.fromEpochMicros(micros))
+                .isEqualTo(withNanos.truncatedTo(ChronoUnit.MICROS));
+        }
+    }
+
+    @Nested
+    @DisplayName("Tamanho")
+    class SizeTests {
+
+        @Test
+        @DisplayName("Deve codificar transferência típica com tamanho fixo mais textos")
+        void shouldBeCompact() {
+            Transfer transfer = Transfer.builder()
+                .id(TransferId.generate())
+                .sourceAccountId(AccountId.generate())
+                .targetAccountId(AccountId.generate())
+                .amount(Money.of("150.00"))
+                .status(TransferStatus.COMPLETED)
+                .createdAt(LocalDateTime.now())
+                .completedAt(LocalDateTime.now())
+                .bacenNotifiedAt(LocalDateTime.now())
+                .bacenNotificationId("BACEN-123456")
+                .build();
+
+            DomainBinaryCodec.encode(transfer, buffer);
+
+            // cabeçalho, 3 UUIDs, valor, status, 3 instantes, tentativas, motivo nulo, id BACEN
+            assertThat(buffer.position()).isEqualTo(2 + 3 * 16 + 8 + 1 + 3 * 8 + 4 + 2 + (2 + 12));
+        }
+    }
+
+    @Nested
+    @DisplayName("Validação")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Deve rejeitar tipo de mensagem diferente do esperado")
+        void shouldRejectWrongType() {
+            DomainBinaryCodec.encode(randomAccount(), buffer);
+            buffer.flip();
+
+            assertThatThrownBy(() -> DomainBinaryCodec.decodeTransfer(buffer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Tipo de mensagem");
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar versão desconhecida")
+        void shouldRejectUnknownVersion() {
+            DomainBinaryCodec.encode(randomTransfer(), buffer);
+            buffer.put(1, (byte) (DomainBinaryCodec.VERSION + 1));
+            buffer.flip();
+
+            assertThatThrownBy(() -> DomainBinaryCodec.decodeTransfer(buffer))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Versão");
+        }
+
+        @Test
+        @DisplayName("Deve falhar quando o buffer não comporta a mensagem")
+        void shouldFailOnOverflow() {
+            ByteBuffer small = ByteBuffer.allocate(16);
+
+            assertThatThrownBy(() -> DomainBinaryCodec.encode(randomTransfer(), small))
+                .isInstanceOf(BufferOverflowException.class);
+        }
+    }
+}
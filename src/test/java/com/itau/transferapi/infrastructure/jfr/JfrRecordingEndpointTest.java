@@ -0,0 +1,153 @@
+package com.itau.transferapi.infrastructure.jfr;
+
+import com.itau.transferapi.application.dto.response.TransferOutcome;
+import com.itau.transferapi.domain.exception.ErrorCode;
+import com.itau.transferapi.domain.exception.RuleViolation;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.Signature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("JFR Tests")
+class JfrRecordingEndpointTest {
+
+    @TempDir
+    Path directory;
+
+    private JfrRecordingEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        endpoint = new JfrRecordingEndpoint(directory.toString(), "default", Duration.ofMinutes(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        endpoint.stop();
+    }
+
+    @Nested
+    @DisplayName("Endpoint")
+    class EndpointTests {
+
+        @Test
+        @DisplayName("Deve iniciar uma única gravação por vez")
+        void shouldStartSingleRecording() {
+            WebEndpointResponse<Map<String, Object>> started = endpoint.start();
+            WebEndpointResponse<Map<String, Object>> again = endpoint.start();
+
+            assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+            assertThat(started.getBody()).containsEntry("state", "RUNNING").containsEntry("duration", "PT1M");
+            assertThat(again.getStatus()).isEqualTo(409);
+            assertThat(endpoint.status().get("recording")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve recusar configuração inexistente")
+        void shouldRejectUnknownSettings() {
+            WebEndpointResponse<Map<String, Object>> response = endpoint.start("inexistente");
+
+            assertThat(response.getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+            assertThat(endpoint.status().get("recording")).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve usar a configuração e a duração do caminho")
+        void shouldUseSettingsAndDurationFromPath() {
+            assertThat(endpoint.start("default", 0).getStatus()).isEqualTo(WebEndpointResponse.STATUS_BAD_REQUEST);
+
+            WebEndpointResponse<Map<String, Object>> started = endpoint.start("profile", 30);
+
+            assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+            assertThat(started.getBody()).containsEntry("duration", "PT30S");
+        }
+
+        @Test
+        @DisplayName("Não deve subir o endpoint na porta da API nem fora de loopback")
+        void shouldRequirePrivateManagementPort() {
+            JfrEndpointConfig config = new JfrEndpointConfig();
+            String dir = directory.toString();
+            Duration max = Duration.ofMinutes(1);
+
+            assertThatThrownBy(() -> config.jfrRecordingEndpoint(8881, 8881, "127.0.0.1", dir, "default", max))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("management.server.port");
+            assertThatThrownBy(() -> config.jfrRecordingEndpoint(8881, 8882, "", dir, "default", max))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("management.server.address");
+            assertThatThrownBy(() -> config.jfrRecordingEndpoint(8881, 8882, "0.0.0.0", dir, "default", max))
+                .isInstanceOf(IllegalStateException.class);
+            assertThat(config.jfrRecordingEndpoint(8881, 8882, "127.0.0.1", dir, "default", max)).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve retornar 404 ao encerrar sem gravação")
+        void shouldReturnNotFoundWithoutRecording() {
+            assertThat(endpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("Eventos")
+    class EventTests {
+
+        @Test
+        @DisplayName("Deve gravar os eventos de transferência e de lock no arquivo")
+        void shouldRecordApplicationEvents() throws Throwable {
+            JfrEventAspect aspect = new JfrEventAspect();
+            ProceedingJoinPoint transfer = joinPoint("executeForResult", new TransferOutcome.Rejected(
+                RuleViolation.of(ErrorCode.DAILY_LIMIT_EXCEEDED, "Limite diário excedido")));
+            ProceedingJoinPoint lock = joinPoint("findByIdForUpdate", Optional.empty());
+
+            endpoint.start();
+            aspect.transferExecuted(transfer);
+            aspect.lockWait(lock);
+            WebEndpointResponse<Map<String, Object>> stopped = endpoint.stop();
+
+            Path file = Path.of((String) stopped.getBody().get("file"));
+            assertThat(file).startsWith(directory);
+            assertThat(Files.size(file)).isPositive();
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().startsWith("com.itau.transferapi."))
+                .toList();
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.getEventType().getName()).isEqualTo("com.itau.transferapi.TransferExecuted");
+                assertThat(event.getString("outcome")).isEqualTo("rejected");
+                assertThat(event.getString("errorCode")).isEqualTo(ErrorCode.DAILY_LIMIT_EXCEEDED.getCode());
+            });
+            assertThat(events).anySatisfy(event -> {
+                assertThat(event.getEventType().getName()).isEqualTo("com.itau.transferapi.AccountLockWait");
+                assertThat(event.getString("method")).isEqualTo("findByIdForUpdate");
+                assertThat(event.getBoolean("found")).isFalse();
+            });
+        }
+
+        private ProceedingJoinPoint joinPoint(String method, Object result) throws Throwable {
+            ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+            Signature signature = mock(Signature.class);
+            lenient().when(signature.getName()).thenReturn(method);
+            lenient().when(joinPoint.getSignature()).thenReturn(signature);
+            lenient().when(joinPoint.getTarget()).thenReturn(new Object());
+            when(joinPoint.proceed()).thenReturn(result);
+            return joinPoint;
+        }
+    }
+}
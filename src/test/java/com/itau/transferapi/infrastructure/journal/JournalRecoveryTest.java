@@ -0,0 +1,200 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.repository.TransferRepository;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JournalRecovery Tests")
+class JournalRecoveryTest {
+
+    @TempDir
+    Path directory;
+
+    @Mock
+    private AccountRepository accountRepository;
+
+    @Mock
+    private TransferRepository transferRepository;
+
+    @Mock
+    private BalanceLedgerPort balanceLedger;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransferJournal journal;
+    private JournalRecovery recovery;
+    private Account sourceAccount;
+    private Account targetAccount;
+
+    @BeforeEach
+    void setUp() {
+        journal = new TransferJournal(directory, DataSize.ofKilobytes(64));
+        recovery = new JournalRecovery(journal, accountRepository, transferRepository, balanceLedger, transactionManager);
+        sourceAccount = createAccount(Money.of("1000.00"));
+        targetAccount = createAccount(Money.of("500.00"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        journal.close();
+    }
+
+    private static Account createAccount(Money balance) {
+        return createAccount(balance, AccountStatus.ACTIVE);
+    }
+
+    private static Account createAccount(Money balance, AccountStatus status) {
+        return Account.builder()
+            .id(AccountId.generate())
+            .accountNumber("12345-6")
+            .agencyNumber("0001")
+            .clientId(UUID.randomUUID())
+            .balance(balance)
+            .availableLimit(Money.of("5000.00"))
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .updatedAt(LocalDateTime.now())
+            .build();
+    }
+
+    private Transfer append(String amount, TransferStatus status) throws Exception {
+        Transfer transfer = Transfer.builder()
+            .id(TransferId.generate())
+            .sourceAccountId(sourceAccount.getId())
+            .targetAccountId(targetAccount.getId())
+            .amount(Money.of(amount))
+            .status(status)
+            .createdAt(LocalDateTime.now())
+            .build();
+        journal.append(transfer).get(5, TimeUnit.SECONDS);
+        return transfer;
+    }
+
+    private void stubTransactions() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private void stubAccounts() {
+        when(accountRepository.findByIdForUpdate(sourceAccount.getId())).thenReturn(Optional.of(sourceAccount));
+        when(accountRepository.findById(targetAccount.getId())).thenReturn(Optional.of(targetAccount));
+    }
+
+    @Nested
+    @DisplayName("Reaplicação")
+    class ReplayTests {
+
+        @Test
+        @DisplayName("Deve aplicar transferências ausentes no banco e avançar o checkpoint")
+        void shouldApplyMissingTransfers() throws Exception {
+            Transfer first = append("100.00", TransferStatus.BACEN_PENDING);
+            Transfer second = append("50.00", TransferStatus.BACEN_PENDING);
+            stubTransactions();
+            stubAccounts();
+            when(transferRepository.findById(any(), any())).thenReturn(Optional.empty());
+
+            int applied = recovery.recover();
+
+            assertThat(applied).isEqualTo(2);
+            assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("850.00"));
+            assertThat(targetAccount.getBalance()).isEqualTo(Money.of("650.00"));
+            verify(balanceLedger, times(2)).post(any(), eq(sourceAccount), eq(targetAccount));
+            verify(transferRepository).save(argThat(t -> t.getId().equals(first.getId())));
+            verify(transferRepository).save(argThat(t -> t.getId().equals(second.getId())));
+            assertThat(journal.checkpoint()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar transferências já persistidas")
+        void shouldSkipPersistedTransfers() throws Exception {
+            Transfer persisted = append("100.00", TransferStatus.BACEN_PENDING);
+            stubTransactions();
+            when(transferRepository.findById(eq(persisted.getId()), any())).thenReturn(Optional.of(persisted));
+
+            int applied = recovery.recover();
+
+            assertThat(applied).isZero();
+            verifyNoInteractions(accountRepository, balanceLedger);
+            verify(transferRepository, never()).save(any());
+            assertThat(journal.checkpoint()).isEqualTo(1L);
+        }
+
+        @Test
+        @DisplayName("Deve registrar transferência com falha sem movimentar saldo")
+        void shouldNotMoveBalanceForFailedTransfer() throws Exception {
+            Transfer failed = append("100.00", TransferStatus.FAILED);
+            stubTransactions();
+            when(transferRepository.findById(eq(failed.getId()), any())).thenReturn(Optional.empty());
+
+            int applied = recovery.recover();
+
+            assertThat(applied).isZero();
+            verify(transferRepository).save(any());
+            verifyNoInteractions(accountRepository, balanceLedger);
+        }
+
+        @Test
+        @DisplayName("Deve reaplicar o efeito registrado sem reavaliar as regras de negócio")
+        void shouldReplayWithoutRevalidatingBusinessRules() throws Exception {
+            sourceAccount = createAccount(Money.of("1000.00"), AccountStatus.INACTIVE);
+            Transfer overdraft = append("5000.00", TransferStatus.BACEN_PENDING);
+            Transfer notified = append("100.00", TransferStatus.BACEN_NOTIFIED);
+            stubTransactions();
+            stubAccounts();
+            when(transferRepository.findById(any(), any())).thenReturn(Optional.empty());
+
+            int applied = recovery.recover();
+
+            assertThat(applied).isEqualTo(2);
+            assertThat(sourceAccount.getBalance()).isEqualTo(Money.of("-4100.00"));
+            assertThat(sourceAccount.getAvailableLimit()).isEqualTo(Money.of("-100.00"));
+            assertThat(targetAccount.getBalance()).isEqualTo(Money.of("5600.00"));
+            verify(balanceLedger, times(2)).post(any(), any(), any());
+            verify(transferRepository).save(argThat(t ->
+                t.getId().equals(overdraft.getId()) && t.getStatus() == TransferStatus.BACEN_PENDING));
+            verify(transferRepository).save(argThat(t ->
+                t.getId().equals(notified.getId()) && t.getStatus() == TransferStatus.BACEN_NOTIFIED));
+            assertThat(journal.checkpoint()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("Não deve gravar checkpoint quando não há registros pendentes")
+        void shouldDoNothingWhenJournalIsEmpty() {
+            int applied = recovery.recover();
+
+            assertThat(applied).isZero();
+            assertThat(journal.checkpoint()).isZero();
+            verifyNoInteractions(transactionManager, transferRepository, accountRepository, balanceLedger);
+        }
+    }
+}
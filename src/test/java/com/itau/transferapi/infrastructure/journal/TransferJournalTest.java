@@ -0,0 +1,292 @@
+package com.itau.transferapi.infrastructure.journal;
+
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("TransferJournal Tests")
+class TransferJournalTest {
+
+    /** Quatro registros por segmento. */
+    private static final DataSize SMALL_SEGMENT = DataSize.ofBytes(4L * JournalSegment.RECORD_SIZE);
+
+    @TempDir
+    Path directory;
+
+    private TransferJournal journal;
+
+    @AfterEach
+    void tearDown() {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    private TransferJournal open(DataSize segmentSize) {
+        journal = new TransferJournal(directory, segmentSize);
+        return journal;
+    }
+
+    private TransferJournal reopen(DataSize segmentSize) {
+        journal.close();
+        return open(segmentSize);
+    }
+
+    private static Transfer createTransfer(String amount) {
+        return Transfer.builder()
+            .id(TransferId.generate())
+            .sourceAccountId(AccountId.generate())
+            .targetAccountId(AccountId.generate())
+            .amount(Money.of(amount))
+            .status(TransferStatus.BACEN_PENDING)
+            .createdAt(LocalDateTime.of(2026, 3, 14, 15, 9, 26, 535_897_000))
+            .build();
+    }
+
+    private List<JournalRecord> replayAll(long afterSequence) {
+        List<JournalRecord> records = new ArrayList<>();
+        journal.replay(afterSequence, records::add);
+        return records;
+    }
+
+    private List<String> segmentNames() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(path -> path.getFileName().toString())
+                .filter(name -> name.endsWith(JournalSegment.SUFFIX))
+                .sorted()
+                .toList();
+        }
+    }
+
+    @Nested
+    @DisplayName("Gravação e leitura")
+    class AppendTests {
+
+        @Test
+        @DisplayName("Deve reler a transferência com todos os campos registrados")
+        void shouldRoundTripTransfer() throws Exception {
+            Transfer transfer = createTransfer("1234.56");
+
+            long sequence = open(DataSize.ofKilobytes(64)).append(transfer).get(5, TimeUnit.SECONDS);
+            List<JournalRecord> records = replayAll(0);
+
+            assertThat(sequence).isEqualTo(1L);
+            assertThat(records).singleElement().satisfies(record -> {
+                assertThat(record.sequence()).isEqualTo(1L);
+                Transfer read = record.transfer();
+                assertThat(read.getId()).isEqualTo(transfer.getId());
+                assertThat(read.getSourceAccountId()).isEqualTo(transfer.getSourceAccountId());
+                assertThat(read.getTargetAccountId()).isEqualTo(transfer.getTargetAccountId());
+                assertThat(read.getAmount()).isEqualTo(transfer.getAmount());
+                assertThat(read.getStatus()).isEqualTo(TransferStatus.BACEN_PENDING);
+                assertThat(read.getCreatedAt()).isEqualTo(transfer.getCreatedAt());
+            });
+        }
+
+        @Test
+        @DisplayName("Deve continuar a sequência após reabrir o journal")
+        void shouldContinueSequenceAfterReopen() throws Exception {
+            open(DataSize.ofKilobytes(64));
+            journal.append(createTransfer("10.00"));
+            journal.append(createTransfer("20.00")).get(5, TimeUnit.SECONDS);
+
+            long sequence = reopen(DataSize.ofKilobytes(64)).append(createTransfer("30.00"))
+                .get(5, TimeUnit.SECONDS);
+
+            assertThat(sequence).isEqualTo(3L);
+            assertThat(replayAll(0)).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar segmento menor que um registro")
+        void shouldRejectTinySegment() {
+            assertThatThrownBy(() -> new TransferJournal(directory, DataSize.ofBytes(16)))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Rollover de segmentos")
+    class RolloverTests {
+
+        @Test
+        @DisplayName("Deve abrir novo segmento quando o ativo enche")
+        void shouldRollWhenSegmentIsFull() throws Exception {
+            open(SMALL_SEGMENT);
+            for (int i = 0; i < 9; i++) {
+                journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            }
+
+            assertThat(segmentNames()).containsExactly(
+                JournalSegment.fileName(1), JournalSegment.fileName(5), JournalSegment.fileName(9));
+            assertThat(replayAll(0)).extracting(JournalRecord::sequence)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L);
+        }
+
+        @Test
+        @DisplayName("Deve pré-alocar o próximo segmento fora do append")
+        void shouldPreallocateNextSegment() throws Exception {
+            open(SMALL_SEGMENT);
+            journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            Path prepared = directory.resolve(JournalSegment.preparedFileName(5));
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (!Files.exists(prepared) && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertThat(prepared).exists();
+
+            for (int i = 0; i < 4; i++) {
+                journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            }
+
+            assertThat(segmentNames()).containsExactly(JournalSegment.fileName(1), JournalSegment.fileName(5));
+            assertThat(replayAll(0)).extracting(JournalRecord::sequence).containsExactly(1L, 2L, 3L, 4L, 5L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Recuperação após queda")
+    class CrashTests {
+
+        @Test
+        @DisplayName("Deve promover segmento pré-alocado com registros e descartar o vazio")
+        void shouldRecoverPreparedSegments() throws Exception {
+            open(SMALL_SEGMENT);
+            for (int i = 0; i < 6; i++) {
+                journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            }
+            journal.close();
+            // Queda entre a gravação no segmento pré-alocado e a renomeação
+            Files.move(directory.resolve(JournalSegment.fileName(5)),
+                directory.resolve(JournalSegment.preparedFileName(5)));
+            Files.deleteIfExists(directory.resolve(JournalSegment.preparedFileName(9)));
+            Files.createFile(directory.resolve(JournalSegment.preparedFileName(9)));
+
+            long sequence = open(SMALL_SEGMENT).append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+
+            assertThat(sequence).isEqualTo(7L);
+            assertThat(segmentNames()).containsExactly(JournalSegment.fileName(1), JournalSegment.fileName(5));
+            assertThat(replayAll(0)).extracting(JournalRecord::sequence)
+                .containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        }
+
+        @Test
+        @DisplayName("Deve descartar registro corrompido no fim do segmento")
+        void shouldTruncateTornTail() throws Exception {
+            open(DataSize.ofKilobytes(64));
+            for (int i = 0; i < 3; i++) {
+                journal.append(createTransfer("5.00")).get(5, TimeUnit.SECONDS);
+            }
+            journal.close();
+
+            Path segment = directory.resolve(JournalSegment.fileName(1));
+            try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] {(byte) 0xFF}),
+                    2L * JournalSegment.RECORD_SIZE + JournalSegment.HEADER_SIZE + 20);
+            }
+
+            open(DataSize.ofKilobytes(64));
+            assertThat(journal.lastSequence()).isEqualTo(2L);
+            assertThat(replayAll(0)).extracting(JournalRecord::sequence).containsExactly(1L, 2L);
+            assertThat(journal.append(createTransfer("6.00")).get(5, TimeUnit.SECONDS)).isEqualTo(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Checkpoint e compactação")
+    class CheckpointTests {
+
+        @Test
+        @DisplayName("Deve remover apenas segmentos inteiramente cobertos pelo checkpoint")
+        void shouldCompactCoveredSegments() throws Exception {
+            open(SMALL_SEGMENT);
+            for (int i = 0; i < 10; i++) {
+                journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            }
+
+            journal.checkpoint(6);
+
+            assertThat(journal.checkpoint()).isEqualTo(6L);
+            assertThat(segmentNames()).containsExactly(JournalSegment.fileName(5), JournalSegment.fileName(9));
+            assertThat(replayAll(journal.checkpoint())).extracting(JournalRecord::sequence)
+                .containsExactly(7L, 8L, 9L, 10L);
+        }
+
+        @Test
+        @DisplayName("Deve manter o segmento ativo e a sequência após compactar tudo")
+        void shouldKeepActiveSegment() throws Exception {
+            open(SMALL_SEGMENT);
+            for (int i = 0; i < 10; i++) {
+                journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS);
+            }
+
+            journal.checkpoint(10);
+            reopen(SMALL_SEGMENT);
+
+            assertThat(segmentNames()).containsExactly(JournalSegment.fileName(9));
+            assertThat(replayAll(journal.checkpoint())).isEmpty();
+            assertThat(journal.append(createTransfer("1.00")).get(5, TimeUnit.SECONDS)).isEqualTo(11L);
+        }
+    }
+
+    @Nested
+    @DisplayName("Group commit")
+    class GroupCommitTests {
+
+        @Test
+        @DisplayName("Deve persistir appends concorrentes com menos force() que registros")
+        void shouldBatchConcurrentAppends() throws Exception {
+            open(DataSize.ofMegabytes(1));
+            int threads = 8;
+            int appendsPerThread = 200;
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<CompletableFuture<Long>> futures = new ArrayList<>();
+
+            try {
+                List<CompletableFuture<List<CompletableFuture<Long>>>> producers = IntStream.range(0, threads)
+                    .mapToObj(t -> CompletableFuture.supplyAsync(() -> IntStream.range(0, appendsPerThread)
+                        .mapToObj(i -> journal.append(createTransfer("2.00")))
+                        .toList(), executor))
+                    .toList();
+                for (CompletableFuture<List<CompletableFuture<Long>>> producer : producers) {
+                    futures.addAll(producer.get(30, TimeUnit.SECONDS));
+                }
+                CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(futures).hasSize(threads * appendsPerThread);
+            assertThat(futures).extracting(CompletableFuture::join).doesNotHaveDuplicates();
+            assertThat(journal.syncCount()).isPositive().isLessThan(threads * appendsPerThread);
+            assertThat(replayAll(0)).hasSize(threads * appendsPerThread);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.itau.transferapi.infrastructure.limit;
+
+import com.itau.transferapi.infrastructure.limit.DailyLimitTracker.DailyUsage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DailyLimitTracker Tests")
+class DailyLimitTrackerTest {
+
+    private static final ZoneId SAO_PAULO = ZoneId.of("America/Sao_Paulo");
+    private static final LocalDate DAY = LocalDate.of(2026, 3, 10);
+
+    private MutableClock clock;
+    private DailyLimitTracker tracker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(LocalDateTime.of(2026, 3, 10, 23, 59, 59).atZone(SAO_PAULO).toInstant());
+        tracker = new DailyLimitTracker(1_000, SAO_PAULO, clock);
+    }
+
+    @Nested
+    @DisplayName("Acúmulo")
+    class AccumulationTests {
+
+        @Test
+        @DisplayName("Deve somar e estornar valores do dia corrente")
+        void shouldAddAndReverse() {
+            UUID accountId = UUID.randomUUID();
+
+            tracker.add(accountId, DAY, 15_000);
+            tracker.add(accountId, DAY, 5_000);
+            tracker.add(accountId, DAY, -5_000);
+
+            assertThat(tracker.usedCents(accountId)).isEqualTo(15_000);
+            assertThat(tracker.usedCents(UUID.randomUUID())).isZero();
+            assertThat(tracker.trackedAccounts()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve ignorar dia que não está em memória")
+        void shouldIgnoreUnknownDay() {
+            UUID accountId = UUID.randomUUID();
+
+            assertThat(tracker.add(accountId, DAY.minusDays(1), 100)).isFalse();
+            assertThat(tracker.usedCents(accountId)).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve perder atualizações concorrentes")
+        void shouldNotLoseConcurrentUpdates() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                futures.add(CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        tracker.add(accountId, DAY, 1);
+                    }
+                }, executor));
+            }
+
+            CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+            executor.shutdown();
+
+            assertThat(tracker.usedCents(accountId)).isEqualTo(80_000);
+        }
+    }
+
+    @Nested
+    @DisplayName("Virada do dia")
+    class RolloverTests {
+
+        @Test
+        @DisplayName("Deve zerar o uso à meia-noite de São Paulo")
+        void shouldResetAtMidnight() {
+            UUID accountId = UUID.randomUUID();
+            tracker.add(accountId, DAY, 30_000);
+
+            clock.advanceSeconds(1);
+
+            assertThat(tracker.today()).isEqualTo(DAY.plusDays(1));
+            assertThat(tracker.usedCents(accountId)).isZero();
+        }
+
+        @Test
+        @DisplayName("Deve manter o dia anterior até ser gravado")
+        void shouldRetainPreviousDayUntilDrained() {
+            UUID accountId = UUID.randomUUID();
+            tracker.add(accountId, DAY, 30_000);
+            clock.advanceSeconds(1);
+
+            assertThat(tracker.add(accountId, DAY, -10_000)).isTrue();
+            tracker.add(accountId, DAY.plusDays(1), 500);
+
+            assertThat(tracker.drainDirty()).containsExactly(
+                new DailyUsage(DAY, accountId, 20_000),
+                new DailyUsage(DAY.plusDays(1), accountId, 500));
+            assertThat(tracker.drainDirty()).isEmpty();
+            assertThat(tracker.add(accountId, DAY, 1)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve guardar o limite por dia, inclusive zero, e esquecê-lo na virada")
+        void shouldKeepLimitPerDay() {
+            UUID accountId = UUID.randomUUID();
+            UUID blocked = UUID.randomUUID();
+            assertThat(tracker.limitCents(accountId, DAY)).isEqualTo(DailyLimitTracker.UNKNOWN_LIMIT);
+
+            tracker.setLimit(accountId, DAY, 500_000);
+            tracker.setLimit(blocked, DAY, 0);
+
+            assertThat(tracker.limitCents(accountId, DAY)).isEqualTo(500_000);
+            assertThat(tracker.limitCents(blocked, DAY)).isZero();
+
+            clock.advanceSeconds(1);
+
+            assertThat(tracker.limitCents(accountId, DAY.plusDays(1))).isEqualTo(DailyLimitTracker.UNKNOWN_LIMIT);
+        }
+    }
+
+    @Nested
+    @DisplayName("Fechamento do dia retido")
+    class RetiredDayTests {
+
+        @Test
+        @DisplayName("Não deve fechar o dia com escrita em andamento")
+        void shouldNotCloseWithWriterInProgress() {
+            DailyLimitTracker.DayState day = new DailyLimitTracker.DayState(DAY, 0, 64);
+
+            assertThat(day.enter()).isTrue();
+            assertThat(day.close()).isFalse();
+            day.exit();
+
+            assertThat(day.close()).isTrue();
+            assertThat(day.close()).isTrue();
+            assertThat(day.enter()).isFalse();
+        }
+
+        @Test
+        @DisplayName("Deve recusar escrita no dia retido depois de fechado e descartado")
+        void shouldRejectWriteAfterRetiredDayIsDropped() {
+            UUID accountId = UUID.randomUUID();
+            tracker.add(accountId, DAY, 30_000);
+            clock.advanceSeconds(1);
+            tracker.today();
+
+            assertThat(tracker.drainDirty()).containsExactly(new DailyUsage(DAY, accountId, 30_000));
+            assertThat(tracker.drainDirty()).isEmpty();
+
+            assertThat(tracker.add(accountId, DAY, -1_000)).isFalse();
+        }
+
+        @Test
+        @DisplayName("Não deve perder escritas concorrentes no dia retido")
+        void shouldNotLoseConcurrentWritesToRetiredDay() throws Exception {
+            UUID accountId = UUID.randomUUID();
+            tracker.add(accountId, DAY, 1);
+            clock.advanceSeconds(1);
+            tracker.today();
+
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+            List<CompletableFuture<Long>> writers = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                writers.add(CompletableFuture.supplyAsync(() -> {
+                    long accepted = 0;
+                    for (int i = 0; i < 20_000; i++) {
+                        if (tracker.add(accountId, DAY, 1)) {
+                            accepted++;
+                        }
+                    }
+                    return accepted;
+                }, executor));
+            }
+            long persisted = 0;
+            while (!CompletableFuture.allOf(writers.toArray(CompletableFuture[]::new)).isDone()) {
+                persisted = lastPersisted(tracker.drainDirty(), persisted);
+            }
+            for (int i = 0; i < 3; i++) {
+                persisted = lastPersisted(tracker.drainDirty(), persisted);
+            }
+            executor.shutdown();
+
+            long accepted = 1;
+            for (CompletableFuture<Long> writer : writers) {
+                accepted += writer.get(10, TimeUnit.SECONDS);
+            }
+            assertThat(persisted).isEqualTo(accepted);
+        }
+
+        private long lastPersisted(List<DailyUsage> usages, long previous) {
+            return usages.stream()
+                .filter(usage -> usage.date().equals(DAY))
+                .mapToLong(DailyUsage::usedCents)
+                .reduce(previous, (ignored, value) -> value);
+        }
+    }
+
+    @Nested
+    @DisplayName("Gravação")
+    class WriteBehindTests {
+
+        @Test
+        @DisplayName("Deve drenar apenas contas alteradas, uma vez")
+        void shouldDrainDirtyOnce() {
+            UUID first = UUID.randomUUID();
+            UUID second = UUID.randomUUID();
+            tracker.add(first, DAY, 100);
+            tracker.add(first, DAY, 200);
+            tracker.add(second, DAY, 50);
+
+            assertThat(tracker.drainDirty()).containsExactlyInAnyOrder(
+                new DailyUsage(DAY, first, 300),
+                new DailyUsage(DAY, second, 50));
+            assertThat(tracker.drainDirty()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Deve devolver valores não gravados com o uso atualizado")
+        void shouldRequeue() {
+            UUID accountId = UUID.randomUUID();
+            tracker.add(accountId, DAY, 100);
+            List<DailyUsage> failed = tracker.drainDirty();
+            tracker.add(accountId, DAY, 100);
+            tracker.drainDirty();
+
+            tracker.requeue(failed);
+
+            assertThat(tracker.drainDirty()).containsExactly(new DailyUsage(DAY, accountId, 200));
+        }
+
+        @Test
+        @DisplayName("Deve restaurar o uso do dia corrente e ignorar outros dias")
+        void shouldRestore() {
+            UUID accountId = UUID.randomUUID();
+
+            tracker.restore(DAY, accountId, 70_000);
+            tracker.restore(DAY.minusDays(1), UUID.randomUUID(), 1);
+
+            assertThat(tracker.usedCents(accountId)).isEqualTo(70_000);
+            assertThat(tracker.drainDirty()).containsExactly(new DailyUsage(DAY, accountId, 70_000));
+        }
+    }
+
+    /**
+     * Relógio ajustável para simular a passagem da meia-noite.
+     */
+    private static final class MutableClock extends Clock {
+
+        private volatile Instant instant;
+
+        MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advanceSeconds(long seconds) {
+            instant = instant.plusSeconds(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return SAO_PAULO;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return Clock.fixed(instant, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.itau.transferapi.infrastructure.limit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("GradientConcurrencyLimit Tests")
+class GradientConcurrencyLimitTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(10);
+    private static final long SLOW = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 5, 100, 1.5, 0.2, 100);
+
+    /**
+     * Ocupa todas as vagas e libera com a latência informada.
+     */
+    private void saturate(long rttNanos, int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            int acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos, false);
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Admissão")
+    class AdmissionTests {
+
+        @Test
+        @DisplayName("Deve recusar acima do limite e liberar a vaga no release")
+        void shouldRejectAboveLimit() {
+            for (int i = 0; i < 10; i++) {
+                assertThat(limit.tryAcquire()).isTrue();
+            }
+
+            assertThat(limit.tryAcquire()).isFalse();
+            assertThat(limit.inflight()).isEqualTo(10);
+
+            limit.release(FAST, false);
+
+            assertThat(limit.inflight()).isEqualTo(9);
+            assertThat(limit.tryAcquire()).isTrue();
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar parâmetros inválidos")
+        void shouldRejectInvalidParameters() {
+            assertThatThrownBy(() -> new GradientConcurrencyLimit(2, 5, 100, 1.5, 0.2, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 5, 100, 0.5, 0.2, 100))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new GradientConcurrencyLimit(10, 5, 100, 1.5, 0.2, 5))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Ajuste do limite")
+    class AdjustmentTests {
+
+        @Test
+        @DisplayName("Deve crescer com latência estável e concorrência no limite")
+        void shouldGrowWithStableLatency() {
+            saturate(FAST, 20);
+
+            assertThat(limit.limit()).isGreaterThan(10);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir quando a latência recente sobe")
+        void shouldShrinkWhenLatencyRises() {
+            saturate(FAST, 20);
+            int grown = limit.limit();
+            while (limit.tryAcquire()) {
+                // ocupa todas as vagas
+            }
+
+            for (int i = 0; i < 20; i++) {
+                limit.release(SLOW, false);
+            }
+
+            assertThat(limit.limit()).isLessThan(grown);
+        }
+
+        @Test
+        @DisplayName("Não deve ajustar com menos da metade do limite em uso")
+        void shouldNotAdjustWhenNotConcurrencyLimited() {
+            for (int i = 0; i < 50; i++) {
+                assertThat(limit.tryAcquire()).isTrue();
+                limit.release(i < 25 ? FAST : SLOW, false);
+            }
+
+            assertThat(limit.limit()).isEqualTo(10);
+        }
+
+        @Test
+        @DisplayName("Deve reduzir a cada descarte, respeitando o mínimo")
+        void shouldBackOffOnDrops() {
+            limit.tryAcquire();
+            limit.release(FAST, true);
+
+            assertThat(limit.limit()).isEqualTo(9);
+
+            for (int i = 0; i < 50; i++) {
+                limit.tryAcquire();
+                limit.release(FAST, true);
+            }
+
+            assertThat(limit.limit()).isEqualTo(5);
+        }
+    }
+}
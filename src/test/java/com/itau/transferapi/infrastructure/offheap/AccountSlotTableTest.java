@@ -0,0 +1,198 @@
+package com.itau.transferapi.infrastructure.offheap;
+
+import com.itau.transferapi.infrastructure.offheap.AccountSlotTable.AccountSlot;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AccountSlotTable Tests")
+class AccountSlotTableTest {
+
+    @Nested
+    @DisplayName("Criação")
+    class CreationTests {
+
+        @Test
+        @DisplayName("Deve dimensionar em potência de dois respeitando o fator de carga")
+        void shouldSizeToPowerOfTwo() {
+            AccountSlotTable table = new AccountSlotTable(1_000);
+
+            assertThat(table.capacity()).isEqualTo(2_048);
+            assertThat(table.offHeapBytes()).isEqualTo(2_048L * AccountSlotTable.SLOT_SIZE);
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar quantidade inválida")
+        void shouldRejectInvalidCapacity() {
+            assertThatThrownBy(() -> new AccountSlotTable(0))
+                .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new AccountSlotTable(Integer.MAX_VALUE))
+                .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("Chaves")
+    class KeyTests {
+
+        @Test
+        @DisplayName("Deve reservar slot sem valor carregado e encontrá-lo depois")
+        void shouldReserveAndFind() {
+            AccountSlotTable table = new AccountSlotTable(16);
+            UUID accountId = UUID.randomUUID();
+
+            int slot = table.slotFor(accountId);
+
+            assertThat(table.find(accountId)).isEqualTo(slot);
+            assertThat(table.slotFor(accountId)).isEqualTo(slot);
+            assertThat(table.read(slot).isLoaded()).isFalse();
+            assertThat(table.size()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Deve retornar -1 para conta ausente")
+        void shouldNotFindMissing() {
+            AccountSlotTable table = new AccountSlotTable(16);
+            table.slotFor(UUID.randomUUID());
+
+            assertThat(table.find(UUID.randomUUID())).isEqualTo(-1);
+        }
+
+        @Test
+        @DisplayName("Deve manter slots distintos até o fator de carga")
+        void shouldResolveCollisions() {
+            AccountSlotTable table = new AccountSlotTable(10_000);
+            List<UUID> ids = new ArrayList<>();
+            Set<Integer> slots = new HashSet<>();
+            while (!table.isFull()) {
+                UUID id = UUID.randomUUID();
+                ids.add(id);
+                slots.add(table.slotFor(id));
+            }
+
+            assertThat(slots).hasSize(ids.size());
+            assertThat(ids).allSatisfy(id -> assertThat(table.find(id)).isNotNegative());
+        }
+    }
+
+    @Nested
+    @DisplayName("Versões")
+    class VersionTests {
+
+        @Test
+        @DisplayName("Deve gravar com a versão esperada e recusar versão antiga")
+        void shouldCompareAndSet() {
+            AccountSlotTable table = new AccountSlotTable(16);
+            int slot = table.slotFor(UUID.randomUUID());
+            AccountSlot empty = table.read(slot);
+
+            boolean first = table.compareAndSet(slot, empty.version(), 150_00, 500_00, (byte) 0, 42L);
+            boolean stale = table.compareAndSet(slot, empty.version(), 1, 1, (byte) 0, 1L);
+
+            AccountSlot current = table.read(slot);
+            assertThat(first).isTrue();
+            assertThat(stale).isFalse();
+            assertThat(current.isLoaded()).isTrue();
+            assertThat(current.balanceCents()).isEqualTo(150_00);
+            assertThat(current.limitCents()).isEqualTo(500_00);
+            assertThat(current.updatedAtMicros()).isEqualTo(42L);
+            assertThat(current.version()).isEqualTo(empty.version() + 2);
+        }
+
+        @Test
+        @DisplayName("Deve descartar o valor e impedir a gravação de uma carga anterior")
+        void shouldInvalidate() {
+            AccountSlotTable table = new AccountSlotTable(16);
+            int slot = table.slotFor(UUID.randomUUID());
+            AccountSlot beforeLoad = table.read(slot);
+
+            table.invalidate(slot);
+
+            assertThat(table.read(slot).isLoaded()).isFalse();
+            assertThat(table.compareAndSet(slot, beforeLoad.version(), 1, 1, (byte) 0, 1L)).isFalse();
+        }
+    }
+
+    @Nested
+    @DisplayName("Concorrência")
+    class ConcurrencyTests {
+
+        @Test
+        @DisplayName("Leitores nunca devem ver um slot parcialmente gravado")
+        void shouldReadConsistentSnapshots() throws Exception {
+            AccountSlotTable table = new AccountSlotTable(16);
+            int slot = table.slotFor(UUID.randomUUID());
+            AtomicBoolean running = new AtomicBoolean(true);
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+                    for (long value = 1; value <= 200_000; value++) {
+                        AccountSlot current = table.read(slot);
+                        table.compareAndSet(slot, current.version(), value, value, (byte) 0, value);
+                    }
+                    running.set(false);
+                }, executor);
+                List<CompletableFuture<Void>> readers = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    readers.add(CompletableFuture.runAsync(() -> {
+                        while (running.get()) {
+                            AccountSlot read = table.read(slot);
+                            if (read.isLoaded()) {
+                                assertThat(read.limitCents()).isEqualTo(read.balanceCents());
+                                assertThat(read.updatedAtMicros()).isEqualTo(read.balanceCents());
+                            }
+                        }
+                    }, executor));
+                }
+
+                writer.get(30, TimeUnit.SECONDS);
+                CompletableFuture.allOf(readers.toArray(CompletableFuture[]::new)).get(30, TimeUnit.SECONDS);
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(table.read(slot).balanceCents()).isEqualTo(200_000);
+        }
+
+        @Test
+        @DisplayName("Reservas concorrentes da mesma conta devem resultar em um único slot")
+        void shouldReserveOnce() throws Exception {
+            AccountSlotTable table = new AccountSlotTable(1_024);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; i < 500; i++) {
+                ids.add(UUID.randomUUID());
+            }
+            ExecutorService executor = Executors.newFixedThreadPool(4);
+
+            try {
+                List<CompletableFuture<List<Integer>>> workers = new ArrayList<>();
+                for (int t = 0; t < 4; t++) {
+                    workers.add(CompletableFuture.supplyAsync(
+                        () -> ids.stream().map(table::slotFor).toList(), executor));
+                }
+                List<Integer> expected = workers.get(0).get(30, TimeUnit.SECONDS);
+                for (CompletableFuture<List<Integer>> worker : workers) {
+                    assertThat(worker.get(30, TimeUnit.SECONDS)).isEqualTo(expected);
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            assertThat(table.size()).isEqualTo(ids.size());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.itau.transferapi.infrastructure.startup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.StringReader;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AotBuildSettingsVerifier Tests")
+class AotBuildSettingsVerifierTest {
+
+    private Properties recorded;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        MockEnvironment build = new MockEnvironment()
+            .withProperty("ledger.enabled", "false")
+            .withProperty("concurrency-limit.enabled", "true");
+        build.setActiveProfiles("docker");
+
+        recorded = new Properties();
+        recorded.load(new StringReader(AotBuildSettings.format(AotBuildSettings.capture(build))));
+    }
+
+    @Test
+    @DisplayName("Deve aceitar o ambiente igual ao do build")
+    void shouldAcceptSameSettings() {
+        MockEnvironment runtime = new MockEnvironment()
+            .withProperty("ledger.enabled", "FALSE")
+            .withProperty("concurrency-limit.enabled", "true");
+        runtime.setActiveProfiles("docker");
+
+        assertThatCode(() -> AotBuildSettingsVerifier.verify(recorded, runtime)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Deve falhar com profile ou chave diferente do build")
+    void shouldFailOnDifferentProfileOrToggle() {
+        MockEnvironment runtime = new MockEnvironment()
+            .withProperty("ledger.enabled", "true")
+            .withProperty("concurrency-limit.enabled", "true")
+            .withProperty("sqlstats.enabled", "true");
+        runtime.setActiveProfiles("prod");
+
+        assertThatThrownBy(() -> AotBuildSettingsVerifier.verify(recorded, runtime))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessageContaining("ledger.enabled: build=false, runtime=true")
+            .hasMessageContaining("sqlstats.enabled: build=(ausente), runtime=true")
+            .hasMessageContaining("spring.profiles.active: build=docker, runtime=prod")
+            .hasMessageNotContaining("concurrency-limit.enabled");
+    }
+}
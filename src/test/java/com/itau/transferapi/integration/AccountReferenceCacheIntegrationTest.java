@@ -0,0 +1,59 @@
+package com.itau.transferapi.integration;
+
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountReference;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Cache "accountReferences": (conta, agência) precisa de chave composta,
+ * já que a concatenação com '-' colide para números que contêm '-'.
+ */
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:refcachedb;DB_CLOSE_DELAY=-1")
+@ActiveProfiles("test")
+@DisplayName("Account Reference Cache Integration Tests")
+class AccountReferenceCacheIntegrationTest {
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Test
+    @DisplayName("Deve distinguir pares (conta, agência) cuja concatenação coincide")
+    void shouldNotCollideOnConcatenatedKey() {
+        Account first = accountRepository.save(newAccount("11-22", "33"));
+        Account second = accountRepository.save(newAccount("11", "22-33"));
+
+        AccountReference firstRef = accountRepository
+            .findReferenceByAccountAndAgency("11-22", "33").orElseThrow();
+        AccountReference secondRef = accountRepository
+            .findReferenceByAccountAndAgency("11", "22-33").orElseThrow();
+
+        assertThat(firstRef.accountId()).isEqualTo(first.getId());
+        assertThat(secondRef.accountId()).isEqualTo(second.getId());
+    }
+
+    private Account newAccount(String accountNumber, String agencyNumber) {
+        return Account.builder()
+            .id(AccountId.generate())
+            .accountNumber(accountNumber)
+            .agencyNumber(agencyNumber)
+            .clientId(UUID.randomUUID())
+            .balance(Money.of("100.00"))
+            .availableLimit(Money.of("100.00"))
+            .status(AccountStatus.ACTIVE)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+}
@@ -0,0 +1,92 @@
+package com.itau.transferapi.integration;
+
+import com.itau.transferapi.application.dto.response.BalanceResponse;
+import com.itau.transferapi.infrastructure.config.BulkDataSeeder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(
+    webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+    properties = {
+        "spring.datasource.url=jdbc:h2:mem:seeddb;DB_CLOSE_DELAY=-1",
+        "seed.bulk.enabled=true",
+        "seed.bulk.accounts=5000",
+        "seed.bulk.transfers-per-account=2",
+        "seed.bulk.daily-limits=true",
+        "seed.bulk.partitions=4",
+        "seed.bulk.batch-size=300"
+    })
+@ActiveProfiles("test")
+@DisplayName("Bulk Data Seeder Integration Tests")
+class BulkDataSeederIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("Deve semear contas, transferências e limites diários em todas as partições")
+    void shouldSeedAllRows() {
+        assertThat(count("SELECT COUNT(*) FROM accounts WHERE agency_number = '7001'")).isEqualTo(5000);
+        assertThat(count("SELECT COUNT(*) FROM transfers")).isEqualTo(10000);
+        assertThat(count("SELECT COUNT(*) FROM daily_transfer_limits WHERE used_amount < daily_limit"))
+            .isEqualTo(5000);
+        assertThat(count("SELECT COUNT(*) FROM transfers WHERE source_account_id = target_account_id"))
+            .isZero();
+        assertThat(count("SELECT COUNT(DISTINCT account_number) FROM accounts WHERE agency_number = '7001'"))
+            .isEqualTo(5000);
+    }
+
+    @Test
+    @DisplayName("Deve expor as contas semeadas pela API com o esquema de numeração compartilhado")
+    void shouldServeSeededAccountBalance() {
+        ResponseEntity<BalanceResponse> response = restTemplate.getForEntity(
+            "http://localhost:" + port + "/api/v1/accounts/" + BulkDataSeeder.accountNumber(4321)
+                + "/balance?agencyNumber=" + BulkDataSeeder.AGENCY,
+            BalanceResponse.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().balance()).isEqualByComparingTo(new BigDecimal("1000000.00"));
+    }
+
+    @Test
+    @DisplayName("Mock do Cadastro deve reconhecer clientes semeados como ativos")
+    void mockCadastroShouldRecognizeSeededClients() {
+        UUID clientId = jdbcTemplate.queryForObject(
+            "SELECT client_id FROM accounts WHERE account_number = ?", UUID.class,
+            BulkDataSeeder.accountNumber(42));
+
+        @SuppressWarnings("unchecked")
+        ResponseEntity<Map<String, Object>> response = (ResponseEntity<Map<String, Object>>) (ResponseEntity<?>)
+            restTemplate.getForEntity(
+                "http://localhost:" + port + "/mock/cadastro/api/v1/clients/" + clientId, Map.class);
+
+        assertThat(BulkDataSeeder.isSeededClient(clientId)).isTrue();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).containsEntry("active", true);
+    }
+
+    private long count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Long.class);
+    }
+}
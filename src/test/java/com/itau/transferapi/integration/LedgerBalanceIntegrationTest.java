@@ -0,0 +1,165 @@
+package com.itau.transferapi.integration;
+
+import com.itau.transferapi.application.port.output.BalanceLedgerPort;
+import com.itau.transferapi.domain.entity.Account;
+import com.itau.transferapi.domain.entity.Transfer;
+import com.itau.transferapi.domain.repository.AccountRepository;
+import com.itau.transferapi.domain.valueobject.AccountId;
+import com.itau.transferapi.domain.valueobject.AccountStatus;
+import com.itau.transferapi.domain.valueobject.Money;
+import com.itau.transferapi.domain.valueobject.TransferId;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.LedgerBalanceAdapter;
+import com.itau.transferapi.infrastructure.adapter.output.persistence.LedgerCompactor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:ledgerdb;DB_CLOSE_DELAY=-1",
+    "ledger.enabled=true",
+    "ledger.compaction.lag-seconds=0",
+    "ledger.compaction.interval-ms=3600000"
+})
+@ActiveProfiles("test")
+@DisplayName("Ledger Balance Integration Tests")
+class LedgerBalanceIntegrationTest {
+
+    @Autowired
+    private BalanceLedgerPort balanceLedger;
+
+    @Autowired
+    private AccountRepository accountRepository;
+
+    @Autowired
+    private LedgerCompactor compactor;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Account source;
+    private Account target;
+
+    @BeforeEach
+    void setUp() {
+        source = accountRepository.save(newAccount("5000.00", "10000.00"));
+        target = accountRepository.save(newAccount("1000.00", "5000.00"));
+    }
+
+    private Account newAccount(String balance, String limit) {
+        return Account.builder()
+            .id(AccountId.generate())
+            .accountNumber(String.format("%07d-9", ThreadLocalRandom.current().nextInt(10_000_000)))
+            .agencyNumber("0900")
+            .clientId(UUID.randomUUID())
+            .balance(Money.of(balance))
+            .availableLimit(Money.of(limit))
+            .status(AccountStatus.ACTIVE)
+            .createdAt(LocalDateTime.now())
+            .build();
+    }
+
+    /**
+     * Reproduz o fluxo do caso de uso: lê as contas, aplica em memória e registra.
+     */
+    private void transfer(String amount) {
+        transactionTemplate.executeWithoutResult(status -> post(amount));
+    }
+
+    private void post(String amount) {
+        Account from = accountRepository.findByIdForUpdate(source.getId()).orElseThrow();
+        Account to = accountRepository.findById(target.getId()).orElseThrow();
+        Money value = Money.of(amount);
+        from.debit(value);
+        to.credit(value);
+
+        balanceLedger.post(Transfer.builder()
+            .id(TransferId.generate())
+            .sourceAccountId(from.getId())
+            .targetAccountId(to.getId())
+            .amount(value)
+            .status(TransferStatus.COMPLETED)
+            .createdAt(LocalDateTime.now())
+            .bacenRetryCount(0)
+            .build(), from, to);
+    }
+
+    private BigDecimal balanceOf(Account account) {
+        return accountRepository.findById(account.getId()).orElseThrow().getBalance().getValue();
+    }
+
+    @Test
+    @DisplayName("Deve registrar a transferência como dois lançamentos sem alterar accounts")
+    void shouldAppendEntriesWithoutUpdatingAccounts() {
+        transfer("150.00");
+
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT entry_type FROM ledger_entries WHERE account_id IN (?, ?) ORDER BY id",
+            String.class, source.getId().value(), target.getId().value()))
+            .containsExactly("DEBIT", "CREDIT");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT balance FROM accounts WHERE id = ?", BigDecimal.class, source.getId().value()))
+            .isEqualByComparingTo("5000.00");
+
+        Account derived = accountRepository.findById(source.getId()).orElseThrow();
+        assertThat(derived.getBalance().getValue()).isEqualByComparingTo("4850.00");
+        assertThat(derived.getAvailableLimit().getValue()).isEqualByComparingTo("9850.00");
+        assertThat(balanceOf(target)).isEqualByComparingTo("1150.00");
+    }
+
+    @Test
+    @DisplayName("Deve manter o saldo derivado ao compactar e somar lançamentos posteriores ao snapshot")
+    void shouldRollSnapshotsForward() {
+        transfer("100.00");
+        transfer("200.00");
+
+        assertThat(compactor.compact()).isGreaterThanOrEqualTo(2);
+
+        Long lastEntryId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM ledger_entries", Long.class);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT last_entry_id FROM balance_snapshots WHERE account_id = ?", Long.class, source.getId().value()))
+            .isEqualTo(lastEntryId);
+        assertThat(balanceOf(source)).isEqualByComparingTo("4700.00");
+
+        transfer("50.00");
+
+        assertThat(balanceOf(source)).isEqualByComparingTo("4650.00");
+        assertThat(balanceOf(target)).isEqualByComparingTo("1350.00");
+        assertThat(accountRepository.findById(source.getId()).orElseThrow().getAvailableLimit().getValue())
+            .isEqualByComparingTo("9650.00");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar débito calculado sobre saldo desatualizado")
+    void shouldRejectConcurrentDebitWithSameSequence() {
+        transfer("10.00");
+
+        assertThatThrownBy(() -> jdbcTemplate.update(
+            "INSERT INTO ledger_entries (transfer_id, account_id, entry_type, amount, debit_seq, created_at) "
+                + "VALUES (?, ?, 'DEBIT', 10.00, 1, CURRENT_TIMESTAMP)",
+            UUID.randomUUID(), source.getId().value()))
+            .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("Deve expor o adapter do livro-razão como porta de saldos")
+    void shouldUseLedgerAdapter() {
+        assertThat(balanceLedger).isInstanceOf(LedgerBalanceAdapter.class);
+    }
+}
@@ -0,0 +1,116 @@
+package com.itau.transferapi.integration;
+
+import com.itau.transferapi.application.dto.request.TransferRequest;
+import com.itau.transferapi.application.dto.response.TransferResponse;
+import com.itau.transferapi.application.port.input.TransferUseCase;
+import com.itau.transferapi.application.port.output.BacenNotificationPort;
+import com.itau.transferapi.application.port.output.ClientDataPort;
+import com.itau.transferapi.domain.entity.Client;
+import com.itau.transferapi.domain.valueobject.TransferStatus;
+import com.itau.transferapi.infrastructure.sql.SqlStatementStats;
+import com.itau.transferapi.infrastructure.sql.SqlStatementStats.StatementScope;
+import com.itau.transferapi.infrastructure.sql.SqlStatementStats.StatementType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Orçamento de statements SQL da transferência.
+ *
+ * Falha quando uma mudança adiciona leituras (N+1, read-before-write) ou
+ * escritas ao caminho da transferência. Ao reduzir o número de statements,
+ * baixe o orçamento junto.
+ */
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:sqlbudgetdb;DB_CLOSE_DELAY=-1",
+    "sqlstats.enabled=true"
+})
+@ActiveProfiles("test")
+@DisplayName("SQL Statement Budget Integration Tests")
+class SqlStatementBudgetIntegrationTest {
+
+    /**
+     * 5 SELECT: referência da conta destino, contas origem (com lock) e
+     * destino, limite diário (com lock) e a transferência por (id, created_at)
+     * no primeiro save (o segundo a encontra na sessão).
+     * 1 INSERT (transferência) e 3 UPDATE (saldos e limite diário).
+     */
+    private static final int TRANSFER_STATEMENT_BUDGET = 9;
+
+    @Autowired
+    private TransferUseCase transferUseCase;
+
+    @Autowired
+    private SqlStatementStats stats;
+
+    @MockBean
+    private ClientDataPort clientDataPort;
+
+    @MockBean
+    private BacenNotificationPort bacenNotificationPort;
+
+    @BeforeEach
+    void setUp() {
+        Client client = Client.builder()
+            .id(UUID.fromString("11111111-1111-1111-1111-111111111111"))
+            .name("João Silva")
+            .documentNumber("12345678900")
+            .active(true)
+            .build();
+        when(clientDataPort.findClientByIdAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(Optional.of(client)));
+        when(bacenNotificationPort.notifyTransfer(any())).thenReturn("BCN-12345678");
+    }
+
+    private TransferRequest request() {
+        return TransferRequest.builder()
+            .sourceAccountNumber("12345-6")
+            .sourceAgencyNumber("0001")
+            .targetAccountNumber("98765-4")
+            .targetAgencyNumber("0002")
+            .amount(new BigDecimal("10.00"))
+            .build();
+    }
+
+    @Test
+    @DisplayName("Transferência deve respeitar o orçamento de statements")
+    void transferShouldStayWithinStatementBudget() {
+        transferUseCase.execute(request());
+
+        try (StatementScope scope = stats.openScope()) {
+            TransferResponse response = transferUseCase.execute(request());
+
+            assertThat(response.status()).isEqualTo(TransferStatus.BACEN_NOTIFIED);
+            assertThat(scope.total())
+                .as("statements por transferência: %s", scope)
+                .isLessThanOrEqualTo(TRANSFER_STATEMENT_BUDGET);
+            assertThat(scope.count(StatementType.DELETE)).isZero();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve atribuir os statements às operações de repositório")
+    void shouldAttributeStatementsToRepositoryOperations() {
+        try (StatementScope scope = stats.openScope()) {
+            transferUseCase.execute(request());
+            assertThat(scope.count(StatementType.SELECT)).isPositive();
+        }
+
+        assertThat(stats.snapshot().get("operations").toString())
+            .contains("AccountRepository.findByIdForUpdate")
+            .contains("TransferRepository.save");
+    }
+}
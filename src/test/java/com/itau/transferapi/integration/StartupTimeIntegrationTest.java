@@ -0,0 +1,91 @@
+package com.itau.transferapi.integration;
+
+import com.itau.transferapi.TransferApiApplication;
+import com.itau.transferapi.infrastructure.startup.FirstTransferAspect;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Orçamento de tempo de startup.
+ *
+ * Sobe a aplicação completa (profile test, porta própria, mocks do Cadastro e
+ * do BACEN na mesma instância) e mede:
+ * - startup: até o contexto pronto, comparado com o orçamento
+ * - primeira transferência: do início do startup até o primeiro 201
+ *
+ * O orçamento padrão cobre runners compartilhados (1 vCPU com o agente do
+ * JaCoCo leva ~60s); em pipelines com máquina dedicada, use o start-period
+ * do HEALTHCHECK: -Dstartup.budget=30s.
+ */
+@Slf4j
+@DisplayName("Startup Time Integration Tests")
+class StartupTimeIntegrationTest {
+
+    private static final Duration STARTUP_BUDGET =
+        Duration.parse("PT" + System.getProperty("startup.budget", "90s"));
+
+    private static final String TRANSFER_BODY = """
+        {"sourceAccountNumber":"12345-6","sourceAgencyNumber":"0001",
+         "targetAccountNumber":"98765-4","targetAgencyNumber":"0002","amount":10.00}
+        """;
+
+    private ConfigurableApplicationContext context;
+
+    @AfterEach
+    void tearDown() {
+        if (context != null) {
+            context.close();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve subir dentro do orçamento e concluir a primeira transferência")
+    void shouldStartWithinBudgetAndCompleteFirstTransfer() throws Exception {
+        int port = freePort();
+        String baseUrl = "http://localhost:" + port;
+
+        long start = System.nanoTime();
+        context = new SpringApplicationBuilder(TransferApiApplication.class)
+            .profiles("test")
+            .run("--server.port=" + port,
+                "--spring.datasource.url=jdbc:h2:mem:startupdb;DB_CLOSE_DELAY=-1",
+                "--external.cadastro.base-url=" + baseUrl + "/mock/cadastro",
+                "--external.bacen.base-url=" + baseUrl + "/mock/bacen");
+        Duration startup = Duration.ofNanos(System.nanoTime() - start);
+
+        HttpResponse<String> response = HttpClient.newHttpClient().send(
+            HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/transfers"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(TRANSFER_BODY))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+        Duration firstTransfer = Duration.ofNanos(System.nanoTime() - start);
+
+        log.info("Startup: {} ms (orçamento {} ms); primeira transferência: {} ms após o início",
+            startup.toMillis(), STARTUP_BUDGET.toMillis(), firstTransfer.toMillis());
+
+        assertThat(response.statusCode()).as(response.body()).isEqualTo(201);
+        assertThat(context.getBean(FirstTransferAspect.class).firstTransferMillis()).isPositive();
+        assertThat(startup).isLessThanOrEqualTo(STARTUP_BUDGET);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -2,15 +2,20 @@ package com.itau.transferapi.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.itau.transferapi.application.dto.request.TransferRequest;
+import com.itau.transferapi.application.dto.response.TransferOutcome;
 import com.itau.transferapi.application.dto.response.TransferResponse;
 import com.itau.transferapi.application.port.input.TransferUseCase;
 import com.itau.transferapi.domain.exception.BusinessException;
 import com.itau.transferapi.domain.exception.ErrorCode;
 import com.itau.transferapi.domain.exception.ResourceNotFoundException;
+import com.itau.transferapi.domain.exception.RuleViolation;
 import com.itau.transferapi.domain.valueobject.TransferStatus;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException.Reason;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
@@ -39,6 +44,10 @@ class TransferControllerTest {
     @MockBean
     private TransferUseCase transferUseCase;
     
+    private static TransferOutcome rejected(ErrorCode errorCode, String details) {
+        return new TransferOutcome.Rejected(RuleViolation.of(errorCode, details));
+    }
+    
     @Nested
     @DisplayName("POST /api/v1/transfers")
     class CreateTransferTests {
@@ -66,7 +75,7 @@ class TransferControllerTest {
                 .message("Transferência realizada com sucesso")
                 .build();
             
-            when(transferUseCase.execute(any())).thenReturn(response);
+            when(transferUseCase.executeForResult(any())).thenReturn(new TransferOutcome.Success(response));
             
             mockMvc.perform(post("/api/v1/transfers")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -84,14 +93,59 @@ class TransferControllerTest {
                 new BigDecimal("100.00"), null
             );
             
-            when(transferUseCase.execute(any()))
-                .thenThrow(new BusinessException(ErrorCode.INSUFFICIENT_BALANCE, "Saldo de R$ 50 é insuficiente para R$ 100"));
+            when(transferUseCase.executeForResult(any()))
+                .thenReturn(rejected(ErrorCode.INSUFFICIENT_BALANCE, "Saldo de R$ 50 é insuficiente para R$ 100"));
             
             mockMvc.perform(post("/api/v1/transfers")
                     .contentType(MediaType.APPLICATION_JSON)
                     .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isUnprocessableEntity())
-                .andExpect(jsonPath("$.code").value("ITAU-2002"));
+                .andExpect(jsonPath("$.code").value("ITAU-2002"))
+                .andExpect(jsonPath("$.details").value("Saldo de R$ 50 é insuficiente para R$ 100"))
+                .andExpect(jsonPath("$.path").value("/api/v1/transfers"))
+                .andExpect(jsonPath("$.traceId").exists());
+        }
+        
+        @Test
+        @DisplayName("Deve reutilizar o traceId da requisição presente no MDC")
+        void shouldReuseRequestTraceId() throws Exception {
+            TransferRequest request = new TransferRequest(
+                "12345-6", "0001", "98765-4", "0002",
+                new BigDecimal("100.00"), null
+            );
+            
+            when(transferUseCase.executeForResult(any()))
+                .thenReturn(rejected(ErrorCode.DAILY_LIMIT_EXCEEDED, "Limite diário excedido"));
+            
+            MDC.put("traceId", "65f1c0de2a9b4e77");
+            try {
+                mockMvc.perform(post("/api/v1/transfers")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isUnprocessableEntity())
+                    .andExpect(jsonPath("$.traceId").value("65f1c0de2a9b4e77"));
+            } finally {
+                MDC.remove("traceId");
+            }
+        }
+        
+        @Test
+        @DisplayName("Deve retornar 503 com Retry-After quando a API está sobrecarregada")
+        void shouldReturn503WhenOverloaded() throws Exception {
+            TransferRequest request = new TransferRequest(
+                "12345-6", "0001", "98765-4", "0002",
+                new BigDecimal("100.00"), null
+            );
+            
+            when(transferUseCase.executeForResult(any()))
+                .thenThrow(ConcurrencyLimitExceededException.of(Reason.CONCURRENCY_LIMIT));
+            
+            mockMvc.perform(post("/api/v1/transfers")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "1"))
+                .andExpect(jsonPath("$.code").value("ITAU-5004"));
         }
         
         @Test
@@ -102,8 +156,8 @@ class TransferControllerTest {
                 new BigDecimal("100.00"), null
             );
             
-            when(transferUseCase.execute(any()))
-                .thenThrow(new BusinessException(ErrorCode.SAME_ACCOUNT_TRANSFER));
+            when(transferUseCase.executeForResult(any()))
+                .thenReturn(rejected(ErrorCode.SAME_ACCOUNT_TRANSFER, null));
             
             mockMvc.perform(post("/api/v1/transfers")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -120,7 +174,7 @@ class TransferControllerTest {
                 new BigDecimal("100.00"), null
             );
             
-            when(transferUseCase.execute(any()))
+            when(transferUseCase.executeForResult(any()))
                 .thenThrow(ResourceNotFoundException.account("99999-9"));
             
             mockMvc.perform(post("/api/v1/transfers")
@@ -149,8 +203,8 @@ class TransferControllerTest {
                 new BigDecimal("1500.00"), null
             );
             
-            when(transferUseCase.execute(any()))
-                .thenThrow(new BusinessException(ErrorCode.DAILY_LIMIT_EXCEEDED, "Limite diário excedido"));
+            when(transferUseCase.executeForResult(any()))
+                .thenReturn(rejected(ErrorCode.DAILY_LIMIT_EXCEEDED, "Limite diário excedido"));
             
             mockMvc.perform(post("/api/v1/transfers")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -167,8 +221,8 @@ class TransferControllerTest {
                 new BigDecimal("100.00"), null
             );
             
-            when(transferUseCase.execute(any()))
-                .thenThrow(new BusinessException(ErrorCode.ACCOUNT_NOT_ACTIVE, "Conta 11111-1 não está ativa"));
+            when(transferUseCase.executeForResult(any()))
+                .thenReturn(rejected(ErrorCode.ACCOUNT_NOT_ACTIVE, "Conta 11111-1 não está ativa"));
             
             mockMvc.perform(post("/api/v1/transfers")
                     .contentType(MediaType.APPLICATION_JSON)
@@ -176,5 +230,46 @@ class TransferControllerTest {
                 .andExpect(status().isUnprocessableEntity())
                 .andExpect(jsonPath("$.code").value("ITAU-2001"));
         }
+        
+        @Test
+        @DisplayName("Deve retornar 201 com notificação ao BACEN pendente")
+        void shouldReturn201WhenBacenPending() throws Exception {
+            TransferRequest request = new TransferRequest(
+                "12345-6", "0001", "98765-4", "0002",
+                new BigDecimal("100.00"), null
+            );
+            TransferResponse response = TransferResponse.builder()
+                .transferId(UUID.randomUUID())
+                .status(TransferStatus.BACEN_PENDING)
+                .amount(new BigDecimal("100.00"))
+                .message("Transferência realizada. Notificação ao BACEN pendente.")
+                .build();
+            
+            when(transferUseCase.executeForResult(any())).thenReturn(new TransferOutcome.PendingBacen(response));
+            
+            mockMvc.perform(post("/api/v1/transfers")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.status").value("BACEN_PENDING"));
+        }
+        
+        @Test
+        @DisplayName("Deve manter o mapeamento de BusinessException lançada")
+        void shouldStillMapThrownBusinessException() throws Exception {
+            TransferRequest request = new TransferRequest(
+                "12345-6", "0001", "98765-4", "0002",
+                new BigDecimal("100.00"), null
+            );
+            
+            when(transferUseCase.executeForResult(any()))
+                .thenThrow(new BusinessException(ErrorCode.CLIENT_NOT_ACTIVE, "Cliente inativo"));
+            
+            mockMvc.perform(post("/api/v1/transfers")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.code").value(ErrorCode.CLIENT_NOT_ACTIVE.getCode()));
+        }
     }
 }
@@ -0,0 +1,160 @@
+package com.itau.transferapi.web.interceptor;
+
+import com.itau.transferapi.infrastructure.limit.GradientConcurrencyLimit;
+import com.itau.transferapi.web.controller.BalanceController;
+import com.itau.transferapi.web.controller.TransferController;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException;
+import com.itau.transferapi.web.exception.ConcurrencyLimitExceededException.Reason;
+import com.itau.transferapi.web.interceptor.ConcurrencyLane.Lane;
+import com.itau.transferapi.web.interceptor.ConcurrencyLimitInterceptor.LaneLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ConcurrencyLimitInterceptor Tests")
+class ConcurrencyLimitInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger pendingConnections = new AtomicInteger();
+    private final GradientConcurrencyLimit transferLimit = new GradientConcurrencyLimit(2, 1, 10, 1.5, 0.2, 100);
+    private final GradientConcurrencyLimit balanceLimit = new GradientConcurrencyLimit(2, 1, 10, 1.5, 0.2, 100);
+
+    private ConcurrencyLimitInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        interceptor = new ConcurrencyLimitInterceptor(
+            Map.of(
+                Lane.TRANSFER, new LaneLimit(transferLimit, 3),
+                Lane.BALANCE, new LaneLimit(balanceLimit, 5)),
+            pendingConnections::get, meterRegistry);
+    }
+
+    private double rejected(Lane lane, Reason reason) {
+        return meterRegistry.get("http.concurrency.rejected")
+            .tag("lane", lane.getTag()).tag("reason", reason.getTag()).counter().count();
+    }
+
+    private static HandlerMethod handler(Class<?> controller) {
+        Method method = Arrays.stream(controller.getDeclaredMethods())
+            .filter(candidate -> Modifier.isPublic(candidate.getModifiers()))
+            .findFirst()
+            .orElseThrow();
+        return new HandlerMethod(mock(controller), method);
+    }
+
+    @Test
+    @DisplayName("Deve recusar acima do limite e liberar a vaga ao concluir")
+    void shouldRejectAboveLimitAndReleaseOnCompletion() {
+        MockHttpServletRequest first = new MockHttpServletRequest();
+        MockHttpServletRequest second = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(first, response, null)).isTrue();
+        assertThat(interceptor.preHandle(second, response, null)).isTrue();
+
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, null))
+            .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class,
+                ex -> assertThat(ex.getReason()).isEqualTo(Reason.CONCURRENCY_LIMIT));
+        assertThat(rejected(Lane.TRANSFER, Reason.CONCURRENCY_LIMIT)).isEqualTo(1);
+
+        interceptor.afterCompletion(first, response, null, null);
+        interceptor.afterCompletion(first, response, null, null);
+
+        assertThat(transferLimit.inflight()).isEqualTo(1);
+        assertThat(meterRegistry.get("http.concurrency.inflight").tag("lane", "transfer").gauge().value())
+            .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve recusar com a fila do pool cheia sem ocupar vaga")
+    void shouldRejectWhenConnectionQueueIsFull() {
+        pendingConnections.set(5);
+
+        assertThatThrownBy(() -> interceptor.preHandle(
+                new MockHttpServletRequest(), new MockHttpServletResponse(), null))
+            .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class,
+                ex -> assertThat(ex.getReason()).isEqualTo(Reason.PENDING_CONNECTIONS));
+
+        assertThat(transferLimit.inflight()).isZero();
+        assertThat(rejected(Lane.TRANSFER, Reason.PENDING_CONNECTIONS)).isEqualTo(1);
+        assertThat(meterRegistry.get("http.concurrency.pending.connections").summary().max()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve tratar resposta 5xx como descarte")
+    void shouldTreatServerErrorAsDrop() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        interceptor.preHandle(request, response, null);
+        response.setStatus(503);
+
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertThat(transferLimit.limit()).isEqualTo(1);
+        assertThat(transferLimit.inflight()).isZero();
+    }
+
+    @Nested
+    @DisplayName("Faixas")
+    class Lanes {
+
+        @Test
+        @DisplayName("Deve resolver a faixa pela anotação do controller")
+        void shouldResolveLaneFromController() {
+            assertThat(interceptor.resolveLane(handler(BalanceController.class))).isEqualTo(Lane.BALANCE);
+            assertThat(interceptor.resolveLane(handler(TransferController.class))).isEqualTo(Lane.TRANSFER);
+            assertThat(interceptor.resolveLane(handler(Object.class))).isEqualTo(Lane.TRANSFER);
+            assertThat(interceptor.resolveLane(null)).isEqualTo(Lane.TRANSFER);
+        }
+
+        @Test
+        @DisplayName("Transferências no limite não devem bloquear consultas de saldo")
+        void transferFloodShouldNotBlockBalance() {
+            HandlerMethod transfer = handler(TransferController.class);
+            HandlerMethod balance = handler(BalanceController.class);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            interceptor.preHandle(new MockHttpServletRequest(), response, transfer);
+            interceptor.preHandle(new MockHttpServletRequest(), response, transfer);
+            assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, transfer))
+                .isInstanceOf(ConcurrencyLimitExceededException.class);
+
+            MockHttpServletRequest balanceRequest = new MockHttpServletRequest();
+            assertThat(interceptor.preHandle(balanceRequest, response, balance)).isTrue();
+            interceptor.afterCompletion(balanceRequest, response, balance, null);
+
+            assertThat(transferLimit.inflight()).isEqualTo(2);
+            assertThat(balanceLimit.inflight()).isZero();
+            assertThat(rejected(Lane.BALANCE, Reason.CONCURRENCY_LIMIT)).isZero();
+        }
+
+        @Test
+        @DisplayName("Transferências devem recusar pela fila do pool antes das consultas de saldo")
+        void transferLaneShouldShedOnShorterConnectionQueue() {
+            pendingConnections.set(3);
+            MockHttpServletResponse response = new MockHttpServletResponse();
+
+            assertThatThrownBy(() -> interceptor.preHandle(
+                    new MockHttpServletRequest(), response, handler(TransferController.class)))
+                .isInstanceOfSatisfying(ConcurrencyLimitExceededException.class,
+                    ex -> assertThat(ex.getReason()).isEqualTo(Reason.PENDING_CONNECTIONS));
+            assertThat(interceptor.preHandle(
+                new MockHttpServletRequest(), response, handler(BalanceController.class))).isTrue();
+        }
+    }
+}